@@ -37,6 +37,7 @@ import org.wso2.carbon.identity.api.server.action.management.v1.AuthenticationTy
 import org.wso2.carbon.identity.api.server.action.management.v1.AuthenticationTypeResponse;
 import org.wso2.carbon.identity.api.server.action.management.v1.EndpointResponse;
 import org.wso2.carbon.identity.api.server.action.management.v1.util.ActionMgtEndpointUtil;
+import org.wso2.carbon.identity.api.server.common.URIPrefixResolver;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -137,6 +138,7 @@ public class ServerActionManagementService {
                     .getActionsCountPerType(CarbonContext.getThreadLocalCarbonContext().getTenantDomain());
 
             List<ActionTypesResponseItem> actionTypesResponseItems = new ArrayList<>();
+            URIPrefixResolver uriPrefixResolver = URIPrefixResolver.forBody();
             for (Action.ActionTypes actionType : Action.ActionTypes.values()) {
 
                 actionTypesResponseItems.add(new ActionTypesResponseItem()
@@ -144,7 +146,8 @@ public class ServerActionManagementService {
                         .displayName(actionType.getDisplayName())
                         .description(actionType.getDescription())
                         .count(actionsCountPerType.getOrDefault(actionType.getActionType(), 0))
-                        .self(ActionMgtEndpointUtil.buildURIForActionType(actionType.getActionType())));
+                        .self(ActionMgtEndpointUtil.buildURIForActionType(actionType.getActionType(),
+                                uriPrefixResolver)));
             }
 
             return actionTypesResponseItems;
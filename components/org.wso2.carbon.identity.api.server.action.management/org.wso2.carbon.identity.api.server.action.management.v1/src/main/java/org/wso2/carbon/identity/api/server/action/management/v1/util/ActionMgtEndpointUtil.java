@@ -26,6 +26,7 @@ import org.wso2.carbon.identity.action.management.model.Action;
 import org.wso2.carbon.identity.api.server.action.management.v1.constants.ActionMgtEndpointConstants;
 import org.wso2.carbon.identity.api.server.common.Constants;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.URIPrefixResolver;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorDTO;
 
@@ -51,6 +52,12 @@ public class ActionMgtEndpointUtil {
                 Action.ActionTypes.valueOf(actionType).getPathParam()).toString();
     }
 
+    public static String buildURIForActionType(String actionType, URIPrefixResolver uriPrefixResolver) {
+
+        return uriPrefixResolver.resolve(ACTION_TYPE_LINK_FORMAT +
+                Action.ActionTypes.valueOf(actionType).getPathParam());
+    }
+
     public static APIError handleException(Response.Status status,
                                            ActionMgtEndpointConstants.ErrorMessage error) {
 
@@ -34,7 +34,7 @@ import org.wso2.carbon.identity.api.server.api.resource.v1.APIResourceMap;
 import org.wso2.carbon.identity.api.server.api.resource.v1.ScopeGetModel;
 import org.wso2.carbon.identity.api.server.api.resource.v1.constants.APIResourceMgtEndpointConstants;
 import org.wso2.carbon.identity.api.server.api.resource.v1.util.APIResourceMgtEndpointUtil;
-import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.URIPrefixResolver;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.application.common.model.APIResource;
 import org.wso2.carbon.identity.application.common.model.Scope;
@@ -84,9 +84,11 @@ public class ServerAPIResourceCollectionManagementService {
                 return apiResourceCollectionListResponse;
             }
             apiResourceCollectionListResponse.setTotalResults(apiResourceCollectionSearchResult.getTotalCount());
+            URIPrefixResolver uriPrefixResolver = URIPrefixResolver.forBody();
             apiResourceCollectionListResponse.setApiResourceCollections(apiResourceCollections.stream()
                     .map(apiResourceCollection -> buildAPIResourceCollectionListItem(apiResourceCollection,
-                            CollectionUtils.isNotEmpty(requestedAttributeList))).collect(Collectors.toList()));
+                            CollectionUtils.isNotEmpty(requestedAttributeList), uriPrefixResolver))
+                    .collect(Collectors.toList()));
         } catch (APIResourceCollectionMgtException e) {
             throw APIResourceMgtEndpointUtil.handleAPIResourceCollectionMgtException(e);
         }
@@ -116,7 +118,8 @@ public class ServerAPIResourceCollectionManagementService {
             apiResourceCollectionResponse.setName(apiResourceCollection.getName());
             apiResourceCollectionResponse.setDisplayName(apiResourceCollection.getDisplayName());
             apiResourceCollectionResponse.setType(apiResourceCollection.getType());
-            apiResourceCollectionResponse.setApiResources(buildAPIResourceMap(apiResourceCollection));
+            apiResourceCollectionResponse.setApiResources(buildAPIResourceMap(apiResourceCollection,
+                    URIPrefixResolver.forBody()));
         } catch (APIResourceCollectionMgtException e) {
             throw APIResourceMgtEndpointUtil.handleAPIResourceCollectionMgtException(e);
         }
@@ -127,21 +130,23 @@ public class ServerAPIResourceCollectionManagementService {
      * Build API Resource Collection List Item from API Resource Collection.
      *
      * @param apiResourceCollection API Resource Collection.
+     * @param uriPrefixResolver     Resolver of the URIs of the response.
      * @return API Resource Collection List Item.
      */
     private APIResourceCollectionListItem buildAPIResourceCollectionListItem(
-            APIResourceCollection apiResourceCollection, boolean includeAPIResources) {
+            APIResourceCollection apiResourceCollection, boolean includeAPIResources,
+            URIPrefixResolver uriPrefixResolver) {
 
         APIResourceCollectionListItem item = new APIResourceCollectionListItem()
                 .id(apiResourceCollection.getId())
                 .name(apiResourceCollection.getName())
                 .displayName(apiResourceCollection.getDisplayName())
                 .type(apiResourceCollection.getType())
-                .self(ContextLoader.buildURIForBody(V1_API_PATH_COMPONENT +
+                .self(uriPrefixResolver.resolve(V1_API_PATH_COMPONENT +
                         APIResourceMgtEndpointConstants.API_RESOURCE_COLLECTION_PATH_COMPONENT + "/" +
-                        apiResourceCollection.getId()).toString());
+                        apiResourceCollection.getId()));
         if (includeAPIResources) {
-            item.setApiResources(buildAPIResourceMap(apiResourceCollection));
+            item.setApiResources(buildAPIResourceMap(apiResourceCollection, uriPrefixResolver));
         }
         return item;
     }
@@ -166,26 +171,31 @@ public class ServerAPIResourceCollectionManagementService {
      *
      * @param apiResourceCollection API Resource Collection.
      * @param resourceType          Resource type.
+     * @param uriPrefixResolver     Resolver of the URIs of the response.
      * @return API Resource Collection Items.
      */
     private List<APIResourceCollectionItem> getAPIResourceCollectionItems(APIResourceCollection apiResourceCollection,
-                                                                          String resourceType) {
+                                                                          String resourceType,
+                                                                          URIPrefixResolver uriPrefixResolver) {
 
         if (apiResourceCollection.getApiResources() == null || apiResourceCollection.getApiResources()
                 .get(resourceType) == null) {
             return Collections.emptyList();
         }
         return apiResourceCollection.getApiResources().get(resourceType).stream()
-                .map(this::buildAPIResourceCollectionItem).collect(Collectors.toList());
+                .map(apiResource -> buildAPIResourceCollectionItem(apiResource, uriPrefixResolver))
+                .collect(Collectors.toList());
     }
 
     /**
      * Build API Resource List Item from API Resource.
      *
-     * @param apiResource API Resource.
+     * @param apiResource       API Resource.
+     * @param uriPrefixResolver Resolver of the URIs of the response.
      * @return API Resource List Item.
      */
-    private APIResourceCollectionItem buildAPIResourceCollectionItem(APIResource apiResource) {
+    private APIResourceCollectionItem buildAPIResourceCollectionItem(APIResource apiResource,
+                                                                     URIPrefixResolver uriPrefixResolver) {
 
         List<ScopeGetModel> scopesList = (apiResource.getScopes() != null)
                 ? apiResource.getScopes().stream().map(this::buildScopeGetResponse).collect(Collectors.toList())
@@ -197,9 +207,8 @@ public class ServerAPIResourceCollectionManagementService {
                 .description(apiResource.getDescription())
                 .type(apiResource.getType())
                 .scopes(scopesList)
-                .self(ContextLoader.buildURIForBody(V1_API_PATH_COMPONENT +
-                                APIResourceMgtEndpointConstants.API_RESOURCE_PATH_COMPONENT + "/" + apiResource.getId())
-                        .toString());
+                .self(uriPrefixResolver.resolve(V1_API_PATH_COMPONENT +
+                        APIResourceMgtEndpointConstants.API_RESOURCE_PATH_COMPONENT + "/" + apiResource.getId()));
     }
 
     /**
@@ -222,14 +231,16 @@ public class ServerAPIResourceCollectionManagementService {
      * Build API Resource read write map.
      *
      * @param apiResourceCollection API Resource Collection.
+     * @param uriPrefixResolver     Resolver of the URIs of the response.
      * @return API Resource read write map.
      */
-    private APIResourceMap buildAPIResourceMap(APIResourceCollection apiResourceCollection) {
+    private APIResourceMap buildAPIResourceMap(APIResourceCollection apiResourceCollection,
+                                               URIPrefixResolver uriPrefixResolver) {
 
         List<APIResourceCollectionItem> readAPIResourceCollectionItems = getAPIResourceCollectionItems(
-                apiResourceCollection, APIResourceCollectionManagementConstants.READ);
+                apiResourceCollection, APIResourceCollectionManagementConstants.READ, uriPrefixResolver);
         List<APIResourceCollectionItem> writeAPIResourceCollectionItems = getAPIResourceCollectionItems(
-                apiResourceCollection, APIResourceCollectionManagementConstants.WRITE);
+                apiResourceCollection, APIResourceCollectionManagementConstants.WRITE, uriPrefixResolver);
 
         APIResourceMap apiResourceCollectionResponseApiResources =
                 new APIResourceMap();
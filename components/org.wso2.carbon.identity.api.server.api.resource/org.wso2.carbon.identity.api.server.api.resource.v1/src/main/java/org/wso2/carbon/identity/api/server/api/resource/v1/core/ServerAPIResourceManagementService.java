@@ -40,6 +40,7 @@ import org.wso2.carbon.identity.api.server.api.resource.v1.constants.APIResource
 import org.wso2.carbon.identity.api.server.api.resource.v1.constants.APIResourceMgtEndpointConstants.ErrorMessage;
 import org.wso2.carbon.identity.api.server.api.resource.v1.util.APIResourceMgtEndpointUtil;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.URIPrefixResolver;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.application.common.model.APIResource;
 import org.wso2.carbon.identity.application.common.model.APIResourceProperty;
@@ -181,8 +182,10 @@ public class ServerAPIResourceManagementService {
                 return apiResourceListResponse;
             }
             apiResourceListResponse.setTotalResults(apiResourceSearchResult.getTotalCount());
+            URIPrefixResolver uriPrefixResolver = URIPrefixResolver.forBody();
             apiResourceListResponse.setApiResources(apiResourceSearchResult.getAPIResources().stream()
-                    .map(this::buildAPIResourceListItem).collect(Collectors.toList()));
+                    .map(apiResource -> buildAPIResourceListItem(apiResource, uriPrefixResolver))
+                    .collect(Collectors.toList()));
         } catch (APIResourceMgtException e) {
             throw APIResourceMgtEndpointUtil.handleAPIResourceMgtException(e);
         }
@@ -512,10 +515,12 @@ public class ServerAPIResourceManagementService {
     /**
      * Build API Resource List Item from API Resource.
      *
-     * @param apiResource API Resource.
+     * @param apiResource       API Resource.
+     * @param uriPrefixResolver Resolver of the URIs of the response.
      * @return API Resource List Item.
      */
-    private APIResourceListItem buildAPIResourceListItem(APIResource apiResource) {
+    private APIResourceListItem buildAPIResourceListItem(APIResource apiResource,
+                                                         URIPrefixResolver uriPrefixResolver) {
 
         List<Property> properties = apiResource.getProperties() != null ?
                 apiResource.getProperties().stream().map(this::buildAPIResourceProperty).collect(Collectors.toList()) :
@@ -528,9 +533,8 @@ public class ServerAPIResourceManagementService {
                 .type(apiResource.getType())
                 .requiresAuthorization(apiResource.isAuthorizationRequired())
                 .properties(properties)
-                .self(ContextLoader.buildURIForBody(V1_API_PATH_COMPONENT +
-                                APIResourceMgtEndpointConstants.API_RESOURCE_PATH_COMPONENT + "/" + apiResource.getId())
-                        .toString());
+                .self(uriPrefixResolver.resolve(V1_API_PATH_COMPONENT +
+                        APIResourceMgtEndpointConstants.API_RESOURCE_PATH_COMPONENT + "/" + apiResource.getId()));
     }
 
     /**
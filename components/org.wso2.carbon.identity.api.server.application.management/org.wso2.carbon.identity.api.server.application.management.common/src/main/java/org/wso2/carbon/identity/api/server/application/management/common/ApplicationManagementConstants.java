@@ -81,6 +81,7 @@ public class ApplicationManagementConstants {
     public static final String LOGOUT_RETURN_URL_DISPLAY_NAME = "Logout Return URL";
 
     public static final String NON_EXISTING_USER_CODE = "30007 - ";
+    public static final String BULK_IMPORT_CONCURRENCY = "ApplicationMgt.BulkImport.Concurrency";
     public static final String APPLICATION_BASED_OUTBOUND_PROVISIONING_ENABLED =
             "OutboundProvisioning.enableApplicationBasedOutboundProvisioning";
     public static final String CODE_TOKEN = "code token";
@@ -173,6 +174,21 @@ public class ApplicationManagementConstants {
                 "Hybrid flow response type is incorrect.",
                 "The response type for the hybrid flow should be either 'code token' or 'code id_token' or " +
                         "'code id_token token'"),
+        INVALID_APPLICATION_ARCHIVE("60519",
+                "Invalid application archive.",
+                "Unable to read the uploaded application archive. %s"),
+        DUPLICATE_APPLICATION_IN_ARCHIVE("60520",
+                "Duplicate application in the archive.",
+                "Application: %s is defined in more than one file of the archive."),
+        INVALID_APPLICATION_FILE("60521",
+                "Invalid application file.",
+                "Application file: %s does not define an application name."),
+        APPLICATION_ALREADY_EXISTS("60522",
+                "Application already exists.",
+                "An application with the name: %s already exists."),
+        IMPORTED_APPLICATION_NOT_FOUND("60523",
+                "Application not found.",
+                "An application with the name: %s does not exist to be updated."),
 
         // Server Errors.
         ERROR_RETRIEVING_SAML_METADATA("65001",
@@ -205,7 +221,13 @@ public class ApplicationManagementConstants {
         ERROR_RETRIEVING_USER_BY_ID("65503", "Error occurred while retrieving user",
                 "Error occurred while retrieving user by userid: %s."),
         ERROR_RETRIEVING_USERSTORE_MANAGER("65504", "Error retrieving userstore manager.",
-                "Error occurred while retrieving userstore manager.");
+                "Error occurred while retrieving userstore manager."),
+        ERROR_EXPORTING_APPLICATIONS("65505", "Error occurred while exporting applications.",
+                "Unable to export %s application(s). Refer the failed operations for details."),
+        ERROR_EXPORTING_APPLICATION("65506", "Error occurred while exporting the application.",
+                "Unable to export the application with id: %s."),
+        ERROR_LISTING_APPLICATIONS("65507", "Error occurred while listing applications.",
+                "Unable to list the applications to be exported after %s application(s).");
 
         private final String code;
         private final String message;
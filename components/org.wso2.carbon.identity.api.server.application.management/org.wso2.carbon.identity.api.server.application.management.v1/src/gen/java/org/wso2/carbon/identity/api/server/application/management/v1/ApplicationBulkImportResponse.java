@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.application.management.v1;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationImportError;
+import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationImportResult;
+import javax.validation.constraints.*;
+
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+
+public class ApplicationBulkImportResponse  {
+  
+    private Boolean dryRun;
+    private List<ApplicationImportResult> succeededOperations = null;
+
+    private List<ApplicationImportError> failedOperations = null;
+
+
+    /**
+    * Whether the applications were only validated without being imported.
+    **/
+    public ApplicationBulkImportResponse dryRun(Boolean dryRun) {
+
+        this.dryRun = dryRun;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "false", value = "Whether the applications were only validated without being imported.")
+    @JsonProperty("dryRun")
+    @Valid
+    public Boolean getDryRun() {
+        return dryRun;
+    }
+    public void setDryRun(Boolean dryRun) {
+        this.dryRun = dryRun;
+    }
+
+    /**
+    * Applications which were imported, or validated in a dry run.
+    **/
+    public ApplicationBulkImportResponse succeededOperations(List<ApplicationImportResult> succeededOperations) {
+
+        this.succeededOperations = succeededOperations;
+        return this;
+    }
+    
+    @ApiModelProperty(value = "Applications which were imported, or validated in a dry run.")
+    @JsonProperty("succeededOperations")
+    @Valid
+    public List<ApplicationImportResult> getSucceededOperations() {
+        return succeededOperations;
+    }
+    public void setSucceededOperations(List<ApplicationImportResult> succeededOperations) {
+        this.succeededOperations = succeededOperations;
+    }
+
+    public ApplicationBulkImportResponse addSucceededOperationsItem(ApplicationImportResult succeededOperationsItem) {
+        if (this.succeededOperations == null) {
+            this.succeededOperations = new ArrayList<>();
+        }
+        this.succeededOperations.add(succeededOperationsItem);
+        return this;
+    }
+
+        /**
+    * Applications which could not be imported, together with the reason of each failure.
+    **/
+    public ApplicationBulkImportResponse failedOperations(List<ApplicationImportError> failedOperations) {
+
+        this.failedOperations = failedOperations;
+        return this;
+    }
+    
+    @ApiModelProperty(value = "Applications which could not be imported, together with the reason of each failure.")
+    @JsonProperty("failedOperations")
+    @Valid
+    public List<ApplicationImportError> getFailedOperations() {
+        return failedOperations;
+    }
+    public void setFailedOperations(List<ApplicationImportError> failedOperations) {
+        this.failedOperations = failedOperations;
+    }
+
+    public ApplicationBulkImportResponse addFailedOperationsItem(ApplicationImportError failedOperationsItem) {
+        if (this.failedOperations == null) {
+            this.failedOperations = new ArrayList<>();
+        }
+        this.failedOperations.add(failedOperationsItem);
+        return this;
+    }
+
+    
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ApplicationBulkImportResponse applicationBulkImportResponse = (ApplicationBulkImportResponse) o;
+        return Objects.equals(this.dryRun, applicationBulkImportResponse.dryRun) &&
+            Objects.equals(this.succeededOperations, applicationBulkImportResponse.succeededOperations) &&
+            Objects.equals(this.failedOperations, applicationBulkImportResponse.failedOperations);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(dryRun, succeededOperations, failedOperations);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class ApplicationBulkImportResponse {\n");
+        
+        sb.append("    dryRun: ").append(toIndentedString(dryRun)).append("\n");
+        sb.append("    succeededOperations: ").append(toIndentedString(succeededOperations)).append("\n");
+        sb.append("    failedOperations: ").append(toIndentedString(failedOperations)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
+
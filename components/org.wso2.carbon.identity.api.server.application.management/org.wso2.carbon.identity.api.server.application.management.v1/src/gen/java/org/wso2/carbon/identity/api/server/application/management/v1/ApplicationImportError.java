@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.application.management.v1;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import javax.validation.constraints.*;
+
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+
+public class ApplicationImportError  {
+  
+    private String code;
+    private String message;
+    private String description;
+    private String fileName;
+    private String applicationName;
+
+    /**
+    **/
+    public ApplicationImportError code(String code) {
+
+        this.code = code;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "APP-60522", value = "")
+    @JsonProperty("code")
+    @Valid
+    public String getCode() {
+        return code;
+    }
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    /**
+    **/
+    public ApplicationImportError message(String message) {
+
+        this.message = message;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "Application already exists.", value = "")
+    @JsonProperty("message")
+    @Valid
+    public String getMessage() {
+        return message;
+    }
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    /**
+    **/
+    public ApplicationImportError description(String description) {
+
+        this.description = description;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "An application with the name: My SAML App already exists.", value = "")
+    @JsonProperty("description")
+    @Valid
+    public String getDescription() {
+        return description;
+    }
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    /**
+    * Name of the application file in the archive.
+    **/
+    public ApplicationImportError fileName(String fileName) {
+
+        this.fileName = fileName;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "My SAML App.xml", value = "Name of the application file in the archive.")
+    @JsonProperty("fileName")
+    @Valid
+    public String getFileName() {
+        return fileName;
+    }
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    /**
+    * Name of the application, if the application file could be parsed.
+    **/
+    public ApplicationImportError applicationName(String applicationName) {
+
+        this.applicationName = applicationName;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "My SAML App", value = "Name of the application, if the application file could be parsed.")
+    @JsonProperty("applicationName")
+    @Valid
+    public String getApplicationName() {
+        return applicationName;
+    }
+    public void setApplicationName(String applicationName) {
+        this.applicationName = applicationName;
+    }
+
+
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ApplicationImportError applicationImportError = (ApplicationImportError) o;
+        return Objects.equals(this.code, applicationImportError.code) &&
+            Objects.equals(this.message, applicationImportError.message) &&
+            Objects.equals(this.description, applicationImportError.description) &&
+            Objects.equals(this.fileName, applicationImportError.fileName) &&
+            Objects.equals(this.applicationName, applicationImportError.applicationName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(code, message, description, fileName, applicationName);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class ApplicationImportError {\n");
+        
+        sb.append("    code: ").append(toIndentedString(code)).append("\n");
+        sb.append("    message: ").append(toIndentedString(message)).append("\n");
+        sb.append("    description: ").append(toIndentedString(description)).append("\n");
+        sb.append("    fileName: ").append(toIndentedString(fileName)).append("\n");
+        sb.append("    applicationName: ").append(toIndentedString(applicationName)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
+
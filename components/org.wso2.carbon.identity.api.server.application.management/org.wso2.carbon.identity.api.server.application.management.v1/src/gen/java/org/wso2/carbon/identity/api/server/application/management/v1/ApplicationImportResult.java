@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.application.management.v1;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import javax.validation.constraints.*;
+
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+
+public class ApplicationImportResult  {
+  
+    private String fileName;
+    private String applicationName;
+    private String applicationId;
+
+    /**
+    * Name of the application file in the archive.
+    **/
+    public ApplicationImportResult fileName(String fileName) {
+
+        this.fileName = fileName;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "My SAML App.xml", value = "Name of the application file in the archive.")
+    @JsonProperty("fileName")
+    @Valid
+    public String getFileName() {
+        return fileName;
+    }
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    /**
+    **/
+    public ApplicationImportResult applicationName(String applicationName) {
+
+        this.applicationName = applicationName;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "My SAML App", value = "")
+    @JsonProperty("applicationName")
+    @Valid
+    public String getApplicationName() {
+        return applicationName;
+    }
+    public void setApplicationName(String applicationName) {
+        this.applicationName = applicationName;
+    }
+
+    /**
+    * Id of the imported application. Not set in a dry run.
+    **/
+    public ApplicationImportResult applicationId(String applicationId) {
+
+        this.applicationId = applicationId;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "394b8adcce24c64a8a09a0d80abf8c337bd253de", value = "Id of the imported application. Not set in a dry run.")
+    @JsonProperty("applicationId")
+    @Valid
+    public String getApplicationId() {
+        return applicationId;
+    }
+    public void setApplicationId(String applicationId) {
+        this.applicationId = applicationId;
+    }
+
+
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ApplicationImportResult applicationImportResult = (ApplicationImportResult) o;
+        return Objects.equals(this.fileName, applicationImportResult.fileName) &&
+            Objects.equals(this.applicationName, applicationImportResult.applicationName) &&
+            Objects.equals(this.applicationId, applicationImportResult.applicationId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fileName, applicationName, applicationId);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class ApplicationImportResult {\n");
+        
+        sb.append("    fileName: ").append(toIndentedString(fileName)).append("\n");
+        sb.append("    applicationName: ").append(toIndentedString(applicationName)).append("\n");
+        sb.append("    applicationId: ").append(toIndentedString(applicationId)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
+
@@ -26,6 +26,7 @@ import java.io.InputStream;
 import java.util.List;
 
 import org.wso2.carbon.identity.api.server.application.management.v1.AdaptiveAuthTemplates;
+import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationBulkImportResponse;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationListResponse;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationModel;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationOwner;
@@ -410,6 +411,29 @@ public class ApplicationsApi  {
         return delegate.exportApplicationAsFile(applicationId,  exportSecrets,  accept );
     }
 
+    @Valid
+    @GET
+    @Path("/export")
+    
+    @Produces({ "application/zip", "application/json" })
+    @ApiOperation(value = "Export applications matching a filter as a ZIP archive. ", notes = "This API provides the capability to export all the applications matching the given filter as a ZIP archive which contains one XML, YAML, or JSON file per application. Applications that could not be exported are reported in an 'errors.json' entry of the archive.<br>   <b>Permission required:</b> <br>       * /permission/admin/manage/identity/applicationmgt/view <br>   <b>Scope required:</b> <br>       * internal_application_mgt_view ", response = File.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Applications", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "OK", response = File.class),
+        @ApiResponse(code = 400, message = "Bad Request", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
+        @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
+        @ApiResponse(code = 500, message = "Server Error", response = Error.class)
+    })
+    public Response exportApplications(    @Valid@ApiParam(value = "Condition to filter the retrieval of records. Supports 'sw', 'co', 'ew', and 'eq' operations with 'and', 'or' logical operators. Please note that 'and' and 'or' operators in filters follow the general precedence of logical operators ex: A and B or C and D = (A and B) or (C and D)). Currently supports only filtering based on the 'name', the 'clientId', and the 'issuer' attributes.  /applications?filter=name+eq+user_portal <br> /applications?filter=name+co+prod+or+clientId+co+123 ")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Specifies whether to export secrets when exporting an application. ", defaultValue="false") @DefaultValue("false")  @QueryParam("exportSecrets") Boolean exportSecrets,     @Valid@ApiParam(value = "Content type of the files included in the exported archive. ", allowableValues="application/json, application/xml, application/yaml, application/x-yaml, text/yaml", defaultValue="application/xml") @DefaultValue("application/xml")  @QueryParam("fileType") String fileType) {
+
+        return delegate.exportApplications(filter,  exportSecrets,  fileType );
+    }
+
     @Valid
     @GET
     @Path("/meta/adaptive-auth-templates")
@@ -913,6 +937,54 @@ public class ApplicationsApi  {
         return delegate.importApplicationForUpdate(fileInputStream, fileDetail );
     }
 
+    @Valid
+    @POST
+    @Path("/import/bulk")
+    @Consumes({ "multipart/form-data" })
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Create applications from a ZIP archive of exported application files ", notes = "This API provides the capability to create the applications of a ZIP archive, which contains an exported file per application. The applications are validated before they are created and, if dryRun is true, the applications are only validated.<br>   <b>Permission required:</b> <br>       * /permission/admin/manage/identity/applicationmgt/create <br>   <b>Scope required:</b> <br>       * internal_application_mgt_create ", response = ApplicationBulkImportResponse.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Applications", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Successfully imported.", response = ApplicationBulkImportResponse.class),
+        @ApiResponse(code = 207, message = "Some of the applications could not be created. The response lists the failed applications.", response = ApplicationBulkImportResponse.class),
+        @ApiResponse(code = 400, message = "Bad Request", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
+        @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
+        @ApiResponse(code = 500, message = "Server Error", response = Error.class)
+    })
+    public Response importApplications(@Multipart(value = "file", required = false) InputStream fileInputStream,@Multipart(value = "file" , required = false) Attachment fileDetail,     @Valid@ApiParam(value = "Only validate the applications of the archive without importing them. ", defaultValue="false") @DefaultValue("false")  @QueryParam("dryRun") Boolean dryRun) {
+
+        return delegate.importApplications(fileInputStream, fileDetail,  dryRun );
+    }
+
+    @Valid
+    @PUT
+    @Path("/import/bulk")
+    @Consumes({ "multipart/form-data" })
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Update applications from a ZIP archive of exported application files ", notes = "This API provides the capability to update the applications of a ZIP archive, which contains an exported file per application. The applications are validated before they are updated and, if dryRun is true, the applications are only validated.<br>   <b>Permission required:</b> <br>       * /permission/admin/manage/identity/applicationmgt/update <br>   <b>Scope required:</b> <br>       * internal_application_mgt_update ", response = ApplicationBulkImportResponse.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Applications", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Successfully updated.", response = ApplicationBulkImportResponse.class),
+        @ApiResponse(code = 207, message = "Some of the applications could not be updated. The response lists the failed applications.", response = ApplicationBulkImportResponse.class),
+        @ApiResponse(code = 400, message = "Bad Request", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
+        @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
+        @ApiResponse(code = 500, message = "Server Error", response = Error.class)
+    })
+    public Response importApplicationsForUpdate(@Multipart(value = "file", required = false) InputStream fileInputStream,@Multipart(value = "file" , required = false) Attachment fileDetail,     @Valid@ApiParam(value = "Only validate the applications of the archive without importing them. ", defaultValue="false") @DefaultValue("false")  @QueryParam("dryRun") Boolean dryRun) {
+
+        return delegate.importApplicationsForUpdate(fileInputStream, fileDetail,  dryRun );
+    }
+
     @Valid
     @PATCH
     @Path("/{applicationId}")
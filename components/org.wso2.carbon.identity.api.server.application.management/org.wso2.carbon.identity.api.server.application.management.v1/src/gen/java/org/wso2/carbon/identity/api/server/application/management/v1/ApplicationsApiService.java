@@ -84,6 +84,8 @@ public interface ApplicationsApiService {
 
       public Response exportApplicationAsFile(String applicationId, Boolean exportSecrets, String accept);
 
+      public Response exportApplications(String filter, Boolean exportSecrets, String fileType);
+
       public Response getAdaptiveAuthTemplates();
 
       public Response getAllApplicationTemplates(Integer limit, Integer offset, SearchContext searchContext);
@@ -126,6 +128,10 @@ public interface ApplicationsApiService {
 
       public Response importApplicationForUpdate(InputStream fileInputStream, Attachment fileDetail);
 
+      public Response importApplications(InputStream fileInputStream, Attachment fileDetail, Boolean dryRun);
+
+      public Response importApplicationsForUpdate(InputStream fileInputStream, Attachment fileDetail, Boolean dryRun);
+
       public Response patchApplication(String applicationId, ApplicationPatchModel applicationPatchModel);
 
       public Response patchAuthorizedAPI(String applicationId, String apiId, AuthorizedAPIPatchModel authorizedAPIPatchModel);
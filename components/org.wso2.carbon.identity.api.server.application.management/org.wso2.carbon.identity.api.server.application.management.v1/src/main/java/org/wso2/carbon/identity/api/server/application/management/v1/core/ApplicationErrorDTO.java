@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.application.management.v1.core;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.wso2.carbon.identity.api.server.common.error.ErrorDTO;
+
+/**
+ * Application error DTO for the failed operations of the bulk application API responses.
+ */
+public class ApplicationErrorDTO extends ErrorDTO {
+
+    private static final long serialVersionUID = 2783512470958417662L;
+    private String applicationId = null;
+    private String applicationName = null;
+
+    @JsonProperty("applicationId")
+    public String getApplicationId() {
+
+        return applicationId;
+    }
+
+    public void setApplicationId(String applicationId) {
+
+        this.applicationId = applicationId;
+    }
+
+    @JsonProperty("applicationName")
+    public String getApplicationName() {
+
+        return applicationName;
+    }
+
+    public void setApplicationName(String applicationName) {
+
+        this.applicationName = applicationName;
+    }
+
+    @Override
+    @JsonIgnore
+    public String getRef() {
+
+        return null;
+    }
+}
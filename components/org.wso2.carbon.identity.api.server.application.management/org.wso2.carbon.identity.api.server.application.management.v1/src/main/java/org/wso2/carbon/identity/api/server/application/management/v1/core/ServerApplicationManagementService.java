@@ -18,9 +18,7 @@
 
 package org.wso2.carbon.identity.api.server.application.management.v1.core;
 
-import com.fasterxml.jackson.core.JsonFactory;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.ArrayUtils;
@@ -33,7 +31,6 @@ import org.apache.cxf.jaxrs.ext.search.PrimitiveStatement;
 import org.apache.cxf.jaxrs.ext.search.SearchCondition;
 import org.apache.cxf.jaxrs.ext.search.SearchContext;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.MediaType;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
@@ -41,6 +38,9 @@ import org.wso2.carbon.identity.api.resource.mgt.APIResourceMgtException;
 import org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants;
 import org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.ErrorMessage;
 import org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementServiceHolder;
+import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationBulkImportResponse;
+import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationImportError;
+import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationImportResult;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationListItem;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationListResponse;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationModel;
@@ -85,9 +85,14 @@ import org.wso2.carbon.identity.api.server.application.management.v1.core.functi
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.template.ApplicationTemplateApiModelToTemplate;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.template.TemplateToApplicationTemplate;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.template.TemplateToApplicationTemplateListItem;
+import org.wso2.carbon.identity.api.server.common.CodecException;
+import org.wso2.carbon.identity.api.server.common.CodecRegistry;
+import org.wso2.carbon.identity.api.server.common.ContextAwareExecutor;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.Util;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
+import org.wso2.carbon.identity.api.server.common.error.ErrorDTO;
+import org.wso2.carbon.identity.api.server.common.error.bulk.BulkErrorResponse;
 import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants;
 import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.StandardInboundProtocols;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementClientException;
@@ -148,10 +153,12 @@ import org.yaml.snakeyaml.error.YAMLException;
 import org.yaml.snakeyaml.inspector.TagInspector;
 import org.yaml.snakeyaml.inspector.TrustedPrefixesTagInspector;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.StringReader;
-import java.io.StringWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -161,20 +168,27 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import javax.xml.bind.JAXBContext;
-import javax.xml.bind.JAXBException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+import javax.ws.rs.core.Response;
 import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.ADVANCED_CONFIGURATIONS;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.APPLICATION_BASED_OUTBOUND_PROVISIONING_ENABLED;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.APPLICATION_ENABLED;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.APPLICATION_MANAGEMENT_PATH_COMPONENT;
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.BULK_IMPORT_CONCURRENCY;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.CLIENT_ID;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.ErrorMessage.APPLICATION_CREATION_WITH_TEMPLATES_NOT_IMPLEMENTED;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.ErrorMessage.BLOCK_RENAME_APP_NAME_TO_RESERVED_APP_NAME;
@@ -218,6 +232,8 @@ public class ServerApplicationManagementService {
     private static final Set<String> SUPPORTED_FILTER_ATTRIBUTES = new HashSet<>();
     private static final List<String> SUPPORTED_REQUIRED_ATTRIBUTES = new ArrayList<>();
     private static final int DEFAULT_OFFSET = 0;
+    private static final int APPLICATION_LOADER_POOL_SIZE = 10;
+    private static final int APPLICATION_LOADER_QUEUE_CAPACITY = APPLICATION_LOADER_POOL_SIZE;
 
     // WS-Trust related constants.
     private static final String WS_TRUST_TEMPLATE_ID = "061a3de4-8c08-4878-84a6-24245f11bf0e";
@@ -233,6 +249,37 @@ public class ServerApplicationManagementService {
     private static final String[] VALID_MEDIA_TYPES_JSON = {"application/json", "text/json"};
     private static final Class<?>[] INBOUND_CONFIG_PROTOCOLS = new Class<?>[]{ServiceProvider.class,
             SAMLSSOServiceProviderDTO.class, OAuthAppDO.class};
+    // Inbound configurations are exported through the inbound protocol configurations, not as opaque XML strings.
+    private static final Marshaller.Listener INBOUND_CONFIGURATION_REMOVER = new Marshaller.Listener() {
+        @Override
+        public void beforeMarshal(Object source) {
+            if (source instanceof InboundAuthenticationConfig) {
+                InboundAuthenticationConfig config = (InboundAuthenticationConfig) source;
+                for (InboundAuthenticationRequestConfig requestConfig
+                        : config.getInboundAuthenticationRequestConfigs()) {
+                    requestConfig.setInboundConfiguration(null);
+                }
+            }
+        }
+    };
+    private static final CodecRegistry.Codecs<ServiceProvider> SP_CODECS = new CodecRegistry.Codecs<>(
+            CodecRegistry.xmlCodec(ServiceProvider.class, INBOUND_CONFIGURATION_REMOVER, INBOUND_CONFIG_PROTOCOLS),
+            CodecRegistry.yamlCodec(ServerApplicationManagementService::writeServiceProviderAsYaml,
+                    ServerApplicationManagementService::readServiceProviderFromYaml),
+            CodecRegistry.jsonCodec(ServiceProvider.class, INBOUND_CONFIG_PROTOCOLS));
+    private static final int BULK_EXPORT_PAGE_SIZE = 100;
+    private static final String APPLICATIONS_ARCHIVE_NAME = "applications.zip";
+    private static final String EXPORT_ERRORS_ENTRY_NAME = "errors.json";
+    private static final Pattern UNSAFE_ENTRY_NAME_CHARACTERS = Pattern.compile("[\\\\/:*?\"<>|\\p{Cntrl}]");
+    private static final MediaType APPLICATION_ZIP = new MediaType("application", "zip");
+    private static final String YAML_FILE_EXTENSION = ".yaml";
+    private static final int BULK_IMPORT_POOL_SIZE = 10;
+    private static final int DEFAULT_BULK_IMPORT_CONCURRENCY = 4;
+    private static final int MAX_BULK_IMPORT_APPLICATIONS = 5000;
+    private static final long MAX_BULK_IMPORT_ARCHIVE_SIZE = 100L * 1024 * 1024;
+    private static final int MAX_PENDING_BULK_IMPORT_FILES = 2 * BULK_IMPORT_POOL_SIZE;
+    private static final int ARCHIVE_READ_BUFFER_SIZE = 8192;
+    private static final int BULK_IMPORT_QUEUE_CAPACITY = BULK_IMPORT_POOL_SIZE;
 
     static {
         SUPPORTED_FILTER_ATTRIBUTES.add(NAME);
@@ -248,9 +295,25 @@ public class ServerApplicationManagementService {
         SUPPORTED_REQUIRED_ATTRIBUTES.add(IdentityApplicationConstants.ALLOWED_ROLE_AUDIENCE_REQUEST_ATTRIBUTE_NAME);
     }
 
+    // Once the workers and the queue are full, the tasks are run by the request thread itself.
+    private final ContextAwareExecutor applicationLoader = new ContextAwareExecutor("ApplicationListLoader",
+            APPLICATION_LOADER_POOL_SIZE, APPLICATION_LOADER_QUEUE_CAPACITY, true);
+    private final ContextAwareExecutor applicationImporter = new ContextAwareExecutor("ApplicationBulkImporter",
+            BULK_IMPORT_POOL_SIZE, BULK_IMPORT_QUEUE_CAPACITY, true);
+
     @Autowired
     private ServerApplicationMetadataService applicationMetadataService;
 
+    /**
+     * Release the resources held by the application management when the API is stopped. Invoked as the destroy
+     * method of the bean.
+     */
+    public void shutdown() {
+
+        applicationLoader.shutdown();
+        applicationImporter.shutdown();
+    }
+
     public ApplicationListResponse getAllApplications(Integer limit, Integer offset, String filter, String sortOrder,
                                                       String sortBy, String requiredAttributes) {
 
@@ -260,19 +323,7 @@ public class ServerApplicationManagementService {
         limit = validateAndGetLimit(limit);
         offset = validateAndGetOffset(offset);
 
-        List<String> submittedFilterAttributes = new ArrayList<>();
-
-        // Get the filter tree and validate it before sending the filter to the backend.
-        if (StringUtils.isNotBlank(filter)) {
-            try {
-                FilterTreeBuilder filterTreeBuilder = new FilterTreeBuilder(filter);
-                Node rootNode = filterTreeBuilder.buildTree();
-
-                submittedFilterAttributes = validateFilterTree(rootNode);
-            } catch (IOException | IdentityException e) {
-                throw buildClientError(ErrorMessage.INVALID_FILTER_FORMAT);
-            }
-        }
+        List<String> submittedFilterAttributes = validateFilter(filter);
 
         String username = ContextLoader.getUsernameFromContext();
         try {
@@ -332,6 +383,26 @@ public class ServerApplicationManagementService {
         }
     }
 
+    /**
+     * Validate the filter tree before sending the filter to the backend.
+     *
+     * @param filter Filter query.
+     * @return Attributes used in the filter.
+     */
+    private List<String> validateFilter(String filter) {
+
+        if (StringUtils.isBlank(filter)) {
+            return new ArrayList<>();
+        }
+        try {
+            FilterTreeBuilder filterTreeBuilder = new FilterTreeBuilder(filter);
+            Node rootNode = filterTreeBuilder.buildTree();
+            return validateFilterTree(rootNode);
+        } catch (IOException | IdentityException e) {
+            throw buildClientError(ErrorMessage.INVALID_FILTER_FORMAT);
+        }
+    }
+
     private List<String> validateFilterTree(Node rootNode) {
 
         List<String> submittedFilterAttributes = new ArrayList<>();
@@ -371,16 +442,54 @@ public class ServerApplicationManagementService {
         }
     }
 
+    /**
+     * Load the applications of a page with the required attributes. As the backend loads one application at a time,
+     * the applications are loaded concurrently on a bounded worker pool, preserving the order of the page.
+     *
+     * @param filteredAppList        Applications of the page.
+     * @param requestedAttributeList Required attributes.
+     * @return Applications with the required attributes.
+     * @throws IdentityApplicationManagementException If an error occurred while loading an application.
+     */
     private List<ServiceProvider> getSpWithRequiredAttributes(ApplicationBasicInfo[] filteredAppList,
                                                               List<String> requestedAttributeList)
             throws IdentityApplicationManagementException {
 
-        List<ServiceProvider> serviceProviderList = new ArrayList<>();
+        List<ServiceProvider> serviceProviderList = new ArrayList<>(filteredAppList.length);
+        if (filteredAppList.length <= 1) {
+            for (ApplicationBasicInfo applicationBasicInfo : filteredAppList) {
+                serviceProviderList.add(getApplicationManagementService().getApplicationWithRequiredAttributes(
+                        applicationBasicInfo.getApplicationId(), requestedAttributeList));
+            }
+            return serviceProviderList;
+        }
+
+        List<Future<ServiceProvider>> serviceProviderFutures = new ArrayList<>(filteredAppList.length);
         for (ApplicationBasicInfo applicationBasicInfo : filteredAppList) {
-            ServiceProvider serviceProvider = getApplicationManagementService().
-                    getApplicationWithRequiredAttributes(applicationBasicInfo.getApplicationId(),
-                            requestedAttributeList);
-            serviceProviderList.add(serviceProvider);
+            serviceProviderFutures.add(applicationLoader.submit(() -> getApplicationManagementService()
+                    .getApplicationWithRequiredAttributes(applicationBasicInfo.getApplicationId(),
+                            requestedAttributeList)));
+        }
+        try {
+            for (Future<ServiceProvider> serviceProviderFuture : serviceProviderFutures) {
+                serviceProviderList.add(serviceProviderFuture.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdentityApplicationManagementException("Interrupted while loading the applications.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IdentityApplicationManagementException) {
+                throw (IdentityApplicationManagementException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IdentityApplicationManagementException("Error while loading the applications.", cause);
+        } finally {
+            for (Future<ServiceProvider> serviceProviderFuture : serviceProviderFutures) {
+                serviceProviderFuture.cancel(true);
+            }
         }
         return serviceProviderList;
     }
@@ -492,7 +601,7 @@ public class ServerApplicationManagementService {
      * @param applicationId ID of the application to be exported.
      * @param exportSecrets If True, all hashed or encrypted secrets will also be exported.
      * @param fileType      The format of the exported string.
-     * @return string of the application in the given format.
+     * @return TransferResource which writes the application in the given format to the response stream.
      */
     public TransferResource exportApplicationAsFile(String applicationId, Boolean exportSecrets, String fileType) {
 
@@ -524,91 +633,243 @@ public class ServerApplicationManagementService {
         return transferResource;
     }
 
+    /**
+     * Export all the applications matching the given filter as a ZIP archive, which contains a file per application
+     * in the given format. The applications are loaded page by page while the archive is written to the response.
+     * Applications which could not be exported are reported in the errors entry of the archive.
+     *
+     * @param filter        Filter to select the applications to be exported.
+     * @param exportSecrets If True, all hashed or encrypted secrets will also be exported.
+     * @param fileType      The format of the exported application files.
+     * @return TransferResource which writes the archive to the response stream.
+     */
+    public TransferResource exportApplications(String filter, Boolean exportSecrets, String fileType) {
+
+        String exportFileType = StringUtils.isBlank(fileType) ? VALID_MEDIA_TYPES_XML[0] : fileType;
+        String fileExtension = getFileExtension(exportFileType);
+        if (fileExtension == null) {
+            throw buildBadRequestError("Unsupported media type: " + fileType + "."
+                    + " Supported media types are " + Arrays.toString(VALID_MEDIA_TYPES_XML) + ", "
+                    + Arrays.toString(VALID_MEDIA_TYPES_YAML) + ", " + Arrays.toString(VALID_MEDIA_TYPES_JSON));
+        }
+        validateFilter(filter);
+
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        String username = ContextLoader.getUsernameFromContext();
+        boolean isSecretsExported = Boolean.TRUE.equals(exportSecrets);
+        if (log.isDebugEnabled()) {
+            log.debug("Exporting applications of tenant: " + tenantDomain + " matching the filter: " + filter);
+        }
+
+        return new TransferResource(APPLICATIONS_ARCHIVE_NAME,
+                outputStream -> writeApplicationsArchive(tenantDomain, username, filter, isSecretsExported,
+                        exportFileType, fileExtension, outputStream),
+                APPLICATION_ZIP);
+    }
+
+    private void writeApplicationsArchive(String tenantDomain, String username, String filter, boolean exportSecrets,
+                                          String fileType, String fileExtension, OutputStream outputStream)
+            throws IOException {
+
+        ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream, StandardCharsets.UTF_8);
+        Set<String> exportedEntries = new HashSet<>();
+        exportedEntries.add(EXPORT_ERRORS_ENTRY_NAME);
+        List<ApplicationErrorDTO> failedExports = new ArrayList<>();
+        /*
+         * Applications are listed in the descending order of their internal ids, hence the id of the last exported
+         * application is used as the key to continue the export from. Pages overlap by one application, so that a
+         * page which does not reach back to that key reveals that applications were deleted after the previous page
+         * was loaded, in which case the page is loaded again from an earlier offset instead of skipping applications.
+         */
+        int offset = 0;
+        int lastExportedId = Integer.MAX_VALUE;
+        while (true) {
+            ApplicationBasicInfo[] applications;
+            try {
+                applications = getApplicationManagementService().getApplicationBasicInfo(tenantDomain, username,
+                        filter, offset, BULK_EXPORT_PAGE_SIZE);
+            } catch (IdentityApplicationManagementException e) {
+                log.error("Error listing applications of tenantDomain: " + tenantDomain + " to be exported.", e);
+                failedExports.add(buildApplicationError(ErrorMessage.ERROR_LISTING_APPLICATIONS, null, null,
+                        String.valueOf(offset)));
+                break;
+            }
+            if (offset > 0 && (applications.length == 0 ||
+                    applications[0].getApplicationId() < lastExportedId)) {
+                offset = Math.max(0, offset - BULK_EXPORT_PAGE_SIZE);
+                continue;
+            }
+            for (ApplicationBasicInfo application : applications) {
+                // Skip the exported applications and the ones created after the export was started.
+                if (application.getApplicationId() >= lastExportedId) {
+                    continue;
+                }
+                String entryName = getEntryName(application, fileExtension, exportedEntries);
+                if (exportedEntries.add(entryName)) {
+                    writeApplicationEntry(application, tenantDomain, exportSecrets, fileType, entryName,
+                            zipOutputStream, failedExports);
+                }
+                lastExportedId = application.getApplicationId();
+            }
+            if (applications.length < BULK_EXPORT_PAGE_SIZE) {
+                break;
+            }
+            offset += applications.length - 1;
+        }
+
+        if (!failedExports.isEmpty()) {
+            BulkErrorResponse errorResponse = new BulkErrorResponse.Builder()
+                    .withCode(ErrorMessage.ERROR_EXPORTING_APPLICATIONS.getCode())
+                    .withMessage(ErrorMessage.ERROR_EXPORTING_APPLICATIONS.getMessage())
+                    .withDescription(String.format(ErrorMessage.ERROR_EXPORTING_APPLICATIONS.getDescription(),
+                            failedExports.size()))
+                    .withFailedOperations(failedExports)
+                    .build();
+            zipOutputStream.putNextEntry(new ZipEntry(EXPORT_ERRORS_ENTRY_NAME));
+            CodecRegistry.getObjectMapper().writer()
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .writeValue(zipOutputStream, errorResponse);
+            zipOutputStream.closeEntry();
+        }
+        zipOutputStream.finish();
+
+        if (log.isDebugEnabled()) {
+            log.debug("Completed exporting applications of tenant: " + tenantDomain + " with "
+                    + failedExports.size() + " failure(s).");
+        }
+    }
+
+    /**
+     * Resolve the name of the archive entry of an exported application from the application name. The characters
+     * which are not allowed in file names, including the path separators, and the leading dots are replaced, so that
+     * an entry is never extracted outside the target directory. The resource id of the application is used instead
+     * when the name is taken by another entry of the archive.
+     *
+     * @param application     Application to be exported.
+     * @param fileExtension   File extension of the entry.
+     * @param exportedEntries Names of the entries of the archive.
+     * @return Name of the archive entry.
+     */
+    private static String getEntryName(ApplicationBasicInfo application, String fileExtension,
+                                       Set<String> exportedEntries) {
+
+        String fileName = UNSAFE_ENTRY_NAME_CHARACTERS.matcher(application.getApplicationName()).replaceAll("_");
+        int nameStart = 0;
+        while (nameStart < fileName.length() && fileName.charAt(nameStart) == '.') {
+            nameStart++;
+        }
+        String entryName = StringUtils.repeat("_", nameStart) + fileName.substring(nameStart) + fileExtension;
+        if (exportedEntries.contains(entryName)) {
+            return application.getApplicationResourceId() + fileExtension;
+        }
+        return entryName;
+    }
+
+    private void writeApplicationEntry(ApplicationBasicInfo application, String tenantDomain, boolean exportSecrets,
+                                       String fileType, String entryName, ZipOutputStream zipOutputStream,
+                                       List<ApplicationErrorDTO> failedExports) throws IOException {
+
+        String applicationId = application.getApplicationResourceId();
+        ServiceProvider serviceProvider;
+        try {
+            serviceProvider = getApplicationManagementService().exportSPFromAppID(applicationId, exportSecrets,
+                    tenantDomain);
+        } catch (IdentityApplicationManagementException e) {
+            log.error("Error exporting application with id: " + applicationId, e);
+            failedExports.add(buildApplicationError(ErrorMessage.ERROR_EXPORTING_APPLICATION, applicationId,
+                    application.getApplicationName(), applicationId));
+            return;
+        }
+
+        // The application is serialized before the entry is started, so that a failure does not leave a truncated
+        // entry in the archive.
+        ByteArrayOutputStream entryContent = new ByteArrayOutputStream();
+        try {
+            writeServiceProvider(fileType, serviceProvider, entryContent);
+        } catch (APIError e) {
+            log.error("Error writing the exported application with id: " + applicationId, e);
+            failedExports.add(buildApplicationError(ErrorMessage.ERROR_EXPORTING_APPLICATION, applicationId,
+                    application.getApplicationName(), applicationId));
+            return;
+        }
+        zipOutputStream.putNextEntry(new ZipEntry(entryName));
+        entryContent.writeTo(zipOutputStream);
+        zipOutputStream.closeEntry();
+    }
+
+    private ApplicationErrorDTO buildApplicationError(ErrorMessage errorEnum, String applicationId,
+                                                      String applicationName, String... args) {
+
+        ApplicationErrorDTO applicationError = new ApplicationErrorDTO();
+        applicationError.setCode(errorEnum.getCode());
+        applicationError.setMessage(errorEnum.getMessage());
+        applicationError.setDescription(buildFormattedDescription(errorEnum.getDescription(), args));
+        applicationError.setApplicationId(applicationId);
+        applicationError.setApplicationName(applicationName);
+        return applicationError;
+    }
+
     private TransferResource generateFileFromModel(String fileType, ServiceProvider serviceProvider) {
 
         if (log.isDebugEnabled()) {
             log.debug("Generating file content from model for application: " + serviceProvider.getApplicationName());
         }
 
-        StringBuilder fileNameSB = new StringBuilder(serviceProvider.getApplicationName());
-        String fileContent;
-
-        if (Arrays.asList(VALID_MEDIA_TYPES_XML).contains(fileType)) {
-            fileContent = parseXmlFromServiceProvider(serviceProvider);
-            fileNameSB.append(XML_FILE_EXTENSION);
-        } else if (Arrays.asList(VALID_MEDIA_TYPES_YAML).contains(fileType)) {
-            fileContent = parseYamlFromServiceProvider(serviceProvider);
-            fileNameSB.append(YML_FILE_EXTENSION);
-        } else if (Arrays.asList(VALID_MEDIA_TYPES_JSON).contains(fileType)) {
-            fileContent = parseJsonFromServiceProvider(serviceProvider);
-            fileNameSB.append(JSON_FILE_EXTENSION);
-        } else {
+        String fileExtension = getFileExtension(fileType);
+        if (fileExtension == null) {
             throw Utils.buildServerError("Unsupported media type: " + fileType + "."
                     + " Supported media types are " + Arrays.toString(VALID_MEDIA_TYPES_XML) + ", "
                     + Arrays.toString(VALID_MEDIA_TYPES_YAML) + ", " + Arrays.toString(VALID_MEDIA_TYPES_JSON));
         }
 
-        return new TransferResource(
-                fileNameSB.toString(),
-                new ByteArrayResource(fileContent.getBytes(StandardCharsets.UTF_8)),
-                MediaType.APPLICATION_OCTET_STREAM
-        );
+        return new TransferResource(serviceProvider.getApplicationName() + fileExtension,
+                outputStream -> writeServiceProvider(fileType, serviceProvider, outputStream),
+                MediaType.APPLICATION_OCTET_STREAM);
+    }
+
+    private String getFileExtension(String fileType) {
+
+        if (Arrays.asList(VALID_MEDIA_TYPES_XML).contains(fileType)) {
+            return XML_FILE_EXTENSION;
+        } else if (Arrays.asList(VALID_MEDIA_TYPES_YAML).contains(fileType)) {
+            return YML_FILE_EXTENSION;
+        } else if (Arrays.asList(VALID_MEDIA_TYPES_JSON).contains(fileType)) {
+            return JSON_FILE_EXTENSION;
+        }
+        return null;
     }
 
-    private String parseXmlFromServiceProvider(ServiceProvider serviceProvider) {
+    private void writeServiceProvider(String fileType, ServiceProvider serviceProvider, OutputStream outputStream)
+            throws IOException {
 
-        JAXBContext jaxbContext;
+        CodecRegistry.Codec<ServiceProvider> codec = SP_CODECS.getCodec(fileType);
+        if (codec == null) {
+            codec = SP_CODECS.getCodec(VALID_MEDIA_TYPES_JSON[0]);
+        }
         try {
-            jaxbContext = JAXBContext.newInstance(INBOUND_CONFIG_PROTOCOLS);
-            Marshaller marshaller = jaxbContext.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            marshaller.setListener(new Marshaller.Listener() {
-                @Override
-                public void beforeMarshal(Object source) {
-                    if (source instanceof InboundAuthenticationConfig) {
-                        InboundAuthenticationConfig config = (InboundAuthenticationConfig) source;
-                        for (InboundAuthenticationRequestConfig requestConfig
-                                : config.getInboundAuthenticationRequestConfigs()) {
-                            requestConfig.setInboundConfiguration(null);
-                        }
-                    }
-                }
-            });
-            StringWriter stringWriter = new StringWriter();
-            marshaller.marshal(serviceProvider, stringWriter);
-            return stringWriter.toString();
-        } catch (JAXBException e) {
-            throw Utils.buildServerError("Error exporting application from XML file.", e);
+            codec.write(serviceProvider, outputStream);
+        } catch (CodecException e) {
+            throw Utils.buildServerError("Error exporting application from " + codec.getFormatName() + " file.", e);
         }
     }
 
-    private String parseYamlFromServiceProvider(ServiceProvider serviceProvider) {
+    private static void writeServiceProviderAsYaml(ServiceProvider serviceProvider, OutputStream outputStream)
+            throws IOException, CodecException {
 
+        // SnakeYAML instances are not thread safe, hence built per call.
         Constructor constructor = new Constructor(new LoaderOptions());
         CustomRepresenter representer = new CustomRepresenter(new DumperOptions());
-
         for (Class<?> protocol : INBOUND_CONFIG_PROTOCOLS) {
             TypeDescription description = new TypeDescription(InboundConfigurationProtocol.class);
             description.addPropertyParameters("type", protocol);
             constructor.addTypeDescription(description);
         }
-
-        Yaml yaml = new Yaml(constructor, representer);
         try {
-            return yaml.dump(serviceProvider);
+            Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+            new Yaml(constructor, representer).dump(serviceProvider, writer);
+            writer.flush();
         } catch (YAMLException e) {
-            throw Utils.buildServerError("Error exporting application from YAML file.", e);
-        }
-    }
-
-    private String parseJsonFromServiceProvider(ServiceProvider serviceProvider) {
-
-        ObjectMapper objectMapper = new ObjectMapper(new JsonFactory());
-        objectMapper.registerSubtypes(INBOUND_CONFIG_PROTOCOLS);
-        try {
-            return objectMapper.writeValueAsString(serviceProvider);
-        } catch (JsonProcessingException e) {
-            throw Utils.buildServerError("Error exporting application from JSON file.", e);
+            throw new CodecException("Error while writing the service provider as YAML.", e);
         }
     }
 
@@ -664,86 +925,360 @@ public class ServerApplicationManagementService {
         }
     }
 
-    private ServiceProvider parseSP(SpFileContent spFileContent, String fileType, String tenantDomain)
-            throws IdentityApplicationManagementException {
+    /**
+     * Import the applications of a ZIP archive which contains an XML, YAML or JSON file per application. The
+     * application files are parsed and validated in parallel while the archive is read, and the valid applications
+     * are then imported with a bounded concurrency. In a dry run, the applications are only parsed and validated.
+     *
+     * @param fileInputStream Archive to be imported as an input stream.
+     * @param fileDetail      Archive details.
+     * @param isAppUpdate     If True, the existing applications are updated from the archive.
+     * @param dryRun          If True, the applications are only parsed and validated.
+     * @return Report of the applications which were imported and the ones which failed.
+     */
+    public ApplicationBulkImportResponse importApplications(InputStream fileInputStream, Attachment fileDetail,
+                                                            boolean isAppUpdate, Boolean dryRun) {
 
+        if (fileInputStream == null || fileDetail == null) {
+            throw buildClientError(ErrorMessage.INVALID_APPLICATION_ARCHIVE, "The request does not contain a file.");
+        }
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        String username = ContextLoader.getUsernameFromContext();
+        boolean isDryRun = Boolean.TRUE.equals(dryRun);
         if (log.isDebugEnabled()) {
-            log.debug("Parsing service provider from file: " + spFileContent.getFileName() + " of type: " + fileType);
+            log.debug("Importing the applications of the archive: " + fileDetail.getDataHandler().getName()
+                    + " of tenant: " + tenantDomain + ". Dry run: " + isDryRun);
         }
 
-        if (StringUtils.isEmpty(spFileContent.getContent())) {
-            throw new IdentityApplicationManagementException(String.format(
-                    "Empty Service Provider configuration file " + " %s uploaded by tenant: %s",
-                    spFileContent.getFileName(), tenantDomain));
+        List<String> fileNames = new ArrayList<>();
+        List<Future<ServiceProvider>> validations = new ArrayList<>();
+        boolean isArchiveRead = false;
+        try {
+            readApplicationArchive(fileInputStream, tenantDomain, isAppUpdate, fileNames, validations);
+            isArchiveRead = true;
+        } catch (IOException e) {
+            throw buildClientError(ErrorMessage.INVALID_APPLICATION_ARCHIVE, e.getMessage());
+        } finally {
+            IOUtils.closeQuietly(fileInputStream);
+            if (!isArchiveRead) {
+                cancelTasks(validations);
+            }
         }
 
-        if (containsValidMediaType(fileType, VALID_MEDIA_TYPES_XML)) {
-            return parseServiceProviderFromXml(spFileContent, tenantDomain);
-        } else if (containsValidMediaType(fileType, VALID_MEDIA_TYPES_YAML)) {
-            return parseServiceProviderFromYaml(spFileContent, tenantDomain);
-        } else if (containsValidMediaType(fileType, VALID_MEDIA_TYPES_JSON)) {
-            return parseServiceProviderFromJson(spFileContent, tenantDomain);
+        int applicationCount = fileNames.size();
+        ServiceProvider[] serviceProviders = new ServiceProvider[applicationCount];
+        ApplicationImportResult[] importResults = new ApplicationImportResult[applicationCount];
+        ApplicationImportError[] importErrors = new ApplicationImportError[applicationCount];
+
+        collectValidatedApplications(fileNames, validations, serviceProviders, importErrors);
+        if (isDryRun) {
+            for (int i = 0; i < applicationCount; i++) {
+                if (serviceProviders[i] != null) {
+                    importResults[i] = buildImportResult(fileNames.get(i), serviceProviders[i], null);
+                }
+            }
         } else {
-            log.warn("Unsupported file type " + fileType + " for file " + spFileContent.getFileName() + " . " +
-                    "Defaulting to XML parsing");
-            return parseServiceProviderFromXml(spFileContent, tenantDomain);
+            importValidatedApplications(fileNames, tenantDomain, username, isAppUpdate, serviceProviders,
+                    importResults, importErrors);
+        }
+
+        List<ApplicationImportResult> succeededOperations = new ArrayList<>();
+        List<ApplicationImportError> failedOperations = new ArrayList<>();
+        for (int i = 0; i < applicationCount; i++) {
+            if (importErrors[i] != null) {
+                failedOperations.add(importErrors[i]);
+            } else if (importResults[i] != null) {
+                succeededOperations.add(importResults[i]);
+            }
         }
+
+        ApplicationBulkImportResponse bulkImportResponse = new ApplicationBulkImportResponse();
+        bulkImportResponse.setDryRun(isDryRun);
+        bulkImportResponse.setSucceededOperations(succeededOperations);
+        bulkImportResponse.setFailedOperations(failedOperations);
+        return bulkImportResponse;
     }
 
-    private boolean containsValidMediaType(String fileType, String[] mediaTypes) {
+    private void readApplicationArchive(InputStream fileInputStream, String tenantDomain, boolean isAppUpdate,
+                                        List<String> fileNames, List<Future<ServiceProvider>> validations)
+            throws IOException {
 
-        for (String mediaType : mediaTypes) {
-            if (fileType.contains(mediaType)) {
-                return true;
+        /*
+         * Each application file is handed over to its validation task as soon as it is read, and its content is
+         * released once the task parsed it. Reading waits while too many files are pending to be parsed, so that
+         * only a bounded number of application files are held in memory at a time.
+         */
+        Semaphore pendingFiles = new Semaphore(MAX_PENDING_BULK_IMPORT_FILES);
+        long archiveSize = 0;
+        ZipInputStream zipInputStream = new ZipInputStream(fileInputStream, StandardCharsets.UTF_8);
+        byte[] buffer = new byte[ARCHIVE_READ_BUFFER_SIZE];
+        ZipEntry zipEntry;
+        while ((zipEntry = zipInputStream.getNextEntry()) != null) {
+            if (zipEntry.isDirectory() || EXPORT_ERRORS_ENTRY_NAME.equals(zipEntry.getName())
+                    || getMediaTypeOfFile(zipEntry.getName()) == null) {
+                continue;
             }
+            if (fileNames.size() >= MAX_BULK_IMPORT_APPLICATIONS) {
+                throw new IOException("The archive contains more than " + MAX_BULK_IMPORT_APPLICATIONS
+                        + " application files.");
+            }
+            ByteArrayOutputStream entryContent = new ByteArrayOutputStream();
+            int read;
+            while ((read = zipInputStream.read(buffer)) != -1) {
+                archiveSize += read;
+                // Guard against archives which inflate to an unbounded size.
+                if (archiveSize > MAX_BULK_IMPORT_ARCHIVE_SIZE) {
+                    throw new IOException("The uncompressed size of the archive exceeds "
+                            + MAX_BULK_IMPORT_ARCHIVE_SIZE + " bytes.");
+                }
+                entryContent.write(buffer, 0, read);
+            }
+            SpFileContent spFileContent = new SpFileContent();
+            spFileContent.setFileName(zipEntry.getName());
+            spFileContent.setContent(entryContent.toString(StandardCharsets.UTF_8.name()));
+            try {
+                pendingFiles.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw Utils.buildServerError("Interrupted while reading the applications of the archive.", e);
+            }
+            fileNames.add(spFileContent.getFileName());
+            validations.add(applicationImporter.submit(() -> {
+                try {
+                    return parseAndValidateSP(spFileContent, tenantDomain, isAppUpdate);
+                } finally {
+                    pendingFiles.release();
+                }
+            }));
+        }
+        if (fileNames.isEmpty()) {
+            throw new IOException("The archive does not contain any XML, YAML or JSON application files.");
         }
-        return false;
     }
 
-    private ServiceProvider parseServiceProviderFromXml(SpFileContent spFileContent, String tenantDomain)
-            throws IdentityApplicationManagementException {
+    private String getMediaTypeOfFile(String fileName) {
+
+        String lowerCaseFileName = fileName.toLowerCase(Locale.ENGLISH);
+        if (lowerCaseFileName.endsWith(XML_FILE_EXTENSION)) {
+            return VALID_MEDIA_TYPES_XML[0];
+        } else if (lowerCaseFileName.endsWith(YML_FILE_EXTENSION) || lowerCaseFileName.endsWith(YAML_FILE_EXTENSION)) {
+            return VALID_MEDIA_TYPES_YAML[0];
+        } else if (lowerCaseFileName.endsWith(JSON_FILE_EXTENSION)) {
+            return VALID_MEDIA_TYPES_JSON[0];
+        }
+        return null;
+    }
+
+    private void collectValidatedApplications(List<String> fileNames, List<Future<ServiceProvider>> validations,
+                                              ServiceProvider[] serviceProviders,
+                                              ApplicationImportError[] importErrors) {
 
         try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(INBOUND_CONFIG_PROTOCOLS);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            return (ServiceProvider) unmarshaller.unmarshal(new StringReader(spFileContent.getContent()));
-        } catch (JAXBException e) {
-            throw new IdentityApplicationManagementException(String.format("Error in reading XML Service Provider " +
-                    "configuration file %s uploaded by tenant: %s", spFileContent.getFileName(), tenantDomain), e);
+            Set<String> applicationNames = new HashSet<>();
+            for (int i = 0; i < validations.size(); i++) {
+                String fileName = fileNames.get(i);
+                try {
+                    ServiceProvider serviceProvider = validations.get(i).get();
+                    if (applicationNames.add(serviceProvider.getApplicationName())) {
+                        serviceProviders[i] = serviceProvider;
+                    } else {
+                        importErrors[i] = buildImportError(buildClientError(
+                                ErrorMessage.DUPLICATE_APPLICATION_IN_ARCHIVE, serviceProvider.getApplicationName()),
+                                fileName, serviceProvider.getApplicationName());
+                    }
+                } catch (ExecutionException e) {
+                    importErrors[i] = buildImportError(e.getCause(), fileName, null);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw Utils.buildServerError("Interrupted while validating the applications of the archive.", e);
+        } finally {
+            cancelTasks(validations);
         }
     }
 
-    private ServiceProvider parseServiceProviderFromYaml(SpFileContent spFileContent, String tenantDomain)
+    private void cancelTasks(List<? extends Future<?>> tasks) {
+
+        for (Future<?> task : tasks) {
+            task.cancel(true);
+        }
+    }
+
+    private ServiceProvider parseAndValidateSP(SpFileContent spFileContent, String tenantDomain, boolean isAppUpdate)
             throws IdentityApplicationManagementException {
 
+        ServiceProvider serviceProvider = parseSP(spFileContent, getMediaTypeOfFile(spFileContent.getFileName()),
+                tenantDomain);
+        if (serviceProvider == null || StringUtils.isBlank(serviceProvider.getApplicationName())) {
+            throw buildClientError(ErrorMessage.INVALID_APPLICATION_FILE, spFileContent.getFileName());
+        }
+        String applicationName = serviceProvider.getApplicationName();
+        boolean isExistingApplication =
+                getApplicationManagementService().getServiceProvider(applicationName, tenantDomain) != null;
+        if (isAppUpdate && !isExistingApplication) {
+            throw buildClientError(ErrorMessage.IMPORTED_APPLICATION_NOT_FOUND, applicationName);
+        }
+        if (!isAppUpdate && isExistingApplication) {
+            throw buildClientError(ErrorMessage.APPLICATION_ALREADY_EXISTS, applicationName);
+        }
+        return serviceProvider;
+    }
+
+    private void importValidatedApplications(List<String> fileNames, String tenantDomain,
+                                             String username, boolean isAppUpdate, ServiceProvider[] serviceProviders,
+                                             ApplicationImportResult[] importResults,
+                                             ApplicationImportError[] importErrors) {
+
+        List<Integer> validApplications = new ArrayList<>();
+        for (int i = 0; i < serviceProviders.length; i++) {
+            if (serviceProviders[i] != null) {
+                validApplications.add(i);
+            }
+        }
+        int concurrency = Math.min(getBulkImportConcurrency(), validApplications.size());
+
+        // Each lane imports its share of the applications sequentially, so that at most the configured number of
+        // applications are imported at a time.
+        List<Future<Void>> lanes = new ArrayList<>(concurrency);
         try {
-            // Add trusted tags included in the SP YAML file.
-            List<String> trustedTagList = new ArrayList<>();
-            trustedTagList.add(ServiceProvider.class.getName());
-            trustedTagList.add(OAuthAppDO.class.getName());
-            trustedTagList.add(SAMLSSOServiceProviderDTO.class.getName());
-
-            LoaderOptions loaderOptions = new LoaderOptions();
-            TagInspector tagInspector = new TrustedPrefixesTagInspector(trustedTagList);
-            loaderOptions.setTagInspector(tagInspector);
-            Yaml yaml = new Yaml(new Constructor(ServiceProvider.class, loaderOptions));
-            return yaml.loadAs(spFileContent.getContent(), ServiceProvider.class);
-        } catch (YAMLException e) {
-            throw new IdentityApplicationManagementException(String.format("Error in reading YAML Service Provider " +
-                    "configuration file %s uploaded by tenant: %s", spFileContent.getFileName(), tenantDomain), e);
+            for (int lane = 0; lane < concurrency; lane++) {
+                int firstApplication = lane;
+                int laneCount = concurrency;
+                lanes.add(applicationImporter.submit(() -> {
+                    for (int j = firstApplication; j < validApplications.size(); j += laneCount) {
+                        int index = validApplications.get(j);
+                        importApplication(fileNames.get(index), serviceProviders[index], tenantDomain,
+                                username, isAppUpdate, index, importResults, importErrors);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<Void> lane : lanes) {
+                lane.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw Utils.buildServerError("Interrupted while importing the applications of the archive.", e);
+        } catch (ExecutionException e) {
+            throw Utils.buildServerError("Error while importing the applications of the archive.", e);
+        } finally {
+            cancelTasks(lanes);
+        }
+    }
+
+    private void importApplication(String fileName, ServiceProvider serviceProvider, String tenantDomain,
+                                   String username, boolean isAppUpdate, int index,
+                                   ApplicationImportResult[] importResults, ApplicationImportError[] importErrors) {
+
+        String applicationName = serviceProvider.getApplicationName();
+        try {
+            ImportResponse importResponse = getApplicationManagementService()
+                    .importSPApplication(serviceProvider, tenantDomain, username, isAppUpdate);
+            if (importResponse.getResponseCode() == ImportResponse.FAILED) {
+                importErrors[index] = buildImportError(handleErrorResponse(importResponse), fileName,
+                        applicationName);
+            } else {
+                importResults[index] = buildImportResult(fileName, serviceProvider,
+                        importResponse.getApplicationResourceId());
+            }
+        } catch (IdentityApplicationManagementException | RuntimeException e) {
+            importErrors[index] = buildImportError(e, fileName, applicationName);
+        }
+    }
+
+    private int getBulkImportConcurrency() {
+
+        String concurrency = IdentityUtil.getProperty(BULK_IMPORT_CONCURRENCY);
+        if (StringUtils.isNumeric(concurrency) && StringUtils.isNotEmpty(concurrency)) {
+            return Math.max(1, Math.min(Integer.parseInt(concurrency), BULK_IMPORT_POOL_SIZE));
         }
+        return DEFAULT_BULK_IMPORT_CONCURRENCY;
     }
 
-    private ServiceProvider parseServiceProviderFromJson(SpFileContent spFileContent, String tenantDomain)
+    private ApplicationImportResult buildImportResult(String fileName, ServiceProvider serviceProvider,
+                                                      String applicationId) {
+
+        ApplicationImportResult importResult = new ApplicationImportResult();
+        importResult.setFileName(fileName);
+        importResult.setApplicationName(serviceProvider.getApplicationName());
+        importResult.setApplicationId(applicationId);
+        return importResult;
+    }
+
+    private ApplicationImportError buildImportError(Throwable error, String fileName, String applicationName) {
+
+        ApplicationImportError applicationError = new ApplicationImportError();
+        if (error instanceof APIError) {
+            ErrorDTO errorResponse = ((APIError) error).getResponseEntity();
+            applicationError.setCode(errorResponse.getCode());
+            applicationError.setMessage(errorResponse.getMessage());
+            applicationError.setDescription(errorResponse.getDescription());
+        } else if (error instanceof IdentityApplicationManagementException) {
+            IdentityApplicationManagementException e = (IdentityApplicationManagementException) error;
+            boolean isClientError = e instanceof IdentityApplicationManagementClientException;
+            if (!isClientError) {
+                log.error("Error importing application from file: " + fileName, e);
+            }
+            applicationError.setCode(getErrorCode(e, isClientError ? INVALID_REQUEST.getCode() :
+                    UNEXPECTED_SERVER_ERROR.getCode()));
+            applicationError.setMessage("Error importing application from file.");
+            applicationError.setDescription(e.getMessage());
+        } else {
+            log.error("Error importing application from file: " + fileName, error);
+            applicationError.setCode(UNEXPECTED_SERVER_ERROR.getCode());
+            applicationError.setMessage("Error importing application from file.");
+            applicationError.setDescription("Unexpected error occurred while importing the application.");
+        }
+        applicationError.setFileName(fileName);
+        applicationError.setApplicationName(applicationName);
+        return applicationError;
+    }
+
+    private ServiceProvider parseSP(SpFileContent spFileContent, String fileType, String tenantDomain)
             throws IdentityApplicationManagementException {
 
+        if (log.isDebugEnabled()) {
+            log.debug("Parsing service provider from file: " + spFileContent.getFileName() + " of type: " + fileType);
+        }
+
+        if (StringUtils.isEmpty(spFileContent.getContent())) {
+            throw new IdentityApplicationManagementException(String.format(
+                    "Empty Service Provider configuration file " + " %s uploaded by tenant: %s",
+                    spFileContent.getFileName(), tenantDomain));
+        }
+
+        CodecRegistry.Codec<ServiceProvider> codec = SP_CODECS.getCodec(fileType);
+        if (codec == null) {
+            log.warn("Unsupported file type " + fileType + " for file " + spFileContent.getFileName() + " . " +
+                    "Defaulting to XML parsing");
+            codec = SP_CODECS.getCodec(VALID_MEDIA_TYPES_XML[0]);
+        }
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            objectMapper.registerSubtypes(INBOUND_CONFIG_PROTOCOLS);
-            return objectMapper.readValue(spFileContent.getContent(), ServiceProvider.class);
-        } catch (JsonProcessingException e) {
-            throw new IdentityApplicationManagementException(String.format("Error in reading JSON Service Provider " +
-                    "configuration file %s uploaded by tenant: %s", spFileContent.getFileName(), tenantDomain), e);
+            return codec.read(spFileContent.getContent());
+        } catch (CodecException e) {
+            throw new IdentityApplicationManagementException(String.format("Error in reading %s Service Provider " +
+                    "configuration file %s uploaded by tenant: %s", codec.getFormatName(),
+                    spFileContent.getFileName(), tenantDomain), e);
+        }
+    }
+
+    private static ServiceProvider readServiceProviderFromYaml(String content) throws CodecException {
+
+        // Add trusted tags included in the SP YAML file.
+        List<String> trustedTagList = new ArrayList<>();
+        trustedTagList.add(ServiceProvider.class.getName());
+        trustedTagList.add(OAuthAppDO.class.getName());
+        trustedTagList.add(SAMLSSOServiceProviderDTO.class.getName());
+
+        LoaderOptions loaderOptions = new LoaderOptions();
+        TagInspector tagInspector = new TrustedPrefixesTagInspector(trustedTagList);
+        loaderOptions.setTagInspector(tagInspector);
+        try {
+            return new Yaml(new Constructor(ServiceProvider.class, loaderOptions)).loadAs(content,
+                    ServiceProvider.class);
+        } catch (YAMLException e) {
+            throw new CodecException("Error while reading the service provider from YAML.", e);
         }
     }
 
@@ -1705,34 +2240,17 @@ public class ServerApplicationManagementService {
     private List<ApplicationListItem> getApplicationListItems(List<ServiceProvider> serviceProviderList,
                                                               List<String> requiredAttributes) {
 
-        List<ApplicationListItem> applicationListItems = new ArrayList<>();
+        // Only the required attributes are projected into the response model, instead of building the full
+        // application model and discarding the attributes which are not required.
+        Set<String> requiredAttributeSet = new HashSet<>(requiredAttributes);
+        ServiceProviderToApiModel serviceProviderToApiModel = new ServiceProviderToApiModel();
+        ApplicationInfoWithRequiredPropsToApiModel applicationInfoToApiModel =
+                new ApplicationInfoWithRequiredPropsToApiModel();
+        List<ApplicationListItem> applicationListItems = new ArrayList<>(serviceProviderList.size());
         for (ServiceProvider serviceProvider : serviceProviderList) {
             ApplicationResponseModel applicationResponseModel =
-                    new ServiceProviderToApiModel().apply(serviceProvider);
-            if (requiredAttributes.stream().noneMatch(attribute -> attribute.equals(TEMPLATE_ID))) {
-                applicationResponseModel.templateId(null);
-            }
-            if (requiredAttributes.stream().noneMatch(attribute -> attribute.equals(TEMPLATE_VERSION))) {
-                applicationResponseModel.templateVersion(null);
-            }
-            if (requiredAttributes.stream().noneMatch(attribute -> attribute.equals(ADVANCED_CONFIGURATIONS))) {
-                applicationResponseModel.advancedConfigurations(null);
-            }
-            if (requiredAttributes.stream().noneMatch(attribute -> attribute.equals(CLIENT_ID))) {
-                applicationResponseModel.clientId(null);
-            }
-            if (requiredAttributes.stream().noneMatch(attribute -> attribute.equals(ISSUER))) {
-                applicationResponseModel.issuer(null);
-            }
-            if (requiredAttributes.stream()
-                    .noneMatch(attribute -> attribute.equals(
-                            IdentityApplicationConstants.ALLOWED_ROLE_AUDIENCE_REQUEST_ATTRIBUTE_NAME))) {
-                applicationResponseModel.associatedRoles(null);
-            }
-            if (requiredAttributes.stream().noneMatch(attribute -> attribute.equals(APPLICATION_ENABLED))) {
-                applicationResponseModel.applicationEnabled(null);
-            }
-            applicationListItems.add(new ApplicationInfoWithRequiredPropsToApiModel().apply(applicationResponseModel));
+                    serviceProviderToApiModel.applyWithRequiredAttributes(serviceProvider, requiredAttributeSet);
+            applicationListItems.add(applicationInfoToApiModel.apply(applicationResponseModel));
         }
         return applicationListItems;
     }
@@ -38,6 +38,7 @@ import org.wso2.carbon.identity.api.server.application.management.v1.OIDCMetaDat
 import org.wso2.carbon.identity.api.server.application.management.v1.SAMLMetaData;
 import org.wso2.carbon.identity.api.server.application.management.v1.WSTrustMetaData;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.Utils;
+import org.wso2.carbon.identity.api.server.common.ConditionalGet;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.application.common.model.Property;
 import org.wso2.carbon.identity.application.mgt.AbstractInboundAuthenticatorConfig;
@@ -46,6 +47,7 @@ import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.oauth.OAuthAdminServiceImpl;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.dto.OAuthIDTokenAlgorithmDTO;
+import org.wso2.carbon.identity.oauth.dto.OAuthTokenExpiryTimeDTO;
 import org.wso2.carbon.identity.oauth.dto.TokenBindingMetaDataDTO;
 import org.wso2.carbon.identity.oauth2.model.ClientAuthenticationMethodModel;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
@@ -112,6 +114,117 @@ public class ServerApplicationMetadataService {
         return authProtocolMetadataList;
     }
 
+    /**
+     * Add the version of the inbound protocols to the conditional GET support of an inbound protocol metadata
+     * request. The default protocols are fixed, hence only the registered custom protocols and their properties are
+     * added.
+     *
+     * @param conditionalGet Conditional GET support of the request.
+     */
+    public void addInboundProtocolsVersion(ConditionalGet conditionalGet) {
+
+        for (AbstractInboundAuthenticatorConfig inboundAuthenticatorConfig : ApplicationManagementServiceHolder
+                .getApplicationManagementService().getAllInboundAuthenticatorConfig().values()) {
+            conditionalGet.withVersion(inboundAuthenticatorConfig.getName(),
+                    inboundAuthenticatorConfig.getFriendlyName(), inboundAuthenticatorConfig.getConfigName());
+            Property[] properties = inboundAuthenticatorConfig.getConfigurationProperties();
+            if (properties != null) {
+                for (Property property : properties) {
+                    conditionalGet.withVersion(property.getName(), property.getDisplayName(), property.getType(),
+                            property.isRequired(), property.getOptions(), property.getDefaultValue(),
+                            property.getRegex(), property.getDisplayOrder(), property.isConfidential());
+                }
+            }
+        }
+    }
+
+    /**
+     * Add the version of the SAML metadata to the conditional GET support of a SAML metadata request, which consists
+     * of the certificate aliases of the tenant key store and the configured algorithms.
+     *
+     * @param conditionalGet Conditional GET support of the request.
+     */
+    public void addSAMLMetadataVersion(ConditionalGet conditionalGet) {
+
+        SAMLSSOConfigServiceImpl samlSSOConfigService = ApplicationManagementServiceHolder.getSamlssoConfigService();
+        try {
+            conditionalGet.withVersion(samlSSOConfigService.getCertAliasOfPrimaryKeyStore());
+        } catch (IdentityException e) {
+            throw handleException(e);
+        }
+        conditionalGet.withVersion(samlSSOConfigService.getSigningAlgorithmUriByConfig(),
+                samlSSOConfigService.getSigningAlgorithmUris(), samlSSOConfigService.getDigestAlgorithmURIByConfig(),
+                samlSSOConfigService.getDigestAlgorithmURIs(),
+                samlSSOConfigService.getAssertionEncryptionAlgorithmURIByConfig(),
+                samlSSOConfigService.getAssertionEncryptionAlgorithmURIs(),
+                samlSSOConfigService.getKeyEncryptionAlgorithmURIByConfig(),
+                samlSSOConfigService.getKeyEncryptionAlgorithmURIs());
+    }
+
+    /**
+     * Add the version of the WS-Trust metadata to the conditional GET support of a WS-Trust metadata request.
+     *
+     * @param conditionalGet Conditional GET support of the request.
+     */
+    public void addWSTrustMetadataVersion(ConditionalGet conditionalGet) {
+
+        if (ApplicationManagementServiceHolder.getStsAdminService() == null) {
+            // The not found error is returned when building the response.
+            return;
+        }
+        try {
+            conditionalGet.withVersion(ApplicationManagementServiceHolder.getStsAdminService()
+                    .getCertAliasOfPrimaryKeyStore());
+        } catch (SecurityConfigException e) {
+            throw handleException(e);
+        }
+    }
+
+    /**
+     * Add the version of the OAuth/OIDC metadata to the conditional GET support of an OIDC metadata request, which
+     * consists of the supported client authentication methods, grant types, token types, token bindings and scope
+     * validators, the token expiry times and the configured algorithms.
+     *
+     * @param conditionalGet Conditional GET support of the request.
+     */
+    public void addOIDCMetadataVersion(ConditionalGet conditionalGet) {
+
+        OAuthAdminServiceImpl oAuthAdminService = ApplicationManagementServiceHolder.getOAuthAdminService();
+        for (ClientAuthenticationMethod clientAuthenticationMethod : getClientAuthenticationMethods()) {
+            conditionalGet.withVersion(clientAuthenticationMethod.getName(),
+                    clientAuthenticationMethod.getDisplayName());
+        }
+        conditionalGet.withVersion(
+                IdentityUtil.getProperty(ApplicationManagementConstants.TOKEN_EP_ALLOW_REUSE_PVT_KEY_JWT_DEFAULT_VALUE),
+                IdentityUtil.getPropertyAsList(ApplicationManagementConstants.TOKEN_EP_SIGNATURE_ALGORITHMS_SUPPORTED),
+                IdentityUtil.getPropertyAsList(ApplicationManagementConstants.ID_TOKEN_SIGNATURE_ALGORITHMS_SUPPORTED),
+                IdentityUtil.getPropertyAsList(
+                        ApplicationManagementConstants.REQUEST_OBJECT_SIGNATURE_ALGORITHMS_SUPPORTED),
+                IdentityUtil.getPropertyAsList(
+                        ApplicationManagementConstants.REQUEST_OBJECT_ENCRYPTION_ALGORITHMS_SUPPORTED),
+                IdentityUtil.getPropertyAsList(
+                        ApplicationManagementConstants.REQUEST_OBJECT_ENCRYPTION_METHODS_SUPPORTED),
+                IdentityUtil.getProperty(ApplicationManagementConstants.DEFAULT_SUBJECT_TYPE),
+                IdentityUtil.getPropertyAsList(ApplicationManagementConstants.FAPI_ALLOWED_SIGNATURE_ALGORITHMS),
+                IdentityUtil.getPropertyAsList(
+                        ApplicationManagementConstants.FAPI_ALLOWED_CLIENT_AUTHENTICATION_METHODS));
+
+        OAuthTokenExpiryTimeDTO tokenExpiryTimes = oAuthAdminService.getTokenExpiryTimes();
+        OAuthIDTokenAlgorithmDTO idTokenAlgorithmDTO = oAuthAdminService.getSupportedIDTokenAlgorithms();
+        conditionalGet.withVersion(oAuthAdminService.getAllowedGrantTypes(),
+                tokenExpiryTimes.getUserAccessTokenExpiryTime(), tokenExpiryTimes.getApplicationAccessTokenExpiryTime(),
+                tokenExpiryTimes.getRefreshTokenExpiryTime(), tokenExpiryTimes.getIdTokenExpiryTime(),
+                idTokenAlgorithmDTO.getDefaultIdTokenEncryptionAlgorithm(),
+                idTokenAlgorithmDTO.getSupportedIdTokenEncryptionAlgorithms(),
+                idTokenAlgorithmDTO.getDefaultIdTokenEncryptionMethod(),
+                idTokenAlgorithmDTO.getSupportedIdTokenEncryptionMethods(),
+                oAuthAdminService.getAllowedScopeValidators(), oAuthAdminService.getDefaultTokenType(),
+                oAuthAdminService.getSupportedTokenTypes());
+        for (TokenBindingMetaDataDTO tokenBindingDTO : oAuthAdminService.getSupportedTokenBindingsMetaData()) {
+            conditionalGet.withVersion(tokenBindingDTO.getTokenBindingType());
+        }
+    }
+
     /**
      * Pull SAML metadata from the SAMLSSOConfigServiceImpl and return.
      *
@@ -18,20 +18,21 @@
 
 package org.wso2.carbon.identity.api.server.application.management.v1.core;
 
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.MediaType;
 
+import javax.ws.rs.core.StreamingOutput;
+
 /**
  * The TransferResource class represents a resource to be transferred,
- * including its name, type, and byte array data.
+ * including its name, type, and the output which writes its data to the response stream.
  */
 public class TransferResource {
 
     private String resourceName;
     private MediaType resourceType;
-    private ByteArrayResource resource;
+    private StreamingOutput resource;
 
-    public TransferResource(String resourceName, ByteArrayResource resource, MediaType resourceType) {
+    public TransferResource(String resourceName, StreamingOutput resource, MediaType resourceType) {
 
         this.resourceName = resourceName;
         this.resource = resource;
@@ -48,12 +49,12 @@ public class TransferResource {
         this.resourceName = resourceName;
     }
 
-    public ByteArrayResource getResource() {
+    public StreamingOutput getResource() {
 
         return resource;
     }
 
-    public void setResource(ByteArrayResource resource) {
+    public void setResource(StreamingOutput resource) {
 
         this.resource = resource;
     }
@@ -22,6 +22,7 @@ import org.wso2.carbon.identity.api.server.application.management.v1.Application
 import org.wso2.carbon.identity.api.server.application.management.v1.core.ServerApplicationManagementService;
 import org.wso2.carbon.identity.api.server.common.Constants;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.URIPrefixResolver;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
 import org.wso2.carbon.identity.application.mgt.ApplicationConstants;
@@ -42,6 +43,9 @@ public class ApplicationBasicInfoToApiModel implements Function<ApplicationBasic
     private static final Set<String> systemApplications =
             ApplicationManagementServiceHolder.getApplicationManagementService().getSystemApplications();
 
+    // Instances are created per list request, hence the server API context is resolved once for all the items.
+    private final URIPrefixResolver uriPrefixResolver = URIPrefixResolver.forBody();
+
     @Override
     public ApplicationListItem apply(ApplicationBasicInfo applicationBasicInfo) {
 
@@ -59,8 +63,8 @@ public class ApplicationBasicInfoToApiModel implements Function<ApplicationBasic
 
     private String getApplicationLocation(String resourceId) {
 
-        return ContextLoader.buildURIForBody(
-                Constants.V1_API_PATH_COMPONENT + APPLICATION_MANAGEMENT_PATH_COMPONENT + "/" + resourceId).toString();
+        return uriPrefixResolver.resolve(
+                Constants.V1_API_PATH_COMPONENT + APPLICATION_MANAGEMENT_PATH_COMPONENT + "/" + resourceId);
     }
 
     private ApplicationListItem.AccessEnum getAccess(String applicationName) {
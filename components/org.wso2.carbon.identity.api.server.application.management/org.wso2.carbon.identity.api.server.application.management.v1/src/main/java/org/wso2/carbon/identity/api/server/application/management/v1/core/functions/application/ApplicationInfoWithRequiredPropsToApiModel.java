@@ -21,7 +21,7 @@ import org.wso2.carbon.identity.api.server.application.management.v1.Application
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationResponseModel;
 import org.wso2.carbon.identity.api.server.application.management.v1.AssociatedRolesConfig;
 import org.wso2.carbon.identity.api.server.common.Constants;
-import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.URIPrefixResolver;
 
 import java.util.List;
 import java.util.function.Function;
@@ -42,6 +42,9 @@ import static org.wso2.carbon.identity.base.IdentityConstants.SKIP_LOGOUT_CONSEN
 public class ApplicationInfoWithRequiredPropsToApiModel implements Function<ApplicationResponseModel,
         ApplicationListItem> {
 
+    // Instances are created per list request, hence the server API context is resolved once for all the items.
+    private final URIPrefixResolver uriPrefixResolver = URIPrefixResolver.forBody();
+
     @Override
     public ApplicationListItem apply(ApplicationResponseModel applicationResponseModel) {
 
@@ -106,7 +109,7 @@ public class ApplicationInfoWithRequiredPropsToApiModel implements Function<Appl
 
     private String getApplicationLocation(String resourceId) {
 
-        return ContextLoader.buildURIForBody(
-                Constants.V1_API_PATH_COMPONENT + APPLICATION_MANAGEMENT_PATH_COMPONENT + "/" + resourceId).toString();
+        return uriPrefixResolver.resolve(
+                Constants.V1_API_PATH_COMPONENT + APPLICATION_MANAGEMENT_PATH_COMPONENT + "/" + resourceId);
     }
 }
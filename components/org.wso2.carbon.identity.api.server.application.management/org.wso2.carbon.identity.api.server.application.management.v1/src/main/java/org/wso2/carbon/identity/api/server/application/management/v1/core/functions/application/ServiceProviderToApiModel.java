@@ -142,6 +142,52 @@ public class ServiceProviderToApiModel implements Function<ServiceProvider, Appl
         }
     }
 
+    /**
+     * Converts the backend model ServiceProvider into an API model which only carries the basic information of the
+     * application and the given required attributes. Sections which are not part of an application list item, such
+     * as the claim configuration, inbound protocols and the authentication sequence, are not built.
+     *
+     * @param application        Service provider.
+     * @param requiredAttributes Required attributes of the application list item.
+     * @return Application model with the basic information and the required attributes.
+     */
+    public ApplicationResponseModel applyWithRequiredAttributes(ServiceProvider application,
+                                                                Set<String> requiredAttributes) {
+
+        if (isResidentSp(application)) {
+            return apply(application);
+        }
+        ApplicationResponseModel applicationResponseModel = new ApplicationResponseModel()
+                .id(application.getApplicationResourceId())
+                .name(application.getApplicationName())
+                .description(application.getDescription())
+                .imageUrl(application.getImageUrl())
+                .accessUrl(application.getAccessUrl())
+                .realm(getInboundKey(application, "passivests"));
+        if (requiredAttributes.contains(ApplicationManagementConstants.CLIENT_ID)) {
+            applicationResponseModel.clientId(getInboundKey(application, "oauth2"));
+        }
+        if (requiredAttributes.contains(ApplicationManagementConstants.ISSUER)) {
+            applicationResponseModel.issuer(getInboundKey(application, "samlsso"));
+        }
+        if (requiredAttributes.contains(ApplicationManagementConstants.TEMPLATE_ID)) {
+            applicationResponseModel.templateId(application.getTemplateId());
+        }
+        if (requiredAttributes.contains(ApplicationManagementConstants.TEMPLATE_VERSION)) {
+            applicationResponseModel.templateVersion(application.getTemplateVersion());
+        }
+        if (requiredAttributes.contains(ApplicationManagementConstants.APPLICATION_ENABLED)) {
+            applicationResponseModel.applicationEnabled(application.isApplicationEnabled());
+        }
+        if (requiredAttributes.contains(IdentityApplicationConstants.ALLOWED_ROLE_AUDIENCE_REQUEST_ATTRIBUTE_NAME)) {
+            applicationResponseModel.associatedRoles(buildAssociatedRoles(application));
+        }
+        if (requiredAttributes.contains(ApplicationManagementConstants.ADVANCED_CONFIGURATIONS)) {
+            applicationResponseModel.advancedConfigurations(buildAdvancedAppConfiguration(application));
+        }
+        return applicationResponseModel;
+    }
+
     private String getLogoutReturnUrl(ServiceProvider application) {
 
         for (ServiceProviderProperty property : application.getSpProperties()) {
@@ -22,6 +22,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants;
+import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationBulkImportResponse;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationListResponse;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationModel;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationOwner;
@@ -44,6 +45,7 @@ import org.wso2.carbon.identity.api.server.application.management.v1.core.Server
 import org.wso2.carbon.identity.api.server.application.management.v1.core.ServerApplicationMetadataService;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.ServerApplicationSharingService;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.TransferResource;
+import org.wso2.carbon.identity.api.server.common.ConditionalGet;
 import org.wso2.carbon.identity.api.server.common.Constants;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 
@@ -58,6 +60,8 @@ import javax.ws.rs.core.Response;
  */
 public class ApplicationsApiServiceImpl implements ApplicationsApiService {
 
+    private static final int MULTI_STATUS = 207;
+
     @Autowired
     private ServerApplicationManagementService applicationManagementService;
 
@@ -259,7 +263,24 @@ public class ApplicationsApiServiceImpl implements ApplicationsApiService {
                 .header(HttpHeaders.CACHE_CONTROL, "no-cache, no-store, must-revalidate")
                 .header(HttpHeaders.PRAGMA, "no-cache")
                 .header(HttpHeaders.EXPIRES, "0")
-                .entity(transferResource.getResource().getByteArray())
+                .entity(transferResource.getResource())
+                .build();
+    }
+
+    @Override
+    public Response exportApplications(String filter, Boolean exportSecrets, String fileType) {
+
+        TransferResource transferResource = applicationManagementService.exportApplications(filter, exportSecrets,
+                fileType);
+
+        return Response.ok()
+                .type(transferResource.getResourceType().toString())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\""
+                        + transferResource.getResourceName() + "\"")
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache, no-store, must-revalidate")
+                .header(HttpHeaders.PRAGMA, "no-cache")
+                .header(HttpHeaders.EXPIRES, "0")
+                .entity(transferResource.getResource())
                 .build();
     }
 
@@ -277,6 +298,20 @@ public class ApplicationsApiServiceImpl implements ApplicationsApiService {
         return Response.ok().location(getResourceLocation(resourceId)).build();
     }
 
+    @Override
+    public Response importApplications(InputStream fileInputStream, Attachment fileDetail, Boolean dryRun) {
+
+        return buildBulkImportResponse(applicationManagementService.importApplications(fileInputStream, fileDetail,
+                false, dryRun));
+    }
+
+    @Override
+    public Response importApplicationsForUpdate(InputStream fileInputStream, Attachment fileDetail, Boolean dryRun) {
+
+        return buildBulkImportResponse(applicationManagementService.importApplications(fileInputStream, fileDetail,
+                true, dryRun));
+    }
+
     @Override
     public Response getInboundAuthenticationConfigurations(String applicationId) {
 
@@ -393,31 +428,43 @@ public class ApplicationsApiServiceImpl implements ApplicationsApiService {
     @Override
     public Response getInboundProtocols(Boolean customOnly) {
 
-        return Response.ok().entity(applicationMetadataService.getInboundProtocols(customOnly)).build();
+        ConditionalGet conditionalGet = ConditionalGet.forRequest();
+        applicationMetadataService.addInboundProtocolsVersion(conditionalGet);
+        return conditionalGet.respond(() -> Response.ok().entity(
+                applicationMetadataService.getInboundProtocols(customOnly)));
     }
 
     @Override
     public Response getCustomProtocolMetadata(String inboundProtocolId) {
 
-        return Response.ok().entity(applicationMetadataService.getCustomProtocolMetadata(inboundProtocolId)).build();
+        ConditionalGet conditionalGet = ConditionalGet.forRequest();
+        applicationMetadataService.addInboundProtocolsVersion(conditionalGet);
+        return conditionalGet.respond(() -> Response.ok().entity(
+                applicationMetadataService.getCustomProtocolMetadata(inboundProtocolId)));
     }
 
     @Override
     public Response getOIDCMetadata() {
 
-        return Response.ok().entity(applicationMetadataService.getOIDCMetadata()).build();
+        ConditionalGet conditionalGet = ConditionalGet.forRequest();
+        applicationMetadataService.addOIDCMetadataVersion(conditionalGet);
+        return conditionalGet.respond(() -> Response.ok().entity(applicationMetadataService.getOIDCMetadata()));
     }
 
     @Override
     public Response getSAMLMetadata() {
 
-        return Response.ok().entity(applicationMetadataService.getSAMLMetadata()).build();
+        ConditionalGet conditionalGet = ConditionalGet.forRequest();
+        applicationMetadataService.addSAMLMetadataVersion(conditionalGet);
+        return conditionalGet.respond(() -> Response.ok().entity(applicationMetadataService.getSAMLMetadata()));
     }
 
     @Override
     public Response getWSTrustMetadata() {
 
-        return Response.ok().entity(applicationMetadataService.getWSTrustMetadata()).build();
+        ConditionalGet conditionalGet = ConditionalGet.forRequest();
+        applicationMetadataService.addWSTrustMetadataVersion(conditionalGet);
+        return conditionalGet.respond(() -> Response.ok().entity(applicationMetadataService.getWSTrustMetadata()));
     }
 
     @Override
@@ -433,6 +480,15 @@ public class ApplicationsApiServiceImpl implements ApplicationsApiService {
                 searchContext)).build();
     }
 
+    private Response buildBulkImportResponse(ApplicationBulkImportResponse bulkImportResponse) {
+
+        // Applications are imported one by one, hence a failure does not revert the applications already imported.
+        if (bulkImportResponse.getFailedOperations().isEmpty()) {
+            return Response.ok().entity(bulkImportResponse).build();
+        }
+        return Response.status(MULTI_STATUS).entity(bulkImportResponse).build();
+    }
+
     private URI getResourceLocation(String resourceId) {
 
         return ContextLoader.buildURIForHeader(Constants.V1_API_PATH_COMPONENT +
@@ -29,6 +29,22 @@ public class Constant {
     public static final String CMT_PATH_COMPONENT = "/claim-dialects";
     public static final String LOCAL_DIALECT_PATH = "local";
     public static final String LOCAL_DIALECT = "http://wso2.org/claims";
+    public static final String TOTAL_RESULTS_HEADER = "X-Total-Count";
+    public static final String MEDIA_TYPE_NDJSON = "application/x-ndjson";
+    public static final String MEDIA_TYPE_NDJSON_ALTERNATIVE = "application/ndjson";
+    public static final String NDJSON_FILE_EXTENSION = ".ndjson";
+
+    /**
+     * Attributes supported in the filter and sort parameters of the claim listings.
+     */
+    public static class ClaimListAttributes {
+
+        public static final String CLAIM_URI = "claimURI";
+        public static final String DIALECT_URI = "dialectURI";
+        public static final String DISPLAY_NAME = "displayName";
+        public static final String MAPPED_ATTRIBUTE = "mappedAttribute";
+        public static final String MAPPED_LOCAL_CLAIM_URI = "mappedLocalClaimURI";
+    }
 
     /**
      * Enum for error messages.
@@ -190,6 +206,21 @@ public class Constant {
         ERROR_CODE_UPDATING_LOCAL_CLAIMS("50051",
                 "Some local claims were not updated.",
                 "%s out of %s local claims could not be updated."),
+        ERROR_CODE_INVALID_PAGINATION_PARAMETERS("50052",
+                "Invalid pagination parameters.",
+                "Limit and offset cannot be negative values."),
+        ERROR_CODE_INVALID_FILTER("50053",
+                "Invalid filter.",
+                "Unable to evaluate the filter %s. %s"),
+        ERROR_CODE_INVALID_SORT("50054",
+                "Invalid sort.",
+                "Unable to sort the claims by %s. %s"),
+        ERROR_CODE_INVALID_NDJSON_LINE("50055",
+                "Invalid claim in the file.",
+                "Unable to read the claim at line %s of the file. %s"),
+        ERROR_CODE_NDJSON_LINE_TOO_LONG("50056",
+                "Line too long in the file.",
+                "Line %s of the file exceeds the maximum length of %s characters."),
         ERROR_CODE_INVALID_IDENTIFIER("CMT-60001", "Invalid identifier",
                 "Invalid Identifier: %s"),
         ERROR_CODE_CLAIM_URI_NOT_SPECIFIED("CMT-60002", "Empty claim URI", "Claim URI is " +
@@ -195,9 +195,9 @@ public class ClaimManagementApi  {
     @Valid
     @GET
     @Path("/{dialect-id}/export")
-    @Produces({ "application/json", "application/xml", "application/yaml" })
-    @io.swagger.annotations.ApiOperation(value = "Export a claim dialect with related claims in XML, YAML, or JSON format",
-            notes = "This API provides the capability to retrieve a claim dialect for a given dialect ID along with all related claims as a XML, YAML, or JSON file. <br><b>Permission required:</b> <br> * /permission/admin/manage/identity/claimmgt/metadata/view <br> <b>Scope required:</b> <br> * internal_claim_meta_view",
+    @Produces({ "application/json", "application/xml", "application/yaml", "application/x-ndjson" })
+    @io.swagger.annotations.ApiOperation(value = "Export a claim dialect with related claims in XML, YAML, JSON, or NDJSON format",
+            notes = "This API provides the capability to retrieve a claim dialect for a given dialect ID along with all related claims as a XML, YAML, JSON, or NDJSON file. In an NDJSON file, the first line holds the claim dialect and each of the following lines holds a claim of the dialect. <br><b>Permission required:</b> <br> * /permission/admin/manage/identity/claimmgt/metadata/view <br> <b>Scope required:</b> <br> * internal_claim_meta_view",
             response = String.class)
     @io.swagger.annotations.ApiResponses(value = { 
         @io.swagger.annotations.ApiResponse(code = 200, message = "Successful response"),
@@ -213,7 +213,7 @@ public class ClaimManagementApi  {
         @io.swagger.annotations.ApiResponse(code = 500, message = "Internal Server Error.") })
 
     public Response exportClaimDialectToFile(@ApiParam(value = "Id of the claim dialect.",required=true ) @PathParam("dialect-id")  String dialectId,
-    @ApiParam(value = "Content type of the file.\n"  , allowableValues="{values=[application/json, application/xml, application/yaml, application/x-yaml, text/yaml, text/xml, text/json]}", defaultValue="application/yaml")@HeaderParam("Accept") String accept) {
+    @ApiParam(value = "Content type of the file.\n"  , allowableValues="{values=[application/json, application/xml, application/yaml, application/x-yaml, text/yaml, text/xml, text/json, application/x-ndjson]}", defaultValue="application/yaml")@HeaderParam("Accept") String accept) {
 
         return delegate.exportClaimDialectToFile(dialectId,accept);
     }
@@ -302,6 +302,8 @@ public class ClaimManagementApi  {
     @io.swagger.annotations.ApiResponses(value = { 
         @io.swagger.annotations.ApiResponse(code = 200, message = "External claims."),
         
+        @io.swagger.annotations.ApiResponse(code = 400, message = "Invalid input request."),
+        
         @io.swagger.annotations.ApiResponse(code = 401, message = "Unauthorized."),
         
         @io.swagger.annotations.ApiResponse(code = 404, message = "The specified resource is not found."),
@@ -311,10 +313,10 @@ public class ClaimManagementApi  {
         @io.swagger.annotations.ApiResponse(code = 501, message = "Not Implemented.") })
 
     public Response getExternalClaims(@ApiParam(value = "Id of the claim dialect.",required=true ) @PathParam("dialect-id")  String dialectId,
-    @ApiParam(value = "Maximum number of records to return.") @QueryParam("limit")  Integer limit,
-    @ApiParam(value = "Number of records to skip for pagination.") @QueryParam("offset")  Integer offset,
-    @ApiParam(value = "Condition to filter the retrieval of records.") @QueryParam("filter")  String filter,
-    @ApiParam(value = "Define the order by which the retrieved records should be sorted.") @QueryParam("sort")  String sort) {
+    @ApiParam(value = "Maximum number of claims to return. All the matching claims are returned if not specified.") @QueryParam("limit")  Integer limit,
+    @ApiParam(value = "Number of matching claims to skip for pagination.") @QueryParam("offset")  Integer offset,
+    @ApiParam(value = "Condition to filter the claims.") @QueryParam("filter")  String filter,
+    @ApiParam(value = "Attribute to sort the claims by, optionally followed by the sort order asc or desc.") @QueryParam("sort")  String sort) {
 
         return delegate.getExternalClaims(dialectId,limit,offset,filter,sort);
     }
@@ -354,6 +356,8 @@ public class ClaimManagementApi  {
     @io.swagger.annotations.ApiResponses(value = { 
         @io.swagger.annotations.ApiResponse(code = 200, message = "Local claims."),
         
+        @io.swagger.annotations.ApiResponse(code = 400, message = "Invalid input request."),
+        
         @io.swagger.annotations.ApiResponse(code = 401, message = "Unauthorized."),
         
         @io.swagger.annotations.ApiResponse(code = 500, message = "Internal Server Error."),
@@ -361,10 +365,10 @@ public class ClaimManagementApi  {
         @io.swagger.annotations.ApiResponse(code = 501, message = "Not Implemented.") })
 
     public Response getLocalClaims(@ApiParam(value = "Define only the required attributes to be sent in the response object.") @QueryParam("attributes")  String attributes,
-    @ApiParam(value = "Maximum number of records to return.") @QueryParam("limit")  Integer limit,
-    @ApiParam(value = "Number of records to skip for pagination.") @QueryParam("offset")  Integer offset,
-    @ApiParam(value = "Condition to filter the retrieval of records.") @QueryParam("filter")  String filter,
-    @ApiParam(value = "Define the order by which the retrieved records should be sorted.") @QueryParam("sort")  String sort,
+    @ApiParam(value = "Maximum number of claims to return. All the matching claims are returned if not specified.") @QueryParam("limit")  Integer limit,
+    @ApiParam(value = "Number of matching claims to skip for pagination.") @QueryParam("offset")  Integer offset,
+    @ApiParam(value = "Condition to filter the claims.") @QueryParam("filter")  String filter,
+    @ApiParam(value = "Attribute to sort the claims by, optionally followed by the sort order asc or desc.") @QueryParam("sort")  String sort,
     @ApiParam(value = "Exclude identity claims when listing local claims.") @QueryParam("exclude-identity-claims")  Boolean excludeIdentityClaims) {
 
         return delegate.getLocalClaims(attributes,limit,offset,filter,sort,excludeIdentityClaims);
@@ -375,8 +379,8 @@ public class ClaimManagementApi  {
     @Path("/import")
     @Consumes({ "multipart/form-data" })
     @Produces({ "application/json" })
-    @io.swagger.annotations.ApiOperation(value = "Import an external claim dialect with related claims from XML, YAML, or JSON file",
-            notes = "This API provides the capability to import claim dialect with related claims from a file in XML, YAML, or JSON format. <br><b>Permission required:</b> <br> * /permission/admin/manage/identity/claimmgt/metadata/create <br> <b>Scope required:</b> <br> * internal_claim_meta_create",
+    @io.swagger.annotations.ApiOperation(value = "Import an external claim dialect with related claims from XML, YAML, JSON, or NDJSON file",
+            notes = "This API provides the capability to import claim dialect with related claims from a file in XML, YAML, JSON, or NDJSON format. The claims of an NDJSON file are imported line by line and the failed claims are reported with their line numbers. <br><b>Permission required:</b> <br> * /permission/admin/manage/identity/claimmgt/metadata/create <br> <b>Scope required:</b> <br> * internal_claim_meta_create",
             response = void.class)
     @io.swagger.annotations.ApiResponses(value = { 
         @io.swagger.annotations.ApiResponse(code = 201, message = "Item Created."),
@@ -424,8 +428,8 @@ public class ClaimManagementApi  {
     @Path("/import")
     @Consumes({ "multipart/form-data" })
     @Produces({ "application/json" })
-    @io.swagger.annotations.ApiOperation(value = "Update claim dialect with related claims from XML, YAML, or JSON file",
-            notes = "This API provides the capability to update a claim dialect and all related claims from a file in XML, YAML, or JSON format. <br><b>Permission required:</b> <br> * /permission/admin/manage/identity/claimmgt/metadata/create <br> <b>Scope required:</b> <br> * internal_claim_meta_create",
+    @io.swagger.annotations.ApiOperation(value = "Update claim dialect with related claims from XML, YAML, JSON, or NDJSON file",
+            notes = "This API provides the capability to update a claim dialect and all related claims from a file in XML, YAML, JSON, or NDJSON format. The claims of an NDJSON file are applied line by line and the failed claims are reported with their line numbers. <br><b>Permission required:</b> <br> * /permission/admin/manage/identity/claimmgt/metadata/create <br> <b>Scope required:</b> <br> * internal_claim_meta_create",
             response = void.class)
     @io.swagger.annotations.ApiResponses(value = { 
         @io.swagger.annotations.ApiResponse(code = 201, message = "Item Created."),
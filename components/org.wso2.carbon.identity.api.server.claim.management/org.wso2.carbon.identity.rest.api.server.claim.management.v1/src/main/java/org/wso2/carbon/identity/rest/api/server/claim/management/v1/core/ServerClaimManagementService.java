@@ -16,9 +16,12 @@
 
 package org.wso2.carbon.identity.rest.api.server.claim.management.v1.core;
 
-import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.ArrayUtils;
@@ -30,8 +33,14 @@ import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.api.server.claim.management.common.Constant;
+import org.wso2.carbon.identity.api.server.claim.management.common.Constant.ClaimListAttributes;
+import org.wso2.carbon.identity.api.server.common.CodecException;
+import org.wso2.carbon.identity.api.server.common.CodecRegistry;
+import org.wso2.carbon.identity.api.server.common.ConditionalGet;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.FileContent;
+import org.wso2.carbon.identity.api.server.common.ListQuery;
+import org.wso2.carbon.identity.api.server.common.StreamingFileContent;
 import org.wso2.carbon.identity.api.server.common.Util;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
@@ -40,6 +49,7 @@ import org.wso2.carbon.identity.api.server.common.error.bulk.BulkErrorResponse;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataClientException;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.AttributeMapping;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.Claim;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.ClaimDialect;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
@@ -57,6 +67,7 @@ import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.LocalCla
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.LocalClaimResDTO;
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.PropertyDTO;
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.model.ClaimDialectConfiguration;
+import org.wso2.carbon.identity.rest.api.server.claim.management.v1.model.ClaimListResponse;
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.model.ClaimErrorDTO;
 import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.core.UserStoreManager;
@@ -68,24 +79,36 @@ import org.yaml.snakeyaml.error.YAMLException;
 import org.yaml.snakeyaml.inspector.TagInspector;
 import org.yaml.snakeyaml.inspector.TrustedPrefixesTagInspector;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.StringReader;
-import java.io.StringWriter;
+import java.io.InputStreamReader;
+import java.io.LineNumberReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
-import javax.xml.bind.JAXBContext;
-import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import static org.wso2.carbon.identity.api.server.claim.management.common.ClaimManagementDataHolder.getClaimMetadataManagementService;
 import static org.wso2.carbon.identity.api.server.claim.management.common.ClaimManagementDataHolder.getOrganizationManager;
@@ -114,6 +137,9 @@ import static org.wso2.carbon.identity.api.server.claim.management.common.Consta
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_EXTERNAL_CLAIM_NOT_FOUND;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_FILTERING_NOT_IMPLEMENTED;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_INVALID_DIALECT_ID;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_INVALID_FILTER;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_PARAMETERS;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_INVALID_SORT;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_INVALID_USERSTORE;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_LOCAL_CLAIM_CONFLICT;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_LOCAL_CLAIM_NOT_FOUND;
@@ -123,6 +149,9 @@ import static org.wso2.carbon.identity.api.server.claim.management.common.Consta
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_USERSTORE_NOT_SPECIFIED_IN_MAPPINGS;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.LOCAL_DIALECT;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.LOCAL_DIALECT_PATH;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.MEDIA_TYPE_NDJSON;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.MEDIA_TYPE_NDJSON_ALTERNATIVE;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.NDJSON_FILE_EXTENSION;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.PROP_DESCRIPTION;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.PROP_DISPLAY_NAME;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.PROP_DISPLAY_ORDER;
@@ -138,6 +167,7 @@ import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_C
 import static org.wso2.carbon.identity.api.server.common.Constants.XML_FILE_EXTENSION;
 import static org.wso2.carbon.identity.api.server.common.Constants.YAML_FILE_EXTENSION;
 import static org.wso2.carbon.identity.api.server.common.ContextLoader.buildURIForBody;
+import static org.wso2.carbon.identity.api.server.common.ListQuery.singleValue;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ORGANIZATION_NOT_FOUND_FOR_TENANT;
 
 import static javax.ws.rs.core.Response.Status.BAD_REQUEST;
@@ -151,6 +181,15 @@ import static javax.ws.rs.core.Response.Status.NOT_FOUND;
 public class ServerClaimManagementService {
 
     private static final Log LOG = LogFactory.getLog(ServerClaimManagementService.class);
+    private static final CodecRegistry.Codecs<ClaimDialectConfiguration> CLAIM_DIALECT_CODECS =
+            new CodecRegistry.Codecs<>(
+                    CodecRegistry.xmlCodec(ClaimDialectConfiguration.class, null, ClaimDialectConfiguration.class),
+                    CodecRegistry.yamlCodec(ServerClaimManagementService::writeClaimDialectAsYaml,
+                            ServerClaimManagementService::readClaimDialectFromYaml),
+                    CodecRegistry.jsonCodec(ClaimDialectConfiguration.class));
+    private static final String NDJSON_LINE_SEPARATOR = "\n";
+    // A line holds a single claim, hence a longer line is not a valid claim and is not buffered.
+    private static final int MAX_NDJSON_LINE_LENGTH = 256 * 1024;
     private static final String REL_CLAIMS = "claims";
     private static final String IDENTITY_CLAIM_URI = "http://wso2.org/claims/identity/";
     private static final List<String> conflictErrorScenarios = Arrays.asList(
@@ -158,6 +197,20 @@ public class ServerClaimManagementService {
             ClaimConstants.ErrorMessage.ERROR_CODE_EXISTING_EXTERNAL_CLAIM_URI.getCode(),
             ClaimConstants.ErrorMessage.ERROR_CODE_EXISTING_LOCAL_CLAIM_URI.getCode()
     );
+    private static final ListQuery<LocalClaim> LOCAL_CLAIM_LIST_QUERY = new ListQuery<LocalClaim>()
+            .withAttribute(ClaimListAttributes.CLAIM_URI, claim -> singleValue(claim.getClaimURI()))
+            .withAttribute(ClaimListAttributes.DIALECT_URI, claim -> singleValue(claim.getClaimDialectURI()))
+            .withAttribute(ClaimListAttributes.DISPLAY_NAME,
+                    claim -> singleValue(claim.getClaimProperty(PROP_DISPLAY_NAME)))
+            .withAttribute(ClaimListAttributes.MAPPED_ATTRIBUTE, claim -> claim.getMappedAttributes() == null ?
+                    Collections.emptyList() : claim.getMappedAttributes().stream()
+                    .map(AttributeMapping::getAttributeName).collect(Collectors.toList()));
+    private static final ListQuery<ExternalClaim> EXTERNAL_CLAIM_LIST_QUERY =
+            new ListQuery<ExternalClaim>()
+                    .withAttribute(ClaimListAttributes.CLAIM_URI, claim -> singleValue(claim.getClaimURI()))
+                    .withAttribute(ClaimListAttributes.DIALECT_URI, claim -> singleValue(claim.getClaimDialectURI()))
+                    .withAttribute(ClaimListAttributes.MAPPED_LOCAL_CLAIM_URI,
+                            claim -> singleValue(claim.getMappedLocalClaim()));
 
     /**
      * Add a claim dialect.
@@ -404,30 +457,65 @@ public class ServerClaimManagementService {
      * @param offset                offset (optional).
      * @param filter                filter (optional).
      * @param sort                  sort (optional).
-     * @return List of local claims.
+     * @return Requested page of the local claims.
      */
-    public List<LocalClaimResDTO> getLocalClaims(Boolean excludeIdentityClaims, String attributes, Integer limit,
-                                                 Integer offset, String filter, String sort) {
+    public ClaimListResponse<LocalClaimResDTO> getLocalClaims(Boolean excludeIdentityClaims, String attributes,
+                                                              Integer limit, Integer offset, String filter,
+                                                              String sort) {
 
-        handleNotImplementedCapabilities(attributes, limit, offset, filter, sort);
+        handleNotImplementedCapabilities(attributes, null, null, null, null);
+        validatePaginationParameters(limit, offset);
+        Predicate<LocalClaim> claimFilter = buildClaimFilter(LOCAL_CLAIM_LIST_QUERY, filter);
+        Comparator<LocalClaim> claimComparator = buildClaimComparator(LOCAL_CLAIM_LIST_QUERY, sort);
 
         try {
             List<LocalClaim> localClaimList = getClaimMetadataManagementService().getLocalClaims(
                     ContextLoader.getTenantDomainFromContext());
 
             if (excludeIdentityClaims != null && excludeIdentityClaims) {
-                localClaimList = localClaimList.stream()
-                        .filter(claim -> !claim.getClaimURI().startsWith(IDENTITY_CLAIM_URI))
-                        .collect(Collectors.toList());
+                Predicate<LocalClaim> nonIdentityClaimFilter =
+                        claim -> !claim.getClaimURI().startsWith(IDENTITY_CLAIM_URI);
+                claimFilter = claimFilter == null ? nonIdentityClaimFilter : nonIdentityClaimFilter.and(claimFilter);
             }
 
-            return getLocalClaimResDTOs(localClaimList);
+            List<LocalClaim> matchingClaims = ListQuery.search(localClaimList, claimFilter, claimComparator);
+            return new ClaimListResponse<>(getLocalClaimResDTOs(ListQuery.getPage(matchingClaims, limit, offset)),
+                    matchingClaims.size(), buildClaimListLinks(CMT_PATH_COMPONENT + "/" + LOCAL_DIALECT_PATH + "/"
+                    + REL_CLAIMS, limit, offset, matchingClaims.size(), filter, sort));
 
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_RETRIEVING_LOCAL_CLAIMS);
         }
     }
 
+    /**
+     * Add the version of the local claims of the tenant to the conditional GET support of a local claim listing. The
+     * version is resolved from the local claims retrieved from the claim metadata service, without building the
+     * response objects.
+     *
+     * @param conditionalGet Conditional GET support of the request.
+     */
+    public void addLocalClaimsVersion(ConditionalGet conditionalGet) {
+
+        try {
+            List<LocalClaim> localClaimList = getClaimMetadataManagementService().getLocalClaims(
+                    ContextLoader.getTenantDomainFromContext());
+            for (LocalClaim localClaim : localClaimList) {
+                Map<String, String> claimProperties = localClaim.getClaimProperties() == null ?
+                        Collections.emptyMap() : localClaim.getClaimProperties();
+                conditionalGet.withVersion(localClaim.getClaimURI(), new TreeMap<>(claimProperties));
+                if (localClaim.getMappedAttributes() != null) {
+                    for (AttributeMapping attributeMapping : localClaim.getMappedAttributes()) {
+                        conditionalGet.withVersion(attributeMapping.getUserStoreDomain(),
+                                attributeMapping.getAttributeName());
+                    }
+                }
+            }
+        } catch (ClaimMetadataException e) {
+            throw handleClaimManagementException(e, ERROR_CODE_ERROR_RETRIEVING_LOCAL_CLAIMS);
+        }
+    }
+
     /**
      * Update a local claim.
      *
@@ -475,6 +563,9 @@ public class ServerClaimManagementService {
         }
 
         preserveClaims = (preserveClaims != null) ? preserveClaims : Boolean.FALSE;
+        if (isNDJSONFile(fileDetail)) {
+            return updateClaimDialectFromNDJSONFile(fileInputStream, preserveClaims);
+        }
         String dialectId = null;
         try {
             ClaimDialectConfiguration dialectConfiguration = getDialectFromFile(fileInputStream, fileDetail);
@@ -495,27 +586,21 @@ public class ServerClaimManagementService {
             throws ClaimMetadataException {
 
         List<ClaimErrorDTO> errors = new ArrayList<>();
+        // Existing local claims are retrieved once and indexed by the claim URI, instead of retrieving all the local
+        // claims again for each claim in the file.
+        Map<String, LocalClaim> existingClaims = indexByClaimURI(getClaimMetadataManagementService().getLocalClaims(
+                ContextLoader.getTenantDomainFromContext()));
+        Set<String> requestedClaimURIs = new HashSet<>();
 
         for (LocalClaimReqDTO localClaimReqDTO : localClaimReqDTOList) {
             try {
-                if (StringUtils.isBlank(localClaimReqDTO.getClaimURI())) {
-                    throw handleClaimManagementClientError(Constant.ErrorMessage.ERROR_CODE_EMPTY_LOCAL_CLAIM_URI,
-                            BAD_REQUEST);
-                }
-                String claimId = getResourceId(localClaimReqDTO.getClaimURI());
-                if (isLocalClaimExist(claimId)) {
-                    updateLocalClaim(claimId, localClaimReqDTO);
-                } else {
-                    addLocalClaim(localClaimReqDTO);
-                }
+                applyLocalClaim(localClaimReqDTO, existingClaims, requestedClaimURIs);
             } catch (APIError e) {
-                ClaimErrorDTO claimErrorDTO = new ClaimErrorDTO(e.getResponseEntity());
-                claimErrorDTO.setClaimURI(localClaimReqDTO.getClaimURI());
-                errors.add(claimErrorDTO);
+                errors.add(buildClaimError(e, localClaimReqDTO.getClaimURI()));
             }
         }
         if (preserveClaims) {
-            deleteObsoleteLocalClaims(localClaimReqDTOList, errors);
+            deleteObsoleteLocalClaims(existingClaims.keySet(), requestedClaimURIs, errors);
         }
         if (!errors.isEmpty()) {
             throw handleClaimManagementBulkClientError(Constant.ErrorMessage.ERROR_CODE_UPDATING_LOCAL_CLAIMS,
@@ -523,25 +608,76 @@ public class ServerClaimManagementService {
         }
     }
 
-    private void deleteObsoleteLocalClaims(List<LocalClaimReqDTO> localClaimReqDTOList, List<ClaimErrorDTO> errors)
-            throws ClaimMetadataException {
+    /**
+     * Add the local claim in the file if it does not exist or update the existing local claim if it is changed.
+     */
+    private void applyLocalClaim(LocalClaimReqDTO localClaimReqDTO, Map<String, LocalClaim> existingClaims,
+                                 Set<String> requestedClaimURIs) {
+
+        if (StringUtils.isBlank(localClaimReqDTO.getClaimURI())) {
+            throw handleClaimManagementClientError(Constant.ErrorMessage.ERROR_CODE_EMPTY_LOCAL_CLAIM_URI,
+                    BAD_REQUEST);
+        }
+        requestedClaimURIs.add(localClaimReqDTO.getClaimURI());
+        LocalClaim existingClaim = existingClaims.get(localClaimReqDTO.getClaimURI());
+        if (existingClaim == null) {
+            addLocalClaim(localClaimReqDTO);
+        } else if (!isLocalClaimUnchanged(existingClaim, localClaimReqDTO)) {
+            updateLocalClaim(getResourceId(localClaimReqDTO.getClaimURI()), localClaimReqDTO);
+        }
+    }
 
-        List<String> claimsToDelete =  getLocalClaimResDTOs(getClaimMetadataManagementService()
-                    .getLocalClaims(ContextLoader.getTenantDomainFromContext())).stream()
-                    .map(LocalClaimResDTO::getClaimURI)
-                    .filter(claimURI -> localClaimReqDTOList.stream()
-                            .noneMatch(reqDTO -> reqDTO.getClaimURI().equals(claimURI)))
-                    .collect(Collectors.toList());
+    private void deleteObsoleteLocalClaims(Collection<String> existingClaimURIs, Set<String> requestedClaimURIs,
+                                           List<ClaimErrorDTO> errors) {
 
-        for (String claimURI : claimsToDelete) {
+        for (String claimURI : existingClaimURIs) {
+            if (requestedClaimURIs.contains(claimURI)) {
+                continue;
+            }
             try {
                 deleteLocalClaim(getResourceId(claimURI));
             } catch (APIError e) {
-                ClaimErrorDTO claimErrorDTO = new ClaimErrorDTO(e.getResponseEntity());
-                claimErrorDTO.setClaimURI(claimURI);
-                errors.add(claimErrorDTO);
+                errors.add(buildClaimError(e, claimURI));
+            }
+        }
+    }
+
+    /**
+     * Check whether the local claim in the file is identical to the existing local claim, in which case the claim
+     * does not need to be updated.
+     */
+    private boolean isLocalClaimUnchanged(LocalClaim existingClaim, LocalClaimReqDTO localClaimReqDTO) {
+
+        if (localClaimReqDTO.getAttributeMapping() == null || StringUtils.isBlank(localClaimReqDTO.getDisplayName())) {
+            // Let the update report the invalid claim.
+            return false;
+        }
+        LocalClaim requestedClaim = createLocalClaim(localClaimReqDTO);
+        return Objects.equals(existingClaim.getClaimProperties(), requestedClaim.getClaimProperties()) &&
+                getAttributeMappingKeys(existingClaim).equals(getAttributeMappingKeys(requestedClaim));
+    }
+
+    private Set<String> getAttributeMappingKeys(LocalClaim localClaim) {
+
+        Set<String> attributeMappingKeys = new HashSet<>();
+        if (localClaim.getMappedAttributes() != null) {
+            for (AttributeMapping attributeMapping : localClaim.getMappedAttributes()) {
+                attributeMappingKeys.add(StringUtils.upperCase(attributeMapping.getUserStoreDomain()) + "/" +
+                        attributeMapping.getAttributeName());
             }
         }
+        return attributeMappingKeys;
+    }
+
+    private <T extends Claim> Map<String, T> indexByClaimURI(List<T> claims) {
+
+        Map<String, T> claimsByURI = new LinkedHashMap<>();
+        if (claims != null) {
+            for (T claim : claims) {
+                claimsByURI.put(claim.getClaimURI(), claim);
+            }
+        }
+        return claimsByURI;
     }
 
     private void updateExternalClaims(String dialectId, List<ExternalClaimReqDTO> externalClaimReqDTOList,
@@ -555,23 +691,17 @@ public class ServerClaimManagementService {
         }
 
         List<ClaimErrorDTO> errors = new ArrayList<>();
+        // Existing external claims of the dialect are retrieved once and indexed by the claim URI, instead of
+        // retrieving all the external claims of the dialect again for each claim in the file.
+        Map<String, ExternalClaim> existingClaims = indexByClaimURI(getClaimMetadataManagementService()
+                .getExternalClaims(base64DecodeId(dialectId), ContextLoader.getTenantDomainFromContext()));
+        boolean dialectExists = isDialectExists(dialectId);
 
         for (ExternalClaimReqDTO externalClaimReqDTO : externalClaimReqDTOList) {
             try {
-                if (StringUtils.isBlank(externalClaimReqDTO.getClaimURI())) {
-                    throw handleClaimManagementClientError(Constant.ErrorMessage.ERROR_CODE_EMPTY_EXTERNAL_CLAIM_URI,
-                            BAD_REQUEST);
-                }
-                String claimId = getResourceId(externalClaimReqDTO.getClaimURI());
-                if (isExternalClaimExist(dialectId, claimId)) {
-                    updateExternalClaim(dialectId, claimId, externalClaimReqDTO);
-                } else {
-                    addExternalClaim(dialectId, externalClaimReqDTO);
-                }
+                applyExternalClaim(dialectId, dialectExists, externalClaimReqDTO, existingClaims);
             } catch (APIError e) {
-                ClaimErrorDTO claimErrorDTO = new ClaimErrorDTO(e.getResponseEntity());
-                claimErrorDTO.setClaimURI(externalClaimReqDTO.getClaimURI());
-                errors.add(claimErrorDTO);
+                errors.add(buildClaimError(e, externalClaimReqDTO.getClaimURI()));
             }
         }
         if (!errors.isEmpty()) {
@@ -580,14 +710,34 @@ public class ServerClaimManagementService {
         }
     }
 
+    /**
+     * Add the external claim in the file if it does not exist in the dialect or update the existing external claim if
+     * the mapped local claim is changed.
+     */
+    private void applyExternalClaim(String dialectId, boolean dialectExists, ExternalClaimReqDTO externalClaimReqDTO,
+                                    Map<String, ExternalClaim> existingClaims) {
+
+        if (StringUtils.isBlank(externalClaimReqDTO.getClaimURI())) {
+            throw handleClaimManagementClientError(Constant.ErrorMessage.ERROR_CODE_EMPTY_EXTERNAL_CLAIM_URI,
+                    BAD_REQUEST);
+        }
+        ExternalClaim existingClaim = existingClaims.get(externalClaimReqDTO.getClaimURI());
+        if (existingClaim == null) {
+            addExternalClaimToDialect(dialectId, dialectExists, externalClaimReqDTO);
+        } else if (!StringUtils.equals(existingClaim.getMappedLocalClaim(),
+                externalClaimReqDTO.getMappedLocalClaimURI())) {
+            updateExternalClaim(dialectId, getResourceId(externalClaimReqDTO.getClaimURI()), externalClaimReqDTO);
+        }
+    }
+
     /**
      * Exports a claim dialect with related claims in the specified file type.
      *
      * @param dialectId     ID of the claim dialect to export.
      * @param fileType      Type of file to export the claim dialect to.
-     * @return a FileContent object representing the exported claim dialect file.
+     * @return a StreamingFileContent object which writes the exported claim dialect file.
      */
-    public FileContent exportClaimDialectToFile(String dialectId, String fileType) {
+    public StreamingFileContent exportClaimDialectToFile(String dialectId, String fileType) {
 
         if (LOG.isDebugEnabled()) {
             LOG.debug(String.format("Exporting Claim Dialect for ID %s as a %s file.", dialectId, fileType));
@@ -597,10 +747,14 @@ public class ServerClaimManagementService {
                                                    dialectId);
         }
 
-        ClaimDialectConfiguration dialectConfiguration = new ClaimDialectConfiguration(getClaimDialect(dialectId));
+        ClaimDialectResDTO claimDialect = getClaimDialect(dialectId);
+        ClaimDialectConfiguration dialectConfiguration = new ClaimDialectConfiguration(claimDialect);
         List<ClaimResDTO> claimResDTOList = new ArrayList<>();
 
         try {
+            if (isNDJSONMediaType(fileType)) {
+                return exportClaimDialectToNDJSON(claimDialect);
+            }
             if (LOCAL_DIALECT_PATH.equals(dialectId)) {
                 List<LocalClaimResDTO> localClaimResDTOList = getLocalClaimResDTOs(getClaimMetadataManagementService()
                         .getLocalClaims(ContextLoader.getTenantDomainFromContext()));
@@ -614,12 +768,60 @@ public class ServerClaimManagementService {
                 claimResDTOList.addAll(externalClaimResDTOList);
                 dialectConfiguration.setClaims(claimResDTOList);
             }
-            return generateFileFromModel(fileType, dialectConfiguration);
+            FileContent fileContent = generateFileFromModel(fileType, dialectConfiguration);
+            byte[] content = fileContent.getContent().getBytes(StandardCharsets.UTF_8);
+            return new StreamingFileContent(fileContent.getFileName(), fileContent.getFileType(),
+                    outputStream -> outputStream.write(content));
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_RETRIEVING_DIALECT, dialectId);
         }
     }
 
+    /**
+     * Export a claim dialect as an NDJSON file, where the first line holds the claim dialect and each of the
+     * following lines holds a claim of the dialect. The claims are retrieved before the response is written so that
+     * a failure is reported as an error response, while each claim is converted and written to the response one at a
+     * time.
+     */
+    private StreamingFileContent exportClaimDialectToNDJSON(ClaimDialectResDTO claimDialect)
+            throws ClaimMetadataException {
+
+        String fileName = getFormattedFileName(claimDialect.getDialectURI()) + NDJSON_FILE_EXTENSION;
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        if (LOCAL_DIALECT_PATH.equals(claimDialect.getId())) {
+            List<LocalClaim> localClaims = getClaimMetadataManagementService().getLocalClaims(tenantDomain);
+            return new StreamingFileContent(fileName, MEDIA_TYPE_NDJSON, outputStream ->
+                    writeClaimDialectAsNDJSON(claimDialect, localClaims, this::getLocalClaimResDTO, outputStream));
+        }
+        List<ExternalClaim> externalClaims = getClaimMetadataManagementService().getExternalClaims(
+                base64DecodeId(claimDialect.getId()), tenantDomain);
+        return new StreamingFileContent(fileName, MEDIA_TYPE_NDJSON, outputStream ->
+                writeClaimDialectAsNDJSON(claimDialect, externalClaims, this::getExternalClaimResDTO, outputStream));
+    }
+
+    private <T extends Claim> void writeClaimDialectAsNDJSON(ClaimDialectResDTO claimDialect, List<T> claims,
+                                                             Function<T, ? extends ClaimResDTO> claimConverter,
+                                                             OutputStream outputStream) throws IOException {
+
+        try (SequenceWriter sequenceWriter = CodecRegistry.getObjectMapper().writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator(NDJSON_LINE_SEPARATOR)
+                .writeValues(outputStream)) {
+            sequenceWriter.write(claimDialect);
+            if (claims != null) {
+                for (T claim : claims) {
+                    sequenceWriter.write(claimConverter.apply(claim));
+                }
+            }
+        }
+        outputStream.write(NDJSON_LINE_SEPARATOR.getBytes(StandardCharsets.UTF_8));
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Successfully exported claim dialect: %s as an NDJSON file.",
+                    claimDialect.getDialectURI()));
+        }
+    }
+
     private FileContent generateFileFromModel(String fileType, ClaimDialectConfiguration dialectConfiguration)
             throws ClaimMetadataException {
 
@@ -629,18 +831,32 @@ public class ServerClaimManagementService {
 
         String fileName = getFormattedFileName(dialectConfiguration.getDialectURI());
 
-        String mediaType = Util.getMediaType(fileType);
+        CodecRegistry.Codec<ClaimDialectConfiguration> codec = CLAIM_DIALECT_CODECS.getCodec(fileType);
+        if (codec == null) {
+            LOG.warn(String.format("Unsupported file type: %s requested for export. Defaulting to YAML parsing.",
+                    fileType));
+            codec = CLAIM_DIALECT_CODECS.getCodec(MEDIA_TYPE_YAML);
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            codec.write(dialectConfiguration, outputStream);
+        } catch (IOException | CodecException e) {
+            throw new ClaimMetadataException(String.format(
+                    Constant.ErrorMessage.ERROR_CODE_ERROR_PARSING_CLAIM_DIALECT.toString(), codec.getMediaType()), e);
+        }
+        return new FileContent(fileName + getFileExtension(codec.getMediaType()), codec.getMediaType(),
+                new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    private String getFileExtension(String mediaType) {
+
         switch (mediaType) {
             case MEDIA_TYPE_XML:
-                return parseClaimDialectToXml(dialectConfiguration, fileName);
+                return XML_FILE_EXTENSION;
             case MEDIA_TYPE_JSON:
-                return parseClaimDialectToJson(dialectConfiguration, fileName);
-            case MEDIA_TYPE_YAML:
-                return parseClaimDialectToYaml(dialectConfiguration, fileName);
+                return JSON_FILE_EXTENSION;
             default:
-                LOG.warn(String.format("Unsupported file type: %s requested for export. Defaulting to YAML parsing.",
-                        fileType));
-                return parseClaimDialectToYaml(dialectConfiguration, fileName);
+                return YAML_FILE_EXTENSION;
         }
     }
 
@@ -651,54 +867,18 @@ public class ServerClaimManagementService {
         return formattedFileName;
     }
 
-    private FileContent parseClaimDialectToXml(ClaimDialectConfiguration dialectConfiguration, String fileName)
-            throws ClaimMetadataException {
-
-        StringBuilder fileNameSB = new StringBuilder(fileName);
-        fileNameSB.append(XML_FILE_EXTENSION);
+    private static void writeClaimDialectAsYaml(ClaimDialectConfiguration dialectConfiguration,
+                                                OutputStream outputStream) throws IOException, CodecException {
 
-        try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(dialectConfiguration.getClass());
-            Marshaller marshaller = jaxbContext.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            StringWriter writer = new StringWriter();
-            marshaller.marshal(dialectConfiguration, writer);
-            String xmlContent = writer.toString();
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_XML, xmlContent);
-        } catch (JAXBException e) {
-            throw new ClaimMetadataException(String.format(
-                      Constant.ErrorMessage.ERROR_CODE_ERROR_PARSING_CLAIM_DIALECT.toString(), MEDIA_TYPE_XML), e);
-        }
-    }
-
-    private FileContent parseClaimDialectToJson(ClaimDialectConfiguration dialectConfiguration, String fileName)
-            throws ClaimMetadataException {
-
-        StringBuilder fileNameSB = new StringBuilder(fileName);
-        fileNameSB.append(JSON_FILE_EXTENSION);
-        ObjectMapper objectMapper = new ObjectMapper(new JsonFactory());
-        try {
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_JSON,
-                    objectMapper.writeValueAsString(dialectConfiguration));
-        } catch (JsonProcessingException e) {
-            throw new ClaimMetadataException(String.format(
-                      Constant.ErrorMessage.ERROR_CODE_ERROR_PARSING_CLAIM_DIALECT.toString(), MEDIA_TYPE_JSON), e);
-        }
-    }
-
-    private FileContent parseClaimDialectToYaml(ClaimDialectConfiguration dialectConfiguration, String fileName)
-            throws ClaimMetadataException {
-
-        StringBuilder fileNameSB = new StringBuilder(fileName);
-        fileNameSB.append(YAML_FILE_EXTENSION);
+        // SnakeYAML instances are not thread safe, hence built per call.
         DumperOptions options = new DumperOptions();
         options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
-        Yaml yaml = new Yaml(options);
         try {
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_YAML, yaml.dump(dialectConfiguration));
+            Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+            new Yaml(options).dump(dialectConfiguration, writer);
+            writer.flush();
         } catch (YAMLException e) {
-            throw new ClaimMetadataException(String.format(
-                      Constant.ErrorMessage.ERROR_CODE_ERROR_PARSING_CLAIM_DIALECT.toString(), MEDIA_TYPE_YAML), e);
+            throw new CodecException("Error while writing the claim dialect as YAML.", e);
         }
     }
 
@@ -711,12 +891,28 @@ public class ServerClaimManagementService {
      */
     public String addExternalClaim(String dialectId, ExternalClaimReqDTO externalClaimReqDTO) {
 
+        boolean dialectExists;
         try {
             validateClaimModificationEligibility();
-            if (!isDialectExists(dialectId)) {
-                throw handleClaimManagementClientError(ERROR_CODE_INVALID_DIALECT_ID, NOT_FOUND, dialectId);
-            }
+            dialectExists = isDialectExists(dialectId);
+        } catch (ClaimMetadataException e) {
+            throw handleClaimManagementException(e, ERROR_CODE_ERROR_ADDING_EXTERNAL_CLAIM,
+                    externalClaimReqDTO.getClaimURI());
+        }
+        return addExternalClaimToDialect(dialectId, dialectExists, externalClaimReqDTO);
+    }
+
+    /**
+     * Add an external claim to a dialect, whose existence and the eligibility to modify are already resolved. This
+     * allows the claims of a file to be added without resolving them again for each claim.
+     */
+    private String addExternalClaimToDialect(String dialectId, boolean dialectExists,
+                                             ExternalClaimReqDTO externalClaimReqDTO) {
 
+        if (!dialectExists) {
+            throw handleClaimManagementClientError(ERROR_CODE_INVALID_DIALECT_ID, NOT_FOUND, dialectId);
+        }
+        try {
             getClaimMetadataManagementService().addExternalClaim(
                     createExternalClaim(dialectId, externalClaimReqDTO),
                     ContextLoader.getTenantDomainFromContext());
@@ -798,12 +994,14 @@ public class ServerClaimManagementService {
      * @param offset    offset (optional).
      * @param filter    filter (optional).
      * @param sort      sort (optional).
-     * @return List of external claims.
+     * @return Requested page of the external claims.
      */
-    public List<ExternalClaimResDTO> getExternalClaims(String dialectId, Integer limit, Integer offset,
-                                                       String filter, String sort) {
+    public ClaimListResponse<ExternalClaimResDTO> getExternalClaims(String dialectId, Integer limit, Integer offset,
+                                                                    String filter, String sort) {
 
-        handleNotImplementedCapabilities(limit, offset, filter, sort);
+        validatePaginationParameters(limit, offset);
+        Predicate<ExternalClaim> claimFilter = buildClaimFilter(EXTERNAL_CLAIM_LIST_QUERY, filter);
+        Comparator<ExternalClaim> claimComparator = buildClaimComparator(EXTERNAL_CLAIM_LIST_QUERY, sort);
 
         try {
             List<ClaimDialect> claimDialectList = getClaimMetadataManagementService().getClaimDialects(
@@ -818,7 +1016,10 @@ public class ServerClaimManagementService {
             List<ExternalClaim> externalClaimList = getClaimMetadataManagementService().getExternalClaims(
                     base64DecodeId(dialectId),
                     ContextLoader.getTenantDomainFromContext());
-            return getExternalClaimResDTOs(externalClaimList);
+            List<ExternalClaim> matchingClaims = ListQuery.search(externalClaimList, claimFilter, claimComparator);
+            return new ClaimListResponse<>(getExternalClaimResDTOs(ListQuery.getPage(matchingClaims, limit, offset)),
+                    matchingClaims.size(), buildClaimListLinks(CMT_PATH_COMPONENT + "/" + dialectId + "/" + REL_CLAIMS,
+                    limit, offset, matchingClaims.size(), filter, sort));
 
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_RETRIEVING_EXTERNAL_CLAIMS, dialectId);
@@ -1069,6 +1270,9 @@ public class ServerClaimManagementService {
             LOG.debug(String.format("Importing claim dialect from file: %s", fileDetail.getDataHandler().getName()));
         }
 
+        if (isNDJSONFile(fileDetail)) {
+            return importClaimDialectFromNDJSONFile(fileInputStream);
+        }
         String dialectId;
         try {
             ClaimDialectConfiguration dialectConfiguration = getDialectFromFile(fileInputStream, fileDetail);
@@ -1089,17 +1293,19 @@ public class ServerClaimManagementService {
             throw handleClaimManagementException(e, Constant.ErrorMessage.ERROR_CODE_ERROR_IMPORTING_CLAIM_DIALECT);
         }
     }
-    private void importExternalClaims(String dialectID, List<ExternalClaimReqDTO> externalClaimReqDTOList) {
+    private void importExternalClaims(String dialectID, List<ExternalClaimReqDTO> externalClaimReqDTOList)
+            throws ClaimMetadataException {
 
         List<ClaimErrorDTO> errors = new ArrayList<>();
+        // The dialect is added by the caller, after validating the eligibility to modify claims. Hence only the
+        // existence of the dialect is resolved, once for all the claims.
+        boolean dialectExists = isDialectExists(dialectID);
 
         for (ExternalClaimReqDTO externalClaimReqDTO : externalClaimReqDTOList) {
             try {
-                addExternalClaim(dialectID, externalClaimReqDTO);
+                addExternalClaimToDialect(dialectID, dialectExists, externalClaimReqDTO);
             } catch (APIError e) {
-                ClaimErrorDTO claimErrorDTO = new ClaimErrorDTO(e.getResponseEntity());
-                claimErrorDTO.setClaimURI(externalClaimReqDTO.getClaimURI());
-                errors.add(claimErrorDTO);
+                errors.add(buildClaimError(e, externalClaimReqDTO.getClaimURI()));
             }
         }
         if (!errors.isEmpty()) {
@@ -1123,70 +1329,292 @@ public class ServerClaimManagementService {
         }
     }
 
-    private ClaimDialectConfiguration generateModelFromFile(FileContent fileContent) throws ClaimMetadataException {
+    private boolean isNDJSONFile(Attachment fileDetail) {
 
-        if (LOG.isDebugEnabled()) {
-            LOG.debug(String.format("Parsing Claim Dialect from file: %s of type: %s.", fileContent.getFileName(),
-                    fileContent.getFileType()));
+        return isNDJSONMediaType(fileDetail.getDataHandler().getContentType()) ||
+                StringUtils.endsWithIgnoreCase(fileDetail.getDataHandler().getName(), NDJSON_FILE_EXTENSION);
+    }
+
+    private boolean isNDJSONMediaType(String fileType) {
+
+        return StringUtils.contains(fileType, MEDIA_TYPE_NDJSON) ||
+                StringUtils.contains(fileType, MEDIA_TYPE_NDJSON_ALTERNATIVE);
+    }
+
+    /**
+     * Import an external claim dialect from an NDJSON file. The claims are read and added one line at a time, without
+     * holding the whole file in memory, and the claims which could not be added are reported with their line numbers.
+     */
+    private String importClaimDialectFromNDJSONFile(InputStream fileInputStream) {
+
+        try (LineNumberReader reader = createNDJSONReader(fileInputStream)) {
+            ClaimDialectResDTO claimDialect = readNDJSONClaimDialect(reader);
+            if (LOCAL_DIALECT_PATH.equals(claimDialect.getId())) {
+                throw handleClaimManagementClientError(
+                        Constant.ErrorMessage.ERROR_CODE_ERROR_IMPORTING_LOCAL_CLAIM_DIALECT, FORBIDDEN);
+            }
+            String dialectId = addClaimDialect(claimDialect.getDialectURI());
+            importExternalClaimsFromNDJSON(dialectId, reader);
+            return claimDialect.getId();
+        } catch (IOException e) {
+            throw handleClaimManagementException(new ClaimMetadataException(
+                    Constant.ErrorMessage.ERROR_CODE_INVALID_INPUT_FILE.toString(), e),
+                    Constant.ErrorMessage.ERROR_CODE_ERROR_IMPORTING_CLAIM_DIALECT);
+        } catch (ClaimMetadataException e) {
+            throw handleClaimManagementException(e, Constant.ErrorMessage.ERROR_CODE_ERROR_IMPORTING_CLAIM_DIALECT);
         }
-        if (StringUtils.isEmpty(fileContent.getContent())) {
-            throw handleClaimManagementClientError(Constant.ErrorMessage.ERROR_CODE_MISSING_FILE_CONTENT, BAD_REQUEST,
-                    fileContent.getFileName());
+    }
+
+    /**
+     * Update a claim dialect from an NDJSON file. The claims are read and applied one line at a time, without holding
+     * the whole file in memory, and the claims which could not be applied are reported with their line numbers.
+     */
+    private String updateClaimDialectFromNDJSONFile(InputStream fileInputStream, boolean preserveClaims) {
+
+        String dialectId = null;
+        try (LineNumberReader reader = createNDJSONReader(fileInputStream)) {
+            ClaimDialectResDTO claimDialect = readNDJSONClaimDialect(reader);
+            dialectId = claimDialect.getId();
+            if (LOCAL_DIALECT_PATH.equals(dialectId)) {
+                updateLocalClaimsFromNDJSON(reader, preserveClaims);
+                return dialectId;
+            }
+
+            ClaimDialectReqDTO claimDialectReqDTO = new ClaimDialectReqDTO();
+            claimDialectReqDTO.setDialectURI(claimDialect.getDialectURI());
+            updateClaimDialect(dialectId, claimDialectReqDTO);
+            updateExternalClaimsFromNDJSON(dialectId, reader, preserveClaims);
+            return dialectId;
+        } catch (IOException e) {
+            throw handleClaimManagementException(new ClaimMetadataException(
+                    Constant.ErrorMessage.ERROR_CODE_INVALID_INPUT_FILE.toString(), e),
+                    ERROR_CODE_ERROR_UPDATING_DIALECT, dialectId);
+        } catch (ClaimMetadataException e) {
+            throw handleClaimManagementException(e, ERROR_CODE_ERROR_UPDATING_DIALECT, dialectId);
         }
+    }
 
-        switch (Util.getMediaType(fileContent.getFileType())) {
-            case MEDIA_TYPE_XML:
-                return parseClaimDialectFromXml(fileContent);
-            case MEDIA_TYPE_JSON:
-                return parseClaimDialectFromJson(fileContent);
-            case MEDIA_TYPE_YAML:
-                return parseClaimDialectFromYaml(fileContent);
-            default:
-                LOG.warn(String.format("Unsupported media type %s for file %s. Defaulting to YAML parsing.",
-                        fileContent.getFileType(), fileContent.getFileName()));
-                return parseClaimDialectFromYaml(fileContent);
+    private void updateLocalClaimsFromNDJSON(LineNumberReader reader, boolean preserveClaims)
+            throws ClaimMetadataException, IOException {
+
+        List<ClaimErrorDTO> errors = new ArrayList<>();
+        Map<String, LocalClaim> existingClaims = indexByClaimURI(getClaimMetadataManagementService().getLocalClaims(
+                ContextLoader.getTenantDomainFromContext()));
+        Set<String> requestedClaimURIs = new HashSet<>();
+
+        int claimCount = applyClaimsFromNDJSON(reader, LocalClaimReqDTO.class, LocalClaimReqDTO::getClaimURI,
+                localClaimReqDTO -> applyLocalClaim(localClaimReqDTO, existingClaims, requestedClaimURIs), errors);
+        // The claims of the lines which could not be read are unknown, hence the claims missing in the file are only
+        // deleted once the whole file was applied without errors.
+        if (preserveClaims && errors.isEmpty()) {
+            deleteObsoleteLocalClaims(existingClaims.keySet(), requestedClaimURIs, errors);
+        }
+        if (!errors.isEmpty()) {
+            throw handleClaimManagementBulkClientError(Constant.ErrorMessage.ERROR_CODE_UPDATING_LOCAL_CLAIMS,
+                    BAD_REQUEST, errors, String.valueOf(errors.size()), String.valueOf(claimCount));
         }
     }
 
-    private ClaimDialectConfiguration parseClaimDialectFromXml(FileContent fileContent) throws ClaimMetadataException {
+    /**
+     * Add or update the external claims of the file in the dialect. If the claims are to be replaced, the claims of
+     * the dialect which are missing in the file are deleted after the whole file was applied, instead of deleting the
+     * dialect upfront, so that an invalid or interrupted upload does not leave the dialect without its claims.
+     */
+    private void updateExternalClaimsFromNDJSON(String dialectId, LineNumberReader reader, boolean preserveClaims)
+            throws ClaimMetadataException, IOException {
 
-        try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(ClaimDialectConfiguration.class);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            return (ClaimDialectConfiguration) unmarshaller.unmarshal(new StringReader(fileContent.getContent()));
-        } catch (JAXBException e) {
-            throw new ClaimMetadataException(String.format(
-                      Constant.ErrorMessage.ERROR_CODE_ERROR_READING_FILE_CONTENT.toString(), MEDIA_TYPE_XML), e);
+        List<ClaimErrorDTO> errors = new ArrayList<>();
+        Map<String, ExternalClaim> existingClaims = indexByClaimURI(getClaimMetadataManagementService()
+                .getExternalClaims(base64DecodeId(dialectId), ContextLoader.getTenantDomainFromContext()));
+        boolean dialectExists = isDialectExists(dialectId);
+        Set<String> requestedClaimURIs = new HashSet<>();
+
+        int claimCount = applyClaimsFromNDJSON(reader, ExternalClaimReqDTO.class, ExternalClaimReqDTO::getClaimURI,
+                externalClaimReqDTO -> {
+                    requestedClaimURIs.add(externalClaimReqDTO.getClaimURI());
+                    applyExternalClaim(dialectId, dialectExists, externalClaimReqDTO, existingClaims);
+                }, errors);
+        if (preserveClaims && errors.isEmpty()) {
+            deleteObsoleteExternalClaims(dialectId, existingClaims.keySet(), requestedClaimURIs, errors);
+        }
+        if (!errors.isEmpty()) {
+            throw handleClaimManagementBulkClientError(Constant.ErrorMessage.ERROR_CODE_UPDATING_EXTERNAL_CLAIMS,
+                    BAD_REQUEST, errors, String.valueOf(errors.size()), String.valueOf(claimCount));
+        }
+    }
+
+    private void deleteObsoleteExternalClaims(String dialectId, Collection<String> existingClaimURIs,
+                                              Set<String> requestedClaimURIs, List<ClaimErrorDTO> errors) {
+
+        for (String claimURI : existingClaimURIs) {
+            if (requestedClaimURIs.contains(claimURI)) {
+                continue;
+            }
+            try {
+                deleteExternalClaim(dialectId, getResourceId(claimURI));
+            } catch (APIError e) {
+                errors.add(buildClaimError(e, claimURI));
+            }
+        }
+    }
+
+    private void importExternalClaimsFromNDJSON(String dialectId, LineNumberReader reader)
+            throws ClaimMetadataException, IOException {
+
+        List<ClaimErrorDTO> errors = new ArrayList<>();
+        boolean dialectExists = isDialectExists(dialectId);
+
+        int claimCount = applyClaimsFromNDJSON(reader, ExternalClaimReqDTO.class, ExternalClaimReqDTO::getClaimURI,
+                externalClaimReqDTO -> addExternalClaimToDialect(dialectId, dialectExists, externalClaimReqDTO),
+                errors);
+        if (!errors.isEmpty()) {
+            throw handleClaimManagementBulkClientError(Constant.ErrorMessage.ERROR_CODE_IMPORTING_EXTERNAL_CLAIMS,
+                    BAD_REQUEST, errors, String.valueOf(errors.size()), String.valueOf(claimCount));
         }
     }
 
-    private ClaimDialectConfiguration parseClaimDialectFromJson(FileContent fileContent) throws ClaimMetadataException {
+    private LineNumberReader createNDJSONReader(InputStream fileInputStream) {
+
+        return new NDJSONLineReader(new InputStreamReader(fileInputStream, StandardCharsets.UTF_8));
+    }
 
+    /**
+     * Read the claim dialect from the first non blank line of an NDJSON file.
+     */
+    private ClaimDialectResDTO readNDJSONClaimDialect(LineNumberReader reader) throws IOException {
+
+        String line = readNextNDJSONLine(reader);
+        if (line == null) {
+            throw handleClaimManagementClientError(Constant.ErrorMessage.ERROR_CODE_MISSING_FILE_CONTENT,
+                    BAD_REQUEST);
+        }
+        ClaimDialectResDTO claimDialect;
         try {
-            return new ObjectMapper().readValue(fileContent.getContent(), ClaimDialectConfiguration.class);
+            claimDialect = getNDJSONReader(ClaimDialectResDTO.class).readValue(line);
         } catch (JsonProcessingException e) {
+            throw handleClaimManagementClientError(Constant.ErrorMessage.ERROR_CODE_INVALID_INPUT_FILE, BAD_REQUEST);
+        }
+        if (claimDialect == null || StringUtils.isBlank(claimDialect.getDialectURI())) {
+            throw handleClaimManagementClientError(Constant.ErrorMessage.ERROR_CODE_INVALID_INPUT_FILE, BAD_REQUEST);
+        }
+        if (StringUtils.isBlank(claimDialect.getId())) {
+            claimDialect.setId(LOCAL_DIALECT.equals(claimDialect.getDialectURI()) ? LOCAL_DIALECT_PATH :
+                    base64EncodeId(claimDialect.getDialectURI()));
+        }
+        return claimDialect;
+    }
+
+    /**
+     * Read the remaining lines of an NDJSON file, one claim at a time, and apply each claim with the given action.
+     *
+     * @param reader            Reader of the NDJSON file, positioned after the claim dialect line.
+     * @param claimType         Type to which the claims are read.
+     * @param claimURIResolver  Resolves the claim URI of a claim, to be included in the errors.
+     * @param claimAction       Action applied on each claim.
+     * @param errors            Errors of the lines which could not be read or applied.
+     * @return Number of claims in the file.
+     * @throws IOException If an error occurs while reading the file.
+     */
+    private <T> int applyClaimsFromNDJSON(LineNumberReader reader, Class<T> claimType,
+                                          Function<T, String> claimURIResolver, Consumer<T> claimAction,
+                                          List<ClaimErrorDTO> errors) throws IOException {
+
+        ObjectReader claimReader = getNDJSONReader(claimType);
+        int claimCount = 0;
+        String line;
+        while ((line = readNextNDJSONLine(reader)) != null) {
+            claimCount++;
+            int lineNumber = reader.getLineNumber();
+            T claim = null;
+            try {
+                claim = claimReader.readValue(line);
+                if (claim == null) {
+                    throw handleClaimManagementClientError(Constant.ErrorMessage.ERROR_CODE_INVALID_NDJSON_LINE,
+                            BAD_REQUEST, String.valueOf(lineNumber), StringUtils.EMPTY);
+                }
+                claimAction.accept(claim);
+            } catch (JsonProcessingException e) {
+                APIError error = handleClaimManagementClientError(Constant.ErrorMessage.ERROR_CODE_INVALID_NDJSON_LINE,
+                        BAD_REQUEST, String.valueOf(lineNumber), e.getOriginalMessage());
+                errors.add(buildClaimError(error, null, lineNumber));
+            } catch (APIError e) {
+                errors.add(buildClaimError(e, claim == null ? null : claimURIResolver.apply(claim), lineNumber));
+            }
+        }
+        return claimCount;
+    }
+
+    private String readNextNDJSONLine(LineNumberReader reader) throws IOException {
+
+        String line;
+        do {
+            line = reader.readLine();
+        } while (line != null && StringUtils.isBlank(line));
+        return line;
+    }
+
+    private ObjectReader getNDJSONReader(Class<?> valueType) {
+
+        // Lines of an exported file include read only attributes such as the id and the link, which are ignored.
+        return CodecRegistry.getObjectMapper().readerFor(valueType)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    private ClaimErrorDTO buildClaimError(APIError error, String claimURI) {
+
+        ClaimErrorDTO claimErrorDTO = new ClaimErrorDTO(error.getResponseEntity());
+        claimErrorDTO.setClaimURI(claimURI);
+        return claimErrorDTO;
+    }
+
+    private ClaimErrorDTO buildClaimError(APIError error, String claimURI, int line) {
+
+        ClaimErrorDTO claimErrorDTO = buildClaimError(error, claimURI);
+        claimErrorDTO.setLine(line);
+        return claimErrorDTO;
+    }
+
+    private ClaimDialectConfiguration generateModelFromFile(FileContent fileContent) throws ClaimMetadataException {
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Parsing Claim Dialect from file: %s of type: %s.", fileContent.getFileName(),
+                    fileContent.getFileType()));
+        }
+        if (StringUtils.isEmpty(fileContent.getContent())) {
+            throw handleClaimManagementClientError(Constant.ErrorMessage.ERROR_CODE_MISSING_FILE_CONTENT, BAD_REQUEST,
+                    fileContent.getFileName());
+        }
+
+        CodecRegistry.Codec<ClaimDialectConfiguration> codec = CLAIM_DIALECT_CODECS.getCodec(fileContent.getFileType());
+        if (codec == null) {
+            LOG.warn(String.format("Unsupported media type %s for file %s. Defaulting to YAML parsing.",
+                    fileContent.getFileType(), fileContent.getFileName()));
+            codec = CLAIM_DIALECT_CODECS.getCodec(MEDIA_TYPE_YAML);
+        }
+        try {
+            return codec.read(fileContent.getContent());
+        } catch (CodecException e) {
             throw new ClaimMetadataException(String.format(
-                      Constant.ErrorMessage.ERROR_CODE_ERROR_READING_FILE_CONTENT.toString(), MEDIA_TYPE_JSON), e);
+                    Constant.ErrorMessage.ERROR_CODE_ERROR_READING_FILE_CONTENT.toString(), codec.getMediaType()), e);
         }
     }
 
-    private ClaimDialectConfiguration parseClaimDialectFromYaml(FileContent fileContent) throws ClaimMetadataException {
+    private static ClaimDialectConfiguration readClaimDialectFromYaml(String content) throws CodecException {
+
+        // Add trusted tags included in the Claims YAML files.
+        List<String> trustedTagList = new ArrayList<>();
+        trustedTagList.add(ClaimDialectConfiguration.class.getName());
+        trustedTagList.add(ExternalClaimResDTO.class.getName());
+        trustedTagList.add(LocalClaimResDTO.class.getName());
 
+        LoaderOptions loaderOptions = new LoaderOptions();
+        TagInspector tagInspector = new TrustedPrefixesTagInspector(trustedTagList);
+        loaderOptions.setTagInspector(tagInspector);
         try {
-            // Add trusted tags included in the Claims YAML files.
-            List<String> trustedTagList = new ArrayList<>();
-            trustedTagList.add(ClaimDialectConfiguration.class.getName());
-            trustedTagList.add(ExternalClaimResDTO.class.getName());
-            trustedTagList.add(LocalClaimResDTO.class.getName());
-
-            LoaderOptions loaderOptions = new LoaderOptions();
-            TagInspector tagInspector = new TrustedPrefixesTagInspector(trustedTagList);
-            loaderOptions.setTagInspector(tagInspector);
-            Yaml yaml = new Yaml(new Constructor(ClaimDialectConfiguration.class, loaderOptions));
-            return yaml.loadAs(fileContent.getContent(), ClaimDialectConfiguration.class);
+            return new Yaml(new Constructor(ClaimDialectConfiguration.class, loaderOptions)).loadAs(content,
+                    ClaimDialectConfiguration.class);
         } catch (YAMLException e) {
-            throw new ClaimMetadataException(String.format(
-                      Constant.ErrorMessage.ERROR_CODE_ERROR_READING_FILE_CONTENT.toString(), MEDIA_TYPE_YAML), e);
+            throw new CodecException("Error while reading the claim dialect from YAML.", e);
         }
     }
 
@@ -1237,25 +1665,6 @@ public class ServerClaimManagementService {
         return claimDialect != null;
     }
 
-    private boolean isLocalClaimExist(String claimId) throws ClaimMetadataException {
-
-        List<LocalClaim> localClaimList = getClaimMetadataManagementService().getLocalClaims(
-                ContextLoader.getTenantDomainFromContext());
-        LocalClaim localClaim = extractLocalClaimFromClaimList(base64DecodeId(claimId), localClaimList);
-
-        return localClaim != null;
-    }
-
-    private boolean isExternalClaimExist(String dialectId, String claimId) throws ClaimMetadataException {
-
-        List<ExternalClaim> externalClaimList = getClaimMetadataManagementService().getExternalClaims(
-                base64DecodeId(dialectId),
-                ContextLoader.getTenantDomainFromContext());
-        ExternalClaim externalClaim = extractExternalClaimFromClaimList(base64DecodeId(claimId), externalClaimList);
-
-        return externalClaim != null;
-    }
-
     private APIError handleClaimManagementException(ClaimMetadataException e, Constant.ErrorMessage errorEnum,
                                                     String... data) {
 
@@ -1318,6 +1727,42 @@ public class ServerClaimManagementService {
         return new APIError(status, errorResponse);
     }
 
+    private void validatePaginationParameters(Integer limit, Integer offset) {
+
+        if ((limit != null && limit < 0) || (offset != null && offset < 0)) {
+            throw handleClaimManagementClientError(ERROR_CODE_INVALID_PAGINATION_PARAMETERS, BAD_REQUEST);
+        }
+    }
+
+    private <T> Predicate<T> buildClaimFilter(ListQuery<T> claimListQuery, String filter) {
+
+        try {
+            return claimListQuery.buildFilter(filter);
+        } catch (IllegalArgumentException e) {
+            throw handleClaimManagementClientError(ERROR_CODE_INVALID_FILTER, BAD_REQUEST, filter, e.getMessage());
+        }
+    }
+
+    private <T> Comparator<T> buildClaimComparator(ListQuery<T> claimListQuery, String sort) {
+
+        try {
+            return claimListQuery.buildComparator(sort);
+        } catch (IllegalArgumentException e) {
+            throw handleClaimManagementClientError(ERROR_CODE_INVALID_SORT, BAD_REQUEST, sort, e.getMessage());
+        }
+    }
+
+    private Map<String, String> buildClaimListLinks(String servicePathComponent, Integer limit, Integer offset,
+                                                    int totalResults, String filter, String sort) {
+
+        // Pagination links are relevant only if the claims are listed page by page.
+        if (limit == null || limit == 0) {
+            return Collections.emptyMap();
+        }
+        return Util.buildPaginationLinks(limit, offset == null ? 0 : offset, totalResults, servicePathComponent,
+                null, filter, sort);
+    }
+
     private void handleNotImplementedCapabilities(Integer limit, Integer offset, String filter, String sort) {
 
         handleNotImplementedCapabilities(null, limit, offset, filter, sort);
@@ -1484,4 +1929,39 @@ public class ServerClaimManagementService {
         }
 
     }
+
+    /**
+     * Reader of the lines of an NDJSON file, which rejects a line longer than {@link #MAX_NDJSON_LINE_LENGTH} instead
+     * of buffering it.
+     */
+    private class NDJSONLineReader extends LineNumberReader {
+
+        NDJSONLineReader(Reader reader) {
+
+            super(reader);
+        }
+
+        @Override
+        public String readLine() throws IOException {
+
+            StringBuilder line = new StringBuilder();
+            int character;
+            // Line terminators are read as a single '\n', which also increments the line number.
+            while ((character = read()) != -1) {
+                if (character == '\n') {
+                    return line.toString();
+                }
+                if (line.length() == MAX_NDJSON_LINE_LENGTH) {
+                    throw handleClaimManagementClientError(Constant.ErrorMessage.ERROR_CODE_NDJSON_LINE_TOO_LONG,
+                            BAD_REQUEST, String.valueOf(getLineNumber() + 1), String.valueOf(MAX_NDJSON_LINE_LENGTH));
+                }
+                line.append((char) character);
+            }
+            if (line.length() == 0) {
+                return null;
+            }
+            setLineNumber(getLineNumber() + 1);
+            return line.toString();
+        }
+    }
 }
@@ -19,22 +19,25 @@ package org.wso2.carbon.identity.rest.api.server.claim.management.v1.impl;
 import org.apache.cxf.jaxrs.ext.multipart.Attachment;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
-import org.wso2.carbon.identity.api.server.common.FileContent;
+import org.wso2.carbon.identity.api.server.common.ConditionalGet;
+import org.wso2.carbon.identity.api.server.common.StreamingFileContent;
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.ClaimManagementApiService;
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.core.ServerClaimManagementService;
 
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.ClaimDialectReqDTO;
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.ExternalClaimReqDTO;
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.LocalClaimReqDTO;
+import org.wso2.carbon.identity.rest.api.server.claim.management.v1.model.ClaimListResponse;
 
 import java.io.InputStream;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
+import java.util.Map;
 
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.CMT_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.LOCAL_DIALECT_PATH;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.TOTAL_RESULTS_HEADER;
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.common.ContextLoader.buildURIForHeader;
 
@@ -125,9 +128,8 @@ public class ClaimManagementApiServiceImpl extends ClaimManagementApiService {
     @Override
     public Response getExternalClaims(String dialectId, Integer limit, Integer offset, String filter, String sort) {
 
-        return Response.ok()
-                .entity(claimManagementService.getExternalClaims(dialectId, limit, offset, filter, sort))
-                .build();
+        return buildClaimListResponse(
+                claimManagementService.getExternalClaims(dialectId, limit, offset, filter, sort)).build();
     }
 
     @Override
@@ -140,8 +142,10 @@ public class ClaimManagementApiServiceImpl extends ClaimManagementApiService {
     public Response getLocalClaims(String attributes, Integer limit, Integer offset, String filter,
                                    String sort, Boolean excludeIdentityClaims) {
 
-        return Response.ok().entity(claimManagementService.getLocalClaims(
-                excludeIdentityClaims, attributes, limit, offset, filter, sort)).build();
+        ConditionalGet conditionalGet = ConditionalGet.forRequest();
+        claimManagementService.addLocalClaimsVersion(conditionalGet);
+        return conditionalGet.respond(() -> buildClaimListResponse(claimManagementService.getLocalClaims(
+                excludeIdentityClaims, attributes, limit, offset, filter, sort)));
     }
 
     @Override
@@ -170,7 +174,7 @@ public class ClaimManagementApiServiceImpl extends ClaimManagementApiService {
     @Override
     public Response exportClaimDialectToFile(String dialectId, String accept) {
 
-        FileContent fileContent = claimManagementService.exportClaimDialectToFile(dialectId, accept);
+        StreamingFileContent fileContent = claimManagementService.exportClaimDialectToFile(dialectId, accept);
 
         return Response.ok()
                 .type(fileContent.getFileType())
@@ -179,10 +183,24 @@ public class ClaimManagementApiServiceImpl extends ClaimManagementApiService {
                 .header(HttpHeaders.CACHE_CONTROL, "no-cache, no-store, must-revalidate")
                 .header(HttpHeaders.PRAGMA, "no-cache")
                 .header(HttpHeaders.EXPIRES, "0")
-                .entity(fileContent.getContent().getBytes(StandardCharsets.UTF_8))
+                .entity(fileContent.getContent())
                 .build();
     }
 
+    /**
+     * Build the response of a claim listing. The claims of the page are sent as the response body, as in the
+     * unpaginated listing, while the total number of matching claims and the pagination links are sent as headers.
+     */
+    private Response.ResponseBuilder buildClaimListResponse(ClaimListResponse<?> claimListResponse) {
+
+        Response.ResponseBuilder responseBuilder = Response.ok().entity(claimListResponse.getClaims())
+                .header(TOTAL_RESULTS_HEADER, claimListResponse.getTotalResults());
+        for (Map.Entry<String, String> link : claimListResponse.getLinks().entrySet()) {
+            responseBuilder.link(link.getValue(), link.getKey());
+        }
+        return responseBuilder;
+    }
+
     private URI getResourceLocation(String dialectId) {
 
         return buildURIForHeader(String.format(V1_API_PATH_COMPONENT + CMT_PATH_COMPONENT + "/%s", dialectId));
@@ -19,6 +19,7 @@
 package org.wso2.carbon.identity.rest.api.server.claim.management.v1.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.wso2.carbon.identity.api.server.common.error.ErrorDTO;
 
@@ -29,6 +30,7 @@ public class ClaimErrorDTO extends ErrorDTO {
 
     private static final long serialVersionUID = 5169725164223318439L;
     private String claimURI = null;
+    private Integer line = null;
 
     public ClaimErrorDTO() {
 
@@ -54,6 +56,21 @@ public class ClaimErrorDTO extends ErrorDTO {
         this.claimURI = claimURI;
     }
 
+    /**
+     * Line of the NDJSON claim dialect file at which the claim failed. Not included for the other file formats.
+     */
+    @JsonProperty("line")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Integer getLine() {
+
+        return line;
+    }
+
+    public void setLine(Integer line) {
+
+        this.line = line;
+    }
+
     @Override
     @JsonIgnore
     public String getRef() {
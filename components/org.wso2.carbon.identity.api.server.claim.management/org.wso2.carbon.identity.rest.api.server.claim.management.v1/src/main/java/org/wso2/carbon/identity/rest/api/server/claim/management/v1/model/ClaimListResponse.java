@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.server.claim.management.v1.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A page of a claim listing, along with the total number of claims matching the filter and the pagination links.
+ *
+ * @param <T> Type of the listed claims.
+ */
+public class ClaimListResponse<T> {
+
+    private final List<T> claims;
+    private final int totalResults;
+    private final Map<String, String> links;
+
+    public ClaimListResponse(List<T> claims, int totalResults, Map<String, String> links) {
+
+        this.claims = claims;
+        this.totalResults = totalResults;
+        this.links = links == null ? Collections.emptyMap() : links;
+    }
+
+    public List<T> getClaims() {
+
+        return claims;
+    }
+
+    public int getTotalResults() {
+
+        return totalResults;
+    }
+
+    /**
+     * Get the pagination links of the page.
+     *
+     * @return Pagination links keyed by the link relation, i.e. next and previous.
+     */
+    public Map<String, String> getLinks() {
+
+        return links;
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+
+/**
+ * Registry of reusable codecs used to import and export resources as XML, JSON and YAML files.
+ *
+ * Building a JAXB context or an object mapper is expensive compared to the marshalling itself, hence the thread safe
+ * codecs are built once per model type and shared. They are held by the model classes themselves through
+ * {@link ClassValue}s, so that the registry does not keep the class loaders of the bundles providing the model types
+ * alive after those bundles are redeployed. Codecs which are not thread safe, such as SnakeYAML instances, are not
+ * cached and must be built per call.
+ *
+ * The codecs of a model type are grouped by media type in {@link Codecs}, which resolves the codec of a file type
+ * through {@link Util#getMediaType(String)}.
+ */
+public class CodecRegistry {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ClassValue<ConcurrentMap<List<Class<?>>, JAXBContext>> JAXB_CONTEXTS =
+            new ClassValue<ConcurrentMap<List<Class<?>>, JAXBContext>>() {
+                @Override
+                protected ConcurrentMap<List<Class<?>>, JAXBContext> computeValue(Class<?> type) {
+
+                    return new ConcurrentHashMap<>();
+                }
+            };
+    private static final ClassValue<ConcurrentMap<List<Class<?>>, ObjectMapper>> OBJECT_MAPPERS =
+            new ClassValue<ConcurrentMap<List<Class<?>>, ObjectMapper>>() {
+                @Override
+                protected ConcurrentMap<List<Class<?>>, ObjectMapper> computeValue(Class<?> type) {
+
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private CodecRegistry() {
+
+    }
+
+    /**
+     * Get the shared JAXB context bound to the given classes. The returned context is thread safe, but the
+     * marshallers and unmarshallers created from it are not and must not be shared between threads.
+     *
+     * @param boundClasses Classes to be recognized by the context. The context is held by the first class.
+     * @return JAXB context.
+     * @throws JAXBException If an error occurred while building the context.
+     */
+    public static JAXBContext getJAXBContext(Class<?>... boundClasses) throws JAXBException {
+
+        ConcurrentMap<List<Class<?>>, JAXBContext> contexts = JAXB_CONTEXTS.get(boundClasses[0]);
+        List<Class<?>> key = Arrays.asList(boundClasses);
+        JAXBContext jaxbContext = contexts.get(key);
+        if (jaxbContext == null) {
+            jaxbContext = JAXBContext.newInstance(boundClasses);
+            JAXBContext existingContext = contexts.putIfAbsent(key, jaxbContext);
+            if (existingContext != null) {
+                jaxbContext = existingContext;
+            }
+        }
+        return jaxbContext;
+    }
+
+    /**
+     * Get the shared object mapper with the default configuration.
+     * The returned mapper must not be reconfigured by the callers.
+     *
+     * @return Object mapper.
+     */
+    public static ObjectMapper getObjectMapper() {
+
+        return OBJECT_MAPPER;
+    }
+
+    /**
+     * Get the shared object mapper which has the given subtypes registered.
+     * The returned mapper must not be reconfigured by the callers.
+     *
+     * @param subtypes Subtypes to be registered in the mapper. The mapper is held by the first subtype.
+     * @return Object mapper.
+     */
+    public static ObjectMapper getObjectMapper(Class<?>... subtypes) {
+
+        if (subtypes.length == 0) {
+            return OBJECT_MAPPER;
+        }
+        return OBJECT_MAPPERS.get(subtypes[0]).computeIfAbsent(Arrays.asList(subtypes), key -> {
+            ObjectMapper objectMapper = new ObjectMapper();
+            objectMapper.registerSubtypes(subtypes);
+            return objectMapper;
+        });
+    }
+
+    /**
+     * Build the XML codec of a model type, which marshals the model with the shared JAXB context of the bound classes.
+     *
+     * @param modelType    Model type.
+     * @param listener     Listener to be set to the marshaller, or null.
+     * @param boundClasses Classes to be recognized by the JAXB context, starting with the model type.
+     * @param <T>          Model type.
+     * @return XML codec.
+     */
+    public static <T> Codec<T> xmlCodec(Class<T> modelType, Marshaller.Listener listener, Class<?>... boundClasses) {
+
+        return new Codec<>(Constants.MEDIA_TYPE_XML, "XML", (model, outputStream) -> {
+            try {
+                Marshaller marshaller = getJAXBContext(boundClasses).createMarshaller();
+                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+                if (listener != null) {
+                    marshaller.setListener(listener);
+                }
+                marshaller.marshal(model, outputStream);
+            } catch (JAXBException e) {
+                throw new CodecException("Error while writing " + modelType.getSimpleName() + " as XML.", e);
+            }
+        }, content -> {
+            try {
+                return modelType.cast(getJAXBContext(boundClasses).createUnmarshaller()
+                        .unmarshal(new StringReader(content)));
+            } catch (JAXBException | ClassCastException e) {
+                throw new CodecException("Error while reading " + modelType.getSimpleName() + " from XML.", e);
+            }
+        });
+    }
+
+    /**
+     * Build the JSON codec of a model type, which uses the shared object mapper of the given subtypes.
+     *
+     * @param modelType Model type.
+     * @param subtypes  Subtypes to be registered in the object mapper, if any.
+     * @param <T>       Model type.
+     * @return JSON codec.
+     */
+    public static <T> Codec<T> jsonCodec(Class<T> modelType, Class<?>... subtypes) {
+
+        ObjectMapper objectMapper = getObjectMapper(subtypes);
+        return new Codec<>(Constants.MEDIA_TYPE_JSON, "JSON", (model, outputStream) -> {
+            try {
+                objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(outputStream, model);
+            } catch (JsonProcessingException e) {
+                throw new CodecException("Error while writing " + modelType.getSimpleName() + " as JSON.", e);
+            }
+        }, content -> {
+            try {
+                return objectMapper.readValue(content, modelType);
+            } catch (IOException e) {
+                throw new CodecException("Error while reading " + modelType.getSimpleName() + " from JSON.", e);
+            }
+        });
+    }
+
+    /**
+     * Build the YAML codec of a model type. SnakeYAML instances are not thread safe, hence the writer and the reader
+     * are expected to build them per call.
+     *
+     * @param writer Writer of the model.
+     * @param reader Reader of the model.
+     * @param <T>    Model type.
+     * @return YAML codec.
+     */
+    public static <T> Codec<T> yamlCodec(ModelWriter<T> writer, ModelReader<T> reader) {
+
+        return new Codec<>(Constants.MEDIA_TYPE_YAML, "YAML", writer, reader);
+    }
+
+    /**
+     * Writes a model to an output stream in the format of a codec.
+     *
+     * @param <T> Model type.
+     */
+    @FunctionalInterface
+    public interface ModelWriter<T> {
+
+        void write(T model, OutputStream outputStream) throws IOException, CodecException;
+    }
+
+    /**
+     * Reads a model from the content of a file in the format of a codec.
+     *
+     * @param <T> Model type.
+     */
+    @FunctionalInterface
+    public interface ModelReader<T> {
+
+        T read(String content) throws CodecException;
+    }
+
+    /**
+     * Reads and writes a model type in a single media type.
+     *
+     * @param <T> Model type.
+     */
+    public static final class Codec<T> {
+
+        private final String mediaType;
+        private final String formatName;
+        private final ModelWriter<T> writer;
+        private final ModelReader<T> reader;
+
+        private Codec(String mediaType, String formatName, ModelWriter<T> writer, ModelReader<T> reader) {
+
+            this.mediaType = mediaType;
+            this.formatName = formatName;
+            this.writer = writer;
+            this.reader = reader;
+        }
+
+        /**
+         * Get the media type of the codec. E.g. application/xml
+         *
+         * @return Media type.
+         */
+        public String getMediaType() {
+
+            return mediaType;
+        }
+
+        /**
+         * Get the name of the format of the codec to be used in messages. E.g. XML
+         *
+         * @return Format name.
+         */
+        public String getFormatName() {
+
+            return formatName;
+        }
+
+        public void write(T model, OutputStream outputStream) throws IOException, CodecException {
+
+            writer.write(model, outputStream);
+        }
+
+        public T read(String content) throws CodecException {
+
+            return reader.read(content);
+        }
+    }
+
+    /**
+     * Codecs of a model type, keyed by the media type they handle.
+     *
+     * @param <T> Model type.
+     */
+    public static final class Codecs<T> {
+
+        private final Map<String, Codec<T>> codecsByMediaType;
+
+        @SafeVarargs
+        public Codecs(Codec<T>... codecs) {
+
+            Map<String, Codec<T>> codecMap = new HashMap<>();
+            for (Codec<T> codec : codecs) {
+                codecMap.put(codec.getMediaType(), codec);
+            }
+            this.codecsByMediaType = Collections.unmodifiableMap(codecMap);
+        }
+
+        /**
+         * Get the codec of a file type, resolving the media type of the file type with
+         * {@link Util#getMediaType(String)}. E.g. the XML codec is returned for text/xml.
+         *
+         * @param fileType File type.
+         * @return Codec or null if the file type is not supported.
+         */
+        public Codec<T> getCodec(String fileType) {
+
+            if (fileType == null) {
+                return null;
+            }
+            return codecsByMediaType.get(Util.getMediaType(fileType));
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.cxf.jaxrs.impl.HttpHeadersImpl;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.PhaseInterceptorChain;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.ws.rs.core.CacheControl;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+/**
+ * Request scoped conditional GET support for read mostly resources, such as claims, schemas and metadata.
+ *
+ * The entity tag of a response is a digest of the version of the resource, given by the caller from the data the
+ * response is built from, together with the tenant domain, the server API context and the request URI of the request
+ * being served. Nothing local to the node serving the request is included, hence all the nodes of a cluster return the
+ * same tag for the same data, also across restarts. The callers must therefore include all the data the response
+ * depends on, including the data resolved from the server configuration. If the If-None-Match header of the request
+ * contains the entity tag, a 304 Not Modified response is returned without building the response entity. If the
+ * header is {@code *}, which matches any current representation, the response is built to check whether the resource
+ * exists, but the entity is not returned.
+ *
+ * The responses are marked with {@code no-cache, must-revalidate}. Hence browsers and the API gateway may store a
+ * response, but must revalidate it with the entity tag, through an authorized request, before reusing it.
+ */
+public class ConditionalGet {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String WEAK_ENTITY_TAG_PREFIX = "W/";
+    private static final String ENTITY_TAG_QUOTE = "\"";
+    private static final String ANY_ENTITY_TAG = "*";
+    private static final char ENTITY_TAG_SEPARATOR = ',';
+    private static final byte VERSION_PART_SEPARATOR = 0;
+
+    private final Message message;
+    private final MessageDigest digest;
+    private EntityTag entityTag;
+
+    private ConditionalGet(Message message) {
+
+        this.message = message;
+        try {
+            this.digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Digest algorithm: " + DIGEST_ALGORITHM + " is not available.", e);
+        }
+    }
+
+    /**
+     * Create the conditional GET support of the request being served.
+     *
+     * @return Conditional GET support of the request.
+     */
+    public static ConditionalGet forRequest() {
+
+        Message message = PhaseInterceptorChain.getCurrentMessage();
+        ConditionalGet conditionalGet = new ConditionalGet(message);
+        conditionalGet.withVersion(ContextLoader.getTenantDomainFromContext(),
+                ContextLoader.buildURIForBody(StringUtils.EMPTY).toString());
+        if (message != null) {
+            conditionalGet.withVersion(message.get(Message.REQUEST_URI), message.get(Message.QUERY_STRING));
+        }
+        return conditionalGet;
+    }
+
+    /**
+     * Add parts of the version of the resource to the entity tag. The parts must be cheap to resolve compared to
+     * building the response, and must change whenever the response changes. E.g. the identifiers and the properties
+     * of the listed items in a deterministic order.
+     *
+     * @param versionParts Parts of the version of the resource. Arrays are added element by element and the other
+     *                     values through their string representation.
+     * @return This conditional GET support.
+     */
+    public ConditionalGet withVersion(Object... versionParts) {
+
+        if (entityTag != null) {
+            throw new IllegalStateException("The entity tag of the response is already resolved.");
+        }
+        for (Object versionPart : versionParts) {
+            String value = versionPart instanceof Object[] ? Arrays.deepToString((Object[]) versionPart) :
+                    String.valueOf(versionPart);
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+            digest.update(VERSION_PART_SEPARATOR);
+        }
+        return this;
+    }
+
+    /**
+     * Get the entity tag of the response. The version of the resource cannot be changed afterwards.
+     *
+     * @return Weak entity tag of the response.
+     */
+    public EntityTag getEntityTag() {
+
+        if (entityTag == null) {
+            entityTag = new EntityTag(Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest()), true);
+        }
+        return entityTag;
+    }
+
+    /**
+     * Build the response of the request. If the client already has the current version of the resource, a 304 Not
+     * Modified response is returned without calling the response supplier. If the client asks for any version of the
+     * resource, the response supplier is called to resolve whether the resource exists, and a 304 Not Modified
+     * response is returned instead of a successful response.
+     *
+     * @param responseSupplier Supplies the response builder of the resource, with the entity.
+     * @return Response with the entity tag and the cache control headers.
+     */
+    public Response respond(Supplier<Response.ResponseBuilder> responseSupplier) {
+
+        EntityTag tag = getEntityTag();
+        List<String> requestTags = getIfNoneMatchTags();
+        if (matches(requestTags, tag)) {
+            return Response.notModified(tag).cacheControl(getCacheControl()).build();
+        }
+        Response response = responseSupplier.get().tag(tag).cacheControl(getCacheControl()).build();
+        if (requestTags.contains(ANY_ENTITY_TAG) &&
+                response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
+            return Response.notModified(tag).cacheControl(getCacheControl()).build();
+        }
+        return response;
+    }
+
+    private List<String> getIfNoneMatchTags() {
+
+        List<String> requestTags = new ArrayList<>();
+        if (message == null) {
+            return requestTags;
+        }
+        List<String> ifNoneMatchHeaders = new HttpHeadersImpl(message).getRequestHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatchHeaders == null) {
+            return requestTags;
+        }
+        for (String ifNoneMatchHeader : ifNoneMatchHeaders) {
+            for (String requestTag : StringUtils.split(ifNoneMatchHeader, ENTITY_TAG_SEPARATOR)) {
+                requestTags.add(requestTag.trim());
+            }
+        }
+        return requestTags;
+    }
+
+    private static boolean matches(List<String> requestTags, EntityTag tag) {
+
+        for (String requestTag : requestTags) {
+            // Entity tags are compared with the weak comparison, as required for the If-None-Match header.
+            String requestTagValue = StringUtils.removeStart(requestTag, WEAK_ENTITY_TAG_PREFIX);
+            if (tag.getValue().equals(StringUtils.strip(requestTagValue, ENTITY_TAG_QUOTE))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static CacheControl getCacheControl() {
+
+        CacheControl cacheControl = new CacheControl();
+        cacheControl.setNoCache(true);
+        cacheControl.setMustRevalidate(true);
+        cacheControl.setNoTransform(false);
+        return cacheControl;
+    }
+}
@@ -47,6 +47,40 @@ public class Constants {
     static final String[] VALID_MEDIA_TYPES_XML = {MEDIA_TYPE_XML, "text/xml"};
     static final String[] VALID_MEDIA_TYPES_YAML = {MEDIA_TYPE_YAML, "text/yaml", "application/x-yaml"};
 
+    /**
+     * Filter operations supported in the listings evaluated with {@link ListQuery}.
+     */
+    public static class FilterOperations {
+
+        public static final String EQ = "eq";
+        public static final String NE = "ne";
+        public static final String CO = "co";
+        public static final String SW = "sw";
+        public static final String EW = "ew";
+        public static final String GT = "gt";
+        public static final String GE = "ge";
+        public static final String LT = "lt";
+        public static final String LE = "le";
+    }
+
+    /**
+     * Complex query operations supported in the listings evaluated with {@link ListQuery}.
+     */
+    public static class ComplexQueryOperations {
+
+        public static final String AND = "and";
+        public static final String OR = "or";
+    }
+
+    /**
+     * Sort orders supported in the listings.
+     */
+    public static class SortOrders {
+
+        public static final String ASC = "asc";
+        public static final String DESC = "desc";
+    }
+
     /**
      * Enum for server error prefixes.
      */
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.slf4j.MDC;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded executor to fan out independent backend calls of a single API request.
+ *
+ * Tasks submitted through this executor run with the carbon context (tenant domain, tenant id, username and
+ * organization id), the identity thread local properties and the correlation id of the submitting request thread, and
+ * the worker thread is cleaned up once the task completes. A task run by the submitting thread itself, as done by a
+ * caller runs executor when the queue is full, runs with the context of the request as is and leaves it in place.
+ */
+public class ContextAwareExecutor {
+
+    private static final long KEEP_ALIVE_TIME_SECONDS = 60L;
+    private static final RejectedExecutionHandler CALLER_RUNS_POLICY = (task, executor) -> {
+        // Unlike ThreadPoolExecutor.CallerRunsPolicy, a task is not silently discarded after a shutdown, as the
+        // submitter would wait for it forever.
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("The executor is shut down.");
+        }
+        task.run();
+    };
+
+    private final ThreadPoolExecutor executorService;
+
+    /**
+     * Create an executor backed by a bounded pool of daemon threads and a bounded queue. Tasks submitted while all
+     * the workers are busy and the queue is full are rejected with a {@link RejectedExecutionException}.
+     *
+     * @param name          Name used as the prefix of the worker thread names.
+     * @param poolSize      Maximum number of worker threads.
+     * @param queueCapacity Maximum number of tasks waiting for a worker.
+     */
+    public ContextAwareExecutor(String name, int poolSize, int queueCapacity) {
+
+        this(name, poolSize, queueCapacity, false);
+    }
+
+    /**
+     * Create an executor backed by a bounded pool of daemon threads and a bounded queue.
+     *
+     * @param name          Name used as the prefix of the worker thread names.
+     * @param poolSize      Maximum number of worker threads.
+     * @param queueCapacity Maximum number of tasks waiting for a worker.
+     * @param callerRuns    Whether the tasks submitted while all the workers are busy and the queue is full are run
+     *                      by the submitting thread, instead of being rejected with a
+     *                      {@link RejectedExecutionException}. Running them in the submitting thread also holds back
+     *                      the submission of further tasks.
+     */
+    public ContextAwareExecutor(String name, int poolSize, int queueCapacity, boolean callerRuns) {
+
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_TIME_SECONDS,
+                TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity), new NamedDaemonThreadFactory(name),
+                callerRuns ? CALLER_RUNS_POLICY : new ThreadPoolExecutor.AbortPolicy());
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        this.executorService = threadPoolExecutor;
+    }
+
+    /**
+     * Submit a task to be run with the context of the calling thread.
+     *
+     * @param task Task to be run.
+     * @param <T>  Result type of the task.
+     * @return Future of the task result.
+     */
+    public <T> Future<T> submit(Callable<T> task) {
+
+        return executorService.submit(wrap(task));
+    }
+
+    /**
+     * Run all the given tasks with the context of the calling thread and wait until all of them complete or the
+     * timeout elapses. Tasks that do not complete before the timeout are cancelled, and the cancelled tasks which were
+     * still waiting for a worker are removed from the queue. If any of the tasks is rejected by a bounded executor,
+     * all the tasks are cancelled and the rejection is thrown.
+     *
+     * @param tasks   Tasks to be run.
+     * @param timeout Maximum time to wait.
+     * @param unit    Time unit of the timeout.
+     * @param <T>     Result type of the tasks.
+     * @return Futures of the task results, in the iteration order of the given tasks.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+            throws InterruptedException {
+
+        List<Callable<T>> wrappedTasks = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            wrappedTasks.add(wrap(task));
+        }
+        List<Future<T>> futures;
+        try {
+            futures = executorService.invokeAll(wrappedTasks, timeout, unit);
+        } catch (RejectedExecutionException e) {
+            // The tasks queued before the rejection are cancelled, but still hold their places in the queue.
+            executorService.purge();
+            throw e;
+        }
+        for (Future<T> future : futures) {
+            if (future.isCancelled()) {
+                executorService.purge();
+                break;
+            }
+        }
+        return futures;
+    }
+
+    /**
+     * Shut down the executor. Running tasks are interrupted, tasks waiting for a worker are cancelled and further
+     * tasks are rejected with a {@link RejectedExecutionException}.
+     */
+    public void shutdown() {
+
+        for (Runnable waitingTask : executorService.shutdownNow()) {
+            if (waitingTask instanceof Future) {
+                ((Future<?>) waitingTask).cancel(false);
+            }
+        }
+    }
+
+    private <T> Callable<T> wrap(Callable<T> task) {
+
+        Thread submittingThread = Thread.currentThread();
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        String tenantDomain = carbonContext.getTenantDomain();
+        int tenantId = carbonContext.getTenantId();
+        String username = carbonContext.getUsername();
+        String organizationId = carbonContext.getOrganizationId();
+        Map<String, Object> threadLocalProperties = new HashMap<>(IdentityUtil.threadLocalProperties.get());
+        String correlationId = MDC.get(Constants.CORRELATION_ID_MDC);
+
+        return () -> {
+            if (Thread.currentThread() == submittingThread) {
+                // The request thread already has the context, which must outlive the task.
+                return task.call();
+            }
+            PrivilegedCarbonContext.startTenantFlow();
+            try {
+                PrivilegedCarbonContext workerContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                workerContext.setTenantDomain(tenantDomain);
+                workerContext.setTenantId(tenantId);
+                workerContext.setUsername(username);
+                workerContext.setOrganizationId(organizationId);
+                IdentityUtil.threadLocalProperties.get().putAll(threadLocalProperties);
+                if (correlationId != null) {
+                    MDC.put(Constants.CORRELATION_ID_MDC, correlationId);
+                }
+                return task.call();
+            } finally {
+                MDC.remove(Constants.CORRELATION_ID_MDC);
+                IdentityUtil.threadLocalProperties.remove();
+                PrivilegedCarbonContext.endTenantFlow();
+            }
+        };
+    }
+
+    /**
+     * Thread factory creating named daemon threads, so that idle workers never block the server shutdown.
+     */
+    private static class NamedDaemonThreadFactory implements ThreadFactory {
+
+        private final String namePrefix;
+        private final AtomicInteger threadCount = new AtomicInteger(1);
+
+        NamedDaemonThreadFactory(String namePrefix) {
+
+            this.namePrefix = namePrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, namePrefix + "-" + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
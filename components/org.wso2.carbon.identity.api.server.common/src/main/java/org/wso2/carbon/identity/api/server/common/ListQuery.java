@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.api.server.common.Constants.ComplexQueryOperations;
+import org.wso2.carbon.identity.api.server.common.Constants.FilterOperations;
+import org.wso2.carbon.identity.api.server.common.Constants.SortOrders;
+import org.wso2.carbon.identity.base.IdentityException;
+import org.wso2.carbon.identity.core.model.ExpressionNode;
+import org.wso2.carbon.identity.core.model.FilterTreeBuilder;
+import org.wso2.carbon.identity.core.model.Node;
+import org.wso2.carbon.identity.core.model.OperationNode;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Filter, sort and page of a listing, evaluated against the resources retrieved from a backend service before the
+ * response objects are built, so that the response objects are built only for the resources in the requested page.
+ * String attributes support the eq, ne, co, sw and ew operations, ignoring the case. Comparable attributes support
+ * the eq, ne, gt, ge, lt and le operations. Expressions can be combined with and/or.
+ * Filter example: name sw JDBC and enabled eq true
+ * Sort example: name desc
+ *
+ * @param <T> Type of the listed resources.
+ */
+public class ListQuery<T> {
+
+    private final Map<String, Attribute<T>> attributes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    /**
+     * Add a string attribute which can be used in the filter and sort parameters.
+     *
+     * @param name     Name of the attribute.
+     * @param accessor Resolves the values of the attribute of a resource. A resource matches a filter expression if
+     *                 any of the values matches it and the resources are sorted by the first value.
+     * @return This list query.
+     */
+    public ListQuery<T> withAttribute(String name, Function<T, Collection<String>> accessor) {
+
+        attributes.put(name, new Attribute<>((operation, value) -> {
+            BiPredicate<String, String> stringOperation = getStringOperation(operation);
+            return resource -> accessor.apply(resource).stream().anyMatch(
+                    attributeValue -> attributeValue != null && stringOperation.test(attributeValue, value));
+        }, Comparator.<T, String>comparing(resource -> getFirstValue(accessor.apply(resource)),
+                Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))));
+        return this;
+    }
+
+    /**
+     * Add a comparable attribute, such as a date or a flag, which can be used in the filter and sort parameters.
+     * A resource without a value is considered to be before any value, so that it matches only the ne, lt and le
+     * expressions.
+     *
+     * @param name     Name of the attribute.
+     * @param accessor Resolves the value of the attribute of a resource.
+     * @param parser   Parses the value of a filter expression. An exception thrown by the parser is reported as an
+     *                 unsupported value of the attribute.
+     * @param <C>      Type of the attribute.
+     * @return This list query.
+     */
+    public <C extends Comparable<? super C>> ListQuery<T> withComparableAttribute(String name, Function<T, C> accessor,
+                                                                                 Function<String, C> parser) {
+
+        attributes.put(name, new Attribute<>((operation, value) -> {
+            IntPredicate comparison = getComparison(operation);
+            C operand;
+            try {
+                operand = parser.apply(value);
+            } catch (IllegalArgumentException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Unsupported value: " + value + " for attribute: " + name, e);
+            }
+            return resource -> {
+                C attributeValue = accessor.apply(resource);
+                return comparison.test(attributeValue == null ? -1 : attributeValue.compareTo(operand));
+            };
+        }, Comparator.comparing(accessor, Comparator.nullsFirst(Comparator.<C>naturalOrder()))));
+        return this;
+    }
+
+    /**
+     * Build the predicate to evaluate the given filter against a resource.
+     *
+     * @param filter Value of the filter parameter.
+     * @return Predicate of the filter or null if a filter is not given.
+     * @throws IllegalArgumentException If the filter is not in the correct format or uses an unsupported attribute,
+     *                                  operation or value.
+     */
+    public Predicate<T> buildFilter(String filter) {
+
+        if (StringUtils.isBlank(filter)) {
+            return null;
+        }
+        try {
+            return buildFilter(new FilterTreeBuilder(filter).buildTree());
+        } catch (IOException | IdentityException e) {
+            throw new IllegalArgumentException("Filter needs to be in the format <attribute>+<operation>+<value>.", e);
+        }
+    }
+
+    /**
+     * Build the comparator to sort the resources in the order given in the sort parameter.
+     *
+     * @param sort Value of the sort parameter, in the format {@code <attribute> [asc|desc]}.
+     * @return Comparator of the sort or null if a sort is not given.
+     * @throws IllegalArgumentException If the sort is not in the correct format or uses an unsupported attribute.
+     */
+    public Comparator<T> buildComparator(String sort) {
+
+        if (StringUtils.isBlank(sort)) {
+            return null;
+        }
+        String[] sortParts = StringUtils.split(sort.trim());
+        if (sortParts.length > 2) {
+            throw new IllegalArgumentException("Sort needs to be in the format <attribute>+<asc|desc>.");
+        }
+        Comparator<T> comparator = getAttribute(sortParts[0]).comparator;
+        if (sortParts.length == 1 || SortOrders.ASC.equalsIgnoreCase(sortParts[1])) {
+            return comparator;
+        } else if (SortOrders.DESC.equalsIgnoreCase(sortParts[1])) {
+            return comparator.reversed();
+        }
+        throw new IllegalArgumentException("Unsupported sort order: " + sortParts[1]);
+    }
+
+    /**
+     * Filter and sort the resources.
+     *
+     * @param resources  Resources to be listed.
+     * @param filter     Predicate of the filter or null to list all the resources.
+     * @param comparator Comparator of the sort or null to keep the order of the resources.
+     * @param <T>        Type of the listed resources.
+     * @return Matching resources in the requested order.
+     */
+    public static <T> List<T> search(Collection<T> resources, Predicate<T> filter, Comparator<T> comparator) {
+
+        if (resources == null || resources.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Stream<T> resourceStream = resources.stream();
+        if (filter != null) {
+            resourceStream = resourceStream.filter(filter);
+        }
+        if (comparator != null) {
+            resourceStream = resourceStream.sorted(comparator);
+        }
+        return resourceStream.collect(Collectors.toList());
+    }
+
+    /**
+     * Get the requested page of the matching resources.
+     *
+     * @param resources Matching resources.
+     * @param limit     Maximum number of resources in the page or null to return all the resources from the offset.
+     * @param offset    Index of the first resource of the page or null to start from the first resource.
+     * @param <T>       Type of the listed resources.
+     * @return Resources of the page.
+     */
+    public static <T> List<T> getPage(List<T> resources, Integer limit, Integer offset) {
+
+        int fromIndex = offset == null ? 0 : Math.min(offset, resources.size());
+        int toIndex = limit == null ? resources.size() : (int) Math.min((long) fromIndex + limit, resources.size());
+        return resources.subList(fromIndex, toIndex);
+    }
+
+    /**
+     * Get the values of a single valued string attribute.
+     *
+     * @param value Value of the attribute.
+     * @return Values of the attribute.
+     */
+    public static Collection<String> singleValue(String value) {
+
+        return value == null ? Collections.emptyList() : Collections.singletonList(value);
+    }
+
+    private Predicate<T> buildFilter(Node node) {
+
+        if (node instanceof ExpressionNode) {
+            ExpressionNode expressionNode = (ExpressionNode) node;
+            String operation = StringUtils.defaultString(expressionNode.getOperation()).toLowerCase(Locale.ENGLISH);
+            return getAttribute(expressionNode.getAttributeValue()).expressionBuilder.apply(operation,
+                    expressionNode.getValue());
+        }
+        if (node instanceof OperationNode) {
+            Predicate<T> left = buildFilter(node.getLeftNode());
+            Predicate<T> right = buildFilter(node.getRightNode());
+            String operation = ((OperationNode) node).getOperation();
+            if (ComplexQueryOperations.AND.equalsIgnoreCase(operation)) {
+                return left.and(right);
+            } else if (ComplexQueryOperations.OR.equalsIgnoreCase(operation)) {
+                return left.or(right);
+            }
+            throw new IllegalArgumentException("Unsupported complex query operation: " + operation);
+        }
+        throw new IllegalArgumentException("Filter needs to be in the format <attribute>+<operation>+<value>.");
+    }
+
+    private Attribute<T> getAttribute(String name) {
+
+        Attribute<T> attribute = name == null ? null : attributes.get(name);
+        if (attribute == null) {
+            throw new IllegalArgumentException("Unsupported attribute: " + name + ". Supported attributes are: "
+                    + String.join(", ", attributes.keySet()));
+        }
+        return attribute;
+    }
+
+    private static BiPredicate<String, String> getStringOperation(String operation) {
+
+        switch (operation) {
+            case FilterOperations.EQ:
+                return String::equalsIgnoreCase;
+            case FilterOperations.NE:
+                return (attributeValue, value) -> !attributeValue.equalsIgnoreCase(value);
+            case FilterOperations.CO:
+                return StringUtils::containsIgnoreCase;
+            case FilterOperations.SW:
+                return (attributeValue, value) -> StringUtils.startsWithIgnoreCase(attributeValue, value);
+            case FilterOperations.EW:
+                return (attributeValue, value) -> StringUtils.endsWithIgnoreCase(attributeValue, value);
+            default:
+                throw new IllegalArgumentException("Unsupported filter operation: " + operation);
+        }
+    }
+
+    private static IntPredicate getComparison(String operation) {
+
+        switch (operation) {
+            case FilterOperations.EQ:
+                return result -> result == 0;
+            case FilterOperations.NE:
+                return result -> result != 0;
+            case FilterOperations.GT:
+                return result -> result > 0;
+            case FilterOperations.GE:
+                return result -> result >= 0;
+            case FilterOperations.LT:
+                return result -> result < 0;
+            case FilterOperations.LE:
+                return result -> result <= 0;
+            default:
+                throw new IllegalArgumentException("Unsupported filter operation: " + operation);
+        }
+    }
+
+    private static String getFirstValue(Collection<String> values) {
+
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        return values.iterator().next();
+    }
+
+    /**
+     * Attribute of a listing, which builds the predicates of the filter expressions and the comparator of the sort.
+     */
+    private static final class Attribute<T> {
+
+        private final BiFunction<String, String, Predicate<T>> expressionBuilder;
+        private final Comparator<T> comparator;
+
+        private Attribute(BiFunction<String, String, Predicate<T>> expressionBuilder, Comparator<T> comparator) {
+
+            this.expressionBuilder = expressionBuilder;
+            this.comparator = comparator;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import javax.ws.rs.core.StreamingOutput;
+
+/**
+ * Holds file name, type and content of an exported resource file configuration, where the content is written
+ * directly to the response output stream instead of being built in memory.
+ */
+public class StreamingFileContent {
+
+    private String fileName;
+    private String fileType;
+    private StreamingOutput content;
+
+    public StreamingFileContent(String fileName, String fileType, StreamingOutput content) {
+
+        this.fileName = fileName;
+        this.fileType = fileType;
+        this.content = content;
+    }
+
+    public String getFileName() {
+
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+
+        this.fileName = fileName;
+    }
+
+    public String getFileType() {
+
+        return fileType;
+    }
+
+    public void setFileType(String fileType) {
+
+        this.fileType = fileType;
+    }
+
+    public StreamingOutput getContent() {
+
+        return content;
+    }
+
+    public void setContent(StreamingOutput content) {
+
+        this.content = content;
+    }
+}
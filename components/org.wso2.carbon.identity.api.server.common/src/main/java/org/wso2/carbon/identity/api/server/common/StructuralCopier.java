@@ -0,0 +1,361 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Deep copies model object graphs, such as service providers and identity providers, field by field.
+ *
+ * Unlike a copy made through a serialization round trip, the source graph is walked once and only the copied objects
+ * are allocated. Immutable values such as strings, boxed primitives, enums and java.time values are shared with the
+ * source, arrays, collections and maps are copied element by element and the fields of the other objects are copied
+ * through a copy plan which is built once per class. Transient fields are not copied, to match the semantics of a
+ * serialization based copy. Objects referenced more than once in the source graph are copied only once.
+ *
+ * Values which cannot be copied field by field are copied through a serialization round trip instead. These are
+ * platform types other than the containers above, such as atomic values, objects without a default constructor,
+ * and containers whose structural copy does not fit the declared type of the field holding them, such as an
+ * EnumSet.
+ */
+public class StructuralCopier {
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(String.class, Boolean.class,
+            Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class, Class.class, UUID.class, Locale.class, URI.class));
+    private static final String IMMUTABLE_PACKAGE_PREFIX = "java.time.";
+    private static final ClassValue<Boolean> IMMUTABLE = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+
+            return IMMUTABLE_TYPES.contains(type) || Enum.class.isAssignableFrom(type)
+                    || type.getName().startsWith(IMMUTABLE_PACKAGE_PREFIX);
+        }
+    };
+    // Copy plans are held by the copied classes, so that the plans do not keep the class loaders of the bundles
+    // providing the model types alive after those bundles are redeployed.
+    private static final ClassValue<CopyPlan> COPY_PLANS = new ClassValue<CopyPlan>() {
+        @Override
+        protected CopyPlan computeValue(Class<?> type) {
+
+            return new CopyPlan(type);
+        }
+    };
+
+    private StructuralCopier() {
+
+    }
+
+    /**
+     * Create a deep copy of the given object graph.
+     *
+     * @param source Root of the object graph to be copied.
+     * @param <T>    Type of the root object.
+     * @return Deep copy of the object graph or null if the source is null.
+     * @throws IllegalStateException If the graph contains an object which cannot be copied.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T deepCopy(T source) {
+
+        if (source == null) {
+            return null;
+        }
+        return (T) copy(source, new CopyContext(source.getClass().getClassLoader()));
+    }
+
+    private static Object copy(Object source, CopyContext context) {
+
+        if (source == null || IMMUTABLE.get(source.getClass())) {
+            return source;
+        }
+        Object copy = context.copies.get(source);
+        if (copy != null) {
+            return copy;
+        }
+
+        Class<?> type = source.getClass();
+        if (type.isArray()) {
+            return copyArray(source, context);
+        } else if (source instanceof Collection) {
+            return copyCollection((Collection<?>) source, context);
+        } else if (source instanceof Map) {
+            return copyMap((Map<?, ?>) source, context);
+        } else if (source instanceof Date) {
+            copy = ((Date) source).clone();
+        } else if (source instanceof Optional) {
+            Optional<?> optional = (Optional<?>) source;
+            copy = optional.isPresent() ? Optional.of(copy(optional.get(), context)) : optional;
+        } else if (isPlatformType(type) || !COPY_PLANS.get(type).isCopyable()) {
+            // The fields of platform types are not accessible and the objects without a default constructor cannot
+            // be instantiated, hence these are copied through serialization.
+            copy = copyBySerialization(source, context);
+        } else {
+            return copyObject(source, context);
+        }
+        context.copies.put(source, copy);
+        return copy;
+    }
+
+    private static boolean isPlatformType(Class<?> type) {
+
+        String typeName = type.getName();
+        return typeName.startsWith("java.") || typeName.startsWith("javax.") || typeName.startsWith("sun.");
+    }
+
+    private static Object copyArray(Object source, CopyContext context) {
+
+        Class<?> componentType = source.getClass().getComponentType();
+        int length = Array.getLength(source);
+        Object copy = Array.newInstance(componentType, length);
+        context.copies.put(source, copy);
+        if (componentType.isPrimitive()) {
+            System.arraycopy(source, 0, copy, 0, length);
+        } else {
+            Object[] sourceElements = (Object[]) source;
+            Object[] copiedElements = (Object[]) copy;
+            for (int i = 0; i < length; i++) {
+                copiedElements[i] = copy(sourceElements[i], context);
+            }
+        }
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Collection<Object> copyCollection(Collection<?> source, CopyContext context) {
+
+        Collection<Object> copy;
+        if (source instanceof SortedSet) {
+            copy = new TreeSet<>((Comparator<Object>) ((SortedSet<Object>) source).comparator());
+        } else {
+            copy = (Collection<Object>) newContainer(source);
+            if (copy == null) {
+                // Unmodifiable and other collections without a public default constructor are copied to a
+                // modifiable collection of the same kind.
+                copy = source instanceof Set ? new LinkedHashSet<>(source.size()) : new ArrayList<>(source.size());
+            }
+        }
+        context.copies.put(source, copy);
+        for (Object element : source) {
+            copy.add(copy(element, context));
+        }
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> copyMap(Map<?, ?> source, CopyContext context) {
+
+        Map<Object, Object> copy;
+        if (source instanceof SortedMap) {
+            copy = new TreeMap<>((Comparator<Object>) ((SortedMap<Object, ?>) source).comparator());
+        } else {
+            copy = (Map<Object, Object>) newContainer(source);
+            if (copy == null) {
+                copy = new LinkedHashMap<>(source.size());
+            }
+        }
+        context.copies.put(source, copy);
+        for (Map.Entry<?, ?> entry : source.entrySet()) {
+            copy.put(copy(entry.getKey(), context), copy(entry.getValue(), context));
+        }
+        return copy;
+    }
+
+    private static Object newContainer(Object source) {
+
+        Class<?> type = source.getClass();
+        if (!Modifier.isPublic(type.getModifiers())) {
+            return null;
+        }
+        try {
+            return type.getConstructor().newInstance();
+        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException |
+                 InvocationTargetException e) {
+            return null;
+        }
+    }
+
+    private static Object copyObject(Object source, CopyContext context) {
+
+        CopyPlan copyPlan = COPY_PLANS.get(source.getClass());
+        Object copy = copyPlan.newInstance();
+        context.copies.put(source, copy);
+        try {
+            for (Field field : copyPlan.fields) {
+                Object value = field.get(source);
+                Object valueCopy = copy(value, context);
+                if (valueCopy != null && !field.getType().isPrimitive() && !field.getType().isInstance(valueCopy)) {
+                    // The structural copy of a container does not fit a field declared with the concrete type of
+                    // the source container, such as an EnumSet.
+                    valueCopy = copyBySerialization(value, context);
+                    context.copies.put(value, valueCopy);
+                }
+                field.set(copy, valueCopy);
+            }
+        } catch (IllegalAccessException | IllegalArgumentException e) {
+            throw new IllegalStateException("Unable to copy an instance of: " + source.getClass().getName(), e);
+        }
+        return copy;
+    }
+
+    private static Object copyBySerialization(Object source, CopyContext context) {
+
+        if (!(source instanceof Serializable)) {
+            throw new IllegalStateException("Unable to copy an instance of: " + source.getClass().getName()
+                    + ". It can neither be copied field by field nor be serialized.");
+        }
+        try {
+            ByteArrayOutputStream serializedSource = new ByteArrayOutputStream();
+            try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(serializedSource)) {
+                objectOutputStream.writeObject(source);
+            }
+            try (ObjectInputStream objectInputStream = new ClassLoaderObjectInputStream(
+                    new ByteArrayInputStream(serializedSource.toByteArray()), context.classLoader)) {
+                return objectInputStream.readObject();
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Unable to copy an instance of: " + source.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * State of a single deep copy.
+     */
+    private static class CopyContext {
+
+        private final Map<Object, Object> copies = new IdentityHashMap<>();
+        private final ClassLoader classLoader;
+
+        CopyContext(ClassLoader classLoader) {
+
+            this.classLoader = classLoader;
+        }
+    }
+
+    /**
+     * Object input stream which resolves the classes of the serialized values with the class loader of the copied
+     * root object, since the class loader of this bundle cannot see the model types of the other bundles.
+     */
+    private static class ClassLoaderObjectInputStream extends ObjectInputStream {
+
+        private final ClassLoader classLoader;
+
+        ClassLoaderObjectInputStream(InputStream inputStream, ClassLoader classLoader) throws IOException {
+
+            super(inputStream);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass classDescriptor) throws IOException, ClassNotFoundException {
+
+            if (classLoader != null) {
+                try {
+                    return Class.forName(classDescriptor.getName(), false, classLoader);
+                } catch (ClassNotFoundException e) {
+                    // Fall back to the default resolution, which also resolves the primitive types.
+                }
+            }
+            return super.resolveClass(classDescriptor);
+        }
+    }
+
+    /**
+     * Constructor and copyable fields of a class, resolved once and reused for every instance of the class.
+     */
+    private static class CopyPlan {
+
+        private final Constructor<?> constructor;
+        private final List<Field> fields = new ArrayList<>();
+
+        CopyPlan(Class<?> type) {
+
+            Constructor<?> defaultConstructor;
+            try {
+                defaultConstructor = type.getDeclaredConstructor();
+                defaultConstructor.setAccessible(true);
+            } catch (NoSuchMethodException e) {
+                defaultConstructor = null;
+            }
+            constructor = defaultConstructor;
+            if (constructor == null) {
+                return;
+            }
+            for (Class<?> current = type; current != null && current != Object.class;
+                 current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+
+        boolean isCopyable() {
+
+            return constructor != null;
+        }
+
+        Object newInstance() {
+
+            try {
+                return constructor.newInstance();
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("Unable to create an instance of: "
+                        + constructor.getDeclaringClass().getName(), e);
+            }
+        }
+    }
+}
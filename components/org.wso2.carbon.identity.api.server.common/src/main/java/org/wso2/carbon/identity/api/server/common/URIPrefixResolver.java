@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.net.URI;
+
+/**
+ * Request scoped builder of the URIs included in response bodies.
+ *
+ * The server API context of the request, including the proxy context path and the tenant or organization path, is
+ * resolved once through {@link ContextLoader#buildURIForBody(String)} when the resolver is created, and the URIs of
+ * the individual resources are built by appending the endpoint to it. A resolver must be created while serving the
+ * request and must not be shared between requests. E.g. create one resolver per list response and use it to build the
+ * self links of all the items of the list.
+ */
+public class URIPrefixResolver {
+
+    private static final String PATH_SEPARATOR = "/";
+
+    private final String prefix;
+
+    private URIPrefixResolver(String prefix) {
+
+        this.prefix = StringUtils.removeEnd(prefix, PATH_SEPARATOR);
+    }
+
+    /**
+     * Create a resolver for the server API context of the request being served.
+     *
+     * @return URI prefix resolver.
+     */
+    public static URIPrefixResolver forBody() {
+
+        return new URIPrefixResolver(ContextLoader.buildURIForBody(StringUtils.EMPTY).toString());
+    }
+
+    /**
+     * Build the relative URI of the given endpoint, prepending the server API context of the request.
+     * Ex: /t/<tenant-domain>/api/server/<endpoint> or /t/<tenant-domain>/o/api/server/<endpoint>
+     *
+     * @param endpoint Relative endpoint path.
+     * @return Relative URI string, equal to the string form of {@link ContextLoader#buildURIForBody(String)}.
+     */
+    public String resolve(String endpoint) {
+
+        if (StringUtils.isEmpty(endpoint)) {
+            return prefix;
+        }
+        return prefix + StringUtils.removeEnd(endpoint, PATH_SEPARATOR);
+    }
+
+    /**
+     * Build the relative URI of the given endpoint, prepending the server API context of the request.
+     *
+     * @param endpoint Relative endpoint path.
+     * @return Relative URI.
+     */
+    public URI resolveURI(String endpoint) {
+
+        return URI.create(resolve(endpoint));
+    }
+}
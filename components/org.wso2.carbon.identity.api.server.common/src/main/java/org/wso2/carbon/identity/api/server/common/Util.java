@@ -32,8 +32,6 @@ public class Util {
 
     private static final String PAGE_LINK_REL_NEXT = "next";
     private static final String PAGE_LINK_REL_PREVIOUS = "previous";
-    private static final String PAGINATION_LINK_FORMAT = Constants.V1_API_PATH_COMPONENT
-            + "%s?offset=%d&limit=%d";
 
     /**
      * Get correlation id of current thread
@@ -100,32 +98,8 @@ public class Util {
     public static Map<String, String> buildPaginationLinks(int limit, int currentOffset, int totalResultsFromSearch,
                                                            String servicePathComponent) {
 
-        Map<String, String> links = new HashMap<>();
-
-        // Next link.
-        if ((currentOffset + limit) < totalResultsFromSearch) {
-            links.put(PAGE_LINK_REL_NEXT, ContextLoader.buildURIForBody
-                    (String.format(PAGINATION_LINK_FORMAT, servicePathComponent, (currentOffset + limit), limit))
-                    .toString());
-        }
-
-        /*
-        Previous link.
-        Previous link matters only if offset is greater than 0.
-        */
-        if (currentOffset > 0) {
-            if ((currentOffset - limit) >= 0) { // A previous page of size 'limit' exists.
-                links.put(PAGE_LINK_REL_PREVIOUS, ContextLoader.buildURIForBody
-                        (String.format(PAGINATION_LINK_FORMAT, servicePathComponent,
-                                calculateOffsetForPreviousLink(currentOffset, limit, totalResultsFromSearch), limit))
-                        .toString());
-            } else { // A previous page exists but it's size is less than the specified limit.
-                links.put(PAGE_LINK_REL_PREVIOUS, ContextLoader.buildURIForBody
-                        (String.format(PAGINATION_LINK_FORMAT, servicePathComponent, 0, currentOffset)).toString());
-            }
-        }
-
-        return links;
+        return buildPaginationLinksWithParams(limit, currentOffset, totalResultsFromSearch, servicePathComponent,
+                StringUtils.EMPTY);
     }
 
     /**
@@ -143,7 +117,25 @@ public class Util {
                                                            String servicePathComponent, String requiredAttributes,
                                                            String filter) {
 
-        Map<String, String> links = new HashMap<>();
+        return buildPaginationLinks(limit, currentOffset, totalResultsFromSearch, servicePathComponent,
+                requiredAttributes, filter, null);
+    }
+
+    /**
+     * Build 'next' and 'previous' pagination links.
+     *
+     * @param limit                  Value of the 'limit' parameter.
+     * @param currentOffset          Value of the 'currentOffset' parameter.
+     * @param totalResultsFromSearch Value of the 'totalResultsFromSearch' parameter.
+     * @param servicePathComponent   API service path. E.g: applications/
+     * @param requiredAttributes     Value of the 'attributes' parameter.
+     * @param filter                 Value of the 'filter' parameter.
+     * @param sort                   Value of the 'sort' parameter.
+     * @return A map containing pagination link key-value pairs.
+     */
+    public static Map<String, String> buildPaginationLinks(int limit, int currentOffset, int totalResultsFromSearch,
+                                                           String servicePathComponent, String requiredAttributes,
+                                                           String filter, String sort) {
 
         StringBuilder otherParams = new StringBuilder();
         if (!StringUtils.isEmpty(requiredAttributes)) {
@@ -152,41 +144,70 @@ public class Util {
         if (!StringUtils.isEmpty(filter)) {
             otherParams.append("&filter=").append(filter.replace(" ", "+"));
         }
+        if (!StringUtils.isEmpty(sort)) {
+            otherParams.append("&sort=").append(sort.replace(" ", "+"));
+        }
+        return buildPaginationLinksWithParams(limit, currentOffset, totalResultsFromSearch, servicePathComponent,
+                otherParams.toString());
+    }
+
+    private static Map<String, String> buildPaginationLinksWithParams(int limit, int currentOffset,
+                                                                      int totalResultsFromSearch,
+                                                                      String servicePathComponent,
+                                                                      String otherParams) {
+
+        Map<String, String> links = new HashMap<>();
+        boolean hasNextLink = (currentOffset + limit) < totalResultsFromSearch;
+        boolean hasPreviousLink = currentOffset > 0;
+        if (!hasNextLink && !hasPreviousLink) {
+            return links;
+        }
+
+        // Both links share the server API context of the request, hence resolve it once.
+        URIPrefixResolver uriPrefixResolver = URIPrefixResolver.forBody();
 
         // Next link.
-        if ((currentOffset + limit) < totalResultsFromSearch) {
-            links.put(PAGE_LINK_REL_NEXT, ContextLoader.buildURIForBody(String.format(PAGINATION_LINK_FORMAT,
-                    servicePathComponent, (currentOffset + limit), limit) + otherParams).toString());
+        if (hasNextLink) {
+            links.put(PAGE_LINK_REL_NEXT, uriPrefixResolver.resolve(buildPaginationLinkPath(servicePathComponent,
+                    currentOffset + limit, limit, otherParams)));
         }
 
         /*
         Previous link.
         Previous link matters only if offset is greater than 0.
         */
-        if (currentOffset > 0) {
+        if (hasPreviousLink) {
             if ((currentOffset - limit) >= 0) { // A previous page of size 'limit' exists.
-                links.put(PAGE_LINK_REL_PREVIOUS, ContextLoader.buildURIForBody
-                        (String.format(PAGINATION_LINK_FORMAT, servicePathComponent,
-                                calculateOffsetForPreviousLink(currentOffset, limit, totalResultsFromSearch), limit) +
-                                otherParams).toString());
+                links.put(PAGE_LINK_REL_PREVIOUS, uriPrefixResolver.resolve(buildPaginationLinkPath(
+                        servicePathComponent, calculateOffsetForPreviousLink(currentOffset, limit,
+                                totalResultsFromSearch), limit, otherParams)));
             } else { // A previous page exists but it's size is less than the specified limit.
-                links.put(PAGE_LINK_REL_PREVIOUS, ContextLoader.buildURIForBody
-                        (String.format(PAGINATION_LINK_FORMAT, servicePathComponent, 0, currentOffset) +
-                                otherParams).toString());
+                links.put(PAGE_LINK_REL_PREVIOUS, uriPrefixResolver.resolve(buildPaginationLinkPath(
+                        servicePathComponent, 0, currentOffset, otherParams)));
             }
         }
 
         return links;
     }
 
+    private static String buildPaginationLinkPath(String servicePathComponent, int offset, int limit,
+                                                  String otherParams) {
+
+        return Constants.V1_API_PATH_COMPONENT + servicePathComponent + "?offset=" + offset + "&limit=" + limit
+                + otherParams;
+    }
+
+    /**
+     * Calculate the offset of the previous page, stepping back by 'limit' until the offset falls within the total
+     * results.
+     */
     private static int calculateOffsetForPreviousLink(int offset, int limit, int total) {
 
-        int newOffset = (offset - limit);
-        if (newOffset < total) {
-            return newOffset;
+        int newOffset = offset - limit;
+        if (limit > 0 && newOffset >= total) {
+            newOffset -= ((newOffset - total) / limit + 1) * limit;
         }
-
-        return calculateOffsetForPreviousLink(newOffset, limit, total);
+        return newOffset;
     }
 
     /**
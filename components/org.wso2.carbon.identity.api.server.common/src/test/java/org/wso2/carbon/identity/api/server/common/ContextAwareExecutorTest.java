@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.nio.file.Paths;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Tests the context propagation, the caller runs rejection and the shutdown of {@link ContextAwareExecutor}.
+ */
+public class ContextAwareExecutorTest {
+
+    private static final String TENANT_DOMAIN = "wso2.com";
+    private static final String ORGANIZATION_ID = "10084a8d-113f-4211-a0d5-efe36b082211";
+    private static final String PROPERTY_NAME = "requestProperty";
+    private static final String PROPERTY_VALUE = "requestValue";
+
+    private CountDownLatch releaseWorkers;
+
+    @BeforeClass
+    public void setUp() {
+
+        String carbonHome = Paths.get(System.getProperty("user.dir"), "target", "test-classes").toString();
+        System.setProperty(CarbonBaseConstants.CARBON_HOME, carbonHome);
+        System.setProperty(CarbonBaseConstants.CARBON_CONFIG_DIR_PATH, Paths.get(carbonHome,
+                "repository/conf").toString());
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(TENANT_DOMAIN);
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(1);
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setOrganizationId(ORGANIZATION_ID);
+    }
+
+    @BeforeMethod
+    public void setUpWorkers() {
+
+        releaseWorkers = new CountDownLatch(1);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        releaseWorkers.countDown();
+        IdentityUtil.threadLocalProperties.remove();
+    }
+
+    @Test
+    public void testContextOfWorker() throws Exception {
+
+        ContextAwareExecutor executor = new ContextAwareExecutor("ContextTest", 1, 1);
+        IdentityUtil.threadLocalProperties.get().put(PROPERTY_NAME, PROPERTY_VALUE);
+        try {
+            Future<String> context = executor.submit(() -> PrivilegedCarbonContext.getThreadLocalCarbonContext()
+                    .getTenantDomain() + "/" + PrivilegedCarbonContext.getThreadLocalCarbonContext().getOrganizationId()
+                    + "/" + IdentityUtil.threadLocalProperties.get().get(PROPERTY_NAME));
+
+            assertEquals(context.get(10, TimeUnit.SECONDS),
+                    TENANT_DOMAIN + "/" + ORGANIZATION_ID + "/" + PROPERTY_VALUE);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testCallerRunsKeepsRequestContext() throws Exception {
+
+        ContextAwareExecutor executor = new ContextAwareExecutor("CallerRunsTest", 1, 1, true);
+        try {
+            occupyWorkerAndQueue(executor);
+            IdentityUtil.threadLocalProperties.get().put(PROPERTY_NAME, PROPERTY_VALUE);
+
+            Future<Thread> callerRun = executor.submit(Thread::currentThread);
+
+            assertTrue(callerRun.isDone(), "The task must be run by the submitting thread when the queue is full.");
+            assertSame(callerRun.get(), Thread.currentThread());
+            assertEquals(IdentityUtil.threadLocalProperties.get().get(PROPERTY_NAME), PROPERTY_VALUE);
+            assertEquals(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain(), TENANT_DOMAIN);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testShutdown() throws Exception {
+
+        ContextAwareExecutor executor = new ContextAwareExecutor("ShutdownTest", 1, 1, true);
+        Future<Void> waitingTask = occupyWorkerAndQueue(executor);
+
+        executor.shutdown();
+
+        assertTrue(waitingTask.isCancelled(), "The tasks waiting for a worker must be cancelled on shutdown.");
+        try {
+            executor.submit(() -> null);
+            fail("Tasks submitted after the shutdown must be rejected.");
+        } catch (RejectedExecutionException e) {
+            // Expected.
+        }
+    }
+
+    /**
+     * Hold the worker of a single worker executor and fill its queue of a single task.
+     *
+     * @return Future of the task waiting in the queue.
+     */
+    private Future<Void> occupyWorkerAndQueue(ContextAwareExecutor executor) throws InterruptedException {
+
+        CountDownLatch workerStarted = new CountDownLatch(1);
+        executor.submit(() -> {
+            workerStarted.countDown();
+            releaseWorkers.await();
+            return null;
+        });
+        assertTrue(workerStarted.await(10, TimeUnit.SECONDS), "The worker did not start.");
+        return executor.submit(() -> {
+            releaseWorkers.await();
+            return null;
+        });
+    }
+}
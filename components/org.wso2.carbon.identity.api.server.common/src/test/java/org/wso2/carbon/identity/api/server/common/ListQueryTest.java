@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.wso2.carbon.identity.api.server.common.ListQuery.singleValue;
+
+/**
+ * Tests the filter, sort and page of the listings evaluated with {@link ListQuery}.
+ */
+public class ListQueryTest {
+
+    private static final List<Resource> RESOURCES = Arrays.asList(
+            new Resource("PRIMARY", "ldap", Instant.parse("2020-01-01T00:00:00Z")),
+            new Resource("JDBC-SECONDARY", "jdbc", Instant.parse("2021-01-01T00:00:00Z")),
+            new Resource("jdbc-archive", "jdbc", null));
+
+    private static final ListQuery<Resource> LIST_QUERY = new ListQuery<Resource>()
+            .withAttribute("name", resource -> singleValue(resource.name))
+            .withAttribute("type", resource -> singleValue(resource.type))
+            .withComparableAttribute("createdDate", resource -> resource.createdDate, Instant::parse);
+
+    @DataProvider(name = "filters")
+    public Object[][] filters() {
+
+        return new Object[][]{
+                {"name eq primary", Collections.singletonList("PRIMARY")},
+                {"name ne primary", Arrays.asList("JDBC-SECONDARY", "jdbc-archive")},
+                {"name sw JDBC", Arrays.asList("JDBC-SECONDARY", "jdbc-archive")},
+                {"name co SEC", Collections.singletonList("JDBC-SECONDARY")},
+                {"NAME ew ARCHIVE", Collections.singletonList("jdbc-archive")},
+                {"type eq jdbc and name co secondary", Collections.singletonList("JDBC-SECONDARY")},
+                {"type eq ldap or name ew archive", Arrays.asList("PRIMARY", "jdbc-archive")},
+                {"createdDate gt 2020-06-01T00:00:00Z", Collections.singletonList("JDBC-SECONDARY")},
+                {"createdDate le 2020-01-01T00:00:00Z", Arrays.asList("PRIMARY", "jdbc-archive")},
+                {"createdDate eq 2020-01-01T00:00:00Z", Collections.singletonList("PRIMARY")}
+        };
+    }
+
+    @Test(dataProvider = "filters")
+    public void testFilter(String filter, List<String> expectedNames) {
+
+        assertEquals(getNames(ListQuery.search(RESOURCES, LIST_QUERY.buildFilter(filter), null)), expectedNames);
+    }
+
+    @DataProvider(name = "invalidFilters")
+    public Object[][] invalidFilters() {
+
+        return new Object[][]{
+                {"description eq primary"},
+                {"name gt primary"},
+                {"createdDate co 2020"},
+                {"createdDate eq yesterday"}
+        };
+    }
+
+    @Test(dataProvider = "invalidFilters", expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidFilter(String filter) {
+
+        LIST_QUERY.buildFilter(filter);
+    }
+
+    @Test
+    public void testSort() {
+
+        assertEquals(getNames(ListQuery.search(RESOURCES, null, LIST_QUERY.buildComparator("name"))),
+                Arrays.asList("jdbc-archive", "JDBC-SECONDARY", "PRIMARY"));
+        assertEquals(getNames(ListQuery.search(RESOURCES, null, LIST_QUERY.buildComparator("createdDate desc"))),
+                Arrays.asList("JDBC-SECONDARY", "PRIMARY", "jdbc-archive"));
+        assertNull(LIST_QUERY.buildComparator(" "));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidSortOrder() {
+
+        LIST_QUERY.buildComparator("name up");
+    }
+
+    @Test
+    public void testGetPage() {
+
+        assertEquals(ListQuery.getPage(RESOURCES, 2, 1), RESOURCES.subList(1, 3));
+        assertEquals(ListQuery.getPage(RESOURCES, Integer.MAX_VALUE, 2), RESOURCES.subList(2, 3));
+        assertEquals(ListQuery.getPage(RESOURCES, null, 5), Collections.emptyList());
+        assertEquals(ListQuery.getPage(RESOURCES, null, null), RESOURCES);
+    }
+
+    private static List<String> getNames(List<Resource> resources) {
+
+        return resources.stream().map(resource -> resource.name).collect(Collectors.toList());
+    }
+
+    private static final class Resource {
+
+        private final String name;
+        private final String type;
+        private final Instant createdDate;
+
+        private Resource(String name, String type, Instant createdDate) {
+
+            this.name = name;
+            this.type = type;
+            this.createdDate = createdDate;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.wso2.carbon.identity.application.common.model.AuthenticationStep;
+import org.wso2.carbon.identity.application.common.model.ClaimConfig;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.application.common.model.FederatedAuthenticatorConfig;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.application.common.model.InboundAuthenticationConfig;
+import org.wso2.carbon.identity.application.common.model.InboundAuthenticationRequestConfig;
+import org.wso2.carbon.identity.application.common.model.LocalAndOutboundAuthenticationConfig;
+import org.wso2.carbon.identity.application.common.model.LocalAuthenticatorConfig;
+import org.wso2.carbon.identity.application.common.model.Property;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.application.common.model.ServiceProviderProperty;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+/**
+ * Builds service provider and identity provider graphs of a realistic shape, to be copied by the tests and the
+ * benchmark of {@link StructuralCopier}.
+ */
+final class ModelGraphs {
+
+    private ModelGraphs() {
+
+    }
+
+    /**
+     * Build a service provider with inbound protocols, claim mappings, properties and a multi step authentication
+     * sequence which refers to federated identity providers.
+     *
+     * @param claimCount Number of claim mappings of the service provider.
+     * @return Service provider.
+     */
+    static ServiceProvider buildServiceProvider(int claimCount) {
+
+        ServiceProvider serviceProvider = new ServiceProvider();
+        serviceProvider.setApplicationName("travelocity");
+        serviceProvider.setApplicationResourceId("3c7f9b6e-6d1e-4c4b-9a43-9b4a1f3f2a10");
+        serviceProvider.setDescription("Travel booking application.");
+
+        InboundAuthenticationRequestConfig oauthConfig = new InboundAuthenticationRequestConfig();
+        oauthConfig.setInboundAuthKey("travelocity-client");
+        oauthConfig.setInboundAuthType("oauth2");
+        oauthConfig.setProperties(buildProperties("oauth", 4));
+        InboundAuthenticationRequestConfig samlConfig = new InboundAuthenticationRequestConfig();
+        samlConfig.setInboundAuthKey("travelocity.com");
+        samlConfig.setInboundAuthType("samlsso");
+        samlConfig.setProperties(buildProperties("saml", 4));
+        InboundAuthenticationConfig inboundAuthenticationConfig = new InboundAuthenticationConfig();
+        inboundAuthenticationConfig.setInboundAuthenticationRequestConfigs(
+                new InboundAuthenticationRequestConfig[]{oauthConfig, samlConfig});
+        serviceProvider.setInboundAuthenticationConfig(inboundAuthenticationConfig);
+
+        ClaimMapping[] claimMappings = new ClaimMapping[claimCount];
+        for (int i = 0; i < claimCount; i++) {
+            claimMappings[i] = ClaimMapping.build("http://wso2.org/claims/claim" + i,
+                    "http://wso2.org/claims/claim" + i, null, i % 2 == 0);
+        }
+        ClaimConfig claimConfig = new ClaimConfig();
+        claimConfig.setClaimMappings(claimMappings);
+        serviceProvider.setClaimConfig(claimConfig);
+
+        // The same identity provider is referred from both steps, as in the models loaded from the backend.
+        IdentityProvider federatedIdentityProvider = buildIdentityProvider();
+        LocalAuthenticatorConfig basicAuthenticator = new LocalAuthenticatorConfig();
+        basicAuthenticator.setName("BasicAuthenticator");
+        basicAuthenticator.setDisplayName("basic");
+        basicAuthenticator.setEnabled(true);
+        AuthenticationStep firstStep = new AuthenticationStep();
+        firstStep.setStepOrder(1);
+        firstStep.setLocalAuthenticatorConfigs(new LocalAuthenticatorConfig[]{basicAuthenticator});
+        firstStep.setFederatedIdentityProviders(new IdentityProvider[]{federatedIdentityProvider});
+        AuthenticationStep secondStep = new AuthenticationStep();
+        secondStep.setStepOrder(2);
+        secondStep.setFederatedIdentityProviders(new IdentityProvider[]{federatedIdentityProvider});
+        LocalAndOutboundAuthenticationConfig authenticationConfig = new LocalAndOutboundAuthenticationConfig();
+        authenticationConfig.setAuthenticationSteps(new AuthenticationStep[]{firstStep, secondStep});
+        serviceProvider.setLocalAndOutBoundAuthenticationConfig(authenticationConfig);
+
+        ServiceProviderProperty[] spProperties = new ServiceProviderProperty[4];
+        for (int i = 0; i < spProperties.length; i++) {
+            spProperties[i] = new ServiceProviderProperty();
+            spProperties[i].setName("property" + i);
+            spProperties[i].setDisplayName("Property " + i);
+            spProperties[i].setValue("value" + i);
+        }
+        serviceProvider.setSpProperties(spProperties);
+        return serviceProvider;
+    }
+
+    /**
+     * Build an identity provider with federated authenticators, one of which is also the default authenticator.
+     *
+     * @return Identity provider.
+     */
+    static IdentityProvider buildIdentityProvider() {
+
+        IdentityProvider identityProvider = new IdentityProvider();
+        identityProvider.setIdentityProviderName("Google");
+        identityProvider.setResourceId("a2c4e6f8-1b3d-4f5a-8c7e-9d0b2a4c6e8f");
+        identityProvider.setEnable(true);
+        FederatedAuthenticatorConfig googleAuthenticator = new FederatedAuthenticatorConfig();
+        googleAuthenticator.setName("GoogleOIDCAuthenticator");
+        googleAuthenticator.setDisplayName("Google");
+        googleAuthenticator.setEnabled(true);
+        googleAuthenticator.setProperties(buildProperties("google", 6));
+        FederatedAuthenticatorConfig samlAuthenticator = new FederatedAuthenticatorConfig();
+        samlAuthenticator.setName("SAMLSSOAuthenticator");
+        samlAuthenticator.setDisplayName("SAML");
+        samlAuthenticator.setProperties(buildProperties("saml", 6));
+        identityProvider.setFederatedAuthenticatorConfigs(
+                new FederatedAuthenticatorConfig[]{googleAuthenticator, samlAuthenticator});
+        identityProvider.setDefaultAuthenticatorConfig(googleAuthenticator);
+        return identityProvider;
+    }
+
+    /**
+     * Copy an object graph through a serialization round trip, which is the reference the structural copies are
+     * compared with.
+     *
+     * @param source Root of the object graph.
+     * @param <T>    Type of the root object.
+     * @return Copy of the object graph.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T copyBySerialization(T source) {
+
+        try {
+            ByteArrayOutputStream serializedSource = new ByteArrayOutputStream();
+            try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(serializedSource)) {
+                objectOutputStream.writeObject(source);
+            }
+            try (ObjectInputStream objectInputStream = new ObjectInputStream(
+                    new ByteArrayInputStream(serializedSource.toByteArray()))) {
+                return (T) objectInputStream.readObject();
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Unable to copy the object graph through serialization.", e);
+        }
+    }
+
+    private static Property[] buildProperties(String prefix, int count) {
+
+        Property[] properties = new Property[count];
+        for (int i = 0; i < count; i++) {
+            properties[i] = new Property();
+            properties[i].setName(prefix + ".property" + i);
+            properties[i].setValue("value" + i);
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the structural copy of service providers and identity providers with the serialization round trip it
+ * replaces, including the allocation rates reported by the GC profiler. The benchmark is not run by the build. Run it
+ * through the main method from the test classpath of this module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StructuralCopierBenchmark {
+
+    @Param({"10", "100"})
+    private int claimCount;
+
+    private ServiceProvider serviceProvider;
+    private IdentityProvider identityProvider;
+
+    @Setup
+    public void setUp() {
+
+        serviceProvider = ModelGraphs.buildServiceProvider(claimCount);
+        identityProvider = ModelGraphs.buildIdentityProvider();
+    }
+
+    @Benchmark
+    public ServiceProvider structuralCopyOfServiceProvider() {
+
+        return StructuralCopier.deepCopy(serviceProvider);
+    }
+
+    @Benchmark
+    public ServiceProvider serializationCopyOfServiceProvider() {
+
+        return ModelGraphs.copyBySerialization(serviceProvider);
+    }
+
+    @Benchmark
+    public IdentityProvider structuralCopyOfIdentityProvider() {
+
+        return StructuralCopier.deepCopy(identityProvider);
+    }
+
+    @Benchmark
+    public IdentityProvider serializationCopyOfIdentityProvider() {
+
+        return ModelGraphs.copyBySerialization(identityProvider);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+
+        new Runner(new OptionsBuilder()
+                .include(StructuralCopierBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,374 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test for StructuralCopier. The structural copies are compared with the copies made through a serialization round
+ * trip, which the copier replaces.
+ */
+public class StructuralCopierTest {
+
+    private static final Set<Class<?>> VALUE_TYPES = new HashSet<>(Arrays.asList(String.class, Boolean.class,
+            Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class, Class.class, UUID.class, Locale.class, URI.class));
+
+    @Test
+    public void testServiceProviderCopyIsEquivalentToSerializationCopy() {
+
+        ServiceProvider serviceProvider = ModelGraphs.buildServiceProvider(20);
+
+        ServiceProvider copy = StructuralCopier.deepCopy(serviceProvider);
+
+        assertGraphEquals(copy, ModelGraphs.copyBySerialization(serviceProvider));
+        assertDisjoint(copy, serviceProvider);
+        assertSame(copy.getLocalAndOutBoundAuthenticationConfig().getAuthenticationSteps()[1]
+                        .getFederatedIdentityProviders()[0],
+                copy.getLocalAndOutBoundAuthenticationConfig().getAuthenticationSteps()[0]
+                        .getFederatedIdentityProviders()[0]);
+    }
+
+    @Test
+    public void testIdentityProviderCopyIsEquivalentToSerializationCopy() {
+
+        IdentityProvider identityProvider = ModelGraphs.buildIdentityProvider();
+
+        IdentityProvider copy = StructuralCopier.deepCopy(identityProvider);
+
+        assertGraphEquals(copy, ModelGraphs.copyBySerialization(identityProvider));
+        assertDisjoint(copy, identityProvider);
+        assertSame(copy.getDefaultAuthenticatorConfig(), copy.getFederatedAuthenticatorConfigs()[0]);
+    }
+
+    @Test
+    public void testCopyOfModifiedCopyDoesNotAffectSource() {
+
+        ServiceProvider serviceProvider = ModelGraphs.buildServiceProvider(2);
+
+        ServiceProvider copy = StructuralCopier.deepCopy(serviceProvider);
+        copy.getInboundAuthenticationConfig().getInboundAuthenticationRequestConfigs()[0].setInboundAuthKey("other");
+
+        assertEquals(serviceProvider.getInboundAuthenticationConfig().getInboundAuthenticationRequestConfigs()[0]
+                .getInboundAuthKey(), "travelocity-client");
+    }
+
+    @Test
+    public void testCyclesAndTransientFieldsAreCopiedAsSerializationDoes() {
+
+        Node parent = new Node("parent");
+        Node child = new Node("child");
+        parent.children.add(child);
+        child.parent = parent;
+        parent.cache = "cached";
+
+        Node copy = StructuralCopier.deepCopy(parent);
+
+        assertGraphEquals(copy, ModelGraphs.copyBySerialization(parent));
+        assertSame(copy.children.get(0).parent, copy);
+        assertNull(copy.cache);
+    }
+
+    @Test
+    public void testContainersOfConcreteFieldTypesAreCopied() {
+
+        Node node = new Node("node");
+        node.units = EnumSet.of(TimeUnit.SECONDS, TimeUnit.MINUTES);
+        node.unitNames = new EnumMap<>(TimeUnit.class);
+        node.unitNames.put(TimeUnit.HOURS, "hours");
+        node.children = Collections.unmodifiableList(new ArrayList<>(Collections.singletonList(new Node("child"))));
+
+        Node copy = StructuralCopier.deepCopy(node);
+
+        assertEquals(copy.units, node.units);
+        assertNotSame(copy.units, node.units);
+        assertEquals(copy.unitNames, node.unitNames);
+        assertNotSame(copy.unitNames, node.unitNames);
+        // Unmodifiable collections are copied to modifiable collections of the same kind.
+        assertEquals(copy.children.size(), 1);
+        assertNotSame(copy.children.get(0), node.children.get(0));
+        assertEquals(copy.children.get(0).name, "child");
+    }
+
+    @Test
+    public void testPlatformValuesAreCopied() {
+
+        Node node = new Node("node");
+        node.created = Instant.now();
+        node.counter = new AtomicInteger(5);
+
+        Node copy = StructuralCopier.deepCopy(node);
+
+        assertGraphEquals(copy, ModelGraphs.copyBySerialization(node));
+        assertSame(copy.created, node.created);
+        assertNotSame(copy.counter, node.counter);
+        assertEquals(copy.counter.get(), 5);
+    }
+
+    @Test
+    public void testOptionalValuesAreCopied() {
+
+        Node child = new Node("child");
+        OptionalHolder holder = new OptionalHolder();
+        holder.node = Optional.of(child);
+
+        OptionalHolder copy = StructuralCopier.deepCopy(holder);
+
+        assertTrue(copy.node.isPresent());
+        assertNotSame(copy.node.get(), child);
+        assertEquals(copy.node.get().name, "child");
+    }
+
+    @Test
+    public void testObjectsWithoutDefaultConstructorAreCopiedThroughSerialization() {
+
+        Node node = new Node("node");
+        node.label = new Label("label");
+
+        Node copy = StructuralCopier.deepCopy(node);
+
+        assertNotSame(copy.label, node.label);
+        assertEquals(copy.label.value, "label");
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testUncopyableObjectIsReported() {
+
+        OptionalHolder holder = new OptionalHolder();
+        holder.thread = new Thread(() -> { });
+
+        StructuralCopier.deepCopy(holder);
+    }
+
+    /**
+     * Assert that two graphs have the same shape and values, including the objects shared within each graph.
+     */
+    private static void assertGraphEquals(Object actual, Object expected) {
+
+        assertGraphEquals(actual, expected, "root", new IdentityHashMap<>());
+    }
+
+    private static void assertGraphEquals(Object actual, Object expected, String path, Map<Object, Object> visited) {
+
+        if (expected == null) {
+            assertNull(actual, path);
+            return;
+        }
+        assertNotNull(actual, path);
+        assertEquals(actual.getClass(), expected.getClass(), path);
+        Class<?> type = expected.getClass();
+        if (isValue(type)) {
+            assertEquals(actual, expected, path);
+            return;
+        }
+        if (visited.containsKey(expected)) {
+            assertSame(actual, visited.get(expected), path);
+            return;
+        }
+        visited.put(expected, actual);
+
+        if (type.isArray()) {
+            assertEquals(Array.getLength(actual), Array.getLength(expected), path);
+            for (int i = 0; i < Array.getLength(expected); i++) {
+                assertGraphEquals(Array.get(actual, i), Array.get(expected, i), path + "[" + i + "]", visited);
+            }
+        } else if (expected instanceof Collection) {
+            assertElementsEqual(((Collection<?>) actual).iterator(), ((Collection<?>) expected).iterator(), path,
+                    visited);
+        } else if (expected instanceof Map) {
+            assertElementsEqual(((Map<?, ?>) actual).entrySet().iterator(),
+                    ((Map<?, ?>) expected).entrySet().iterator(), path, visited);
+        } else if (expected instanceof Map.Entry) {
+            assertGraphEquals(((Map.Entry<?, ?>) actual).getKey(), ((Map.Entry<?, ?>) expected).getKey(),
+                    path + ".key", visited);
+            assertGraphEquals(((Map.Entry<?, ?>) actual).getValue(), ((Map.Entry<?, ?>) expected).getValue(),
+                    path + ".value", visited);
+        } else if (type.getName().startsWith("java.")) {
+            // The fields of platform types are not accessible, hence these are compared by their string form.
+            assertEquals(actual.toString(), expected.toString(), path);
+        } else {
+            for (Class<?> current = type; current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    try {
+                        assertGraphEquals(field.get(actual), field.get(expected), path + "." + field.getName(),
+                                visited);
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException("Unable to read the field: " + field, e);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void assertElementsEqual(Iterator<?> actual, Iterator<?> expected, String path,
+                                            Map<Object, Object> visited) {
+
+        int index = 0;
+        while (expected.hasNext()) {
+            assertTrue(actual.hasNext(), path + " has fewer elements than expected.");
+            assertGraphEquals(actual.next(), expected.next(), path + "[" + index++ + "]", visited);
+        }
+        assertTrue(!actual.hasNext(), path + " has more elements than expected.");
+    }
+
+    private static boolean isValue(Class<?> type) {
+
+        return VALUE_TYPES.contains(type) || Enum.class.isAssignableFrom(type)
+                || type.getName().startsWith("java.time.");
+    }
+
+    /**
+     * Copies of all the mutable objects of a graph must be distinct from the source objects.
+     */
+    private static void assertDisjoint(Object copy, Object source) {
+
+        Map<Object, Boolean> sourceObjects = new IdentityHashMap<>();
+        collectMutableObjects(source, sourceObjects);
+        Map<Object, Boolean> copiedObjects = new IdentityHashMap<>();
+        collectMutableObjects(copy, copiedObjects);
+        for (Object copiedObject : copiedObjects.keySet()) {
+            assertTrue(!sourceObjects.containsKey(copiedObject), "Copy shares an object with the source: "
+                    + copiedObject.getClass().getName());
+        }
+    }
+
+    private static void collectMutableObjects(Object object, Map<Object, Boolean> objects) {
+
+        if (object == null || isValue(object.getClass()) || objects.put(object, Boolean.TRUE) != null) {
+            return;
+        }
+        if (object.getClass().isArray()) {
+            if (!object.getClass().getComponentType().isPrimitive()) {
+                for (Object element : (Object[]) object) {
+                    collectMutableObjects(element, objects);
+                }
+            }
+            return;
+        }
+        if (object instanceof Collection) {
+            for (Object element : (Collection<?>) object) {
+                collectMutableObjects(element, objects);
+            }
+            return;
+        }
+        if (object instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                collectMutableObjects(entry.getKey(), objects);
+                collectMutableObjects(entry.getValue(), objects);
+            }
+            return;
+        }
+        if (object.getClass().getName().startsWith("java.")) {
+            return;
+        }
+        for (Class<?> current = object.getClass(); current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                field.setAccessible(true);
+                try {
+                    collectMutableObjects(field.get(object), objects);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Unable to read the field: " + field, e);
+                }
+            }
+        }
+    }
+
+    private static class Node implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+        private String name;
+        private Node parent;
+        private List<Node> children = new ArrayList<>();
+        private EnumSet<TimeUnit> units;
+        private EnumMap<TimeUnit, String> unitNames;
+        private Instant created;
+        private AtomicInteger counter;
+        private Label label;
+        private transient String cache;
+
+        Node() {
+
+        }
+
+        Node(String name) {
+
+            this.name = name;
+        }
+    }
+
+    private static class Label implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+        private final String value;
+
+        Label(String value) {
+
+            this.value = value;
+        }
+    }
+
+    private static class OptionalHolder {
+
+        private Optional<Node> node = Optional.empty();
+        private Thread thread;
+    }
+}
@@ -69,6 +69,18 @@ public class Constants {
     public static final String DCR_CONFIG_AUTHENTICATION_REQUIRED = "/authenticationRequired";
     public static final String DCR_CONFIG_MANDATE_SSA = "/mandateSSA";
 
+    /**
+     * Attributes of the server configs, which can be requested through the attributes query parameter.
+     */
+    public static final String HOME_REALM_IDENTIFIERS_ATTRIBUTE = "homeRealmIdentifiers";
+    public static final String REALM_CONFIG_ATTRIBUTE = "realmConfig";
+    public static final String IDLE_SESSION_TIMEOUT_ATTRIBUTE = "idleSessionTimeoutPeriod";
+    public static final String REMEMBER_ME_PERIOD_ATTRIBUTE = "rememberMePeriod";
+    public static final String PROVISIONING_ATTRIBUTE = "provisioning";
+    public static final String AUTHENTICATORS_ATTRIBUTE = "authenticators";
+    public static final String CORS_ATTRIBUTE = "cors";
+    public static final String DCR_ATTRIBUTE = "dcr";
+
     /**
      * SAML2 metadata endpoint uri path.
      */
@@ -102,6 +114,10 @@ public class Constants {
         ERROR_CODE_SCHEMA_NOT_FOUND("60004",
                 "Resource not found.",
                 "Unable to find a resource matching the provided schema identifier %s."),
+        ERROR_CODE_INVALID_CONFIG_ATTRIBUTES("60022",
+                "Invalid attributes.",
+                "Unsupported attribute: %s. Supported attributes are homeRealmIdentifiers, realmConfig, " +
+                        "idleSessionTimeoutPeriod, rememberMePeriod, provisioning, authenticators, cors and dcr."),
 
         /**
          * CORS errors.
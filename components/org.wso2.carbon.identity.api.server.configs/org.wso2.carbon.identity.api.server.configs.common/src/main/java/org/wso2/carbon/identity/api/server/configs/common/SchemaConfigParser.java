@@ -30,18 +30,35 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamException;
 
 /**
  * Read and parse schema configurations in schemas.xml file.
+ *
+ * The parsed configuration is held as an immutable snapshot, along with the schema IDs and the attribute name sets of
+ * the schemas, so that reads do not copy or lock. The configuration directory is watched for changes of the file and
+ * a new snapshot is swapped in when the file changes. If the changed file cannot be parsed, or the file or its
+ * default schemas are missing, the previous snapshot is kept. The watcher is stopped with {@link #shutdown()}.
  */
 public class SchemaConfigParser {
 
@@ -54,17 +71,22 @@ public class SchemaConfigParser {
     private static final String SCHEMA_CONFIG = "Schema";
     private static final String SCHEMA_ID_CONFIG = "id";
     private static final String ATTRIBUTE_CONFIG = "Attribute";
+    private static final String WATCHER_THREAD_NAME = "SchemaConfigWatcher";
+    private static final long WATCHER_STOP_TIMEOUT_MILLIS = 5000;
 
     private static final Log log = LogFactory.getLog(SchemaConfigParser.class);
     private static volatile SchemaConfigParser schemaConfigParser;
 
     private final String schemasFilePath;
-    private Map<String, List<String>> defaultSchemaMap;
+    private volatile SchemaSnapshot snapshot;
+    private WatchService watchService;
+    private Thread watcher;
 
     private SchemaConfigParser() {
 
         schemasFilePath = IdentityUtil.getIdentityConfigDirPath() + File.separator + SCHEMA_FILE_NAME;
-        buildConfiguration();
+        snapshot = new SchemaSnapshot(buildConfiguration().orElse(Collections.emptyMap()));
+        startConfigurationWatcher();
     }
 
     public static SchemaConfigParser getInstance() {
@@ -79,25 +101,77 @@ public class SchemaConfigParser {
         return schemaConfigParser;
     }
 
+    /**
+     * Stop watching the schema configuration and release the parser. The configuration is read again by the next
+     * {@link #getInstance()} call.
+     */
+    public static void shutdown() {
+
+        synchronized (SchemaConfigParser.class) {
+            if (schemaConfigParser != null) {
+                schemaConfigParser.stopConfigurationWatcher();
+                schemaConfigParser = null;
+            }
+        }
+    }
+
     /**
      * Return Schemas supported by the server.
      *
-     * @return Schema Map.
+     * @return Unmodifiable schema map, with the unmodifiable attribute lists of the schemas keyed by schema name.
      */
     public Map<String, List<String>> getSchemaMap() {
 
-        return defaultSchemaMap;
+        return snapshot.schemaMap;
+    }
+
+    /**
+     * Return the IDs of the schemas supported by the server.
+     *
+     * @return Unmodifiable map of base64 URL encoded schema IDs keyed by schema name, in the configured order.
+     */
+    public Map<String, String> getSchemaIds() {
+
+        return snapshot.schemaIds;
+    }
+
+    /**
+     * Return the name of a schema supported by the server.
+     *
+     * @param schemaId Base64 URL encoded schema ID.
+     * @return Schema name or null if a schema is not configured with the given ID.
+     */
+    public String getSchemaName(String schemaId) {
+
+        return snapshot.schemaNames.get(schemaId);
+    }
+
+    /**
+     * Check whether an attribute is configured in a schema.
+     *
+     * @param schemaName Schema name.
+     * @param attribute  Attribute name.
+     * @return True if the schema is configured and contains the attribute.
+     */
+    public boolean isAttributeInSchema(String schemaName, String attribute) {
+
+        Set<String> attributes = snapshot.attributeSets.get(schemaName);
+        return attributes != null && attributes.contains(attribute);
     }
 
-    private void buildConfiguration() {
+    /**
+     * Build the schema configuration from the file.
+     *
+     * @return Configured schemas, or an empty optional if the file or its default schemas are not found.
+     */
+    private Optional<Map<String, List<String>>> buildConfiguration() {
 
         File schemaFile = new File(schemasFilePath);
         if (!schemaFile.exists()) {
             if (log.isDebugEnabled()) {
                 log.debug("Unable to find a valid configuration file in path: " + schemasFilePath);
             }
-            defaultSchemaMap = Collections.EMPTY_MAP;
-            return;
+            return Optional.empty();
         }
 
         try (InputStream inputStream = new FileInputStream(schemaFile)) {
@@ -109,10 +183,9 @@ public class SchemaConfigParser {
             addToSchemaMap = buildSchemasConfiguration(builder, ADD_SCHEMA_CONFIG);
             removeFromMap = buildSchemasConfiguration(builder, REMOVE_SCHEMA_CONFIG);
             if (!schemaMap.isPresent()) {
-                defaultSchemaMap = Collections.EMPTY_MAP;
-                return;
+                return Optional.empty();
             }
-            defaultSchemaMap = schemaMap.get();
+            Map<String, List<String>> defaultSchemaMap = schemaMap.get();
             addToSchemaMap.ifPresent(stringListMap -> stringListMap.forEach((key, values) -> {
                 if (defaultSchemaMap.containsKey(key)) {
                     defaultSchemaMap.get(key).addAll(values);
@@ -133,12 +206,115 @@ public class SchemaConfigParser {
                     }
                 }
             }));
-
+            return Optional.of(defaultSchemaMap);
         } catch (IOException | XMLStreamException e) {
             throw IdentityRuntimeException.error("Error occurred while reading schema configuration in path: " +
                     schemasFilePath, e);
         }
-        defaultSchemaMap = Collections.unmodifiableMap(defaultSchemaMap);
+    }
+
+    private void startConfigurationWatcher() {
+
+        Path configDirectory = Paths.get(schemasFilePath).getParent();
+        WatchService configWatchService;
+        try {
+            configWatchService = configDirectory.getFileSystem().newWatchService();
+        } catch (IOException | UnsupportedOperationException e) {
+            log.warn("Unable to watch the schema configuration in path: " + schemasFilePath + ". Changes to the " +
+                    "configuration will be applied after a restart.", e);
+            return;
+        }
+        try {
+            configDirectory.register(configWatchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException | UnsupportedOperationException e) {
+            log.warn("Unable to watch the schema configuration in path: " + schemasFilePath + ". Changes to the " +
+                    "configuration will be applied after a restart.", e);
+            closeWatchService(configWatchService);
+            return;
+        }
+        watchService = configWatchService;
+        watcher = new Thread(() -> watchConfiguration(configWatchService), WATCHER_THREAD_NAME);
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    private void stopConfigurationWatcher() {
+
+        if (watcher == null) {
+            return;
+        }
+        // Closing the watch service releases the watcher thread blocked on it.
+        closeWatchService(watchService);
+        watcher.interrupt();
+        try {
+            watcher.join(WATCHER_STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        watcher = null;
+        watchService = null;
+    }
+
+    private void closeWatchService(WatchService configWatchService) {
+
+        try {
+            configWatchService.close();
+        } catch (IOException e) {
+            log.error("Error occurred while closing the watch service of the schema configuration.", e);
+        }
+    }
+
+    private void watchConfiguration(WatchService configWatchService) {
+
+        try {
+            while (true) {
+                WatchKey watchKey = configWatchService.take();
+                boolean isSchemaFileChanged = false;
+                for (WatchEvent<?> event : watchKey.pollEvents()) {
+                    Object changedFile = event.context();
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW || (changedFile instanceof Path &&
+                            SCHEMA_FILE_NAME.equals(((Path) changedFile).getFileName().toString()))) {
+                        isSchemaFileChanged = true;
+                    }
+                }
+                boolean isValid = watchKey.reset();
+                if (isSchemaFileChanged) {
+                    reloadConfiguration();
+                }
+                if (!isValid) {
+                    log.warn("Schema configuration directory of: " + schemasFilePath + " is no longer watched. " +
+                            "Changes to the configuration will be applied after a restart.");
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Stopped watching the schema configuration in path: " + schemasFilePath);
+            }
+        } finally {
+            closeWatchService(configWatchService);
+        }
+    }
+
+    private void reloadConfiguration() {
+
+        try {
+            Optional<Map<String, List<String>>> configuredSchemas = buildConfiguration();
+            if (!configuredSchemas.isPresent()) {
+                log.error("Unable to reload the schema configuration in path: " + schemasFilePath + ". The file " +
+                        "or its " + DEFAULT_SCHEMA_CONFIG + " configuration is not found. The previously loaded " +
+                        "configuration is used.");
+                return;
+            }
+            snapshot = new SchemaSnapshot(configuredSchemas.get());
+            log.info("Reloaded the schema configuration in path: " + schemasFilePath);
+        } catch (IdentityRuntimeException e) {
+            log.error("Unable to reload the schema configuration in path: " + schemasFilePath + ". The previously " +
+                    "loaded configuration is used.", e);
+        }
     }
 
     private Optional<Map<String, List<String>>> buildSchemasConfiguration(StAXOMBuilder builder,
@@ -168,7 +344,7 @@ public class SchemaConfigParser {
             }
             return Optional.empty();
         }
-        Map<String, List<String>> dataMap = new HashMap<>();
+        Map<String, List<String>> dataMap = new LinkedHashMap<>();
         while (schemaIterator.hasNext()) {
             OMElement schema = (OMElement) schemaIterator.next();
             String schemaId = schema.getAttributeValue(new QName("id"));
@@ -195,4 +371,35 @@ public class SchemaConfigParser {
         }
         return Optional.of(dataMap);
     }
+
+    /**
+     * Immutable schema configuration, along with the indexes derived from it.
+     */
+    private static final class SchemaSnapshot {
+
+        private final Map<String, List<String>> schemaMap;
+        private final Map<String, String> schemaIds;
+        private final Map<String, String> schemaNames;
+        private final Map<String, Set<String>> attributeSets;
+
+        SchemaSnapshot(Map<String, List<String>> configuredSchemas) {
+
+            Map<String, List<String>> schemas = new LinkedHashMap<>();
+            Map<String, String> ids = new LinkedHashMap<>();
+            Map<String, String> names = new HashMap<>();
+            Map<String, Set<String>> attributes = new HashMap<>();
+            for (Map.Entry<String, List<String>> schema : configuredSchemas.entrySet()) {
+                String schemaId = Base64.getUrlEncoder().withoutPadding()
+                        .encodeToString(schema.getKey().getBytes(StandardCharsets.UTF_8));
+                schemas.put(schema.getKey(), Collections.unmodifiableList(new ArrayList<>(schema.getValue())));
+                ids.put(schema.getKey(), schemaId);
+                names.put(schemaId, schema.getKey());
+                attributes.put(schema.getKey(), Collections.unmodifiableSet(new HashSet<>(schema.getValue())));
+            }
+            this.schemaMap = Collections.unmodifiableMap(schemas);
+            this.schemaIds = Collections.unmodifiableMap(ids);
+            this.schemaNames = Collections.unmodifiableMap(names);
+            this.attributeSets = Collections.unmodifiableMap(attributes);
+        }
+    }
 }
@@ -129,9 +129,9 @@ public class ConfigsApi  {
         @ApiResponse(code = 404, message = "Not Found", response = Error.class),
         @ApiResponse(code = 500, message = "Server Error", response = Error.class)
     })
-    public Response getConfigs() {
+    public Response getConfigs(    @Valid@ApiParam(value = "Comma separated attributes of the server configs to be returned. All the attributes are returned if not specified. Supports 'homeRealmIdentifiers', 'realmConfig', 'idleSessionTimeoutPeriod', 'rememberMePeriod', 'provisioning', 'authenticators', 'cors' and 'dcr'.  /configs?attributes=cors,dcr ")  @QueryParam("attributes") String attributes) {
 
-        return delegate.getConfigs();
+        return delegate.getConfigs(attributes );
     }
 
     @Valid
@@ -51,7 +51,7 @@ public interface ConfigsApiService {
 
       public Response getCORSConfiguration();
 
-      public Response getConfigs();
+      public Response getConfigs(String attributes);
 
       public Response getHomeRealmIdentifiers();
 
@@ -18,8 +18,6 @@
 
 package org.wso2.carbon.identity.api.server.configs.v1.core;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonSyntaxException;
 import org.apache.commons.beanutils.BeanUtils;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.configuration.ConfigurationException;
@@ -29,7 +27,11 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.context.CarbonContext;
+import org.wso2.carbon.identity.api.server.common.ConditionalGet;
+import org.wso2.carbon.identity.api.server.common.ContextAwareExecutor;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.StructuralCopier;
+import org.wso2.carbon.identity.api.server.common.URIPrefixResolver;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.configs.common.ConfigsServiceHolder;
@@ -103,8 +105,13 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -124,6 +131,28 @@ import static org.wso2.carbon.identity.api.server.configs.common.Constants.PATH_
 public class ServerConfigManagementService {
 
     private static final Log log = LogFactory.getLog(ServerConfigManagementService.class);
+    private static final int CONFIGS_FETCH_POOL_SIZE = 10;
+    private static final int CONFIGS_FETCH_QUEUE_CAPACITY = CONFIGS_FETCH_POOL_SIZE;
+    private static final long CONFIGS_FETCH_TIMEOUT_MILLIS = 30000L;
+    private static final Set<String> CONFIG_ATTRIBUTES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            Constants.HOME_REALM_IDENTIFIERS_ATTRIBUTE, Constants.REALM_CONFIG_ATTRIBUTE,
+            Constants.IDLE_SESSION_TIMEOUT_ATTRIBUTE, Constants.REMEMBER_ME_PERIOD_ATTRIBUTE,
+            Constants.PROVISIONING_ATTRIBUTE, Constants.AUTHENTICATORS_ATTRIBUTE, Constants.CORS_ATTRIBUTE,
+            Constants.DCR_ATTRIBUTE)));
+
+    // Once the workers and the queue are full, the configs are fetched by the request thread itself.
+    private final ContextAwareExecutor configsFetcher = new ContextAwareExecutor("ServerConfigFetcher",
+            CONFIGS_FETCH_POOL_SIZE, CONFIGS_FETCH_QUEUE_CAPACITY, true);
+
+    /**
+     * Release the resources held by the server configuration management when the API is stopped. Invoked as the
+     * destroy method of the bean.
+     */
+    public void shutdown() {
+
+        configsFetcher.shutdown();
+        SchemaConfigParser.shutdown();
+    }
 
     /**
      * Get list of local authenticators supported by the server.
@@ -186,11 +215,140 @@ public class ServerConfigManagementService {
     /**
      * Get Server Configs.
      *
+     * The configs retrieved from the backend services are fetched concurrently, with the context of the request.
+     *
+     * @param attributes Comma separated attributes of the configs to be retrieved. All the attributes are retrieved
+     *                   if not specified.
      * @return ServerConfig.
      */
-    public ServerConfig getConfigs() {
+    public ServerConfig getConfigs(String attributes) {
 
-        IdentityProvider residentIdP = getResidentIdP();
+        Set<String> requestedAttributes = getRequestedConfigAttributes(attributes);
+        List<Future<?>> fetches = new ArrayList<>();
+        try {
+            Future<IdentityProvider> residentIdPFetch = null;
+            if (requestedAttributes.contains(Constants.HOME_REALM_IDENTIFIERS_ATTRIBUTE) ||
+                    requestedAttributes.contains(Constants.IDLE_SESSION_TIMEOUT_ATTRIBUTE) ||
+                    requestedAttributes.contains(Constants.REMEMBER_ME_PERIOD_ATTRIBUTE)) {
+                residentIdPFetch = fetchConfig(fetches, this::getResidentIdP);
+            }
+            Future<ProvisioningConfig> provisioningFetch = null;
+            if (requestedAttributes.contains(Constants.PROVISIONING_ATTRIBUTE)) {
+                provisioningFetch = fetchConfig(fetches, this::buildProvisioningConfig);
+            }
+            Future<LocalAuthenticatorConfig[]> localAuthenticatorsFetch = null;
+            Future<RequestPathAuthenticatorConfig[]> requestPathAuthenticatorsFetch = null;
+            if (requestedAttributes.contains(Constants.AUTHENTICATORS_ATTRIBUTE)) {
+                String tenantDomain = ContextLoader.getTenantDomainFromContext();
+                localAuthenticatorsFetch = fetchConfig(fetches, () -> ConfigsServiceHolder.getInstance()
+                        .getApplicationManagementService().getAllLocalAuthenticators(tenantDomain));
+                requestPathAuthenticatorsFetch = fetchConfig(fetches, () -> ConfigsServiceHolder.getInstance()
+                        .getApplicationManagementService().getAllRequestPathAuthenticators(tenantDomain));
+            }
+            Future<CORSConfig> corsFetch = null;
+            if (requestedAttributes.contains(Constants.CORS_ATTRIBUTE)) {
+                corsFetch = fetchConfig(fetches, this::getCORSConfiguration);
+            }
+            Future<DCRConfig> dcrFetch = null;
+            if (requestedAttributes.contains(Constants.DCR_ATTRIBUTE)) {
+                dcrFetch = fetchConfig(fetches, this::getDCRConfiguration);
+            }
+
+            ServerConfig serverConfig = new ServerConfig();
+            serverConfig.setIdleSessionTimeoutPeriod(null);
+            serverConfig.setRememberMePeriod(null);
+            if (requestedAttributes.contains(Constants.REALM_CONFIG_ATTRIBUTE)) {
+                serverConfig.setRealmConfig(buildRealmConfig());
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CONFIGS_FETCH_TIMEOUT_MILLIS);
+            if (residentIdPFetch != null) {
+                IdentityProvider residentIdP = awaitConfig(residentIdPFetch, deadline);
+                if (requestedAttributes.contains(Constants.IDLE_SESSION_TIMEOUT_ATTRIBUTE)) {
+                    serverConfig.setIdleSessionTimeoutPeriod(getIdPPropertyValue(residentIdP,
+                            IdentityApplicationConstants.SESSION_IDLE_TIME_OUT));
+                }
+                if (requestedAttributes.contains(Constants.REMEMBER_ME_PERIOD_ATTRIBUTE)) {
+                    serverConfig.setRememberMePeriod(getIdPPropertyValue(residentIdP,
+                            IdentityApplicationConstants.REMEMBER_ME_TIME_OUT));
+                }
+                if (requestedAttributes.contains(Constants.HOME_REALM_IDENTIFIERS_ATTRIBUTE)) {
+                    serverConfig.setHomeRealmIdentifiers(getHomeRealmIdentifiers(residentIdP));
+                }
+            }
+            if (provisioningFetch != null) {
+                serverConfig.setProvisioning(awaitConfig(provisioningFetch, deadline));
+            }
+            if (localAuthenticatorsFetch != null) {
+                serverConfig.setAuthenticators(buildAuthenticatorListResponse(
+                        awaitConfig(localAuthenticatorsFetch, deadline),
+                        awaitConfig(requestPathAuthenticatorsFetch, deadline)));
+            }
+            if (corsFetch != null) {
+                serverConfig.setCors(awaitConfig(corsFetch, deadline));
+            }
+            if (dcrFetch != null) {
+                serverConfig.setDcr(awaitConfig(dcrFetch, deadline));
+            }
+            return serverConfig;
+        } finally {
+            // Stop the fetches which are no longer needed when retrieving the configs fails.
+            fetches.forEach(fetch -> fetch.cancel(true));
+        }
+    }
+
+    private Set<String> getRequestedConfigAttributes(String attributes) {
+
+        if (StringUtils.isBlank(attributes)) {
+            return CONFIG_ATTRIBUTES;
+        }
+        Set<String> requestedAttributes = new HashSet<>();
+        for (String attribute : attributes.split(",")) {
+            String trimmedAttribute = attribute.trim();
+            if (!CONFIG_ATTRIBUTES.contains(trimmedAttribute)) {
+                throw handleException(Response.Status.BAD_REQUEST,
+                        Constants.ErrorMessage.ERROR_CODE_INVALID_CONFIG_ATTRIBUTES, trimmedAttribute);
+            }
+            requestedAttributes.add(trimmedAttribute);
+        }
+        return requestedAttributes;
+    }
+
+    private <T> Future<T> fetchConfig(List<Future<?>> fetches, Callable<T> fetch) {
+
+        Future<T> future = configsFetcher.submit(fetch);
+        fetches.add(future);
+        return future;
+    }
+
+    private <T> T awaitConfig(Future<T> fetch, long deadline) {
+
+        try {
+            return fetch.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof APIError) {
+                throw (APIError) cause;
+            }
+            if (cause instanceof IdentityApplicationManagementException) {
+                throw handleApplicationMgtException((IdentityApplicationManagementException) cause,
+                        Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_AUTHENTICATORS, null);
+            }
+            log.error("Error while retrieving the server configs.", cause);
+            throw handleException(Response.Status.INTERNAL_SERVER_ERROR,
+                    Constants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_CONFIGS, null);
+        } catch (TimeoutException e) {
+            log.error("Server configs were not retrieved within " + CONFIGS_FETCH_TIMEOUT_MILLIS + " ms.");
+            throw handleException(Response.Status.INTERNAL_SERVER_ERROR,
+                    Constants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_CONFIGS, null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw handleException(Response.Status.INTERNAL_SERVER_ERROR,
+                    Constants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_CONFIGS, null);
+        }
+    }
+
+    private RealmConfig buildRealmConfig() {
 
         UserRealm userRealm = CarbonContext.getThreadLocalCarbonContext().getUserRealm();
         RealmConfig realmConfig = new RealmConfig();
@@ -205,36 +363,23 @@ public class ServerConfigManagementService {
             throw handleException(Response.Status.INTERNAL_SERVER_ERROR, Constants.ErrorMessage
                     .ERROR_CODE_ERROR_RETRIEVING_CONFIGS, null);
         }
-        String idleSessionTimeout = null;
-        IdentityProviderProperty idleSessionProp = IdentityApplicationManagementUtil.getProperty(
-                residentIdP.getIdpProperties(), IdentityApplicationConstants.SESSION_IDLE_TIME_OUT);
-        if (idleSessionProp != null) {
-            idleSessionTimeout = idleSessionProp.getValue();
-        }
+        return realmConfig;
+    }
 
-        String rememberMePeriod = null;
-        IdentityProviderProperty rememberMeProp = IdentityApplicationManagementUtil.getProperty(
-                residentIdP.getIdpProperties(), IdentityApplicationConstants.REMEMBER_ME_TIME_OUT);
-        if (rememberMeProp != null) {
-            rememberMePeriod = rememberMeProp.getValue();
-        }
+    private String getIdPPropertyValue(IdentityProvider residentIdP, String propertyName) {
+
+        IdentityProviderProperty property = IdentityApplicationManagementUtil.getProperty(
+                residentIdP.getIdpProperties(), propertyName);
+        return property != null ? property.getValue() : null;
+    }
+
+    private List<String> getHomeRealmIdentifiers(IdentityProvider residentIdP) {
 
         String homeRealmIdStr = residentIdP.getHomeRealmId();
-        List<String> homeRealmIdentifiers = null;
-        if (StringUtils.isNotBlank(homeRealmIdStr)) {
-            homeRealmIdentifiers =
-                    Arrays.stream(homeRealmIdStr.trim().split("\\s*,\\s*")).collect(Collectors.toList());
+        if (StringUtils.isBlank(homeRealmIdStr)) {
+            return null;
         }
-        ServerConfig serverConfig = new ServerConfig();
-        serverConfig.setRealmConfig(realmConfig);
-        serverConfig.setIdleSessionTimeoutPeriod(idleSessionTimeout);
-        serverConfig.setRememberMePeriod(rememberMePeriod);
-        serverConfig.setHomeRealmIdentifiers(homeRealmIdentifiers);
-        serverConfig.setProvisioning(buildProvisioningConfig());
-        serverConfig.setAuthenticators(getAuthenticators(null));
-        serverConfig.setCors(getCORSConfiguration());
-        serverConfig.setDcr(getDCRConfiguration());
-        return serverConfig;
+        return Arrays.stream(homeRealmIdStr.trim().split("\\s*,\\s*")).collect(Collectors.toList());
     }
 
     /**
@@ -525,13 +670,24 @@ public class ServerConfigManagementService {
      */
     public List<SchemaListItem> getSchemas() {
 
-        return SchemaConfigParser.getInstance().getSchemaMap().keySet().stream()
-                .map(key -> {
-                    final String schemaId = base64URLEncode(key);
-                    return new SchemaListItem().id(schemaId).name(key)
-                            .self(ContextLoader.buildURIForBody(V1_API_PATH_COMPONENT +
-                                    CONFIGS_SCHEMAS_PATH_COMPONENT + PATH_SEPERATOR + schemaId).toString());
-                }).collect(Collectors.toList());
+        URIPrefixResolver uriPrefixResolver = URIPrefixResolver.forBody();
+        return SchemaConfigParser.getInstance().getSchemaIds().entrySet().stream()
+                .map(schema -> new SchemaListItem().id(schema.getValue()).name(schema.getKey())
+                        .self(uriPrefixResolver.resolve(V1_API_PATH_COMPONENT + CONFIGS_SCHEMAS_PATH_COMPONENT +
+                                PATH_SEPERATOR + schema.getValue())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Add the version of the schemas supported by the server to the conditional GET support of a schema request.
+     * The configured schemas are used as the version, so that the nodes loaded with the same configuration return
+     * the same entity tag.
+     *
+     * @param conditionalGet Conditional GET support of the request.
+     */
+    public void addSchemasVersion(ConditionalGet conditionalGet) {
+
+        conditionalGet.withVersion(SchemaConfigParser.getInstance().getSchemaMap());
     }
 
     /**
@@ -542,10 +698,10 @@ public class ServerConfigManagementService {
      */
     public Schema getSchema(String schemaId) {
 
-        String schemaName = base64URLDecode(schemaId);
-        Map<String, List<String>> schemaMap = SchemaConfigParser.getInstance().getSchemaMap();
+        SchemaConfigParser schemaConfigParser = SchemaConfigParser.getInstance();
+        String schemaName = schemaConfigParser.getSchemaName(schemaId);
 
-        if (!schemaMap.containsKey(schemaName)) {
+        if (schemaName == null) {
             throw handleException(Response.Status.NOT_FOUND,
                     Constants.ErrorMessage.ERROR_CODE_SCHEMA_NOT_FOUND, schemaId);
         }
@@ -553,7 +709,7 @@ public class ServerConfigManagementService {
         Schema schema = new Schema();
         schema.setId(schemaId);
         schema.setName(schemaName);
-        schema.setAttributes(schemaMap.get(schemaName));
+        schema.setAttributes(schemaConfigParser.getSchemaMap().get(schemaName));
         return schema;
     }
 
@@ -949,7 +1105,7 @@ public class ServerConfigManagementService {
     }
 
     /**
-     * Create a shallow copy of the input Identity Provider.
+     * Create a deep copy of the input Identity Provider.
      *
      * @param idP Identity Provider.
      * @return Clone of IDP.
@@ -957,10 +1113,8 @@ public class ServerConfigManagementService {
     private IdentityProvider createIdPClone(IdentityProvider idP) {
 
         try {
-            Gson gson = new Gson();
-            IdentityProvider clonedIdentityProvider = gson.fromJson(gson.toJson(idP), IdentityProvider.class);
-            return clonedIdentityProvider;
-        } catch (JsonSyntaxException e) {
+            return StructuralCopier.deepCopy(idP);
+        } catch (IllegalStateException e) {
             throw handleException(Response.Status.INTERNAL_SERVER_ERROR, Constants.ErrorMessage
                     .ERROR_CODE_ERROR_UPDATING_CONFIGS, null);
         }
@@ -19,6 +19,7 @@
 package org.wso2.carbon.identity.api.server.configs.v1.impl;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.wso2.carbon.identity.api.server.common.ConditionalGet;
 import org.wso2.carbon.identity.api.server.configs.v1.ConfigsApiService;
 import org.wso2.carbon.identity.api.server.configs.v1.core.ServerConfigManagementService;
 import org.wso2.carbon.identity.api.server.configs.v1.model.CORSPatch;
@@ -60,9 +61,9 @@ public class ConfigsApiServiceImpl implements ConfigsApiService {
     }
 
     @Override
-    public Response getConfigs() {
+    public Response getConfigs(String attributes) {
 
-        return Response.ok().entity(configManagementService.getConfigs()).build();
+        return Response.ok().entity(configManagementService.getConfigs(attributes)).build();
     }
 
     @Override
@@ -85,7 +86,9 @@ public class ConfigsApiServiceImpl implements ConfigsApiService {
     @Override
     public Response getSchema(String schemaId) {
 
-        return Response.ok().entity(configManagementService.getSchema(schemaId)).build();
+        ConditionalGet conditionalGet = ConditionalGet.forRequest();
+        configManagementService.addSchemasVersion(conditionalGet);
+        return conditionalGet.respond(() -> Response.ok().entity(configManagementService.getSchema(schemaId)));
     }
 
     @Override
@@ -155,7 +158,9 @@ public class ConfigsApiServiceImpl implements ConfigsApiService {
     @Override
     public Response getSchemas() {
 
-        return Response.ok().entity(configManagementService.getSchemas()).build();
+        ConditionalGet conditionalGet = ConditionalGet.forRequest();
+        configManagementService.addSchemasVersion(conditionalGet);
+        return conditionalGet.respond(() -> Response.ok().entity(configManagementService.getSchemas()));
     }
 
     @Override
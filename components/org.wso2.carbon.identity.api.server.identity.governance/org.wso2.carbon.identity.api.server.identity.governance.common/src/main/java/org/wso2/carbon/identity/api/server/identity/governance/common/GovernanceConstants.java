@@ -69,7 +69,9 @@ public class GovernanceConstants {
         ERROR_CODE_UNSUPPORTED_PROPERTY_NAME("50012", "Unsupported property is requested.",
                 "The property %s is not supported by this API."),
         ERROR_CODE_INVALID_CONNECTOR_CONFIGURATION("50013", "Connector update failed.",
-                "Unable to update the identity governance connector. %s");
+                "Unable to update the identity governance connector. %s"),
+        ERROR_CODE_INVALID_CONNECTOR_PROPERTY("50014", "Invalid connector property.",
+                "The property %s is not a property of the connector %s.");
 
         private final String code;
         private final String message;
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.identity.governance.v1.core;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache of the governance connector configuration snapshots, keyed by the tenant domain. Clearing an entry of the
+ * cache invalidates it on all the nodes of the cluster.
+ */
+final class ConnectorConfigCache extends BaseCache<String, ConnectorConfigSnapshot> {
+
+    private static final String CACHE_NAME = "IdentityGovernanceConnectorConfigCache";
+    private static final ConnectorConfigCache INSTANCE = new ConnectorConfigCache();
+
+    private ConnectorConfigCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Get the connector configuration cache.
+     *
+     * @return Connector configuration cache.
+     */
+    static ConnectorConfigCache getInstance() {
+
+        return INSTANCE;
+    }
+}
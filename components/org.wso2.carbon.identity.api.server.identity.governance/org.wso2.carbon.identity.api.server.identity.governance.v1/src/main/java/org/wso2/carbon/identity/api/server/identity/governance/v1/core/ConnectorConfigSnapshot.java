@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.identity.governance.v1.core;
+
+import org.wso2.carbon.identity.application.common.model.Property;
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+import org.wso2.carbon.identity.governance.IdentityGovernanceException;
+import org.wso2.carbon.identity.governance.IdentityGovernanceService;
+import org.wso2.carbon.identity.governance.bean.ConnectorConfig;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Immutable snapshot of the governance connector configurations of a tenant, mapping each connector name to the
+ * properties of the connector keyed by the property name.
+ *
+ * The configurations of all connectors of a tenant are retrieved with a single read and the snapshot is shared through
+ * the {@link ConnectorConfigCache} by the requests of the tenant until the configurations are updated through this
+ * API, which clears the cache entry of the tenant on all the nodes of the cluster. As the configurations can also be
+ * updated by other components, a snapshot is discarded after {@link #MAX_AGE_MILLIS} at the latest. The properties
+ * in a snapshot must not be modified.
+ */
+final class ConnectorConfigSnapshot extends CacheEntry {
+
+    private static final long serialVersionUID = -4105512480236537826L;
+    private static final long MAX_AGE_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    // Incremented on each invalidation, so that a snapshot read before an update is not cached after the update.
+    private static final AtomicLong INVALIDATIONS = new AtomicLong();
+
+    private final long createdTime;
+    private final Map<String, Map<String, Property>> propertiesByConnector;
+
+    private ConnectorConfigSnapshot(List<ConnectorConfig> connectorConfigs) {
+
+        Map<String, Map<String, Property>> connectorProperties = new HashMap<>();
+        if (connectorConfigs != null) {
+            for (ConnectorConfig connectorConfig : connectorConfigs) {
+                // Keep the order of the properties, as they are listed in that order when no property is requested.
+                Map<String, Property> properties = new LinkedHashMap<>();
+                if (connectorConfig.getProperties() != null) {
+                    for (Property property : connectorConfig.getProperties()) {
+                        properties.put(property.getName(), property);
+                    }
+                }
+                connectorProperties.put(connectorConfig.getName(), Collections.unmodifiableMap(properties));
+            }
+        }
+        this.createdTime = System.currentTimeMillis();
+        this.propertiesByConnector = Collections.unmodifiableMap(connectorProperties);
+    }
+
+    /**
+     * Get the snapshot of the connector configurations of a tenant. The configurations are retrieved if there is no
+     * valid snapshot of the tenant.
+     *
+     * @param identityGovernanceService Identity governance service.
+     * @param tenantDomain              Tenant domain.
+     * @return Connector configuration snapshot of the tenant.
+     * @throws IdentityGovernanceException If the connector configurations cannot be retrieved.
+     */
+    static ConnectorConfigSnapshot getInstance(IdentityGovernanceService identityGovernanceService,
+                                               String tenantDomain) throws IdentityGovernanceException {
+
+        ConnectorConfigCache cache = ConnectorConfigCache.getInstance();
+        ConnectorConfigSnapshot snapshot = cache.getValueFromCache(tenantDomain, tenantDomain);
+        if (snapshot != null && !snapshot.isExpired()) {
+            return snapshot;
+        }
+        long invalidations = INVALIDATIONS.get();
+        snapshot = new ConnectorConfigSnapshot(identityGovernanceService.getConnectorListWithConfigs(tenantDomain));
+        cache.addToCache(tenantDomain, snapshot, tenantDomain);
+        if (invalidations != INVALIDATIONS.get()) {
+            // The configurations may have been updated while they were being read.
+            cache.clearCacheEntry(tenantDomain, tenantDomain);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Discard the snapshot of the connector configurations of a tenant on all the nodes of the cluster. Must be called
+     * whenever the connector configurations of the tenant are updated.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    static void invalidate(String tenantDomain) {
+
+        INVALIDATIONS.incrementAndGet();
+        ConnectorConfigCache.getInstance().clearCacheEntry(tenantDomain, tenantDomain);
+    }
+
+    /**
+     * Get the properties of a connector.
+     *
+     * @param connectorName Connector name.
+     * @return Properties of the connector keyed by the property name, or null if there is no such connector.
+     */
+    Map<String, Property> getProperties(String connectorName) {
+
+        return propertiesByConnector.get(connectorName);
+    }
+
+    private boolean isExpired() {
+
+        return System.currentTimeMillis() - createdTime > MAX_AGE_MILLIS;
+    }
+}
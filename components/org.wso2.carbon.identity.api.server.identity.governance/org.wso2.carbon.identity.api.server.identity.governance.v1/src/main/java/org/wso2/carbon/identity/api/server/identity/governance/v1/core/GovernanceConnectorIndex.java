@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.identity.governance.v1.core;
+
+import org.wso2.carbon.identity.governance.IdentityGovernanceException;
+import org.wso2.carbon.identity.governance.IdentityGovernanceService;
+import org.wso2.carbon.identity.governance.common.IdentityConnectorConfig;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable index of the governance connectors registered in the {@link IdentityGovernanceService}, mapping each
+ * connector category to the names of its connectors and each connector to the names of its properties.
+ *
+ * The index is built from the metadata of the registered connectors, without retrieving the configured property
+ * values of any tenant, as the categories, connectors and property names are the same for all tenants. The index is
+ * built once and replaced only when the set of registered connectors changes.
+ */
+final class GovernanceConnectorIndex {
+
+    private static volatile GovernanceConnectorIndex currentIndex;
+
+    private final List<IdentityConnectorConfig> connectors;
+    private final Map<String, Map<String, Set<String>>> propertyNamesByCategory;
+
+    private GovernanceConnectorIndex(List<IdentityConnectorConfig> registeredConnectors) {
+
+        Map<String, Map<String, Set<String>>> propertyNames = new HashMap<>();
+        for (IdentityConnectorConfig connector : registeredConnectors) {
+            String[] connectorPropertyNames = connector.getPropertyNames();
+            Set<String> connectorProperties = connectorPropertyNames == null ? Collections.emptySet() :
+                    Collections.unmodifiableSet(new HashSet<>(Arrays.asList(connectorPropertyNames)));
+            propertyNames.computeIfAbsent(connector.getCategory(), category -> new HashMap<>())
+                    .put(connector.getName(), connectorProperties);
+        }
+        propertyNames.replaceAll((category, connectorProperties) -> Collections.unmodifiableMap(connectorProperties));
+
+        this.connectors = Collections.unmodifiableList(new ArrayList<>(registeredConnectors));
+        this.propertyNamesByCategory = Collections.unmodifiableMap(propertyNames);
+    }
+
+    /**
+     * Get the index of the governance connectors currently registered. The index is rebuilt if the registered
+     * connectors have changed since it was last built.
+     *
+     * @param identityGovernanceService Identity governance service.
+     * @return Governance connector index.
+     * @throws IdentityGovernanceException If the registered connectors cannot be retrieved.
+     */
+    static GovernanceConnectorIndex getInstance(IdentityGovernanceService identityGovernanceService)
+            throws IdentityGovernanceException {
+
+        List<IdentityConnectorConfig> registeredConnectors = identityGovernanceService.getConnectorList();
+        if (registeredConnectors == null) {
+            registeredConnectors = Collections.emptyList();
+        }
+        GovernanceConnectorIndex index = currentIndex;
+        if (index == null || !index.connectors.equals(registeredConnectors)) {
+            index = new GovernanceConnectorIndex(registeredConnectors);
+            currentIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Check whether connectors are registered in a category.
+     *
+     * @param category Connector category name.
+     * @return True if at least one connector is registered in the category.
+     */
+    boolean hasCategory(String category) {
+
+        return propertyNamesByCategory.containsKey(category);
+    }
+
+    /**
+     * Get the property names of a connector.
+     *
+     * @param category      Connector category name.
+     * @param connectorName Connector name.
+     * @return Property names of the connector or null if the connector is not registered in the category.
+     */
+    Set<String> getPropertyNames(String category, String connectorName) {
+
+        Map<String, Set<String>> connectorProperties = propertyNamesByCategory.get(category);
+        return connectorProperties == null ? null : connectorProperties.get(connectorName);
+    }
+}
@@ -49,8 +49,10 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
@@ -187,33 +189,30 @@ public class ServerIdentityGovernanceService {
 
         IdentityGovernanceService identityGovernanceService = GovernanceDataHolder.getIdentityGovernanceService();
         String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        ConnectorConfigSnapshot connectorConfigs;
+        try {
+            // Configurations of all the requested connectors are resolved from a single snapshot of the tenant.
+            connectorConfigs = ConnectorConfigSnapshot.getInstance(identityGovernanceService, tenantDomain);
+        } catch (IdentityGovernanceException e) {
+            GovernanceConstants.ErrorMessage errorEnum =
+                    GovernanceConstants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_CONNECTOR_PREFERENCES;
+            Response.Status status = Response.Status.INTERNAL_SERVER_ERROR;
+            throw handleException(e, errorEnum, status);
+        }
         List<PreferenceResp> preferenceRespList = new ArrayList<>();
         for (PreferenceSearchAttribute prefSearchAttr : preferenceSearchAttribute) {
             String connectorName = prefSearchAttr.getConnectorName();
-            List<String> expectedProperties = prefSearchAttr.getProperties();
-            Property[] properties;
-            try {
-                ConnectorConfig connectorConfig = identityGovernanceService.getConnectorWithConfigs(tenantDomain,
+            Map<String, Property> properties = connectorConfigs.getProperties(connectorName);
+            if (properties == null) {
+                throw handleBadRequestError(GovernanceConstants.ErrorMessage.ERROR_CODE_INCORRECT_CONNECTOR_NAME,
                         connectorName);
-                if (connectorConfig == null) {
-                    throw handleBadRequestError(GovernanceConstants.ErrorMessage.ERROR_CODE_INCORRECT_CONNECTOR_NAME,
-                            connectorName);
-                }
-                properties = connectorConfig.getProperties();
-                PreferenceResp preferenceResp =
-                        buildPreferenceRespDTO(connectorName, properties, expectedProperties);
-                preferenceRespList.add(preferenceResp);
-            } catch (IdentityGovernanceException e) {
-                GovernanceConstants.ErrorMessage errorEnum =
-                        GovernanceConstants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_CONNECTOR_PREFERENCES;
-                Response.Status status = Response.Status.INTERNAL_SERVER_ERROR;
-                throw handleException(e, errorEnum, status);
             }
+            preferenceRespList.add(buildPreferenceRespDTO(connectorName, properties, prefSearchAttr.getProperties()));
         }
         return preferenceRespList;
     }
 
-    private PreferenceResp buildPreferenceRespDTO(String connectorName, Property[] properties,
+    private PreferenceResp buildPreferenceRespDTO(String connectorName, Map<String, Property> properties,
                                                   List<String> expectedProperties) {
 
         PreferenceResp preferenceResp = new PreferenceResp();
@@ -224,7 +223,7 @@ public class ServerIdentityGovernanceService {
         return preferenceResp;
     }
 
-    private List<PropertyReq> buildPropertyReqDTO(Property[] properties, List<String> expectedProperties) {
+    private List<PropertyReq> buildPropertyReqDTO(Map<String, Property> properties, List<String> expectedProperties) {
 
         if (expectedProperties != null) {
             return buildPropertyReqForExpectedAttributes(properties, expectedProperties);
@@ -233,10 +232,10 @@ public class ServerIdentityGovernanceService {
 
     }
 
-    private List<PropertyReq> buildPropertyReqForAllProperties(Property[] properties) {
+    private List<PropertyReq> buildPropertyReqForAllProperties(Map<String, Property> properties) {
 
         List<PropertyReq> propertyReqList = new ArrayList<>();
-        for (Property property : properties) {
+        for (Property property : properties.values()) {
             if (property.isConfidential()) {
                 continue;
             }
@@ -245,16 +244,13 @@ public class ServerIdentityGovernanceService {
         return propertyReqList;
     }
 
-    private List<PropertyReq> buildPropertyReqForExpectedAttributes(Property[] properties,
+    private List<PropertyReq> buildPropertyReqForExpectedAttributes(Map<String, Property> properties,
                                                                     List<String> expectedProperties) {
 
         List<PropertyReq> propertyReqList = new ArrayList<>();
-        Map<String, Property> propertyMap = new HashMap<>();
-        for (Property property : properties) {
-            propertyMap.put(property.getName(), property);
-        }
-        for (String expectedProperty : expectedProperties) {
-            Property property = propertyMap.get(expectedProperty);
+        // A property requested more than once is listed once.
+        for (String expectedProperty : new LinkedHashSet<>(expectedProperties)) {
+            Property property = properties.get(expectedProperty);
             if (property == null || property.isConfidential()) {
                 throw handleException(new IdentityGovernanceException(GovernanceConstants.ErrorMessage
                                 .ERROR_CODE_UNSUPPORTED_PROPERTY_NAME.getMessage()), GovernanceConstants.
@@ -297,7 +293,7 @@ public class ServerIdentityGovernanceService {
             for (PropertyReq propertyReqDTO : governanceConnector.getProperties()) {
                 configurationDetails.put(propertyReqDTO.getName(), propertyReqDTO.getValue());
             }
-            identityGovernanceService.updateConfiguration(tenantDomain, configurationDetails);
+            updateConfiguration(identityGovernanceService, tenantDomain, configurationDetails);
         } catch (IdentityGovernanceClientException e) {
             throw handleBadRequestError(GovernanceConstants.ErrorMessage.ERROR_CODE_INVALID_CONNECTOR_CONFIGURATION,
                     e.getMessage());
@@ -323,9 +319,10 @@ public class ServerIdentityGovernanceService {
             IdentityGovernanceService identityGovernanceService = GovernanceDataHolder.getIdentityGovernanceService();
             String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
 
-            // Check whether the category ID exists.
-            CategoryRes category = getGovernanceConnectorCategory(categoryId);
-            if (category == null) {
+            // Validate the request against the connector metadata, without retrieving the connector configurations.
+            GovernanceConnectorIndex connectorIndex = GovernanceConnectorIndex.getInstance(identityGovernanceService);
+            String category = new String(Base64.getUrlDecoder().decode(categoryId), StandardCharsets.UTF_8);
+            if (!connectorIndex.hasCategory(category)) {
                 throw handleNotFoundError(categoryId, GovernanceConstants.ErrorMessage.ERROR_CODE_CATEGORY_NOT_FOUND);
             }
 
@@ -334,21 +331,27 @@ public class ServerIdentityGovernanceService {
             // Loop through each connector in the request and add the properties to be updated to a hashmap.
             for (ConnectorReq connectorReq : multipleConnectorsPatchReq.getConnectors()) {
                 String connectorId = connectorReq.getId();
+                String connectorName = new String(Base64.getUrlDecoder().decode(connectorId), StandardCharsets.UTF_8);
 
-                // Check whether the connector ID exists.
-                ConnectorRes connector = getGovernanceConnector(categoryId, connectorId);
-                if (connector == null) {
+                // Check whether the connector exists in the category.
+                Set<String> propertyNames = connectorIndex.getPropertyNames(category, connectorName);
+                if (propertyNames == null) {
                     throw handleNotFoundError(connectorId,
                             GovernanceConstants.ErrorMessage.ERROR_CODE_CONNECTOR_NOT_FOUND);
                 }
 
                 // Add properties of the connector to be updated to the configurationDetails hashmap.
                 for (PropertyReq propertyReqDTO : connectorReq.getProperties()) {
+                    if (!propertyNames.contains(propertyReqDTO.getName())) {
+                        throw handleBadRequestError(
+                                GovernanceConstants.ErrorMessage.ERROR_CODE_INVALID_CONNECTOR_PROPERTY,
+                                propertyReqDTO.getName(), connectorName);
+                    }
                     configurationDetails.put(propertyReqDTO.getName(), propertyReqDTO.getValue());
                 }
             }
 
-            identityGovernanceService.updateConfiguration(tenantDomain, configurationDetails);
+            updateConfiguration(identityGovernanceService, tenantDomain, configurationDetails);
 
         } catch (IdentityGovernanceException e) {
             GovernanceConstants.ErrorMessage errorEnum =
@@ -358,6 +361,17 @@ public class ServerIdentityGovernanceService {
         }
     }
 
+    private void updateConfiguration(IdentityGovernanceService identityGovernanceService, String tenantDomain,
+                                     Map<String, String> configurationDetails) throws IdentityGovernanceException {
+
+        try {
+            identityGovernanceService.updateConfiguration(tenantDomain, configurationDetails);
+        } finally {
+            // Discard the connector configuration snapshot even if the update fails, as it may be partially applied.
+            ConnectorConfigSnapshot.invalidate(tenantDomain);
+        }
+    }
+
     private APIError handleException(Exception e, GovernanceConstants.ErrorMessage errorEnum, Response.Status status,
                                      String... data) {
 
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.idp.v1.core;
+
+import org.wso2.carbon.identity.api.server.idp.common.IdentityProviderServiceHolder;
+import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request scoped view of the local claims of a tenant, indexed by claim URI.
+ * The local claims are fetched from the claim metadata service only once, on the first lookup, and reused for every
+ * subsequent lookup made while serving the same request.
+ */
+class LocalClaimIndex {
+
+    private final String tenantDomain;
+    private Map<String, LocalClaim> localClaimsByURI;
+
+    LocalClaimIndex(String tenantDomain) {
+
+        this.tenantDomain = tenantDomain;
+    }
+
+    /**
+     * Get the tenant domain of the indexed local claims.
+     *
+     * @return Tenant domain.
+     */
+    String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    /**
+     * Get the local claim identified by the given claim URI.
+     *
+     * @param claimURI Local claim URI.
+     * @return Local claim or null if a local claim does not exist for the given URI.
+     * @throws ClaimMetadataException If an error occurred while retrieving the local claims.
+     */
+    LocalClaim getLocalClaim(String claimURI) throws ClaimMetadataException {
+
+        if (claimURI == null) {
+            return null;
+        }
+        return getLocalClaimsByURI().get(claimURI);
+    }
+
+    /**
+     * Check whether a local claim exists for the given claim URI.
+     *
+     * @param claimURI Local claim URI.
+     * @return True if a local claim exists for the given URI.
+     * @throws ClaimMetadataException If an error occurred while retrieving the local claims.
+     */
+    boolean containsClaimURI(String claimURI) throws ClaimMetadataException {
+
+        return getLocalClaim(claimURI) != null;
+    }
+
+    /**
+     * Check whether the tenant has no local claims.
+     *
+     * @return True if no local claims exist in the tenant.
+     * @throws ClaimMetadataException If an error occurred while retrieving the local claims.
+     */
+    boolean isEmpty() throws ClaimMetadataException {
+
+        return getLocalClaimsByURI().isEmpty();
+    }
+
+    private Map<String, LocalClaim> getLocalClaimsByURI() throws ClaimMetadataException {
+
+        if (localClaimsByURI == null) {
+            List<LocalClaim> localClaims =
+                    IdentityProviderServiceHolder.getClaimMetadataManagementService().getLocalClaims(tenantDomain);
+            Map<String, LocalClaim> index = new HashMap<>();
+            if (localClaims != null) {
+                for (LocalClaim localClaim : localClaims) {
+                    index.putIfAbsent(localClaim.getClaimURI(), localClaim);
+                }
+            }
+            localClaimsByURI = index;
+        }
+        return localClaimsByURI;
+    }
+}
@@ -18,10 +18,8 @@
 
 package org.wso2.carbon.identity.api.server.idp.v1.core;
 
-import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.gson.Gson;
 import org.apache.commons.beanutils.BeanUtils;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.io.IOUtils;
@@ -34,8 +32,14 @@ import org.apache.cxf.jaxrs.ext.search.ConditionType;
 import org.apache.cxf.jaxrs.ext.search.PrimitiveStatement;
 import org.apache.cxf.jaxrs.ext.search.SearchCondition;
 import org.apache.cxf.jaxrs.ext.search.SearchContext;
+import org.wso2.carbon.identity.api.server.common.CodecException;
+import org.wso2.carbon.identity.api.server.common.CodecRegistry;
+import org.wso2.carbon.identity.api.server.common.ConditionalGet;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.FileContent;
+import org.wso2.carbon.identity.api.server.common.StreamingFileContent;
+import org.wso2.carbon.identity.api.server.common.StructuralCopier;
+import org.wso2.carbon.identity.api.server.common.URIPrefixResolver;
 import org.wso2.carbon.identity.api.server.common.Util;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
@@ -127,27 +131,25 @@ import org.yaml.snakeyaml.representer.Representer;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.StringReader;
-import java.io.StringWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
+import java.io.Writer;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import javax.ws.rs.core.Response;
-import javax.xml.bind.JAXBContext;
-import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.ERROR_CODE_RESOURCE_LIMIT_REACHED;
 import static org.wso2.carbon.identity.api.server.common.Constants.JSON_FILE_EXTENSION;
@@ -179,6 +181,12 @@ import static org.wso2.carbon.identity.configuration.mgt.core.search.constant.Co
 public class ServerIdpManagementService {
 
     private static final Log log = LogFactory.getLog(ServerIdpManagementService.class);
+    private static final CodecRegistry.Codecs<IdentityProvider> IDP_CODECS = new CodecRegistry.Codecs<>(
+            CodecRegistry.xmlCodec(IdentityProvider.class, null, IdentityProvider.class),
+            CodecRegistry.yamlCodec(ServerIdpManagementService::writeIdpAsYaml,
+                    ServerIdpManagementService::readIdpFromYaml),
+            CodecRegistry.jsonCodec(IdentityProvider.class));
+    private static final Pattern CERTIFICATE_PATH_PATTERN = Pattern.compile(Constants.CERTIFICATE_PATH_REGEX);
 
     /**
      * Get list of identity providers.
@@ -195,14 +203,11 @@ public class ServerIdpManagementService {
                                                 String sortBy, String sortOrder) {
 
         try {
-            List<String> requestedAttributeList = null;
-            if (StringUtils.isNotBlank(requiredAttributes)) {
-                requestedAttributeList = new ArrayList<>(Arrays.asList(requiredAttributes.split(",")));
-            }
+            IdPListProjection projection = new IdPListProjection(requiredAttributes);
             return createIDPListResponse(
                     IdentityProviderServiceHolder.getIdentityProviderManager().getIdPs(limit, offset, filter,
-                            sortOrder, sortBy, ContextLoader.getTenantDomainFromContext(), requestedAttributeList),
-                    requestedAttributeList);
+                            sortOrder, sortBy, ContextLoader.getTenantDomainFromContext(),
+                            projection.getRequestedAttributes()), projection);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_IDPS, null);
         }
@@ -223,14 +228,11 @@ public class ServerIdpManagementService {
                                                       String filter, String sortBy, String sortOrder) {
 
         try {
-            List<String> requestedAttributeList = null;
-            if (StringUtils.isNotBlank(requiredAttributes)) {
-                requestedAttributeList = new ArrayList<>(Arrays.asList(requiredAttributes.split(",")));
-            }
+            IdPListProjection projection = new IdPListProjection(requiredAttributes);
             return createIDPListResponse(
                     IdentityProviderServiceHolder.getIdentityProviderManager().getTrustedTokenIssuers(limit, offset,
                             filter, sortBy, sortOrder, ContextLoader.getTenantDomainFromContext(),
-                            requestedAttributeList), requestedAttributeList);
+                            projection.getRequestedAttributes()), projection);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_TRUSTED_TOKEN_ISSUERS, null);
         }
@@ -347,9 +349,9 @@ public class ServerIdpManagementService {
      * @param idpId         ID of the identity provider to be exported.
      * @param excludeSecrets If true, all hashed or encrypted secrets will be masked.
      * @param fileType      The format of the exported string.
-     * @return FileContent object of the identity provider in the requested format.
+     * @return StreamingFileContent object which writes the identity provider in the requested format.
      */
-    public FileContent exportIDP(String idpId, boolean excludeSecrets, String fileType) {
+    public StreamingFileContent exportIDP(String idpId, boolean excludeSecrets, String fileType) {
 
         if (log.isDebugEnabled()) {
             log.debug("Exporting identity provider from idp ID " + idpId);
@@ -380,18 +382,7 @@ public class ServerIdpManagementService {
             removeSecretsFromIDP(idpToExport);
         }
 
-        FileContent fileContent;
-        try {
-            fileContent = generateFileFromModel(fileType, idpToExport);
-        } catch (IdentityProviderManagementException e) {
-            throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_EXPORTING_IDP, idpId);
-        }
-
-        if (log.isDebugEnabled()) {
-            log.debug(String.format("Successfully exported IdP: %s as a file type of %s.",
-                    identityProvider.getIdentityProviderName(), fileType));
-        }
-        return fileContent;
+        return generateFileFromModel(fileType, idpToExport, idpId);
     }
 
     /**
@@ -464,6 +455,52 @@ public class ServerIdpManagementService {
         }
     }
 
+    /**
+     * Add the version of the federated authenticators to the conditional GET support of a meta federated
+     * authenticator request, which consists of the names, the tags and the properties of the registered
+     * authenticators.
+     *
+     * @param conditionalGet Conditional GET support of the request.
+     */
+    public void addMetaFederatedAuthenticatorsVersion(ConditionalGet conditionalGet) {
+
+        try {
+            FederatedAuthenticatorConfig[] authenticatorConfigs =
+                    IdentityProviderServiceHolder.getIdentityProviderManager().getAllFederatedAuthenticators();
+            if (ArrayUtils.isNotEmpty(authenticatorConfigs)) {
+                for (FederatedAuthenticatorConfig authenticatorConfig : authenticatorConfigs) {
+                    FederatedAuthenticatorConfig registeredConfig = ApplicationAuthenticatorService.getInstance()
+                            .getFederatedAuthenticatorByName(authenticatorConfig.getName());
+                    conditionalGet.withVersion(authenticatorConfig.getName(), authenticatorConfig.getDisplayName(),
+                            registeredConfig == null ? null : registeredConfig.getTags());
+                    addMetaPropertiesVersion(conditionalGet, authenticatorConfig.getProperties());
+                }
+            }
+        } catch (IdentityProviderManagementException e) {
+            throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_META_AUTHENTICATORS, null);
+        }
+    }
+
+    private void addMetaPropertiesVersion(ConditionalGet conditionalGet, Property[] properties) {
+
+        if (properties == null) {
+            return;
+        }
+        for (Property property : properties) {
+            conditionalGet.withVersion(property.getName(), property.getType(), property.isRequired(),
+                    property.isConfidential(), property.getDescription(), property.getDisplayName(),
+                    property.getDisplayOrder(), property.getRegex(), property.getOptions(), property.getDefaultValue());
+            if (property.getSubProperties() != null) {
+                for (SubProperty subProperty : property.getSubProperties()) {
+                    conditionalGet.withVersion(subProperty.getName(), subProperty.getType(), subProperty.isRequired(),
+                            subProperty.isConfidential(), subProperty.getDescription(), subProperty.getDisplayName(),
+                            subProperty.getDisplayOrder(), subProperty.getRegex(), subProperty.getOptions(),
+                            subProperty.getDefaultValue());
+                }
+            }
+        }
+    }
+
     /**
      * Get meta information about a specific federated authenticator supported by the IDPs.
      *
@@ -925,7 +962,8 @@ public class ServerIdpManagementService {
                 throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage.ERROR_CODE_IDP_NOT_FOUND,
                         idpId);
             }
-            return createClaimResponse(identityProvider.getClaimConfig());
+            return createClaimResponse(identityProvider.getClaimConfig(),
+                    new LocalClaimIndex(ContextLoader.getTenantDomainFromContext()));
 
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_IDP_CLAIMS, idpId);
@@ -943,7 +981,8 @@ public class ServerIdpManagementService {
 
         try {
             String tenantDomain = ContextLoader.getTenantDomainFromContext();
-            validateClaims(tenantDomain, claims);
+            LocalClaimIndex localClaimIndex = new LocalClaimIndex(tenantDomain);
+            validateClaims(localClaimIndex, claims);
             IdentityProvider idP =
                     createIdPClone(IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId,
                             tenantDomain, true));
@@ -955,7 +994,7 @@ public class ServerIdpManagementService {
             IdentityProvider updatedIdP =
                     IdentityProviderServiceHolder.getIdentityProviderManager().updateIdPByResourceId(idpId,
                             idP, tenantDomain);
-            return createClaimResponse(updatedIdP.getClaimConfig());
+            return createClaimResponse(updatedIdP.getClaimConfig(), localClaimIndex);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP_CLAIMS, idpId);
         }
@@ -2140,14 +2179,15 @@ public class ServerIdpManagementService {
     }
 
     private IdentityProviderListResponse createIDPListResponse(IdpSearchResult idpSearchResult,
-                                                               List<String> requestedAttributeList) {
+                                                               IdPListProjection projection) {
 
         List<IdentityProvider> idps = idpSearchResult.getIdPs();
         IdentityProviderListResponse listResponse = new IdentityProviderListResponse();
         if (CollectionUtils.isNotEmpty(idps)) {
             List<IdentityProviderListItem> identityProviderList = new ArrayList<>();
+            URIPrefixResolver uriPrefixResolver = URIPrefixResolver.forBody();
             for (IdentityProvider idp : idps) {
-                IdentityProviderListItem listItem = populateIDPListResponse(idp, requestedAttributeList);
+                IdentityProviderListItem listItem = populateIDPListResponse(idp, projection, uriPrefixResolver);
                 identityProviderList.add(listItem);
             }
             listResponse.setIdentityProviders(identityProviderList);
@@ -2164,8 +2204,8 @@ public class ServerIdpManagementService {
         return listResponse;
     }
 
-    private IdentityProviderListItem populateIDPListResponse(IdentityProvider idp,
-                                                             List<String> requestedAttributeList) {
+    private IdentityProviderListItem populateIDPListResponse(IdentityProvider idp, IdPListProjection projection,
+                                                             URIPrefixResolver uriPrefixResolver) {
 
         IdentityProviderListItem identityProviderListItem = new IdentityProviderListItem();
         // Create IDP basic information.
@@ -2174,52 +2214,11 @@ public class ServerIdpManagementService {
         identityProviderListItem.setDescription(idp.getIdentityProviderDescription());
         identityProviderListItem.setIsEnabled(idp.isEnable());
         identityProviderListItem.setImage(idp.getImageUrl());
-        identityProviderListItem.setSelf(
-                ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT + "/%s",
-                        idp.getResourceId())).toString());
-
-        // Populate optional IDP information if exists.
-        if (requestedAttributeList != null) {
-            for (String requestedAttribute : requestedAttributeList) {
-                switch (requestedAttribute) {
-                    case Constants.IS_PRIMARY:
-                        identityProviderListItem.setIsPrimary(idp.isPrimary());
-                        break;
-                    case Constants.IS_FEDERATION_HUB:
-                        identityProviderListItem.setIsFederationHub(idp.isFederationHub());
-                        break;
-                    case Constants.HOME_REALM_IDENTIFIER:
-                        identityProviderListItem.setHomeRealmIdentifier(idp.getHomeRealmId());
-                        break;
-                    case Constants.CERTIFICATE:
-                        identityProviderListItem.setCertificate(createIDPCertificate(idp));
-                        break;
-                    case Constants.ALIAS:
-                        identityProviderListItem.setAlias(idp.getAlias());
-                        break;
-                    case Constants.CLAIMS:
-                        identityProviderListItem.setClaims(createClaimResponse(idp.getClaimConfig()));
-                        break;
-                    case Constants.ROLES:
-                        identityProviderListItem.setRoles(createRoleResponse(idp));
-                        break;
-                    case Constants.GROUPS:
-                        identityProviderListItem.setGroups(createGroupResponse(idp));
-                        break;
-                    case Constants.FEDERATED_AUTHENTICATORS:
-                        identityProviderListItem.setFederatedAuthenticators(createFederatedAuthenticatorResponse(idp));
-                        break;
-                    case Constants.PROVISIONING:
-                        identityProviderListItem.setProvisioning(createProvisioningResponse(idp));
-                        break;
-                    default:
-                        if (log.isDebugEnabled()) {
-                            log.debug("Unknown requested attribute: " + requestedAttribute);
-                        }
-                        break;
-                }
-            }
-        }
+        identityProviderListItem.setSelf(uriPrefixResolver.resolve(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT + "/"
+                + idp.getResourceId()));
+
+        // Populate optional IDP information if requested.
+        projection.populate(identityProviderListItem, idp);
         return identityProviderListItem;
     }
 
@@ -2249,12 +2248,12 @@ public class ServerIdpManagementService {
 
     private int calculateOffsetForPreviousLink(int offset, int limit, int total) {
 
-        int newOffset = (offset - limit);
-        if (newOffset < total) {
-            return newOffset;
+        // Step back by 'limit' until the offset falls within the total results.
+        int newOffset = offset - limit;
+        if (newOffset >= total) {
+            newOffset -= ((newOffset - total) / limit + 1) * limit;
         }
-
-        return calculateOffsetForPreviousLink(newOffset, limit, total);
+        return newOffset;
     }
 
     private Link buildPageLink(StringBuilder url, String rel, int offset, int limit, String filter) {
@@ -2279,7 +2278,8 @@ public class ServerIdpManagementService {
         populateIDPBasicInfo(idpResponse, identityProvider);
         idpResponse.setTemplateId(identityProvider.getTemplateId());
         idpResponse.setCertificate(createIDPCertificate(identityProvider));
-        idpResponse.setClaims(createClaimResponse(identityProvider.getClaimConfig()));
+        idpResponse.setClaims(createClaimResponse(identityProvider.getClaimConfig(),
+                new LocalClaimIndex(ContextLoader.getTenantDomainFromContext())));
         idpResponse.setRoles(createRoleResponse(identityProvider));
         idpResponse.setGroups(createGroupResponse(identityProvider));
         idpResponse.setFederatedAuthenticators(createFederatedAuthenticatorResponse(identityProvider));
@@ -2333,7 +2333,7 @@ public class ServerIdpManagementService {
         return certificate;
     }
 
-    private Claims createClaimResponse(ClaimConfig claimConfig) {
+    private Claims createClaimResponse(ClaimConfig claimConfig, LocalClaimIndex localClaimIndex) {
 
         Claims apiClaims = new Claims();
         List<org.wso2.carbon.identity.api.server.idp.v1.model.ClaimMapping> apiMappings = new ArrayList<>();
@@ -2348,7 +2348,8 @@ public class ServerIdpManagementService {
                     Claim localClaim = new Claim();
                     localClaim.setId(base64URLEncode(mapping.getLocalClaim().getClaimUri()));
                     localClaim.setUri(mapping.getLocalClaim().getClaimUri());
-                    localClaim.setDisplayName(getDisplayNameOfLocalClaim(mapping.getLocalClaim().getClaimUri()));
+                    localClaim.setDisplayName(getDisplayNameOfLocalClaim(mapping.getLocalClaim().getClaimUri(),
+                            localClaimIndex));
                     apiMapping.setLocalClaim(localClaim);
                     // As the provisioning claims are added as claim mappings without any remote claim internally, we
                     // need to validate this here.
@@ -2365,7 +2366,8 @@ public class ServerIdpManagementService {
                         } else {
                             provClaim.setId(base64URLEncode(mapping.getLocalClaim().getClaimUri()));
                             provClaim.setUri(mapping.getLocalClaim().getClaimUri());
-                            provClaim.setDisplayName(getDisplayNameOfLocalClaim(mapping.getLocalClaim().getClaimUri()));
+                            provClaim.setDisplayName(getDisplayNameOfLocalClaim(mapping.getLocalClaim().getClaimUri(),
+                                    localClaimIndex));
                         }
                         provClaimResponse.setClaim(provClaim);
                         provClaimResponse.setDefaultValue(mapping.getDefaultValue());
@@ -2375,17 +2377,19 @@ public class ServerIdpManagementService {
             }
 
             Claim roleClaim = new Claim();
-            if (getLocalClaim(claimConfig.getRoleClaimURI()) != null) {
+            LocalClaim localRoleClaim = getLocalClaim(claimConfig.getRoleClaimURI(), localClaimIndex);
+            if (localRoleClaim != null) {
                 roleClaim.setId(base64URLEncode(claimConfig.getRoleClaimURI()));
-                roleClaim.setDisplayName(getDisplayNameOfLocalClaim(claimConfig.getRoleClaimURI()));
+                roleClaim.setDisplayName(localRoleClaim.getClaimProperties().get(Constants.PROP_DISPLAY_NAME));
             }
             roleClaim.setUri(claimConfig.getRoleClaimURI());
             apiClaims.setRoleClaim(roleClaim);
 
             Claim userIdClaim = new Claim();
-            if (getLocalClaim(claimConfig.getUserClaimURI()) != null) {
+            LocalClaim localUserIdClaim = getLocalClaim(claimConfig.getUserClaimURI(), localClaimIndex);
+            if (localUserIdClaim != null) {
                 userIdClaim.setId(base64URLEncode(claimConfig.getUserClaimURI()));
-                userIdClaim.setDisplayName(getDisplayNameOfLocalClaim(claimConfig.getUserClaimURI()));
+                userIdClaim.setDisplayName(localUserIdClaim.getClaimProperties().get(Constants.PROP_DISPLAY_NAME));
             }
             userIdClaim.setUri(claimConfig.getUserClaimURI());
             apiClaims.setUserIdClaim(userIdClaim);
@@ -2622,12 +2626,13 @@ public class ServerIdpManagementService {
     /**
      * Retrieves display name property of Local claim identified by local claim uri.
      *
-     * @param claimUri Local claim uri.
+     * @param claimUri        Local claim uri.
+     * @param localClaimIndex Local claims of the tenant indexed by claim uri.
      * @return Display Name.
      */
-    private String getDisplayNameOfLocalClaim(String claimUri) {
+    private String getDisplayNameOfLocalClaim(String claimUri, LocalClaimIndex localClaimIndex) {
 
-        LocalClaim localClaim = getLocalClaim(claimUri);
+        LocalClaim localClaim = getLocalClaim(claimUri, localClaimIndex);
         if (localClaim != null) {
             Map<String, String> localClaimProperties = localClaim.getClaimProperties();
             return localClaimProperties.get(Constants.PROP_DISPLAY_NAME);
@@ -2640,40 +2645,18 @@ public class ServerIdpManagementService {
     /**
      * Returns internal LocalClaim given local claim URI.
      *
-     * @param claimUri URI of the required local claim.
+     * @param claimUri        URI of the required local claim.
+     * @param localClaimIndex Local claims of the tenant indexed by claim uri.
      * @return Local Claim.
      */
-    private LocalClaim getLocalClaim(String claimUri) {
+    private LocalClaim getLocalClaim(String claimUri, LocalClaimIndex localClaimIndex) {
 
-        LocalClaim localClaim;
         try {
-            List<LocalClaim> localClaimList =
-                    IdentityProviderServiceHolder.getClaimMetadataManagementService().getLocalClaims(
-                            ContextLoader.getTenantDomainFromContext());
-
-            localClaim = extractLocalClaimFromClaimList(claimUri, localClaimList);
+            return localClaimIndex.getLocalClaim(claimUri);
         } catch (ClaimMetadataException e) {
             throw handleException(Response.Status.BAD_REQUEST,
                     Constants.ErrorMessage.ERROR_CODE_INVALID_LOCAL_CLAIM_ID, claimUri);
         }
-        return localClaim;
-    }
-
-    /**
-     * Extracts the LocalClaim corresponding to the given claim uri.
-     *
-     * @param claimURI  Local claim uri.
-     * @param claimList Local claim list.
-     * @return LocalClaim.
-     */
-    private LocalClaim extractLocalClaimFromClaimList(String claimURI, List<LocalClaim> claimList) {
-
-        for (LocalClaim claim : claimList) {
-            if (StringUtils.equals(claim.getClaimURI(), claimURI)) {
-                return claim;
-            }
-        }
-        return null;
     }
 
     /**
@@ -2684,9 +2667,13 @@ public class ServerIdpManagementService {
      */
     private IdentityProvider createIdPClone(IdentityProvider idP) {
 
-        Gson gson = new Gson();
-        IdentityProvider clonedIdentityProvider = gson.fromJson(gson.toJson(idP), IdentityProvider.class);
-        return clonedIdentityProvider;
+        try {
+            return StructuralCopier.deepCopy(idP);
+        } catch (IllegalStateException e) {
+            log.error("Error while cloning the identity provider: " + idP.getResourceId(), e);
+            throw handleException(Response.Status.INTERNAL_SERVER_ERROR, Constants.ErrorMessage
+                    .ERROR_CODE_ERROR_UPDATING_IDP, idP.getResourceId());
+        }
     }
 
     /**
@@ -3101,44 +3088,29 @@ public class ServerIdpManagementService {
         if (CollectionUtils.isEmpty(patchRequest)) {
             return;
         }
+        // Certificates are decoded once and patched in memory. They are encoded and set on the identity provider
+        // only once, after all the patch operations are applied.
+        PatchedCertificates certificates = new PatchedCertificates(idpToUpdate);
         for (Patch patch : patchRequest) {
             String path = patch.getPath();
             Patch.OperationEnum operation = patch.getOperation();
             String value = patch.getValue();
-            boolean isCertificateUpdateRequest =
-                    path.matches(Constants.CERTIFICATE_PATH_REGEX) && path.split(Constants.PATH_SEPERATOR).length == 4;
+            boolean isCertificateUpdateRequest = path != null && CERTIFICATE_PATH_PATTERN.matcher(path).matches();
             // 'ADD', 'REPLACE' and 'REMOVE' patch operations supported.
             if (operation == Patch.OperationEnum.REPLACE) {
                 if (isCertificateUpdateRequest) {
-                    List<String> certificates = new ArrayList<>();
-                    int index = Integer.parseInt(path.split(Constants.PATH_SEPERATOR)[3]);
-                    if (ArrayUtils.isNotEmpty(idpToUpdate.getCertificateInfoArray()) && (index >= 0)
-                            && (index < idpToUpdate.getCertificateInfoArray().length)) {
-                        for (CertificateInfo certInfo : idpToUpdate.getCertificateInfoArray()) {
-                            certificates.add(base64Decode(certInfo.getCertValue()));
-                        }
-                        if (!value.startsWith(IdentityUtil.PEM_BEGIN_CERTFICATE)) {
-                            try {
-                                value = base64Decode(value);
-                            } catch (IllegalArgumentException e) {
-                                throw handleException(Response.Status.BAD_REQUEST,
-                                        Constants.ErrorMessage.ERROR_CODE_INVALID_CERTIFICATE_FORMAT, null);
-                            }
-                        }
-                        if (certificates.contains(value)) {
+                    int index = getCertificateIndex(path);
+                    if (index < certificates.size()) {
+                        String certificate = decodeCertificate(value);
+                        if (certificates.contains(certificate)) {
                             throw handleException(Response.Status.CONFLICT,
                                     Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP,
                                     "Cannot replace certificate as this certificate already exists.");
                         }
-                        certificates.set(index, value);
-                        idpToUpdate.setCertificate(base64Encode(StringUtils.join(certificates, "")));
-                    } else if (ArrayUtils.isEmpty(idpToUpdate.getCertificateInfoArray()) ||
-                            index >= idpToUpdate.getCertificateInfoArray().length) {
+                        certificates.replace(index, certificate);
+                    } else {
                         throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage
                                 .ERROR_CODE_ERROR_UPDATING_IDP, "Cannot replace certificate as it does not exist.");
-                    } else {
-                        throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
-                                .ERROR_CODE_INVALID_INPUT, null);
                     }
                 } else {
                     switch (path) {
@@ -3180,32 +3152,18 @@ public class ServerIdpManagementService {
             } else if (operation == Patch.OperationEnum.ADD) {
                 if (isCertificateUpdateRequest) {
 
-                    List<String> certificates = new ArrayList<>();
-                    int index = Integer.parseInt(path.split(Constants.PATH_SEPERATOR)[3]);
-                    if (index != idpToUpdate.getCertificateInfoArray().length) {
+                    int index = getCertificateIndex(path);
+                    if (index != certificates.size()) {
                         throw handleException(Response.Status.BAD_REQUEST,
                                 Constants.ErrorMessage.ERROR_CODE_INVALID_INPUT, "Invalid index in 'path' attribute");
                     }
-                    if (ArrayUtils.isNotEmpty(idpToUpdate.getCertificateInfoArray())) {
-                        for (CertificateInfo certInfo : idpToUpdate.getCertificateInfoArray()) {
-                            certificates.add(base64Decode(certInfo.getCertValue()));
-                        }
-                    }
-                    if (!value.startsWith(IdentityUtil.PEM_BEGIN_CERTFICATE)) {
-                        try {
-                            value = base64Decode(value);
-                        } catch (IllegalArgumentException e) {
-                            throw handleException(Response.Status.BAD_REQUEST,
-                                    Constants.ErrorMessage.ERROR_CODE_INVALID_CERTIFICATE_FORMAT, null);
-                        }
-                    }
-                    if (certificates.contains(value)) {
+                    String certificate = decodeCertificate(value);
+                    if (certificates.contains(certificate)) {
                         throw handleException(Response.Status.CONFLICT,
                                 Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP,
                                 "Cannot add certificate as it already exists.");
                     }
-                    certificates.add(index, value);
-                    idpToUpdate.setCertificate(base64Encode(StringUtils.join(certificates, "")));
+                    certificates.add(certificate);
 
                     // Need to remove the JWKS URI property, if it exists, when adding certificates as they are
                     // alternate options of the property Certificate Type.
@@ -3237,9 +3195,7 @@ public class ServerIdpManagementService {
                     idpToUpdate.setIdpProperties(idpProperties.toArray(new IdentityProviderProperty[0]));
                     // Need to remove certificates, if any, when adding JWKS URI as they are alternate options of the
                     // property Certificate Type.
-                    if (ArrayUtils.isNotEmpty(idpToUpdate.getCertificateInfoArray())) {
-                        idpToUpdate.setCertificate(null);
-                    }
+                    certificates.clear();
                 } else if (Constants.IDP_ISSUER_NAME_PATH.equals(path)) {
                     IdentityProviderProperty[] propertyDTOS = idpToUpdate.getIdpProperties();
                     for (IdentityProviderProperty propertyDTO : propertyDTOS) {
@@ -3262,23 +3218,13 @@ public class ServerIdpManagementService {
             } else if (operation == Patch.OperationEnum.REMOVE) {
                 if (isCertificateUpdateRequest) {
 
-                    List<String> certificates = new ArrayList<>();
-                    int index = Integer.parseInt(path.split(Constants.PATH_SEPERATOR)[3]);
-                    if (ArrayUtils.isNotEmpty(idpToUpdate.getCertificateInfoArray()) && (index >= 0) &&
-                            index < idpToUpdate.getCertificateInfoArray().length) {
-                        for (CertificateInfo certInfo : idpToUpdate.getCertificateInfoArray()) {
-                            certificates.add(base64Decode(certInfo.getCertValue()));
-                        }
+                    int index = getCertificateIndex(path);
+                    if (index < certificates.size()) {
                         certificates.remove(index);
-                    } else if (ArrayUtils.isEmpty(idpToUpdate.getCertificateInfoArray()) ||
-                            index >= idpToUpdate.getCertificateInfoArray().length) {
+                    } else {
                         throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage
                                 .ERROR_CODE_ERROR_UPDATING_IDP, "Cannot replace certificate as it does not exist.");
-                    } else {
-                        throw handleException(Response.Status.BAD_REQUEST,
-                                Constants.ErrorMessage.ERROR_CODE_INVALID_INPUT, "Invalid index in 'path' attribute");
                     }
-                    idpToUpdate.setCertificate(base64Encode(StringUtils.join(certificates, "")));
                 } else if (Constants.CERTIFICATE_JWKSURI_PATH.equals(path)) {
 
                     IdentityProviderProperty[] propertyDTOS = idpToUpdate.getIdpProperties();
@@ -3309,6 +3255,42 @@ public class ServerIdpManagementService {
                         .ERROR_CODE_INVALID_INPUT, null);
             }
         }
+        certificates.apply();
+    }
+
+    /**
+     * Get the certificate index of a patch path which matches the certificate path pattern.
+     *
+     * @param path Patch path.
+     * @return Certificate index.
+     */
+    private int getCertificateIndex(String path) {
+
+        try {
+            return Integer.parseInt(path.substring(path.lastIndexOf(Constants.PATH_SEPERATOR) + 1));
+        } catch (NumberFormatException e) {
+            throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage.ERROR_CODE_INVALID_INPUT,
+                    "Invalid index in 'path' attribute");
+        }
+    }
+
+    /**
+     * Decode a certificate of a patch operation, unless it is already in the PEM format.
+     *
+     * @param certificate PEM or base64 encoded PEM certificate.
+     * @return PEM certificate.
+     */
+    private String decodeCertificate(String certificate) {
+
+        if (certificate.startsWith(IdentityUtil.PEM_BEGIN_CERTFICATE)) {
+            return certificate;
+        }
+        try {
+            return base64Decode(certificate);
+        } catch (IllegalArgumentException e) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    Constants.ErrorMessage.ERROR_CODE_INVALID_CERTIFICATE_FORMAT, null);
+        }
     }
 
     private void patchIdpProperties(IdentityProvider identityProvider, String propertyName, String propertyValue) {
@@ -3471,32 +3453,32 @@ public class ServerIdpManagementService {
     /**
      * Validate the claim configs of an IDP.
      *
-     * @param tenantDomain Tenant domain.
-     * @param claims       Claim configs.
+     * @param localClaimIndex Local claims of the tenant indexed by claim uri.
+     * @param claims          Claim configs.
      * @throws IdentityProviderManagementException If an error while validating the claim configs or if an invalid
      *                                             config is found.
      */
-    private void validateClaims(String tenantDomain, Claims claims) throws IdentityProviderManagementException {
+    private void validateClaims(LocalClaimIndex localClaimIndex, Claims claims)
+            throws IdentityProviderManagementException {
 
         if (claims == null) {
             return;
         }
+        String tenantDomain = localClaimIndex.getTenantDomain();
         String userClaimURI = claims.getUserIdClaim() == null ? null : claims.getUserIdClaim().getUri();
         String roleClaimURI = claims.getRoleClaim() == null ? null : claims.getRoleClaim().getUri();
         List<org.wso2.carbon.identity.api.server.idp.v1.model.ClaimMapping> claimMappings = claims.getMappings();
 
         // EMPTY claimMappings indicate that the IDP is using local claim dialect.
         if (CollectionUtils.isEmpty(claimMappings)) {
-            List<LocalClaim> localClaimsList = getLocalClaimURIs(tenantDomain);
-            Set<String> claimURIs = localClaimsList.stream().map(LocalClaim::getClaimURI).collect(Collectors.toSet());
             // Validate userClaimURI and roleClaimURI.
-            if (StringUtils.isNotBlank(userClaimURI) && !claimURIs.contains(userClaimURI)) {
+            if (StringUtils.isNotBlank(userClaimURI) && !isLocalClaimURI(localClaimIndex, userClaimURI)) {
                 throw new IdentityProviderManagementClientException(
                         Constants.ErrorMessage.ERROR_CODE_NOT_EXISTING_USER_CLAIM_URI.getCode(),
                         String.format(Constants.ErrorMessage.ERROR_CODE_NOT_EXISTING_USER_CLAIM_URI.getDescription(),
                                 tenantDomain));
             }
-            if (StringUtils.isNotBlank(roleClaimURI) && !claimURIs.contains(roleClaimURI)) {
+            if (StringUtils.isNotBlank(roleClaimURI) && !isLocalClaimURI(localClaimIndex, roleClaimURI)) {
                 throw new IdentityProviderManagementClientException(
                         Constants.ErrorMessage.ERROR_CODE_NOT_EXISTING_ROLE_CLAIM_URI.getCode(),
                         String.format(Constants.ErrorMessage.ERROR_CODE_NOT_EXISTING_ROLE_CLAIM_URI.getDescription(),
@@ -3507,12 +3489,10 @@ public class ServerIdpManagementService {
         validateUserAndRoleClaims(userClaimURI, roleClaimURI, claimMappings);
 
         // Validate LocalClaim objects against local claim URIs.
-        List<LocalClaim> localClaimsList = getLocalClaimURIs(tenantDomain);
-        Set<String> claimURIs = localClaimsList.stream().map(LocalClaim::getClaimURI).collect(Collectors.toSet());
         for (org.wso2.carbon.identity.api.server.idp.v1.model.ClaimMapping claimMapping : claimMappings) {
 
-            // If a claim URI does not exist in claimURIs list, then that's a not existing URI.
-            if (!claimURIs.contains(claimMapping.getLocalClaim().getUri())) {
+            // If a claim URI does not exist in the local claims of the tenant, then that's a not existing URI.
+            if (!isLocalClaimURI(localClaimIndex, claimMapping.getLocalClaim().getUri())) {
                 throw new IdentityProviderManagementClientException(
                         Constants.ErrorMessage.ERROR_CODE_NOT_EXISTING_CLAIM_URI.getCode(),
                         Constants.ErrorMessage.ERROR_CODE_NOT_EXISTING_CLAIM_URI.getDescription());
@@ -3564,25 +3544,26 @@ public class ServerIdpManagementService {
     }
 
     /**
-     * Get the local claim URIs of the tenant.
+     * Check whether the given claim URI is a local claim URI of the tenant.
      *
-     * @param tenantDomain Tenant domain.
-     * @return List of local claim URIs.
+     * @param localClaimIndex Local claims of the tenant indexed by claim uri.
+     * @param claimURI        Claim URI.
+     * @return True if the claim URI is a local claim URI of the tenant.
      * @throws IdentityProviderManagementServerException If an error occurred while getting the claims list.
      */
-    private List<LocalClaim> getLocalClaimURIs(String tenantDomain) throws IdentityProviderManagementServerException {
+    private boolean isLocalClaimURI(LocalClaimIndex localClaimIndex, String claimURI)
+            throws IdentityProviderManagementServerException {
 
+        String tenantDomain = localClaimIndex.getTenantDomain();
         try {
-            List<LocalClaim> localClaimsList =
-                    IdentityProviderServiceHolder.getClaimMetadataManagementService().getLocalClaims(tenantDomain);
-            if (localClaimsList.isEmpty()) {
+            if (localClaimIndex.isEmpty()) {
                 if (log.isDebugEnabled()) {
                     log.debug("No local claims found for tenant:" + tenantDomain + ".Therefore, skipping " +
                             "local claim URI validation.");
                 }
-                return Collections.emptyList();
+                return false;
             }
-            return localClaimsList;
+            return localClaimIndex.containsClaimURI(claimURI);
         } catch (ClaimMetadataException e) {
             if (log.isDebugEnabled()) {
                 log.debug("Error occurred while validating the local claim URIs for tenant: " + tenantDomain, e);
@@ -3644,80 +3625,78 @@ public class ServerIdpManagementService {
         });
     }
 
-    private FileContent generateFileFromModel(String fileType, IdentityProvider identityProvider)
-            throws IdentityProviderManagementException {
+    private StreamingFileContent generateFileFromModel(String fileType, IdentityProvider identityProvider,
+                                                       String idpId) {
 
         if (log.isDebugEnabled()) {
             log.debug("Parsing IdP object to file content of type: " + fileType);
         }
         String mediaType = Util.getMediaType(fileType);
+        StringBuilder fileNameSB = new StringBuilder(identityProvider.getIdentityProviderName());
         switch (mediaType) {
             case MEDIA_TYPE_XML:
-                return parseIdpToXml(identityProvider);
+                fileNameSB.append(XML_FILE_EXTENSION);
+                break;
             case MEDIA_TYPE_JSON:
-                return parseIdpToJson(identityProvider);
+                fileNameSB.append(JSON_FILE_EXTENSION);
+                break;
             case MEDIA_TYPE_YAML:
-                return parseIdpToYaml(identityProvider);
+                fileNameSB.append(YAML_FILE_EXTENSION);
+                break;
             default:
                 log.warn(String.format("Unsupported file type: %s requested for export. Defaulting to YAML parsing.",
                         fileType));
-                return parseIdpToYaml(identityProvider);
+                mediaType = MEDIA_TYPE_YAML;
+                fileNameSB.append(YAML_FILE_EXTENSION);
         }
-    }
-
-    private FileContent parseIdpToXml(IdentityProvider identityProvider)
-            throws IdentityProviderManagementException {
 
-        StringBuilder fileNameSB = new StringBuilder(identityProvider.getIdentityProviderName());
-        fileNameSB.append(XML_FILE_EXTENSION);
-
-        JAXBContext jaxbContext;
-        try {
-            jaxbContext = JAXBContext.newInstance(IdentityProvider.class);
-            Marshaller marshaller = jaxbContext.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            StringWriter stringWriter = new StringWriter();
-            marshaller.marshal(identityProvider, stringWriter);
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_XML, stringWriter.toString());
-        } catch (JAXBException e) {
-            throw new IdentityProviderManagementException(
-                    "Error when parsing identity provider to XML file.", e);
-        }
+        String exportMediaType = mediaType;
+        return new StreamingFileContent(fileNameSB.toString(), exportMediaType, outputStream -> {
+            try {
+                writeIdpToStream(exportMediaType, identityProvider, outputStream);
+            } catch (IdentityProviderManagementException e) {
+                throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_EXPORTING_IDP, idpId);
+            }
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Successfully exported IdP: %s as a file type of %s.",
+                        identityProvider.getIdentityProviderName(), exportMediaType));
+            }
+        });
     }
 
-    private FileContent parseIdpToJson(IdentityProvider identityProvider)
-            throws IdentityProviderManagementException {
+    private void writeIdpToStream(String mediaType, IdentityProvider identityProvider, OutputStream outputStream)
+            throws IdentityProviderManagementException, IOException {
 
-        StringBuilder fileNameSB = new StringBuilder(identityProvider.getIdentityProviderName());
-        fileNameSB.append(JSON_FILE_EXTENSION);
-        ObjectMapper objectMapper = new ObjectMapper(new JsonFactory());
+        CodecRegistry.Codec<IdentityProvider> codec = IDP_CODECS.getCodec(mediaType);
+        if (codec == null) {
+            codec = IDP_CODECS.getCodec(MEDIA_TYPE_YAML);
+        }
         try {
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_JSON,
-                    objectMapper.writeValueAsString(identityProvider));
-        } catch (JsonProcessingException e) {
-            throw new IdentityProviderManagementClientException(
-                    "Error when parsing identity provider to JSON file.", e);
+            codec.write(identityProvider, outputStream);
+        } catch (CodecException e) {
+            String message = "Error when parsing identity provider to " + codec.getFormatName() + " file.";
+            if (MEDIA_TYPE_JSON.equals(codec.getMediaType())) {
+                throw new IdentityProviderManagementClientException(message, e);
+            }
+            throw new IdentityProviderManagementException(message, e);
         }
     }
 
-    private FileContent parseIdpToYaml(IdentityProvider identityProvider)
-            throws IdentityProviderManagementException {
-
-        StringBuilder fileNameSB = new StringBuilder(identityProvider.getIdentityProviderName());
-        fileNameSB.append(YAML_FILE_EXTENSION);
+    private static void writeIdpAsYaml(IdentityProvider identityProvider, OutputStream outputStream)
+            throws IOException, CodecException {
 
+        // SnakeYAML instances are not thread safe, hence built per call.
         Representer representer = new Representer(new DumperOptions());
         TypeDescription typeDescription = new TypeDescription(IdentityProvider.class);
         typeDescription.setExcludes("id", "resourceId");
         representer.addTypeDescription(typeDescription);
         representer.getPropertyUtils().setSkipMissingProperties(true);
-
-        Yaml yaml = new Yaml(representer);
         try {
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_YAML, yaml.dump(identityProvider));
+            Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+            new Yaml(representer).dump(identityProvider, writer);
+            writer.flush();
         } catch (YAMLException e) {
-            throw new IdentityProviderManagementException(
-                    "Error when parsing identity provider to YAML file.", e);
+            throw new CodecException("Error while writing the identity provider as YAML.", e);
         }
     }
 
@@ -3749,68 +3728,236 @@ public class ServerIdpManagementService {
                     "Empty Identity Provider configuration file %s uploaded.", fileContent.getFileName()));
         }
 
-        switch (Util.getMediaType(fileContent.getFileType())) {
-            case MEDIA_TYPE_XML:
-                return parseIdpFromXml(fileContent);
-            case MEDIA_TYPE_JSON:
-                return parseIdpFromJson(fileContent);
-            case MEDIA_TYPE_YAML:
-                return parseIdpFromYaml(fileContent);
-            default:
-                log.warn(String.format("Unsupported media type %s for file %s. Defaulting to YAML parsing.",
-                        fileContent.getFileType(), fileContent.getFileName()));
-                return parseIdpFromYaml(fileContent);
+        CodecRegistry.Codec<IdentityProvider> codec = IDP_CODECS.getCodec(fileContent.getFileType());
+        if (codec == null) {
+            log.warn(String.format("Unsupported media type %s for file %s. Defaulting to YAML parsing.",
+                    fileContent.getFileType(), fileContent.getFileName()));
+            codec = IDP_CODECS.getCodec(MEDIA_TYPE_YAML);
+        }
+        try {
+            return codec.read(fileContent.getContent());
+        } catch (CodecException e) {
+            throw new IdentityProviderManagementClientException(String.format("Error in reading %s file " +
+                    "configuration for Identity Provider: %s.", codec.getFormatName(), fileContent.getFileName()), e);
         }
     }
 
-    private IdentityProvider parseIdpFromXml(FileContent fileContent)
-            throws IdentityProviderManagementClientException {
+    private static IdentityProvider readIdpFromYaml(String content) throws CodecException {
+
+        // Add trusted tags included in the IDP YAML files.
+        List<String> trustedTagList = new ArrayList<>();
+        trustedTagList.add(IdentityProvider.class.getName());
 
+        LoaderOptions loaderOptions = new LoaderOptions();
+        TagInspector tagInspector = new TrustedPrefixesTagInspector(trustedTagList);
+        loaderOptions.setTagInspector(tagInspector);
         try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(IdentityProvider.class);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            return (IdentityProvider) unmarshaller.unmarshal(new StringReader(fileContent.getContent()));
-        } catch (JAXBException e) {
-            throw new IdentityProviderManagementClientException(String.format("Error in reading " +
-                    "XML file configuration for Identity Provider: %s.", fileContent.getFileName()), e);
+            return new Yaml(new Constructor(IdentityProvider.class, loaderOptions)).loadAs(content,
+                    IdentityProvider.class);
+        } catch (YAMLException e) {
+            throw new CodecException("Error while reading the identity provider from YAML.", e);
         }
     }
 
-    private IdentityProvider parseIdpFromYaml(FileContent fileContent)
-            throws IdentityProviderManagementClientException {
+    private void validateSystemReservedIDP(String idpName) throws IdentityProviderManagementClientException {
 
-        try {
-            // Add trusted tags included in the IDP YAML files.
-            List<String> trustedTagList = new ArrayList<>();
-            trustedTagList.add(IdentityProvider.class.getName());
-
-            LoaderOptions loaderOptions = new LoaderOptions();
-            TagInspector tagInspector = new TrustedPrefixesTagInspector(trustedTagList);
-            loaderOptions.setTagInspector(tagInspector);
-            Yaml yaml = new Yaml(new Constructor(IdentityProvider.class, loaderOptions));
-            return yaml.loadAs(fileContent.getContent(), IdentityProvider.class);
-        } catch (YAMLException e) {
-            throw new IdentityProviderManagementClientException(String.format("Error in reading YAML file " +
-                    "configuration for Identity Provider: %s.", fileContent.getFileName()), e);
+        if (FrameworkConstants.ORGANIZATION_LOGIN_IDP_NAME.equals(idpName)) {
+            throw new IdentityProviderManagementClientException(String.format("The Connection with name %s is " +
+                    "a system reserved name.", idpName));
         }
     }
 
-    private IdentityProvider parseIdpFromJson(FileContent fileContent)
-            throws IdentityProviderManagementClientException {
+    /**
+     * Projection of the identity provider list items, compiled once per list request from the requested attributes.
+     * Each requested attribute is resolved to the populator of the corresponding section of the list item, so that the
+     * items of a page are populated without matching the requested attributes again for each identity provider.
+     */
+    private class IdPListProjection {
 
-        try {
-            return new ObjectMapper().readValue(fileContent.getContent(), IdentityProvider.class);
-        } catch (JsonProcessingException e) {
-            throw new IdentityProviderManagementClientException(String.format("Error in reading JSON " +
-                    "file configuration for Identity Provider: %s.", fileContent.getFileName()), e);
+        private final List<String> requestedAttributes;
+        private final List<BiConsumer<IdentityProviderListItem, IdentityProvider>> populators = new ArrayList<>();
+        private LocalClaimIndex localClaimIndex;
+
+        IdPListProjection(String requiredAttributes) {
+
+            if (StringUtils.isBlank(requiredAttributes)) {
+                requestedAttributes = null;
+                return;
+            }
+            // Duplicated attributes are requested from the backend and populated only once.
+            requestedAttributes = new ArrayList<>(new LinkedHashSet<>(Arrays.asList(requiredAttributes.split(","))));
+            for (String requestedAttribute : requestedAttributes) {
+                BiConsumer<IdentityProviderListItem, IdentityProvider> populator = getPopulator(requestedAttribute);
+                if (populator != null) {
+                    populators.add(populator);
+                } else if (log.isDebugEnabled()) {
+                    log.debug("Unknown requested attribute: " + requestedAttribute);
+                }
+            }
+        }
+
+        /**
+         * Get the attributes to be loaded by the backend, in addition to the basic information of the identity
+         * providers.
+         *
+         * @return Requested attributes or null if no attributes were requested.
+         */
+        List<String> getRequestedAttributes() {
+
+            return requestedAttributes;
+        }
+
+        /**
+         * Populate the requested attributes of the given identity provider in the list item.
+         *
+         * @param listItem Identity provider list item.
+         * @param idp      Identity provider.
+         */
+        void populate(IdentityProviderListItem listItem, IdentityProvider idp) {
+
+            for (BiConsumer<IdentityProviderListItem, IdentityProvider> populator : populators) {
+                populator.accept(listItem, idp);
+            }
+        }
+
+        private BiConsumer<IdentityProviderListItem, IdentityProvider> getPopulator(String requestedAttribute) {
+
+            switch (requestedAttribute) {
+                case Constants.IS_PRIMARY:
+                    return (listItem, idp) -> listItem.setIsPrimary(idp.isPrimary());
+                case Constants.IS_FEDERATION_HUB:
+                    return (listItem, idp) -> listItem.setIsFederationHub(idp.isFederationHub());
+                case Constants.HOME_REALM_IDENTIFIER:
+                    return (listItem, idp) -> listItem.setHomeRealmIdentifier(idp.getHomeRealmId());
+                case Constants.CERTIFICATE:
+                    return (listItem, idp) -> listItem.setCertificate(createIDPCertificate(idp));
+                case Constants.ALIAS:
+                    return (listItem, idp) -> listItem.setAlias(idp.getAlias());
+                case Constants.CLAIMS:
+                    // Local claims are shared by all the IdPs in the page, hence resolve them once for the whole page.
+                    localClaimIndex = new LocalClaimIndex(ContextLoader.getTenantDomainFromContext());
+                    return (listItem, idp) -> listItem.setClaims(createClaimResponse(idp.getClaimConfig(),
+                            localClaimIndex));
+                case Constants.ROLES:
+                    return (listItem, idp) -> listItem.setRoles(createRoleResponse(idp));
+                case Constants.GROUPS:
+                    return (listItem, idp) -> listItem.setGroups(createGroupResponse(idp));
+                case Constants.FEDERATED_AUTHENTICATORS:
+                    return (listItem, idp) -> listItem.setFederatedAuthenticators(
+                            createFederatedAuthenticatorResponse(idp));
+                case Constants.PROVISIONING:
+                    return (listItem, idp) -> listItem.setProvisioning(createProvisioningResponse(idp));
+                default:
+                    return null;
+            }
         }
     }
 
-    private void validateSystemReservedIDP(String idpName) throws IdentityProviderManagementClientException {
+    /**
+     * Certificates of an identity provider being patched. The existing certificates are decoded once, on the first
+     * access, and indexed by value so that duplicates are detected without decoding the certificates again for each
+     * patch operation.
+     */
+    private class PatchedCertificates {
 
-        if (FrameworkConstants.ORGANIZATION_LOGIN_IDP_NAME.equals(idpName)) {
-            throw new IdentityProviderManagementClientException(String.format("The Connection with name %s is " +
-                    "a system reserved name.", idpName));
+        private final IdentityProvider identityProvider;
+        private List<String> certificates;
+        private Map<String, Integer> certificateCounts;
+        private boolean modified;
+        private boolean cleared;
+
+        PatchedCertificates(IdentityProvider identityProvider) {
+
+            this.identityProvider = identityProvider;
+        }
+
+        int size() {
+
+            return getCertificates().size();
+        }
+
+        boolean contains(String certificate) {
+
+            getCertificates();
+            return certificateCounts.containsKey(certificate);
+        }
+
+        void add(String certificate) {
+
+            getCertificates().add(certificate);
+            index(certificate);
+            markModified();
+        }
+
+        void replace(int index, String certificate) {
+
+            unindex(getCertificates().set(index, certificate));
+            index(certificate);
+            markModified();
+        }
+
+        void remove(int index) {
+
+            unindex(getCertificates().remove(index));
+            markModified();
+        }
+
+        void clear() {
+
+            if (getCertificates().isEmpty()) {
+                return;
+            }
+            certificates.clear();
+            certificateCounts.clear();
+            modified = true;
+            cleared = true;
+        }
+
+        /**
+         * Set the patched certificates on the identity provider, if any of the certificates were patched.
+         */
+        void apply() {
+
+            if (!modified) {
+                return;
+            }
+            if (cleared && certificates.isEmpty()) {
+                identityProvider.setCertificate(null);
+            } else {
+                identityProvider.setCertificate(base64Encode(StringUtils.join(certificates, "")));
+            }
+        }
+
+        private List<String> getCertificates() {
+
+            if (certificates == null) {
+                certificates = new ArrayList<>();
+                certificateCounts = new HashMap<>();
+                if (ArrayUtils.isNotEmpty(identityProvider.getCertificateInfoArray())) {
+                    for (CertificateInfo certInfo : identityProvider.getCertificateInfoArray()) {
+                        String certificate = base64Decode(certInfo.getCertValue());
+                        certificates.add(certificate);
+                        index(certificate);
+                    }
+                }
+            }
+            return certificates;
+        }
+
+        private void index(String certificate) {
+
+            certificateCounts.merge(certificate, 1, Integer::sum);
+        }
+
+        private void unindex(String certificate) {
+
+            certificateCounts.computeIfPresent(certificate, (key, count) -> count > 1 ? count - 1 : null);
+        }
+
+        private void markModified() {
+
+            modified = true;
+            cleared = false;
         }
     }
 }
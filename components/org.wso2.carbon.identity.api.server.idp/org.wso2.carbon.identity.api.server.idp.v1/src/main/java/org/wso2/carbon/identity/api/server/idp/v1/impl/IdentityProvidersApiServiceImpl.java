@@ -22,8 +22,9 @@ import org.apache.cxf.jaxrs.ext.multipart.Attachment;
 import org.apache.cxf.jaxrs.ext.search.SearchContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
+import org.wso2.carbon.identity.api.server.common.ConditionalGet;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
-import org.wso2.carbon.identity.api.server.common.FileContent;
+import org.wso2.carbon.identity.api.server.common.StreamingFileContent;
 import org.wso2.carbon.identity.api.server.idp.v1.IdentityProvidersApiService;
 import org.wso2.carbon.identity.api.server.idp.v1.core.ServerIdpManagementService;
 import org.wso2.carbon.identity.api.server.idp.v1.model.AssociationRequest;
@@ -42,7 +43,6 @@ import org.wso2.carbon.identity.api.server.idp.v1.model.Roles;
 
 import java.io.InputStream;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import javax.ws.rs.core.Response;
 
@@ -99,7 +99,7 @@ public class IdentityProvidersApiServiceImpl implements IdentityProvidersApiServ
     @Override
     public Response exportIDPToFile(String identityProviderId, Boolean excludeSecrets, String accept) {
 
-        FileContent fileContent = idpManagementService.exportIDP(identityProviderId,
+        StreamingFileContent fileContent = idpManagementService.exportIDP(identityProviderId,
                 excludeSecrets, accept);
 
         return Response.ok()
@@ -109,7 +109,7 @@ public class IdentityProvidersApiServiceImpl implements IdentityProvidersApiServ
                 .header(HttpHeaders.CACHE_CONTROL, "no-cache, no-store, must-revalidate")
                 .header(HttpHeaders.PRAGMA, "no-cache")
                 .header(HttpHeaders.EXPIRES, "0")
-                .entity(fileContent.getContent().getBytes(StandardCharsets.UTF_8))
+                .entity(fileContent.getContent())
                 .build();
     }
 
@@ -185,14 +185,19 @@ public class IdentityProvidersApiServiceImpl implements IdentityProvidersApiServ
     @Override
     public Response getMetaFederatedAuthenticator(String federatedAuthenticatorId) {
 
-        return Response.ok().entity(idpManagementService.getMetaFederatedAuthenticator(federatedAuthenticatorId))
-                .build();
+        ConditionalGet conditionalGet = ConditionalGet.forRequest();
+        idpManagementService.addMetaFederatedAuthenticatorsVersion(conditionalGet);
+        return conditionalGet.respond(() -> Response.ok().entity(
+                idpManagementService.getMetaFederatedAuthenticator(federatedAuthenticatorId)));
     }
 
     @Override
     public Response getMetaFederatedAuthenticators() {
 
-        return Response.ok().entity(idpManagementService.getMetaFederatedAuthenticators()).build();
+        ConditionalGet conditionalGet = ConditionalGet.forRequest();
+        idpManagementService.addMetaFederatedAuthenticatorsVersion(conditionalGet);
+        return conditionalGet.respond(() -> Response.ok().entity(
+                idpManagementService.getMetaFederatedAuthenticators()));
     }
 
     @Override
@@ -32,4 +32,46 @@ public class OrganizationManagementEndpointConstants {
     public static final String FILTER_PARAM = "filter";
     public static final String LIMIT_PARAM = "limit";
     public static final String RECURSIVE_PARAM = "recursive";
+    // Maximum number of organizations fetched to list the organizations created at the same time in a single page.
+    public static final int MAX_ORGANIZATIONS_FETCH_LIMIT = 10000;
+
+    private static final String ORGANIZATION_MANAGEMENT_ENDPOINT_ERROR_CODE_PREFIX = "ORG-";
+
+    /**
+     * Enum for error messages of the organization management endpoint.
+     */
+    public enum ErrorMessage {
+
+        // Server errors.
+        ERROR_CODE_ORGANIZATIONS_CREATED_AT_SAME_TIME_EXCEED_FETCH_LIMIT("65901",
+                "Unable to list the organizations.",
+                "Too many organizations were created at %s to list them in order within the fetch limit of %s " +
+                        "organizations.");
+
+        private final String code;
+        private final String message;
+        private final String description;
+
+        ErrorMessage(String code, String message, String description) {
+
+            this.code = code;
+            this.message = message;
+            this.description = description;
+        }
+
+        public String getCode() {
+
+            return ORGANIZATION_MANAGEMENT_ENDPOINT_ERROR_CODE_PREFIX + code;
+        }
+
+        public String getMessage() {
+
+            return message;
+        }
+
+        public String getDescription() {
+
+            return description;
+        }
+    }
 }
@@ -23,6 +23,7 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.URIPrefixResolver;
 import org.wso2.carbon.identity.api.server.common.Util;
 import org.wso2.carbon.identity.api.server.organization.management.common.OrganizationManagementServiceHolder;
 import org.wso2.carbon.identity.api.server.organization.management.v1.model.ApplicationSharePOSTRequest;
@@ -49,6 +50,7 @@ import org.wso2.carbon.identity.api.server.organization.management.v1.model.Pare
 import org.wso2.carbon.identity.api.server.organization.management.v1.model.SharedApplicationResponse;
 import org.wso2.carbon.identity.api.server.organization.management.v1.model.SharedApplicationsResponse;
 import org.wso2.carbon.identity.api.server.organization.management.v1.model.SharedOrganizationsResponse;
+import org.wso2.carbon.identity.api.server.organization.management.v1.util.OrganizationListCursor;
 import org.wso2.carbon.identity.api.server.organization.management.v1.util.OrganizationManagementEndpointUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.organization.discovery.service.OrganizationDiscoveryManager;
@@ -73,7 +75,7 @@ import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.sql.Timestamp;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
@@ -86,8 +88,10 @@ import javax.ws.rs.core.Response;
 import static org.wso2.carbon.identity.api.server.organization.management.v1.constants.OrganizationManagementEndpointConstants.ASC_SORT_ORDER;
 import static org.wso2.carbon.identity.api.server.organization.management.v1.constants.OrganizationManagementEndpointConstants.DESC_SORT_ORDER;
 import static org.wso2.carbon.identity.api.server.organization.management.v1.constants.OrganizationManagementEndpointConstants.DISCOVERY_PATH;
+import static org.wso2.carbon.identity.api.server.organization.management.v1.constants.OrganizationManagementEndpointConstants.ErrorMessage.ERROR_CODE_ORGANIZATIONS_CREATED_AT_SAME_TIME_EXCEED_FETCH_LIMIT;
 import static org.wso2.carbon.identity.api.server.organization.management.v1.constants.OrganizationManagementEndpointConstants.FILTER_PARAM;
 import static org.wso2.carbon.identity.api.server.organization.management.v1.constants.OrganizationManagementEndpointConstants.LIMIT_PARAM;
+import static org.wso2.carbon.identity.api.server.organization.management.v1.constants.OrganizationManagementEndpointConstants.MAX_ORGANIZATIONS_FETCH_LIMIT;
 import static org.wso2.carbon.identity.api.server.organization.management.v1.constants.OrganizationManagementEndpointConstants.META_ATTRIBUTES_PATH;
 import static org.wso2.carbon.identity.api.server.organization.management.v1.constants.OrganizationManagementEndpointConstants.NEXT;
 import static org.wso2.carbon.identity.api.server.organization.management.v1.constants.OrganizationManagementEndpointConstants.PREVIOUS;
@@ -126,9 +130,8 @@ public class OrganizationManagementService {
 
         try {
             limit = validateLimit(limit);
-            String sortOrder = StringUtils.isNotBlank(before) ? ASC_SORT_ORDER : DESC_SORT_ORDER;
-            List<Organization> organizations = getOrganizationManager().getOrganizationsList(limit + 1, after,
-                    before, sortOrder, filter, Boolean.TRUE.equals(recursive));
+            List<Organization> organizations = getOrganizationsList(limit, after, before, filter,
+                    Boolean.TRUE.equals(recursive));
             return Response.ok().entity(getOrganizationsResponse(limit, after, before, filter, organizations,
                     Boolean.TRUE.equals(recursive))).build();
         } catch (OrganizationManagementClientException e) {
@@ -728,6 +731,79 @@ public class OrganizationManagementService {
         return limit;
     }
 
+    /**
+     * Retrieve the organizations of a page, followed by the first organization of the next page if there is one.
+     *
+     * The organization manager pages by the created time only, hence organizations created at the same time as the
+     * organization at the edge of a page would be skipped or repeated. The organizations are therefore fetched from
+     * the created time of the cursor onwards, ordered by the created time and the ID, and the ones positioned up to
+     * the cursor are dropped. A batch which fills the requested limit may end with only some of the organizations
+     * created at its last created time, so those are not used unless the batch is extended. The batch is extended up
+     * to MAX_ORGANIZATIONS_FETCH_LIMIT organizations, beyond which the listing fails rather than skipping the
+     * organizations created at the same time.
+     *
+     * @param limit     The maximum number of organizations of the page.
+     * @param after     The pointer to next page.
+     * @param before    The pointer to previous page.
+     * @param filter    The filter string.
+     * @param recursive Determines whether recursive search is required.
+     * @return Organizations of the page in the listing order, followed by the first organization of the next page.
+     * @throws OrganizationManagementException Error while retrieving the organizations or if more organizations than
+     *                                         the fetch limit were created at the same time.
+     */
+    List<Organization> getOrganizationsList(int limit, String after, String before, String filter,
+                                            boolean recursive) throws OrganizationManagementException {
+
+        boolean isAscending = StringUtils.isNotBlank(before);
+        String sortOrder = isAscending ? ASC_SORT_ORDER : DESC_SORT_ORDER;
+        OrganizationListCursor cursor = OrganizationListCursor.decode(isAscending ? before : after);
+        if (cursor != null) {
+            if (isAscending) {
+                before = cursor.toCreatedTimeCursor(true);
+            } else {
+                after = cursor.toCreatedTimeCursor(false);
+            }
+        }
+
+        int fetchLimit = limit + 1;
+        int maximumFetchLimit = Math.max(fetchLimit, MAX_ORGANIZATIONS_FETCH_LIMIT);
+        while (true) {
+            List<Organization> organizations = getOrganizationManager().getOrganizationsList(fetchLimit, after,
+                    before, sortOrder, filter, recursive);
+            if (organizations == null) {
+                return new ArrayList<>();
+            }
+            boolean hasMoreOrganizations = organizations.size() >= fetchLimit;
+            organizations.sort(OrganizationListCursor.getOrder(isAscending));
+            Instant partialCreatedTime = hasMoreOrganizations ?
+                    organizations.get(organizations.size() - 1).getCreated() : null;
+
+            List<Organization> page = new ArrayList<>();
+            for (Organization organization : organizations) {
+                if (organization.getCreated().equals(partialCreatedTime)) {
+                    break;
+                }
+                if (cursor == null || cursor.isFollowedBy(organization, isAscending)) {
+                    page.add(organization);
+                    if (page.size() > limit) {
+                        return page;
+                    }
+                }
+            }
+            if (!hasMoreOrganizations) {
+                return page;
+            }
+            if (fetchLimit >= maximumFetchLimit) {
+                throw new OrganizationManagementServerException(
+                        ERROR_CODE_ORGANIZATIONS_CREATED_AT_SAME_TIME_EXCEED_FETCH_LIMIT.getMessage(),
+                        String.format(ERROR_CODE_ORGANIZATIONS_CREATED_AT_SAME_TIME_EXCEED_FETCH_LIMIT.getDescription(),
+                                partialCreatedTime, maximumFetchLimit),
+                        ERROR_CODE_ORGANIZATIONS_CREATED_AT_SAME_TIME_EXCEED_FETCH_LIMIT.getCode());
+            }
+            fetchLimit = (int) Math.min(maximumFetchLimit, fetchLimit * 2L);
+        }
+    }
+
     private OrganizationsResponse getOrganizationsResponse(Integer limit, String after, String before, String filter,
                                                            List<Organization> organizations, boolean recursive)
             throws OrganizationManagementServerException {
@@ -759,36 +835,30 @@ public class OrganizationManagementService {
             if (needsReverse) {
                 Collections.reverse(organizations);
             }
+            String paginationURL = OrganizationManagementEndpointUtil.buildURIForPagination(url);
             if (!isFirstPage) {
-                Timestamp createdTimestamp = Timestamp.from(organizations.get(0).getCreated());
-                String encodedString = Base64.getEncoder().encodeToString(createdTimestamp.toString()
-                        .getBytes(StandardCharsets.UTF_8));
                 Link link = new Link();
-                link.setHref(URI.create(
-                        OrganizationManagementEndpointUtil.buildURIForPagination(url) + "&" + PAGINATION_BEFORE + "="
-                                + encodedString));
+                link.setHref(URI.create(paginationURL + "&" + PAGINATION_BEFORE + "=" +
+                        OrganizationListCursor.encode(organizations.get(0))));
                 link.setRel(PREVIOUS);
                 organizationsResponse.addLinksItem(link);
             }
             if (!isLastPage) {
-                Timestamp createdTimestamp = Timestamp.from(organizations.get(organizations.size() - 1).getCreated());
-                String encodedString = Base64.getEncoder().encodeToString(createdTimestamp.toString()
-                        .getBytes(StandardCharsets.UTF_8));
                 Link link = new Link();
-                link.setHref(URI.create(
-                        OrganizationManagementEndpointUtil.buildURIForPagination(url) + "&" + PAGINATION_AFTER + "="
-                                + encodedString));
+                link.setHref(URI.create(paginationURL + "&" + PAGINATION_AFTER + "=" +
+                        OrganizationListCursor.encode(organizations.get(organizations.size() - 1))));
                 link.setRel(NEXT);
                 organizationsResponse.addLinksItem(link);
             }
 
             List<BasicOrganizationResponse> organizationDTOs = new ArrayList<>();
+            URIPrefixResolver uriPrefixResolver = URIPrefixResolver.forBody();
             for (Organization organization : organizations) {
                 BasicOrganizationResponse organizationDTO = new BasicOrganizationResponse();
                 organizationDTO.setId(organization.getId());
                 organizationDTO.setName(organization.getName());
                 organizationDTO.setStatus(BasicOrganizationResponse.StatusEnum.valueOf(organization.getStatus()));
-                organizationDTO.setRef(buildOrganizationURL(organization.getId()).toString());
+                organizationDTO.setRef(buildOrganizationURL(organization.getId(), uriPrefixResolver).toString());
                 List<Attribute> attributeList = getOrganizationAttributes(organization);
                 if (!attributeList.isEmpty()) {
                     organizationDTO.setAttributes(attributeList);
@@ -840,10 +910,11 @@ public class OrganizationManagementService {
             throws OrganizationManagementServerException {
 
         SharedOrganizationsResponse response = new SharedOrganizationsResponse();
+        URIPrefixResolver uriPrefixResolver = URIPrefixResolver.forBody();
         for (BasicOrganization org : organizations) {
             BasicOrganizationResponse basicOrganizationResponse =
                     new BasicOrganizationResponse().id(org.getId()).name(org.getName())
-                            .ref(buildOrganizationURL(org.getId()).toString());
+                            .ref(buildOrganizationURL(org.getId(), uriPrefixResolver).toString());
             response.addOrganizationsItem(basicOrganizationResponse);
         }
         return response;
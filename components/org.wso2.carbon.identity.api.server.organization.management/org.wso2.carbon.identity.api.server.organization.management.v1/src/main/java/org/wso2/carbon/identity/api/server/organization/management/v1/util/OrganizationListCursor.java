@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.organization.management.v1.util;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.organization.management.service.model.Organization;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * Position of an organization in the organization listing, used as the before and after pagination cursors.
+ *
+ * Organizations are listed in the order of their created time and organizations created at the same time are
+ * ordered by their IDs, so that the position of every organization is unique. The cursor is the base64 URL encoded
+ * created time and ID of the organization at the edge of a page.
+ */
+public final class OrganizationListCursor {
+
+    private static final String SEPARATOR = ",";
+    private static final Comparator<Organization> ASCENDING_ORDER =
+            Comparator.comparing(Organization::getCreated).thenComparing(Organization::getId);
+    private static final Comparator<Organization> DESCENDING_ORDER = ASCENDING_ORDER.reversed();
+
+    private final Instant created;
+    private final String organizationId;
+
+    private OrganizationListCursor(Instant created, String organizationId) {
+
+        this.created = created;
+        this.organizationId = organizationId;
+    }
+
+    /**
+     * Build the cursor pointing to the given organization.
+     *
+     * @param organization Organization at the edge of a page.
+     * @return Encoded cursor.
+     */
+    public static String encode(Organization organization) {
+
+        String cursor = organization.getCreated().toString() + SEPARATOR + organization.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor built by {@link #encode(Organization)}.
+     *
+     * @param cursor Encoded cursor.
+     * @return Decoded cursor or null if the cursor is blank or is not a compound cursor, e.g. a cursor of the created
+     * time only, issued before compound cursors were introduced.
+     */
+    public static OrganizationListCursor decode(String cursor) {
+
+        if (StringUtils.isBlank(cursor)) {
+            return null;
+        }
+        try {
+            String decodedCursor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decodedCursor.split(SEPARATOR, 2);
+            if (parts.length != 2 || StringUtils.isBlank(parts[1])) {
+                return null;
+            }
+            return new OrganizationListCursor(Instant.parse(parts[0]), parts[1]);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Get the order of the organization listing.
+     *
+     * @param isAscending Whether the organizations are listed in the ascending order of the created time.
+     * @return Comparator ordering the organizations by the created time and then by the ID.
+     */
+    public static Comparator<Organization> getOrder(boolean isAscending) {
+
+        return isAscending ? ASCENDING_ORDER : DESCENDING_ORDER;
+    }
+
+    /**
+     * Check whether an organization is positioned after the cursor in the given order.
+     *
+     * @param organization Organization.
+     * @param isAscending  Whether the organizations are listed in the ascending order of the created time.
+     * @return True if the organization is positioned after the cursor.
+     */
+    public boolean isFollowedBy(Organization organization, boolean isAscending) {
+
+        int comparison = organization.getCreated().compareTo(created);
+        if (comparison == 0) {
+            comparison = organization.getId().compareTo(organizationId);
+        }
+        return isAscending ? comparison > 0 : comparison < 0;
+    }
+
+    /**
+     * Build the created time cursor understood by the organization manager, which lists the organizations created
+     * strictly after or before the given time. The time is widened by a millisecond in the listing direction so that
+     * the organizations created at the same time as the cursor organization are also listed, irrespective of the
+     * precision the created time is stored with.
+     *
+     * @param isAscending Whether the organizations are listed in the ascending order of the created time.
+     * @return Base64 encoded created time cursor.
+     */
+    public String toCreatedTimeCursor(boolean isAscending) {
+
+        Instant boundary = isAscending ? created.minusMillis(1) : created.plusMillis(1);
+        return Base64.getEncoder().encodeToString(Timestamp.from(boundary).toString()
+                .getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.api.server.organization.management.v1.util;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.URIPrefixResolver;
 import org.wso2.carbon.identity.api.server.organization.management.v1.exceptions.OrganizationManagementEndpointException;
 import org.wso2.carbon.identity.api.server.organization.management.v1.model.Error;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementClientException;
@@ -161,6 +162,19 @@ public class OrganizationManagementEndpointUtil {
                 PATH_SEPARATOR + organizationId);
     }
 
+    /**
+     * The relative URL to get the organization, built with the server API context resolved for the request.
+     *
+     * @param organizationId    The unique identifier of the organization.
+     * @param uriPrefixResolver Resolver of the URIs of the response.
+     * @return URI
+     */
+    public static URI buildOrganizationURL(String organizationId, URIPrefixResolver uriPrefixResolver) {
+
+        return uriPrefixResolver.resolveURI(PATH_SEPARATOR + V1_API_PATH_COMPONENT + PATH_SEPARATOR +
+                ORGANIZATION_PATH + PATH_SEPARATOR + organizationId);
+    }
+
     /**
      * Get location of the created organization discovery attributes.
      *
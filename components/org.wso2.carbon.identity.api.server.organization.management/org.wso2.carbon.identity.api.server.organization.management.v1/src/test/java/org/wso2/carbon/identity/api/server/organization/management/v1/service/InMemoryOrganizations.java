@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.organization.management.v1.service;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+import org.wso2.carbon.identity.organization.management.service.model.Organization;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Organizations held in memory, served through a mock organization manager which lists them the way the organization
+ * manager does, strictly after or before the created time of a cursor and ordered by the created time only, leaving
+ * the order of the organizations created at the same time to the database.
+ */
+final class InMemoryOrganizations {
+
+    static final Instant CREATED_TIME = Instant.parse("2026-01-01T00:00:00Z");
+
+    // Ordered by the created time, the organizations created at the same time in the order they were added.
+    private final List<Organization> organizations = new ArrayList<>();
+
+    /**
+     * Add organizations created at the given number of seconds after {@link #CREATED_TIME}, with the IDs
+     * org-000000-00000, org-000000-00001, ... up to the given count.
+     */
+    InMemoryOrganizations addOrganizations(int createdSecond, int count) {
+
+        Instant created = CREATED_TIME.plusSeconds(createdSecond);
+        List<Organization> addedOrganizations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Organization organization = new Organization();
+            organization.setId(String.format("org-%06d-%05d", createdSecond, i));
+            organization.setCreated(created);
+            addedOrganizations.add(organization);
+        }
+        organizations.addAll(indexOfCreatedAfter(created), addedOrganizations);
+        return this;
+    }
+
+    /**
+     * Get the organizations ordered by the created time.
+     */
+    List<Organization> getOrganizations() {
+
+        return Collections.unmodifiableList(organizations);
+    }
+
+    OrganizationManager mockOrganizationManager() throws OrganizationManagementException {
+
+        OrganizationManager organizationManager = mock(OrganizationManager.class);
+        when(organizationManager.getOrganizationsList(anyInt(), any(), any(), anyString(), any(), anyBoolean()))
+                .thenAnswer(invocation -> listByCreatedTime(((Number) invocation.getArgument(0)).intValue(),
+                        invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+        return organizationManager;
+    }
+
+    private List<Organization> listByCreatedTime(int limit, String after, String before, String sortOrder) {
+
+        Instant afterTime = decodeCreatedTimeCursor(after);
+        Instant beforeTime = decodeCreatedTimeCursor(before);
+        int fromIndex = beforeTime == null ? 0 : indexOfCreatedAfter(beforeTime);
+        int toIndex = afterTime == null ? organizations.size() : indexOfCreatedAfter(afterTime.minusNanos(1));
+        List<Organization> page = new ArrayList<>();
+        if ("DESC".equals(sortOrder)) {
+            for (int i = toIndex - 1; i >= fromIndex && page.size() < limit; i--) {
+                page.add(organizations.get(i));
+            }
+        } else {
+            for (int i = fromIndex; i < toIndex && page.size() < limit; i++) {
+                page.add(organizations.get(i));
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Get the index of the first organization created after the given time.
+     */
+    private int indexOfCreatedAfter(Instant time) {
+
+        int low = 0;
+        int high = organizations.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (organizations.get(middle).getCreated().isAfter(time)) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    private static Instant decodeCreatedTimeCursor(String cursor) {
+
+        if (StringUtils.isBlank(cursor)) {
+            return null;
+        }
+        return Timestamp.valueOf(new String(Base64.getDecoder().decode(cursor), StandardCharsets.UTF_8)).toInstant();
+    }
+}
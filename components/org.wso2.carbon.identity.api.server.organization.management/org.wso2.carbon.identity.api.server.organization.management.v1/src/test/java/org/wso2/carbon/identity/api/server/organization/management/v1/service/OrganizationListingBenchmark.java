@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.organization.management.v1.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.wso2.carbon.identity.api.server.organization.management.common.OrganizationManagementServiceHolder;
+import org.wso2.carbon.identity.api.server.organization.management.v1.util.OrganizationListCursor;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
+import org.wso2.carbon.identity.organization.management.service.model.Organization;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the organization listing over about a million organizations held in memory, served by an organization
+ * manager which pages by the created time only and with many organizations sharing a created time: the first page,
+ * a page continued from a cursor in the middle of the organizations, a page which starts in a large group of
+ * organizations created at the same time, for which the fetched batch grows up to the group size, and a page which
+ * starts in a group larger than the fetch limit, which fails once the batch reaches the limit. The benchmark is not
+ * run by the build. Run it through the main method from the test classpath of this module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrganizationListingBenchmark {
+
+    private static final int ORGANIZATION_COUNT = 1000000;
+    private static final int PAGE_SIZE = 20;
+    // Sizes of the groups of organizations created at the same time, repeated over the created times.
+    private static final int[] TIE_SIZES = {1, 3, 8, 20, 45, 90, 150};
+    private static final int LARGE_TIE_SIZE = 5000;
+    private static final int OVERSIZED_TIE_SIZE = 10001;
+
+    private final OrganizationManagementService organizationManagementService = new OrganizationManagementService();
+    private String middleCursor;
+    private String largeTieCursor;
+    private String oversizedTieCursor;
+
+    @Setup
+    public void setUp() throws OrganizationManagementException {
+
+        // The oldest organizations are created at the same time, more of them than the fetch limit.
+        InMemoryOrganizations inMemoryOrganizations = new InMemoryOrganizations().addOrganizations(0,
+                OVERSIZED_TIE_SIZE);
+        int organizationCount = OVERSIZED_TIE_SIZE;
+        int createdSecond = 1;
+        int largeTieSecond = -1;
+        while (organizationCount < ORGANIZATION_COUNT) {
+            int tieSize = largeTieSecond < 0 && organizationCount >= ORGANIZATION_COUNT / 4 ? LARGE_TIE_SIZE :
+                    TIE_SIZES[createdSecond % TIE_SIZES.length];
+            if (tieSize == LARGE_TIE_SIZE) {
+                largeTieSecond = createdSecond;
+            }
+            inMemoryOrganizations.addOrganizations(createdSecond++, tieSize);
+            organizationCount += tieSize;
+        }
+        OrganizationManagementServiceHolder.getInstance().setOrganizationManager(
+                inMemoryOrganizations.mockOrganizationManager());
+
+        // The organizations are listed from the latest created, hence a page continued from an organization starts
+        // with the organizations created before it.
+        List<Organization> organizations = inMemoryOrganizations.getOrganizations();
+        middleCursor = OrganizationListCursor.encode(organizations.get(organizations.size() / 2));
+        largeTieCursor = OrganizationListCursor.encode(getFirstCreatedAfter(organizations, largeTieSecond));
+        oversizedTieCursor = OrganizationListCursor.encode(getFirstCreatedAfter(organizations, 0));
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        OrganizationManagementServiceHolder.getInstance().setOrganizationManager(null);
+    }
+
+    @Benchmark
+    public List<Organization> firstPage() throws OrganizationManagementException {
+
+        return organizationManagementService.getOrganizationsList(PAGE_SIZE, null, null, null, false);
+    }
+
+    @Benchmark
+    public List<Organization> pageFromCursor() throws OrganizationManagementException {
+
+        return organizationManagementService.getOrganizationsList(PAGE_SIZE, middleCursor, null, null, false);
+    }
+
+    @Benchmark
+    public List<Organization> pageInLargeTie() throws OrganizationManagementException {
+
+        return organizationManagementService.getOrganizationsList(PAGE_SIZE, largeTieCursor, null, null, false);
+    }
+
+    @Benchmark
+    public OrganizationManagementServerException pageInOversizedTie() throws OrganizationManagementException {
+
+        try {
+            organizationManagementService.getOrganizationsList(PAGE_SIZE, oversizedTieCursor, null, null, false);
+        } catch (OrganizationManagementServerException e) {
+            return e;
+        }
+        throw new IllegalStateException("Listing the organizations of a tie larger than the fetch limit must fail.");
+    }
+
+    private static Organization getFirstCreatedAfter(List<Organization> organizations, int createdSecond) {
+
+        return organizations.stream().filter(organization -> organization.getCreated().isAfter(
+                InMemoryOrganizations.CREATED_TIME.plusSeconds(createdSecond))).findFirst()
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+
+        new Runner(new OptionsBuilder().include(OrganizationListingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.organization.management.v1.service;
+
+import org.apache.commons.lang.StringUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.api.server.organization.management.common.OrganizationManagementServiceHolder;
+import org.wso2.carbon.identity.api.server.organization.management.v1.util.OrganizationListCursor;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
+import org.wso2.carbon.identity.organization.management.service.model.Organization;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the pagination of the organization listing against an organization manager which pages by the created time
+ * only, to verify that every organization is listed exactly once when many organizations share a created time.
+ */
+public class OrganizationManagementServiceTest {
+
+    private final OrganizationManagementService organizationManagementService = new OrganizationManagementService();
+    private InMemoryOrganizations inMemoryOrganizations;
+
+    @BeforeMethod
+    public void setUp() throws OrganizationManagementException {
+
+        inMemoryOrganizations = new InMemoryOrganizations();
+        OrganizationManagementServiceHolder.getInstance().setOrganizationManager(
+                inMemoryOrganizations.mockOrganizationManager());
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        OrganizationManagementServiceHolder.getInstance().setOrganizationManager(null);
+    }
+
+    @DataProvider(name = "pageLimits")
+    public Object[][] pageLimits() {
+
+        return new Object[][]{{1}, {3}, {5}, {40}, {100}};
+    }
+
+    @Test(dataProvider = "pageLimits")
+    public void testListOrganizationsCreatedAtSameTimeExactlyOnce(int limit) throws OrganizationManagementException {
+
+        // Groups of organizations created at the same time, larger and smaller than the page limits.
+        inMemoryOrganizations.addOrganizations(0, 23).addOrganizations(1, 1).addOrganizations(2, 7)
+                .addOrganizations(3, 2).addOrganizations(4, 40).addOrganizations(5, 1);
+        List<String> expectedIds = inMemoryOrganizations.getOrganizations().stream()
+                .sorted(Comparator.comparing(Organization::getCreated).thenComparing(Organization::getId).reversed())
+                .map(Organization::getId).collect(Collectors.toList());
+
+        List<List<Organization>> pages = new ArrayList<>();
+        String after = null;
+        do {
+            List<Organization> organizations = organizationManagementService.getOrganizationsList(limit, after, null,
+                    null, false);
+            List<Organization> page = organizations.subList(0, Math.min(limit, organizations.size()));
+            pages.add(page);
+            after = organizations.size() > limit ? OrganizationListCursor.encode(page.get(page.size() - 1)) : null;
+        } while (after != null);
+        assertEquals(getIds(pages), expectedIds);
+
+        // Walk back from the last page with the before cursors.
+        List<List<Organization>> previousPages = new ArrayList<>();
+        List<Organization> lastPage = pages.get(pages.size() - 1);
+        previousPages.add(lastPage);
+        String before = OrganizationListCursor.encode(lastPage.get(0));
+        do {
+            List<Organization> organizations = organizationManagementService.getOrganizationsList(limit, null, before,
+                    null, false);
+            List<Organization> page = new ArrayList<>(organizations.subList(0, Math.min(limit,
+                    organizations.size())));
+            Collections.reverse(page);
+            previousPages.add(0, page);
+            before = organizations.size() > limit ? OrganizationListCursor.encode(page.get(0)) : null;
+        } while (before != null);
+        assertEquals(getIds(previousPages), expectedIds);
+    }
+
+    @Test
+    public void testListOrganizationsCreatedAtSameTimeBeyondFetchLimit() throws OrganizationManagementException {
+
+        inMemoryOrganizations.addOrganizations(0, 10).addOrganizations(1, 10001);
+        try {
+            organizationManagementService.getOrganizationsList(15, null, null, null, false);
+        } catch (OrganizationManagementServerException e) {
+            assertTrue(StringUtils.contains(e.getDescription(),
+                    InMemoryOrganizations.CREATED_TIME.plusSeconds(1).toString()));
+            return;
+        }
+        throw new AssertionError("Listing more organizations created at the same time than the fetch limit must " +
+                "fail instead of skipping organizations.");
+    }
+
+    private static List<String> getIds(List<List<Organization>> pages) {
+
+        return pages.stream().flatMap(List::stream).map(Organization::getId).collect(Collectors.toList());
+    }
+}
@@ -19,6 +19,7 @@
 package org.wso2.carbon.identity.api.server.organization.role.management.common;
 
 import org.wso2.carbon.identity.organization.management.role.management.service.RoleManager;
+import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.OrganizationUserResidentResolverService;
 
 /**
@@ -32,6 +33,8 @@ public class OrganizationRoleManagementServiceHolder {
 
     private OrganizationUserResidentResolverService organizationUserResidentResolverService;
 
+    private OrganizationManager organizationManager;
+
     private OrganizationRoleManagementServiceHolder() {
 
     }
@@ -82,4 +85,24 @@ public class OrganizationRoleManagementServiceHolder {
         OrganizationRoleManagementServiceHolder.getInstance().organizationUserResidentResolverService
                 = organizationUserResidentResolverService;
     }
+
+    /**
+     * Get OrganizationManager OSGi service.
+     *
+     * @return OrganizationManager.
+     */
+    public OrganizationManager getOrganizationManager() {
+
+        return OrganizationRoleManagementServiceHolder.getInstance().organizationManager;
+    }
+
+    /**
+     * Set OrganizationManager OSGi service.
+     *
+     * @param organizationManager OrganizationManager.
+     */
+    public void setOrganizationManager(OrganizationManager organizationManager) {
+
+        OrganizationRoleManagementServiceHolder.getInstance().organizationManager = organizationManager;
+    }
 }
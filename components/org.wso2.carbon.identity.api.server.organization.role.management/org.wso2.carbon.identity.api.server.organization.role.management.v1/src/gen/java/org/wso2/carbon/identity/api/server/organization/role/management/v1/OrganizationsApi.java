@@ -26,6 +26,7 @@ import java.util.List;
 
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.Error;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleGetResponse;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleGroupsListResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleObj;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePatchRequest;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePatchResponse;
@@ -33,7 +34,10 @@ import org.wso2.carbon.identity.api.server.organization.role.management.v1.model
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePostResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePutRequest;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePutResponse;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleUsersListResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolesListResponse;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.UserRolesLookupRequest;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.UserRolesLookupResult;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.OrganizationsApiService;
 
 import javax.validation.Valid;
@@ -76,6 +80,30 @@ public class OrganizationsApi  {
         return delegate.createRole(organizationId,  rolePostRequest );
     }
 
+    @Valid
+    @POST
+    @Path("/{organization-id}/user-roles")
+    @Consumes({ "application/json" })
+    @Produces({ "application/x-ndjson", "application/json" })
+    @ApiOperation(value = "Look up the roles of many users", notes = "This API looks up the roles assigned to each of the given users in the organization the user resides in, which needs to be the given organization or one of its descendants, and streams the result of each user as a line of newline delimited JSON. A user whose roles cannot be looked up is streamed with an error instead of the roles.", response = UserRolesLookupResult.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Organization Role Management", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Roles of the users are streamed.", response = UserRolesLookupResult.class),
+        @ApiResponse(code = 400, message = "Invalid input in the request.", response = Error.class),
+        @ApiResponse(code = 401, message = "Authentication information is missing or invalid.", response = Void.class),
+        @ApiResponse(code = 403, message = "Access forbidden.", response = Void.class),
+        @ApiResponse(code = 404, message = "Requested resource is not found.", response = Error.class),
+        @ApiResponse(code = 500, message = "Internal server error.", response = Error.class)
+    })
+    public Response lookupUserRoles(@ApiParam(value = "ID of the organization.",required=true) @PathParam("organization-id") String organizationId, @ApiParam(value = "Users and the organizations they reside in, whose roles are looked up." ,required=true) @Valid UserRolesLookupRequest userRolesLookupRequest) {
+
+        return delegate.lookupUserRoles(organizationId,  userRolesLookupRequest );
+    }
+
     @Valid
     @GET
     @Path("/{organization-id}/roles")
@@ -135,14 +163,39 @@ public class OrganizationsApi  {
     }, tags={ "Organization Role Management", })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "Valid role is found.", response = RoleGetResponse.class),
+        @ApiResponse(code = 400, message = "Invalid input in the request.", response = Error.class),
         @ApiResponse(code = 401, message = "Authentication information is missing or invalid.", response = Void.class),
         @ApiResponse(code = 403, message = "Access forbidden.", response = Void.class),
         @ApiResponse(code = 404, message = "Requested resource is not found.", response = Error.class),
         @ApiResponse(code = 500, message = "Internal server error.", response = Error.class)
     })
-    public Response organizationsOrganizationIdRolesRoleIdGet(@ApiParam(value = "ID of the role.",required=true) @PathParam("role-id") String roleId, @ApiParam(value = "ID of the organization.",required=true) @PathParam("organization-id") String organizationId) {
+    public Response organizationsOrganizationIdRolesRoleIdGet(@ApiParam(value = "ID of the role.",required=true) @PathParam("role-id") String roleId, @ApiParam(value = "ID of the organization.",required=true) @PathParam("organization-id") String organizationId,     @Valid@ApiParam(value = "Comma separated member attributes to be excluded from the response. Supports 'users' and 'groups'. The members of a role can be retrieved page by page through the users and groups sub-resources of the role.")  @QueryParam("excludedAttributes") String excludedAttributes) {
 
-        return delegate.organizationsOrganizationIdRolesRoleIdGet(roleId,  organizationId );
+        return delegate.organizationsOrganizationIdRolesRoleIdGet(roleId,  organizationId,  excludedAttributes );
+    }
+
+    @Valid
+    @GET
+    @Path("/{organization-id}/roles/{role-id}/groups")
+    
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Get groups assigned to a role", notes = "This API returns the groups assigned to a role, page by page. The groups are ordered by their IDs.", response = RoleGroupsListResponse.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Organization Role Management", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Valid role is found.", response = RoleGroupsListResponse.class),
+        @ApiResponse(code = 400, message = "Invalid input in the request.", response = Error.class),
+        @ApiResponse(code = 401, message = "Authentication information is missing or invalid.", response = Void.class),
+        @ApiResponse(code = 403, message = "Access forbidden.", response = Void.class),
+        @ApiResponse(code = 404, message = "Requested resource is not found.", response = Error.class),
+        @ApiResponse(code = 500, message = "Internal server error.", response = Error.class)
+    })
+    public Response organizationsOrganizationIdRolesRoleIdGroupsGet(@ApiParam(value = "ID of the role.",required=true) @PathParam("role-id") String roleId, @ApiParam(value = "ID of the organization.",required=true) @PathParam("organization-id") String organizationId,     @Valid @Min(0)@ApiParam(value = "Maximum number of records to be returned. (Should be greater than 0)")  @QueryParam("count") Integer count,     @Valid@ApiParam(value = "The cursor to retrieve the records.")  @QueryParam("cursor") String cursor) {
+
+        return delegate.organizationsOrganizationIdRolesRoleIdGroupsGet(roleId,  organizationId,  count,  cursor );
     }
 
     @Valid
@@ -193,6 +246,30 @@ public class OrganizationsApi  {
         return delegate.organizationsOrganizationIdRolesRoleIdPut(roleId,  organizationId,  rolePutRequest );
     }
 
+    @Valid
+    @GET
+    @Path("/{organization-id}/roles/{role-id}/users")
+    
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Get users assigned to a role", notes = "This API returns the users assigned to a role, page by page. The users are ordered by their IDs.", response = RoleUsersListResponse.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Organization Role Management", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Valid role is found.", response = RoleUsersListResponse.class),
+        @ApiResponse(code = 400, message = "Invalid input in the request.", response = Error.class),
+        @ApiResponse(code = 401, message = "Authentication information is missing or invalid.", response = Void.class),
+        @ApiResponse(code = 403, message = "Access forbidden.", response = Void.class),
+        @ApiResponse(code = 404, message = "Requested resource is not found.", response = Error.class),
+        @ApiResponse(code = 500, message = "Internal server error.", response = Error.class)
+    })
+    public Response organizationsOrganizationIdRolesRoleIdUsersGet(@ApiParam(value = "ID of the role.",required=true) @PathParam("role-id") String roleId, @ApiParam(value = "ID of the organization.",required=true) @PathParam("organization-id") String organizationId,     @Valid @Min(0)@ApiParam(value = "Maximum number of records to be returned. (Should be greater than 0)")  @QueryParam("count") Integer count,     @Valid@ApiParam(value = "The cursor to retrieve the records.")  @QueryParam("cursor") String cursor) {
+
+        return delegate.organizationsOrganizationIdRolesRoleIdUsersGet(roleId,  organizationId,  count,  cursor );
+    }
+
     @Valid
     @GET
     @Path("/{organization-id}/users/{user-id}/roles")
@@ -26,6 +26,7 @@ import java.io.InputStream;
 import java.util.List;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.Error;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleGetResponse;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleGroupsListResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleObj;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePatchRequest;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePatchResponse;
@@ -33,7 +34,10 @@ import org.wso2.carbon.identity.api.server.organization.role.management.v1.model
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePostResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePutRequest;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePutResponse;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleUsersListResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolesListResponse;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.UserRolesLookupRequest;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.UserRolesLookupResult;
 import javax.ws.rs.core.Response;
 
 
@@ -41,15 +45,21 @@ public interface OrganizationsApiService {
 
       public Response createRole(String organizationId, RolePostRequest rolePostRequest);
 
+      public Response lookupUserRoles(String organizationId, UserRolesLookupRequest userRolesLookupRequest);
+
       public Response organizationsOrganizationIdRolesGet(String organizationId, String filter, Integer count, String cursor);
 
       public Response organizationsOrganizationIdRolesRoleIdDelete(String roleId, String organizationId);
 
-      public Response organizationsOrganizationIdRolesRoleIdGet(String roleId, String organizationId);
+      public Response organizationsOrganizationIdRolesRoleIdGet(String roleId, String organizationId, String excludedAttributes);
+
+      public Response organizationsOrganizationIdRolesRoleIdGroupsGet(String roleId, String organizationId, Integer count, String cursor);
 
       public Response organizationsOrganizationIdRolesRoleIdPatch(String roleId, String organizationId, RolePatchRequest rolePatchRequest);
 
       public Response organizationsOrganizationIdRolesRoleIdPut(String roleId, String organizationId, RolePutRequest rolePutRequest);
 
+      public Response organizationsOrganizationIdRolesRoleIdUsersGet(String roleId, String organizationId, Integer count, String cursor);
+
       public Response organizationsOrganizationIdUsersUserIdRolesGet(String userId, String organizationId);
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.organization.role.management.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import javax.validation.constraints.*;
+
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+
+public class UserRolesLookupItem  {
+  
+    private String userId;
+    private String organizationId;
+
+    /**
+    * ID of the user.
+    **/
+    public UserRolesLookupItem userId(String userId) {
+
+        this.userId = userId;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "7bac6a86-1f21-4937-9fb1-5be4a93ef469", required = true, value = "ID of the user.")
+    @JsonProperty("userId")
+    @Valid
+    @NotNull(message = "Property userId cannot be null.")
+
+    public String getUserId() {
+        return userId;
+    }
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    /**
+    * ID of the organization the user resides in.
+    **/
+    public UserRolesLookupItem organizationId(String organizationId) {
+
+        this.organizationId = organizationId;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "48e31bc5-1669-4de1-bb22-c71e443aeb8b", required = true, value = "ID of the organization the user resides in.")
+    @JsonProperty("organizationId")
+    @Valid
+    @NotNull(message = "Property organizationId cannot be null.")
+
+    public String getOrganizationId() {
+        return organizationId;
+    }
+    public void setOrganizationId(String organizationId) {
+        this.organizationId = organizationId;
+    }
+
+
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        UserRolesLookupItem userRolesLookupItem = (UserRolesLookupItem) o;
+        return Objects.equals(this.userId, userRolesLookupItem.userId) &&
+            Objects.equals(this.organizationId, userRolesLookupItem.organizationId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, organizationId);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class UserRolesLookupItem {\n");
+        
+        sb.append("    userId: ").append(toIndentedString(userId)).append("\n");
+        sb.append("    organizationId: ").append(toIndentedString(organizationId)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
+
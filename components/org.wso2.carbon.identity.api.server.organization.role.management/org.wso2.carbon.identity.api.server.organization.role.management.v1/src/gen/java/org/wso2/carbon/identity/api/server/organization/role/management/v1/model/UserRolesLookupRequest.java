@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.organization.role.management.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.UserRolesLookupItem;
+import javax.validation.constraints.*;
+
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+
+public class UserRolesLookupRequest  {
+  
+    private List<UserRolesLookupItem> lookups = new ArrayList<>();
+
+
+    /**
+    * Users and the organizations they reside in, whose roles are looked up. The organizations need to be the organization of the request or its descendants. At most 1000 users can be looked up in a single request.
+    **/
+    public UserRolesLookupRequest lookups(List<UserRolesLookupItem> lookups) {
+
+        this.lookups = lookups;
+        return this;
+    }
+    
+    @ApiModelProperty(required = true, value = "Users and the organizations they reside in, whose roles are looked up. The organizations need to be the organization of the request or its descendants. At most 1000 users can be looked up in a single request.")
+    @JsonProperty("lookups")
+    @Valid
+    @NotNull(message = "Property lookups cannot be null.")
+
+    public List<UserRolesLookupItem> getLookups() {
+        return lookups;
+    }
+    public void setLookups(List<UserRolesLookupItem> lookups) {
+        this.lookups = lookups;
+    }
+
+    public UserRolesLookupRequest addLookupsItem(UserRolesLookupItem lookupsItem) {
+        this.lookups.add(lookupsItem);
+        return this;
+    }
+
+    
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        UserRolesLookupRequest userRolesLookupRequest = (UserRolesLookupRequest) o;
+        return Objects.equals(this.lookups, userRolesLookupRequest.lookups);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lookups);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class UserRolesLookupRequest {\n");
+        
+        sb.append("    lookups: ").append(toIndentedString(lookups)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
+
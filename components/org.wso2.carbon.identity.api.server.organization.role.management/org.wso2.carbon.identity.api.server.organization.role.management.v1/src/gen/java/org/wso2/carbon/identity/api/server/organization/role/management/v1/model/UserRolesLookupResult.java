@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.organization.role.management.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.Error;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleObj;
+import javax.validation.constraints.*;
+
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+
+public class UserRolesLookupResult  {
+  
+    private String userId;
+    private String organizationId;
+    private List<RoleObj> roles = null;
+    private Error error;
+
+    /**
+    * ID of the user.
+    **/
+    public UserRolesLookupResult userId(String userId) {
+
+        this.userId = userId;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "7bac6a86-1f21-4937-9fb1-5be4a93ef469", value = "ID of the user.")
+    @JsonProperty("userId")
+    @Valid
+    public String getUserId() {
+        return userId;
+    }
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    /**
+    * ID of the organization the user resides in.
+    **/
+    public UserRolesLookupResult organizationId(String organizationId) {
+
+        this.organizationId = organizationId;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "48e31bc5-1669-4de1-bb22-c71e443aeb8b", value = "ID of the organization the user resides in.")
+    @JsonProperty("organizationId")
+    @Valid
+    public String getOrganizationId() {
+        return organizationId;
+    }
+    public void setOrganizationId(String organizationId) {
+        this.organizationId = organizationId;
+    }
+
+    /**
+    * Roles assigned to the user in the organization. Absent if the roles could not be looked up.
+    **/
+    public UserRolesLookupResult roles(List<RoleObj> roles) {
+
+        this.roles = roles;
+        return this;
+    }
+    
+    @ApiModelProperty(value = "Roles assigned to the user in the organization. Absent if the roles could not be looked up.")
+    @JsonProperty("roles")
+    @Valid
+    public List<RoleObj> getRoles() {
+        return roles;
+    }
+    public void setRoles(List<RoleObj> roles) {
+        this.roles = roles;
+    }
+
+    public UserRolesLookupResult addRolesItem(RoleObj rolesItem) {
+        if (this.roles == null) {
+            this.roles = new ArrayList<>();
+        }
+        this.roles.add(rolesItem);
+        return this;
+    }
+
+    /**
+    * Error occurred while looking up the roles of the user.
+    **/
+    public UserRolesLookupResult error(Error error) {
+
+        this.error = error;
+        return this;
+    }
+    
+    @ApiModelProperty(value = "Error occurred while looking up the roles of the user.")
+    @JsonProperty("error")
+    @Valid
+    public Error getError() {
+        return error;
+    }
+    public void setError(Error error) {
+        this.error = error;
+    }
+
+
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        UserRolesLookupResult userRolesLookupResult = (UserRolesLookupResult) o;
+        return Objects.equals(this.userId, userRolesLookupResult.userId) &&
+            Objects.equals(this.organizationId, userRolesLookupResult.organizationId) &&
+            Objects.equals(this.roles, userRolesLookupResult.roles) &&
+            Objects.equals(this.error, userRolesLookupResult.error);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, organizationId, roles, error);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class UserRolesLookupResult {\n");
+        
+        sb.append("    userId: ").append(toIndentedString(userId)).append("\n");
+        sb.append("    organizationId: ").append(toIndentedString(organizationId)).append("\n");
+        sb.append("    roles: ").append(toIndentedString(roles)).append("\n");
+        sb.append("    error: ").append(toIndentedString(error)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
+
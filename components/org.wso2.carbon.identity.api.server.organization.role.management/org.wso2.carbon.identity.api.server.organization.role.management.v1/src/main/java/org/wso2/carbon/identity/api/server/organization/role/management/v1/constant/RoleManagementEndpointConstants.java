@@ -31,4 +31,68 @@ public class RoleManagementEndpointConstants {
     public static final String GROUP_PATH = "groups";
     public static final String USER_PATH = "users";
     public static final String SCIM_USER_PATH = "Users";
+
+    // Role member pagination related constants.
+    public static final String USERS_ATTRIBUTE = "users";
+    public static final String GROUPS_ATTRIBUTE = "groups";
+    public static final String FORWARD_CURSOR_DIRECTION = "FORWARD";
+    public static final String BACKWARD_CURSOR_DIRECTION = "BACKWARD";
+    public static final String CURSOR_SEPARATOR = ",";
+
+    // User role lookup related constants.
+    public static final String MEDIA_TYPE_NDJSON = "application/x-ndjson";
+    public static final int MAX_USER_ROLE_LOOKUPS = 1000;
+
+    private static final String ROLE_MANAGEMENT_PREFIX = "ORM-";
+
+    /**
+     * Enums for error messages.
+     */
+    public enum ErrorMessage {
+
+        ERROR_CODE_INVALID_MEMBER_CURSOR("60001",
+                "Invalid cursor.",
+                "The cursor: %s is not a valid cursor of the role members."),
+        ERROR_CODE_INVALID_EXCLUDED_ATTRIBUTE("60002",
+                "Invalid excluded attribute.",
+                "The attribute: %s cannot be excluded. Only the users and groups attributes can be excluded."),
+        ERROR_CODE_USER_ROLE_LOOKUP_LIMIT_EXCEEDED("60003",
+                "Too many user role lookups.",
+                "The number of user role lookups: %s exceeds the maximum allowed in a single request."),
+        ERROR_CODE_USER_ROLE_LOOKUP_ORGANIZATION_NOT_ALLOWED("60004",
+                "User role lookup is not allowed.",
+                "The organization: %s is neither the organization: %s nor one of its descendants.");
+
+        private final String code;
+        private final String message;
+        private final String description;
+
+        ErrorMessage(String code, String message, String description) {
+
+            this.code = code;
+            this.message = message;
+            this.description = description;
+        }
+
+        public String getCode() {
+
+            return ROLE_MANAGEMENT_PREFIX + code;
+        }
+
+        public String getMessage() {
+
+            return message;
+        }
+
+        public String getDescription() {
+
+            return description;
+        }
+
+        @Override
+        public String toString() {
+
+            return code + " | " + message;
+        }
+    }
 }
@@ -23,6 +23,7 @@ import org.wso2.carbon.identity.api.server.organization.role.management.v1.Organ
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePatchRequest;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePostRequest;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePutRequest;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.UserRolesLookupRequest;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.service.RoleManagementService;
 
 import javax.ws.rs.core.Response;
@@ -41,6 +42,12 @@ public class OrganizationsApiServiceImpl implements OrganizationsApiService {
         return roleManagementService.createRole(organizationId, rolePostRequest);
     }
 
+    @Override
+    public Response lookupUserRoles(String organizationId, UserRolesLookupRequest userRolesLookupRequest) {
+
+        return roleManagementService.lookupUserRoles(organizationId, userRolesLookupRequest);
+    }
+
     @Override
     public Response organizationsOrganizationIdRolesGet(String organizationId, String filter, Integer count,
                                                         String cursor) {
@@ -55,9 +62,17 @@ public class OrganizationsApiServiceImpl implements OrganizationsApiService {
     }
 
     @Override
-    public Response organizationsOrganizationIdRolesRoleIdGet(String roleId, String organizationId) {
+    public Response organizationsOrganizationIdRolesRoleIdGet(String roleId, String organizationId,
+                                                              String excludedAttributes) {
+
+        return roleManagementService.getRoleUsingOrganizationIdAndRoleId(organizationId, roleId, excludedAttributes);
+    }
+
+    @Override
+    public Response organizationsOrganizationIdRolesRoleIdGroupsGet(String roleId, String organizationId,
+                                                                    Integer count, String cursor) {
 
-        return roleManagementService.getRoleUsingOrganizationIdAndRoleId(organizationId, roleId);
+        return roleManagementService.getRoleGroups(organizationId, roleId, count, cursor);
     }
 
     @Override
@@ -74,6 +89,13 @@ public class OrganizationsApiServiceImpl implements OrganizationsApiService {
         return roleManagementService.putRole(organizationId, roleId, rolePutRequest);
     }
 
+    @Override
+    public Response organizationsOrganizationIdRolesRoleIdUsersGet(String roleId, String organizationId,
+                                                                   Integer count, String cursor) {
+
+        return roleManagementService.getRoleUsers(organizationId, roleId, count, cursor);
+    }
+
     @Override
     public Response organizationsOrganizationIdUsersUserIdRolesGet(String userId, String organizationId) {
 
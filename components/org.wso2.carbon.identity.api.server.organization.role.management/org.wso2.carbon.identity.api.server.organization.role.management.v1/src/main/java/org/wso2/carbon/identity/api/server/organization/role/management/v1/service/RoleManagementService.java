@@ -18,14 +18,23 @@
 
 package org.wso2.carbon.identity.api.server.organization.role.management.v1.service;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.jaxrs.json.JacksonJsonProvider;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.constant.RoleManagementEndpointConstants;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.exception.RoleManagementEndpointException;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.Error;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleGetResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleGetResponseGroup;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleGetResponseUser;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleGroupsListResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleObj;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleObjMeta;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePatchOperation;
@@ -40,24 +49,42 @@ import org.wso2.carbon.identity.api.server.organization.role.management.v1.model
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePutRequestUser;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePutResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePutResponseMeta;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleUsersListResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolesListResponse;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.UserRolesLookupItem;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.UserRolesLookupRequest;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.UserRolesLookupResult;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.util.RoleManagementEndpointUtils;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.organization.management.role.management.service.RoleManager;
 import org.wso2.carbon.identity.organization.management.role.management.service.models.Group;
 import org.wso2.carbon.identity.organization.management.role.management.service.models.PatchOperation;
 import org.wso2.carbon.identity.organization.management.role.management.service.models.Role;
 import org.wso2.carbon.identity.organization.management.role.management.service.models.RolesResponse;
 import org.wso2.carbon.identity.organization.management.role.management.service.models.User;
+import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementClientException;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_BUILDING_GROUP_URI;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_BUILDING_ROLE_URI;
@@ -77,6 +104,15 @@ import static org.wso2.carbon.identity.organization.management.service.util.Util
 public class RoleManagementService {
 
     private static final Log LOG = LogFactory.getLog(RoleManagementService.class);
+    private static final String NDJSON_LINE_SEPARATOR = "\n";
+    // The results are serialized with the object mapper of the JSON provider of the API, without the null values.
+    private static final ObjectWriter USER_ROLES_LOOKUP_WRITER = new JacksonJsonProvider()
+            .locateMapper(UserRolesLookupResult.class, MediaType.APPLICATION_JSON_TYPE).copy()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .writerFor(UserRolesLookupResult.class)
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .with(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .withRootValueSeparator(NDJSON_LINE_SEPARATOR);
 
     /**
      * Service for creating a role inside an organization.
@@ -123,18 +159,107 @@ public class RoleManagementService {
     /**
      * Service for getting a role using role ID and organization ID.
      *
-     * @param organizationId The ID of the organization.
-     * @param roleId         The ID of the role.
+     * @param organizationId     The ID of the organization.
+     * @param roleId             The ID of the role.
+     * @param excludedAttributes Comma separated member attributes, i.e. users and groups, to be excluded.
      * @return The role corresponding to roleId and organizationId.
      */
-    public Response getRoleUsingOrganizationIdAndRoleId(String organizationId, String roleId) {
+    public Response getRoleUsingOrganizationIdAndRoleId(String organizationId, String roleId,
+                                                        String excludedAttributes) {
 
         try {
+            Set<String> excludedMemberAttributes = getExcludedMemberAttributes(excludedAttributes);
             Role role = RoleManagementEndpointUtils.getRoleManager().getRoleById(organizationId, roleId);
             URI roleURI = RoleManagementEndpointUtils.getUri(organizationId, roleId,
                     RoleManagementEndpointConstants.ROLE_PATH,
                     ERROR_CODE_ERROR_BUILDING_ROLE_URI);
-            return Response.ok().entity(getRoleGetResponse(organizationId, role, roleURI)).build();
+            return Response.ok().entity(getRoleGetResponse(organizationId, role, roleURI,
+                    excludedMemberAttributes)).build();
+        } catch (OrganizationManagementClientException e) {
+            return RoleManagementEndpointUtils.handleClientErrorResponse(e, LOG);
+        } catch (OrganizationManagementException e) {
+            return RoleManagementEndpointUtils.handleServerErrorResponse(e, LOG);
+        }
+    }
+
+    /**
+     * Service for getting a page of the users assigned to a role. The users are ordered by their IDs.
+     *
+     * @param organizationId The ID of the organization.
+     * @param roleId         The ID of the role.
+     * @param count          Param for desired maximum number of users per page.
+     * @param cursor         Param for cursor to fetch the next or previous page of users.
+     * @return The users of the page.
+     */
+    public Response getRoleUsers(String organizationId, String roleId, Integer count, String cursor) {
+
+        try {
+            int limitValue = validateCount(count);
+            String[] memberCursor = decodeMemberCursor(cursor);
+            Role role = RoleManagementEndpointUtils.getRoleManager().getRoleById(organizationId, roleId);
+            List<User> roleUsers = role.getUsers() == null ? new ArrayList<>() : new ArrayList<>(role.getUsers());
+            roleUsers.sort(Comparator.comparing(User::getId));
+            int[] pageBounds = getMemberPageBounds(roleUsers, User::getId, limitValue, memberCursor);
+            List<User> pageUsers = roleUsers.subList(pageBounds[0], pageBounds[1]);
+
+            RoleUsersListResponse response = new RoleUsersListResponse();
+            response.setTotalResults(roleUsers.size());
+            response.setItemsPerPage(pageUsers.size());
+            if (!pageUsers.isEmpty()) {
+                if (pageBounds[1] < roleUsers.size()) {
+                    response.setNextCursor(encodeMemberCursor(RoleManagementEndpointConstants.FORWARD_CURSOR_DIRECTION,
+                            pageUsers.get(pageUsers.size() - 1).getId()));
+                }
+                if (pageBounds[0] > 0) {
+                    response.setPreviousCursor(encodeMemberCursor(
+                            RoleManagementEndpointConstants.BACKWARD_CURSOR_DIRECTION, pageUsers.get(0).getId()));
+                }
+                response.setResources(getUsersForResponseObject(pageUsers, organizationId));
+            }
+            return Response.ok().entity(response).build();
+        } catch (OrganizationManagementClientException e) {
+            return RoleManagementEndpointUtils.handleClientErrorResponse(e, LOG);
+        } catch (OrganizationManagementException e) {
+            return RoleManagementEndpointUtils.handleServerErrorResponse(e, LOG);
+        }
+    }
+
+    /**
+     * Service for getting a page of the groups assigned to a role. The groups are ordered by their IDs.
+     *
+     * @param organizationId The ID of the organization.
+     * @param roleId         The ID of the role.
+     * @param count          Param for desired maximum number of groups per page.
+     * @param cursor         Param for cursor to fetch the next or previous page of groups.
+     * @return The groups of the page.
+     */
+    public Response getRoleGroups(String organizationId, String roleId, Integer count, String cursor) {
+
+        try {
+            int limitValue = validateCount(count);
+            String[] memberCursor = decodeMemberCursor(cursor);
+            Role role = RoleManagementEndpointUtils.getRoleManager().getRoleById(organizationId, roleId);
+            List<Group> roleGroups = role.getGroups() == null ? new ArrayList<>() :
+                    new ArrayList<>(role.getGroups());
+            roleGroups.sort(Comparator.comparing(Group::getGroupId));
+            int[] pageBounds = getMemberPageBounds(roleGroups, Group::getGroupId, limitValue, memberCursor);
+            List<Group> pageGroups = roleGroups.subList(pageBounds[0], pageBounds[1]);
+
+            RoleGroupsListResponse response = new RoleGroupsListResponse();
+            response.setTotalResults(roleGroups.size());
+            response.setItemsPerPage(pageGroups.size());
+            if (!pageGroups.isEmpty()) {
+                if (pageBounds[1] < roleGroups.size()) {
+                    response.setNextCursor(encodeMemberCursor(RoleManagementEndpointConstants.FORWARD_CURSOR_DIRECTION,
+                            pageGroups.get(pageGroups.size() - 1).getGroupId()));
+                }
+                if (pageBounds[0] > 0) {
+                    response.setPreviousCursor(encodeMemberCursor(
+                            RoleManagementEndpointConstants.BACKWARD_CURSOR_DIRECTION, pageGroups.get(0).getGroupId()));
+                }
+                response.setResources(getGroupsForResponseObject(pageGroups, organizationId));
+            }
+            return Response.ok().entity(response).build();
         } catch (OrganizationManagementClientException e) {
             return RoleManagementEndpointUtils.handleClientErrorResponse(e, LOG);
         } catch (OrganizationManagementException e) {
@@ -175,23 +300,55 @@ public class RoleManagementService {
     public Response getUserRolesOfOrganization(String organizationId, String userId) {
 
         try {
-            String userResidentOrgId = String.valueOf(RoleManagementEndpointUtils
-                    .getOrganizationUserResidentResolverService()
-                    .resolveResidentOrganization(userId, organizationId)
-                    .orElseThrow(() -> handleClientException(ERROR_CODE_USER_ROOT_ORGANIZATION_NOT_FOUND, userId)));
-            if (!StringUtils.equals(userResidentOrgId, organizationId)) {
-                throw handleClientException
-                        (ERROR_CODE_ERROR_WHILE_RESOLVING_USER_FROM_RESIDENT_ORG, userResidentOrgId, organizationId);
-            }
+            List<Role> userRolesResponse = getResidentUserRoles(RoleManagementEndpointUtils.getRoleManager(),
+                    organizationId, userId);
+            return Response.ok().entity(getUserRoleListResponse(userRolesResponse,
+                    () -> getRolesCollectionUri(organizationId))).build();
+        } catch (OrganizationManagementClientException e) {
+            return RoleManagementEndpointUtils.handleClientErrorResponse(e, LOG);
+        } catch (OrganizationManagementException e) {
+            return RoleManagementEndpointUtils.handleServerErrorResponse(e, LOG);
+        }
+    }
+
+    /**
+     * Look up the roles of many users, each in the organization the user resides in, which needs to be the given
+     * organization or one of its descendants. The result of each user is written and flushed to the response as a
+     * line of newline delimited JSON as soon as it is looked up, and a user whose roles cannot be looked up is written
+     * with the error instead of failing the lookups of the other users.
+     *
+     * @param organizationId         The ID of the organization.
+     * @param userRolesLookupRequest The users and the organizations they reside in.
+     * @return The streamed roles of the users.
+     */
+    public Response lookupUserRoles(String organizationId, UserRolesLookupRequest userRolesLookupRequest) {
 
-            List<Role> userRolesResponse = RoleManagementEndpointUtils.getRoleManager()
-                    .getUserOrganizationRoles(userId, organizationId);
-            return Response.ok().entity(getUserRoleListResponse(organizationId, userRolesResponse)).build();
+        List<UserRolesLookupItem> lookups = userRolesLookupRequest.getLookups();
+        if (lookups.size() > RoleManagementEndpointConstants.MAX_USER_ROLE_LOOKUPS) {
+            throw buildBadRequestException(
+                    RoleManagementEndpointConstants.ErrorMessage.ERROR_CODE_USER_ROLE_LOOKUP_LIMIT_EXCEEDED,
+                    String.valueOf(lookups.size()));
+        }
+        // Duplicate lookups are written once.
+        Set<UserRolesLookupItem> uniqueLookups = new LinkedHashSet<>(lookups);
+        try {
+            validateLookupOrganizations(organizationId, uniqueLookups);
         } catch (OrganizationManagementClientException e) {
             return RoleManagementEndpointUtils.handleClientErrorResponse(e, LOG);
         } catch (OrganizationManagementException e) {
             return RoleManagementEndpointUtils.handleServerErrorResponse(e, LOG);
         }
+        RoleManager roleManager = RoleManagementEndpointUtils.getRoleManager();
+        StreamingOutput userRoles = outputStream -> {
+            Map<String, String> rolesUris = new HashMap<>();
+            try (SequenceWriter sequenceWriter = USER_ROLES_LOOKUP_WRITER.writeValues(outputStream)) {
+                for (UserRolesLookupItem lookup : uniqueLookups) {
+                    sequenceWriter.write(lookupUserRoles(roleManager, lookup, rolesUris));
+                }
+            }
+            outputStream.write(NDJSON_LINE_SEPARATOR.getBytes(StandardCharsets.UTF_8));
+        };
+        return Response.ok(userRoles, RoleManagementEndpointConstants.MEDIA_TYPE_NDJSON).build();
     }
 
     /**
@@ -325,12 +482,14 @@ public class RoleManagementService {
     /**
      * Generating  RoleGetResponse for the response.
      *
-     * @param organizationId The ID of the organization.
-     * @param role           A role object.
-     * @param roleURI        The URI of the role.
+     * @param organizationId           The ID of the organization.
+     * @param role                     A role object.
+     * @param roleURI                  The URI of the role.
+     * @param excludedMemberAttributes The member attributes to be excluded from the response.
      * @return A RoleGetResponse.
      */
-    private RoleGetResponse getRoleGetResponse(String organizationId, Role role, URI roleURI) {
+    private RoleGetResponse getRoleGetResponse(String organizationId, Role role, URI roleURI,
+                                               Set<String> excludedMemberAttributes) {
 
         RoleObjMeta roleObjMeta = new RoleObjMeta();
         roleObjMeta.location(roleURI.toString());
@@ -341,11 +500,13 @@ public class RoleManagementService {
         response.setMeta(roleObjMeta);
         response.setPermissions(role.getPermissions());
 
-        if (CollectionUtils.isNotEmpty(role.getGroups())) {
+        if (CollectionUtils.isNotEmpty(role.getGroups()) &&
+                !excludedMemberAttributes.contains(RoleManagementEndpointConstants.GROUPS_ATTRIBUTE)) {
             response.setGroups(getGroupsForResponseObject(role.getGroups(), organizationId));
         }
 
-        if (CollectionUtils.isNotEmpty(role.getUsers())) {
+        if (CollectionUtils.isNotEmpty(role.getUsers()) &&
+                !excludedMemberAttributes.contains(RoleManagementEndpointConstants.USERS_ATTRIBUTE)) {
             response.setUsers(getUsersForResponseObject(role.getUsers(), organizationId));
         }
 
@@ -362,13 +523,16 @@ public class RoleManagementService {
     private List<RoleGetResponseGroup> getGroupsForResponseObject(List<Group> roleGroups, String organizationId) {
 
         List<RoleGetResponseGroup> groups = new ArrayList<>();
+        if (roleGroups.isEmpty()) {
+            return groups;
+        }
+        String groupsUri = RoleManagementEndpointUtils.getCollectionUri(organizationId,
+                RoleManagementEndpointConstants.GROUP_PATH, ERROR_CODE_ERROR_BUILDING_GROUP_URI);
         for (Group basicGroup : roleGroups) {
             RoleGetResponseGroup group = new RoleGetResponseGroup();
             group.value(basicGroup.getGroupId());
             group.display(basicGroup.getGroupName());
-            group.$ref(RoleManagementEndpointUtils.getUri(organizationId, basicGroup.getGroupId(),
-                    RoleManagementEndpointConstants.GROUP_PATH,
-                    ERROR_CODE_ERROR_BUILDING_GROUP_URI).toString());
+            group.$ref(groupsUri + RoleManagementEndpointConstants.PATH_SEPARATOR + basicGroup.getGroupId());
             groups.add(group);
         }
         return groups;
@@ -384,17 +548,30 @@ public class RoleManagementService {
     private List<RoleGetResponseUser> getUsersForResponseObject(List<User> roleUsers, String organizationId) {
 
         List<RoleGetResponseUser> users = new ArrayList<>();
+        String usersUri = null;
+        String scimUsersUri = null;
+        // SCIM2 users URI of each resident organization, built once per organization rather than once per user.
+        Map<String, String> residentOrgUsersUris = new HashMap<>();
         for (User basicUser : roleUsers) {
             String uri;
-            if (StringUtils.isNotBlank(basicUser.getUserResidentOrgId())) {
-                uri = RoleManagementEndpointUtils.buildSCIM2Uri(basicUser.getId(),
-                        RoleManagementEndpointConstants.SCIM_USER_PATH,
-                        ERROR_CODE_ERROR_BUILDING_USER_URI).toString();
-                uri = uri.replace(organizationId, basicUser.getUserResidentOrgId());
+            String residentOrgId = basicUser.getUserResidentOrgId();
+            if (StringUtils.isNotBlank(residentOrgId)) {
+                String residentOrgUsersUri = residentOrgUsersUris.get(residentOrgId);
+                if (residentOrgUsersUri == null) {
+                    if (scimUsersUri == null) {
+                        scimUsersUri = RoleManagementEndpointUtils.buildSCIM2CollectionUri(
+                                RoleManagementEndpointConstants.SCIM_USER_PATH, ERROR_CODE_ERROR_BUILDING_USER_URI);
+                    }
+                    residentOrgUsersUri = scimUsersUri.replace(organizationId, residentOrgId);
+                    residentOrgUsersUris.put(residentOrgId, residentOrgUsersUri);
+                }
+                uri = residentOrgUsersUri + RoleManagementEndpointConstants.PATH_SEPARATOR + basicUser.getId();
             } else {
-                uri = RoleManagementEndpointUtils.getUri(organizationId, basicUser.getId(),
-                        RoleManagementEndpointConstants.USER_PATH,
-                        ERROR_CODE_ERROR_BUILDING_USER_URI).toString();
+                if (usersUri == null) {
+                    usersUri = RoleManagementEndpointUtils.getCollectionUri(organizationId,
+                            RoleManagementEndpointConstants.USER_PATH, ERROR_CODE_ERROR_BUILDING_USER_URI);
+                }
+                uri = usersUri + RoleManagementEndpointConstants.PATH_SEPARATOR + basicUser.getId();
             }
 
             RoleGetResponseUser user = new RoleGetResponseUser();
@@ -465,12 +642,12 @@ public class RoleManagementService {
 
         if (rolesResponse.getRoles() != null) {
             List<RoleObj> roleDTOs = new ArrayList<>();
+            String rolesUri = RoleManagementEndpointUtils.getCollectionUri(organizationId,
+                    RoleManagementEndpointConstants.ROLE_PATH, ERROR_CODE_ERROR_BUILDING_ROLE_URI);
             for (Role role : rolesResponse.getRoles()) {
                 RoleObj roleObj = new RoleObj();
                 RoleObjMeta roleObjMeta = new RoleObjMeta();
-                roleObjMeta.setLocation(RoleManagementEndpointUtils.getUri(organizationId, role.getId(),
-                        RoleManagementEndpointConstants.ROLE_PATH,
-                        ERROR_CODE_ERROR_BUILDING_ROLE_URI).toString());
+                roleObjMeta.setLocation(rolesUri + RoleManagementEndpointConstants.PATH_SEPARATOR + role.getId());
                 roleObj.setId(role.getId());
                 roleObj.setDisplayName(role.getDisplayName());
                 roleObj.setMeta(roleObjMeta);
@@ -484,19 +661,21 @@ public class RoleManagementService {
     /**
      * Generate a response object for get operation.
      *
-     * @param organizationId    The ID of the organization.
      * @param userRolesResponse List of user roles.
+     * @param rolesUriSupplier  Supplier of the URI of the roles of the organization, called only if there are roles.
      * @return The UserRolesListResponse.
      */
-    private List<RoleObj> getUserRoleListResponse(String organizationId, List<Role> userRolesResponse) {
+    private List<RoleObj> getUserRoleListResponse(List<Role> userRolesResponse, Supplier<String> rolesUriSupplier) {
 
         List<RoleObj> roleDTOs = new ArrayList<>();
+        if (userRolesResponse.isEmpty()) {
+            return roleDTOs;
+        }
+        String rolesUri = rolesUriSupplier.get();
         for (Role role : userRolesResponse) {
             RoleObj roleObj = new RoleObj();
             RoleObjMeta roleObjMeta = new RoleObjMeta();
-            roleObjMeta.setLocation(RoleManagementEndpointUtils.getUri(organizationId, role.getId(),
-                    RoleManagementEndpointConstants.ROLE_PATH,
-                    ERROR_CODE_ERROR_BUILDING_ROLE_URI).toString());
+            roleObjMeta.setLocation(rolesUri + RoleManagementEndpointConstants.PATH_SEPARATOR + role.getId());
             roleObj.setId(role.getId());
             roleObj.setDisplayName(role.getDisplayName());
             roleObj.setMeta(roleObjMeta);
@@ -505,6 +684,225 @@ public class RoleManagementService {
         return roleDTOs;
     }
 
+    /**
+     * Get the roles of a user inside the organization the user resides in.
+     *
+     * @param roleManager    The role manager.
+     * @param organizationId The ID of the organization.
+     * @param userId         The ID of the user.
+     * @return The roles of the user.
+     * @throws OrganizationManagementException If the user does not reside in the organization or the roles cannot
+     *                                         be retrieved.
+     */
+    private List<Role> getResidentUserRoles(RoleManager roleManager, String organizationId, String userId)
+            throws OrganizationManagementException {
+
+        String userResidentOrgId = String.valueOf(RoleManagementEndpointUtils
+                .getOrganizationUserResidentResolverService()
+                .resolveResidentOrganization(userId, organizationId)
+                .orElseThrow(() -> handleClientException(ERROR_CODE_USER_ROOT_ORGANIZATION_NOT_FOUND, userId)));
+        if (!StringUtils.equals(userResidentOrgId, organizationId)) {
+            throw handleClientException
+                    (ERROR_CODE_ERROR_WHILE_RESOLVING_USER_FROM_RESIDENT_ORG, userResidentOrgId, organizationId);
+        }
+        return roleManager.getUserOrganizationRoles(userId, organizationId);
+    }
+
+    /**
+     * Validate that the users are looked up only in the given organization and its descendants, so that the
+     * organization in the path of the request, which the request is authorized for, bounds the lookups. The
+     * organizations between a looked up organization and the given organization are descendants of the given
+     * organization as well, hence the ancestors are retrieved only for the organizations which are not already known
+     * to be descendants from the ancestors retrieved before.
+     *
+     * @param organizationId The ID of the organization.
+     * @param lookups        The users and the organizations they reside in.
+     * @throws OrganizationManagementException If the ancestors of an organization cannot be retrieved.
+     */
+    private void validateLookupOrganizations(String organizationId, Set<UserRolesLookupItem> lookups)
+            throws OrganizationManagementException {
+
+        Set<String> lookupOrganizationIds = lookups.stream().map(UserRolesLookupItem::getOrganizationId)
+                .collect(Collectors.toCollection(HashSet::new));
+        lookupOrganizationIds.remove(organizationId);
+        if (lookupOrganizationIds.isEmpty()) {
+            return;
+        }
+        OrganizationManager organizationManager = RoleManagementEndpointUtils.getOrganizationManager();
+        Set<String> descendantOrganizationIds = new HashSet<>();
+        for (String lookupOrganizationId : lookupOrganizationIds) {
+            if (descendantOrganizationIds.contains(lookupOrganizationId)) {
+                continue;
+            }
+            List<String> ancestorOrganizationIds = organizationManager.getAncestorOrganizationIds(lookupOrganizationId);
+            int organizationIndex = ancestorOrganizationIds == null ? -1 :
+                    ancestorOrganizationIds.indexOf(organizationId);
+            if (organizationIndex < 0) {
+                RoleManagementEndpointConstants.ErrorMessage errorMessage = RoleManagementEndpointConstants
+                        .ErrorMessage.ERROR_CODE_USER_ROLE_LOOKUP_ORGANIZATION_NOT_ALLOWED;
+                throw new RoleManagementEndpointException(Response.Status.FORBIDDEN,
+                        RoleManagementEndpointUtils.getError(errorMessage.getCode(), errorMessage.getMessage(),
+                                String.format(errorMessage.getDescription(), lookupOrganizationId, organizationId)));
+            }
+            descendantOrganizationIds.add(lookupOrganizationId);
+            descendantOrganizationIds.addAll(ancestorOrganizationIds.subList(0, organizationIndex));
+        }
+    }
+
+    /**
+     * Look up the roles of a user for the user role lookup response. An error of the lookup is set in the result
+     * instead of being thrown, as the results of the preceding lookups are already written to the response.
+     *
+     * @param roleManager The role manager.
+     * @param lookup      The user and the organization the user resides in.
+     * @param rolesUris   URIs of the roles of the organizations looked up so far, keyed by the organization ID.
+     * @return The roles of the user or the error occurred while looking them up.
+     */
+    private UserRolesLookupResult lookupUserRoles(RoleManager roleManager, UserRolesLookupItem lookup,
+                                                  Map<String, String> rolesUris) {
+
+        String organizationId = lookup.getOrganizationId();
+        UserRolesLookupResult result = new UserRolesLookupResult().userId(lookup.getUserId())
+                .organizationId(organizationId);
+        try {
+            List<Role> userRoles = getResidentUserRoles(roleManager, organizationId, lookup.getUserId());
+            return result.roles(getUserRoleListResponse(userRoles,
+                    () -> rolesUris.computeIfAbsent(organizationId, this::getRolesCollectionUri)));
+        } catch (OrganizationManagementException e) {
+            if (e instanceof OrganizationManagementClientException) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug(String.format("Error while looking up the roles of user: %s in organization: %s. %s",
+                            lookup.getUserId(), organizationId, e.getDescription()), e);
+                }
+            } else {
+                LOG.error(String.format("Error while looking up the roles of user: %s in organization: %s.",
+                        lookup.getUserId(), organizationId), e);
+            }
+            return result.error(RoleManagementEndpointUtils.getError(e.getErrorCode(), e.getMessage(),
+                    e.getDescription()));
+        } catch (RoleManagementEndpointException e) {
+            return result.error((Error) e.getResponse().getEntity());
+        }
+    }
+
+    /**
+     * Get the URI of the roles of an organization.
+     *
+     * @param organizationId The ID of the organization.
+     * @return The URI of the roles of the organization, without a trailing path separator.
+     */
+    private String getRolesCollectionUri(String organizationId) {
+
+        return RoleManagementEndpointUtils.getCollectionUri(organizationId, RoleManagementEndpointConstants.ROLE_PATH,
+                ERROR_CODE_ERROR_BUILDING_ROLE_URI);
+    }
+
+    /**
+     * Parse the member attributes to be excluded from the role.
+     *
+     * @param excludedAttributes Comma separated attributes to be excluded.
+     * @return The member attributes to be excluded.
+     */
+    private Set<String> getExcludedMemberAttributes(String excludedAttributes) {
+
+        if (StringUtils.isBlank(excludedAttributes)) {
+            return Collections.emptySet();
+        }
+        Set<String> excludedMemberAttributes = new HashSet<>();
+        for (String attribute : excludedAttributes.split(",")) {
+            String trimmedAttribute = StringUtils.trim(attribute);
+            if (!RoleManagementEndpointConstants.USERS_ATTRIBUTE.equals(trimmedAttribute) &&
+                    !RoleManagementEndpointConstants.GROUPS_ATTRIBUTE.equals(trimmedAttribute)) {
+                throw buildBadRequestException(
+                        RoleManagementEndpointConstants.ErrorMessage.ERROR_CODE_INVALID_EXCLUDED_ATTRIBUTE,
+                        trimmedAttribute);
+            }
+            excludedMemberAttributes.add(trimmedAttribute);
+        }
+        return excludedMemberAttributes;
+    }
+
+    /**
+     * Find the bounds of a page of role members sorted by their IDs. A forward cursor points to the last member of the
+     * previous page and a backward cursor points to the first member of the next page.
+     *
+     * @param members      The role members, sorted by their IDs.
+     * @param idFunction   Function returning the ID of a member.
+     * @param limit        The maximum number of members of the page.
+     * @param memberCursor The decoded cursor, i.e. the direction and the member ID, or null for the first page.
+     * @return The start index (inclusive) and the end index (exclusive) of the page.
+     */
+    private <T> int[] getMemberPageBounds(List<T> members, Function<T, String> idFunction, int limit,
+                                          String[] memberCursor) {
+
+        if (memberCursor == null) {
+            return new int[]{0, Math.min(members.size(), limit)};
+        }
+        int cursorIndex = getMemberInsertionIndex(members, idFunction, memberCursor[1]);
+        if (RoleManagementEndpointConstants.BACKWARD_CURSOR_DIRECTION.equals(memberCursor[0])) {
+            return new int[]{Math.max(0, cursorIndex - limit), cursorIndex};
+        }
+        // Skip the member the forward cursor points to, if it is still assigned to the role.
+        if (cursorIndex < members.size() && memberCursor[1].equals(idFunction.apply(members.get(cursorIndex)))) {
+            cursorIndex++;
+        }
+        return new int[]{cursorIndex, Math.min(members.size(), cursorIndex + limit)};
+    }
+
+    /**
+     * Binary search the index of the first member whose ID is not less than the given ID.
+     */
+    private <T> int getMemberInsertionIndex(List<T> members, Function<T, String> idFunction, String id) {
+
+        int low = 0;
+        int high = members.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (idFunction.apply(members.get(mid)).compareTo(id) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private String encodeMemberCursor(String direction, String memberId) {
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((direction +
+                RoleManagementEndpointConstants.CURSOR_SEPARATOR + memberId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeMemberCursor(String cursor) {
+
+        if (StringUtils.isBlank(cursor)) {
+            return null;
+        }
+        String[] memberCursor;
+        try {
+            memberCursor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split(RoleManagementEndpointConstants.CURSOR_SEPARATOR, 2);
+        } catch (IllegalArgumentException e) {
+            throw buildBadRequestException(
+                    RoleManagementEndpointConstants.ErrorMessage.ERROR_CODE_INVALID_MEMBER_CURSOR, cursor);
+        }
+        if (memberCursor.length != 2 || StringUtils.isEmpty(memberCursor[1]) ||
+                !(RoleManagementEndpointConstants.FORWARD_CURSOR_DIRECTION.equals(memberCursor[0]) ||
+                        RoleManagementEndpointConstants.BACKWARD_CURSOR_DIRECTION.equals(memberCursor[0]))) {
+            throw buildBadRequestException(
+                    RoleManagementEndpointConstants.ErrorMessage.ERROR_CODE_INVALID_MEMBER_CURSOR, cursor);
+        }
+        return memberCursor;
+    }
+
+    private RoleManagementEndpointException buildBadRequestException(
+            RoleManagementEndpointConstants.ErrorMessage errorMessage, String data) {
+
+        return new RoleManagementEndpointException(Response.Status.BAD_REQUEST,
+                RoleManagementEndpointUtils.getError(errorMessage.getCode(), errorMessage.getMessage(),
+                        String.format(errorMessage.getDescription(), data)));
+    }
+
     /**
      * @param count The param for desired maximum number of query results per page.
      * @return The count.
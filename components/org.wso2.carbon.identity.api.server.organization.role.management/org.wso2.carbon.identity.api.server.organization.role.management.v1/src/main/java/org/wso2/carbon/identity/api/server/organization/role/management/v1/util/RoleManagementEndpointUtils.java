@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.api.server.organization.role.management.v1.util;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.api.server.organization.role.management.common.OrganizationRoleManagementServiceHolder;
@@ -26,6 +27,7 @@ import org.wso2.carbon.identity.api.server.organization.role.management.v1.model
 import org.wso2.carbon.identity.core.ServiceURLBuilder;
 import org.wso2.carbon.identity.core.URLBuilderException;
 import org.wso2.carbon.identity.organization.management.role.management.service.RoleManager;
+import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.OrganizationUserResidentResolverService;
 import org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementClientException;
@@ -61,6 +63,14 @@ public class RoleManagementEndpointUtils {
         return OrganizationRoleManagementServiceHolder.getInstance().getRoleManager();
     }
 
+    /**
+     * Get an instance of organization manager.
+     */
+    public static OrganizationManager getOrganizationManager() {
+
+        return OrganizationRoleManagementServiceHolder.getInstance().getOrganizationManager();
+    }
+
     /**
      * Get an instance of Organization User Resident Resolver Service.
      */
@@ -144,6 +154,32 @@ public class RoleManagementEndpointUtils {
         }
     }
 
+    /**
+     * Get the URI of the resource collection of an organization from context. The URIs of the resources in the
+     * collection are built by appending the resource id to the returned URI, so that the context is resolved once
+     * for a list of resources instead of once for each resource.
+     *
+     * @param organizationId The organization ID.
+     * @param resourcePath   The path for the resource.
+     * @param errorMessage   The error message specific to the resources.
+     * @return The URI of the resource collection, without a trailing path separator.
+     */
+    public static String getCollectionUri(String organizationId, String resourcePath, ErrorMessages errorMessage) {
+
+        String endpoint = SERVER_API_PATH_COMPONENT + V1_API_PATH_COMPONENT + PATH_SEPARATOR + ORGANIZATION_PATH +
+                PATH_SEPARATOR + organizationId + PATH_SEPARATOR + resourcePath;
+        try {
+            return StringUtils.removeEnd(ServiceURLBuilder.create().addPath(endpoint).build()
+                    .getAbsolutePublicURL(), PATH_SEPARATOR);
+        } catch (URLBuilderException e) {
+            Error error = getError(errorMessage.getCode(), errorMessage.getMessage(),
+                    String.format(errorMessage.getDescription(), organizationId));
+            LOG.error(String.format("Server encountered an error while building URL for %s of organization: %s",
+                    resourcePath, organizationId));
+            throw new RoleManagementEndpointException(Response.Status.INTERNAL_SERVER_ERROR, error);
+        }
+    }
+
     /**
      * Get the SCIM2 URI from context.
      *
@@ -165,6 +201,27 @@ public class RoleManagementEndpointUtils {
         }
     }
 
+    /**
+     * Get the SCIM2 URI of a resource collection from context. The URIs of the resources in the collection are built
+     * by appending the resource id to the returned URI.
+     *
+     * @param resourcePath The path for the resource.
+     * @param errorMessage The error message specific to the resources.
+     * @return The SCIM2 URI of the resource collection, without a trailing path separator.
+     */
+    public static String buildSCIM2CollectionUri(String resourcePath, ErrorMessages errorMessage) {
+
+        String endpoint = SCIM2_API_PATH_COMPONENT + PATH_SEPARATOR + resourcePath;
+        try {
+            return StringUtils.removeEnd(ServiceURLBuilder.create().addPath(endpoint).build()
+                    .getAbsolutePublicURL(), PATH_SEPARATOR);
+        } catch (URLBuilderException e) {
+            Error error = getError(errorMessage.getCode(), errorMessage.getMessage(),
+                    String.format(errorMessage.getDescription(), resourcePath));
+            throw new RoleManagementEndpointException(Response.Status.INTERNAL_SERVER_ERROR, error);
+        }
+    }
+
     /**
      * Checks the exception key code and returns true if it is a conflict error.
      *
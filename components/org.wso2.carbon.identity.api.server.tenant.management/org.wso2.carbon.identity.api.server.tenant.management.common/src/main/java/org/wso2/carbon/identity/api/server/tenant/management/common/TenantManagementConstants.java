@@ -31,6 +31,20 @@ public class TenantManagementConstants {
     public static final String PAGINATION_WITH_FILTER_LINK_FORMAT = "?offset=%d&limit=%d&filter=%s";
     public static final String PAGE_LINK_REL_NEXT = "next";
     public static final String PAGE_LINK_REL_PREVIOUS = "previous";
+    public static final String PAGINATION_WITH_CURSOR_LINK_FORMAT = "?limit=%d&cursor=%s";
+    public static final String FILTER_LINK_PARAM_FORMAT = "&filter=%s";
+    public static final String DOMAIN_NAME_SORT_ATTRIBUTE = "domainName";
+
+    /**
+     * Attributes supported in the tenant listing filter.
+     */
+    public static class FilterAttributes {
+
+        public static final String DOMAIN_NAME = "domainName";
+        public static final String DOMAIN = "domain";
+        public static final String ACTIVATED = "lifecycleStatus.activated";
+        public static final String CREATED_DATE = "createdDate";
+    }
 
     /**
      * Enum for error messages.
@@ -64,7 +78,11 @@ public class TenantManagementConstants {
                                                         "Unable to check availability of domain.",
                 "Server encountered an error while checking for tenant domain"),
         ERROR_CODE_DELETE_TENANT_METADATA("TM-65008", "Error while deleting the tenant metadata.",
-                "Server encountered an error while deleting the tenant metadata identified by %s .");
+                "Server encountered an error while deleting the tenant metadata identified by %s ."),
+        ERROR_CODE_INVALID_FILTER("TM-60501", "Invalid filter.", "The filter is not supported. %s"),
+        ERROR_CODE_INVALID_CURSOR("TM-60502", "Invalid cursor.", "The cursor: %s is not a valid tenant list cursor."),
+        ERROR_CODE_INVALID_SORT_ORDER("TM-60503", "Invalid sort order.",
+                "The sort order: %s is not supported. Tenants can be sorted in asc or desc order.");
 
         private final String code;
         private final String message;
@@ -45,7 +45,7 @@ public interface TenantsApiService {
 
       public Response isDomainExist(String tenantDomain);
 
-      public Response retrieveTenants(Integer limit, Integer offset, String sortOrder, String sortBy, String filter);
+      public Response retrieveTenants(Integer limit, Integer offset, String sortOrder, String sortBy, String filter, String cursor);
 
       public Response updateTenantStatus(String tenantId, TenantPutModel tenantPutModel);
 }
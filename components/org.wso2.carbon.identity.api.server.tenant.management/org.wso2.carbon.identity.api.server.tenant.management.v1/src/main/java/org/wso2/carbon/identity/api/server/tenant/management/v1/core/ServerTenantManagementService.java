@@ -19,10 +19,14 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.Constants.FilterOperations;
+import org.wso2.carbon.identity.api.server.common.Constants.SortOrders;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.ListQuery;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementConstants;
+import org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementConstants.FilterAttributes;
 import org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementServiceHolder;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.AdditionalClaims;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.ChannelVerifiedTenantModel;
@@ -34,6 +38,11 @@ import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantMode
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantPutModel;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantResponseModel;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantsListResponse;
+import org.wso2.carbon.identity.base.IdentityException;
+import org.wso2.carbon.identity.core.model.ExpressionNode;
+import org.wso2.carbon.identity.core.model.FilterTreeBuilder;
+import org.wso2.carbon.identity.core.model.Node;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.recovery.IdentityRecoveryException;
 import org.wso2.carbon.identity.recovery.model.UserRecoveryData;
 import org.wso2.carbon.identity.recovery.store.JDBCRecoveryDataStore;
@@ -47,21 +56,28 @@ import org.wso2.carbon.user.core.common.User;
 import org.wso2.carbon.user.core.tenant.Tenant;
 import org.wso2.carbon.user.core.tenant.TenantSearchResult;
 
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.ERROR_CODE_RESOURCE_LIMIT_REACHED;
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
+import static org.wso2.carbon.identity.api.server.common.ListQuery.singleValue;
 import static org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementConstants.ErrorMessage.ERROR_CODE_TENANT_LIMIT_REACHED;
 import static org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementConstants.TENANT_MANAGEMENT_PATH_COMPONENT;
 import static org.wso2.carbon.stratos.common.constants.TenantConstants.ErrorMessage.ERROR_CODE_INVALID_EMAIL;
@@ -79,6 +95,20 @@ public class ServerTenantManagementService {
     private static final String INLINE_PASSWORD = "inline-password";
     private static final String CODE = "code";
     private static final String PURPOSE = "purpose";
+    private static final int FILTER_BATCH_SIZE = 500;
+    static final int MAX_FILTER_SCAN_SIZE = 5000;
+    private static final int CURSOR_SEARCH_WINDOW_SIZE = 100;
+    /*
+     * Filter of the tenant listing. E.g. domainName sw abc and lifecycleStatus.activated eq true
+     * The created date is an ISO-8601 date time with offset. E.g. 2020-03-03T17:04:06.570+05:30
+     */
+    private static final ListQuery<Tenant> TENANT_LIST_QUERY = new ListQuery<Tenant>()
+            .withAttribute(FilterAttributes.DOMAIN_NAME, tenant -> singleValue(tenant.getDomain()))
+            .withAttribute(FilterAttributes.DOMAIN, tenant -> singleValue(tenant.getDomain()))
+            .withComparableAttribute(FilterAttributes.ACTIVATED, Tenant::isActive,
+                    ServerTenantManagementService::parseActivatedFilterValue)
+            .withComparableAttribute(FilterAttributes.CREATED_DATE, tenant -> tenant.getCreatedDate() == null ? null :
+                    tenant.getCreatedDate().toInstant(), ServerTenantManagementService::parseCreatedDateFilterValue);
 
     /**
      * Add a tenant.
@@ -103,23 +133,42 @@ public class ServerTenantManagementService {
     /**
      * Get tenant list.
      *
+     * Without a filter and a cursor, the requested page is retrieved from the tenant management service. A filter on
+     * a single domain name is served by looking up the tenant of the domain. Otherwise, tenants are retrieved in
+     * batches in the order of their domain names, starting from the position of the cursor, until the page is filled
+     * with the tenants matching the filter. At most MAX_FILTER_SCAN_SIZE tenants are scanned for a filter in a request,
+     * so a page of a selective filter can have fewer tenants than the limit. The next link of a page of tenants sorted
+     * by the domain name carries the cursor to continue the listing, or the scan, from.
+     *
      * @param limit     Items per page.
-     * @param offset    Offset.
+     * @param offset    Offset. Ignored if a cursor is given.
      * @param filter    Filter string. E.g. filter="domainName" sw "wso2.com"
      * @param sortBy    Attribute to sort the tenants by. E.g. domainName
      * @param sortOrder Order in which tenants should be sorted. Can be either ASC or DESC.
+     * @param cursor    Cursor given in the next link of the previous page.
      * @return TenantsListResponse.
      */
     public TenantsListResponse listTenants(Integer limit, Integer offset, String sortOrder, String sortBy,
-                                           String filter) {
+                                           String filter, String cursor) {
 
-        handleNotImplementedCapabilities(filter);
+        Predicate<Tenant> tenantFilter;
+        try {
+            tenantFilter = TENANT_LIST_QUERY.buildFilter(filter);
+        } catch (IllegalArgumentException e) {
+            throw handleException(Response.Status.BAD_REQUEST, TenantManagementConstants.ErrorMessage
+                    .ERROR_CODE_INVALID_FILTER, e.getMessage());
+        }
         TenantMgtService tenantMgtService = TenantManagementServiceHolder.getTenantMgtService();
 
         try {
-            TenantSearchResult tenantSearchResult = tenantMgtService.listTenants(limit, offset, sortOrder, sortBy,
-                    filter);
-            return createTenantListResponse(tenantSearchResult);
+            if (tenantFilter == null && StringUtils.isBlank(cursor)) {
+                TenantSearchResult tenantSearchResult = tenantMgtService.listTenants(limit, offset, sortOrder, sortBy,
+                        null);
+                return createTenantListResponse(tenantSearchResult,
+                        TenantManagementConstants.DOMAIN_NAME_SORT_ATTRIBUTE.equalsIgnoreCase(sortBy),
+                        !SortOrders.DESC.equalsIgnoreCase(sortOrder));
+            }
+            return listTenantsByDomainName(tenantMgtService, limit, offset, sortOrder, filter, tenantFilter, cursor);
         } catch (TenantMgtException e) {
             throw handleTenantManagementException(e, TenantManagementConstants.ErrorMessage
                     .ERROR_CODE_ERROR_LISTING_TENANTS, null);
@@ -294,7 +343,8 @@ public class ServerTenantManagementService {
         return claimsMapping;
     }
 
-    private TenantsListResponse createTenantListResponse(TenantSearchResult tenantSearchResult) {
+    private TenantsListResponse createTenantListResponse(TenantSearchResult tenantSearchResult,
+                                                         boolean sortedByDomainName, boolean ascending) {
 
         List<Tenant> tenants = tenantSearchResult.getTenantList();
         TenantsListResponse listResponse = new TenantsListResponse();
@@ -306,14 +356,324 @@ public class ServerTenantManagementService {
             listResponse.setCount(0);
         }
 
+        String nextCursor = null;
+        if (sortedByDomainName && CollectionUtils.isNotEmpty(tenants)) {
+            Tenant lastTenant = tenants.get(tenants.size() - 1);
+            nextCursor = new TenantListCursor(tenantSearchResult.getOffSet() + tenants.size() - 1, ascending, 0,
+                    lastTenant.getDomain()).encode();
+        }
         listResponse.setTotalResults(tenantSearchResult.getTotalTenantCount());
         listResponse.setStartIndex(tenantSearchResult.getOffSet() + 1);
         listResponse.setLinks(createLinks(V1_API_PATH_COMPONENT + TENANT_MANAGEMENT_PATH_COMPONENT,
                 tenantSearchResult.getLimit(), tenantSearchResult.getOffSet(), tenantSearchResult.getTotalTenantCount(),
-                tenantSearchResult.getFilter()));
+                tenantSearchResult.getFilter(), nextCursor));
         return listResponse;
     }
 
+    /**
+     * List the tenants in the order of their domain names, evaluating the filter against the tenants and continuing
+     * from the position of the cursor, if given. The scan of a filter stops after MAX_FILTER_SCAN_SIZE tenants, with a
+     * cursor positioned at the last scanned tenant, which also carries the number of matching tenants still to be
+     * skipped for the requested offset.
+     */
+    private TenantsListResponse listTenantsByDomainName(TenantMgtService tenantMgtService, Integer limit,
+                                                        Integer offset, String sortOrder, String filter,
+                                                        Predicate<Tenant> tenantFilter, String cursor)
+            throws TenantMgtException {
+
+        TenantListCursor listCursor = null;
+        boolean ascending;
+        if (StringUtils.isNotBlank(cursor)) {
+            try {
+                listCursor = TenantListCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                throw handleException(Response.Status.BAD_REQUEST, TenantManagementConstants.ErrorMessage
+                        .ERROR_CODE_INVALID_CURSOR, cursor);
+            }
+            ascending = listCursor.isAscending();
+        } else if (StringUtils.isBlank(sortOrder) ||
+                SortOrders.ASC.equalsIgnoreCase(sortOrder)) {
+            ascending = true;
+        } else if (SortOrders.DESC.equalsIgnoreCase(sortOrder)) {
+            ascending = false;
+        } else {
+            throw handleException(Response.Status.BAD_REQUEST, TenantManagementConstants.ErrorMessage
+                    .ERROR_CODE_INVALID_SORT_ORDER, sortOrder);
+        }
+
+        int pageSize = limit == null ? IdentityUtil.getDefaultItemsPerPage() : Math.max(limit, 0);
+        int requestedOffset = offset == null ? 0 : Math.max(offset, 0);
+        String domainName = getFilteredDomainName(filter);
+        if (domainName != null) {
+            return lookupTenantByDomainName(tenantMgtService, domainName, tenantFilter, pageSize, requestedOffset,
+                    filter, listCursor != null);
+        }
+        int toSkip = listCursor == null ? requestedOffset : listCursor.getSkip();
+        int fetchSize = getFetchSize(tenantFilter, pageSize, 0);
+
+        int index = 0;
+        int totalTenantCount = 0;
+        List<Tenant> tenants = null;
+        if (listCursor != null) {
+            TenantSearchResult tenantSearchResult = listTenantsByDomainName(tenantMgtService, fetchSize + 1,
+                    listCursor.getIndex(), ascending);
+            List<Tenant> batch = tenantSearchResult.getTenantList();
+            if (CollectionUtils.isNotEmpty(batch) &&
+                    listCursor.getDomain().equalsIgnoreCase(batch.get(0).getDomain())) {
+                // The tenant of the cursor is still at its index, so the listing continues from the rest of the batch.
+                index = listCursor.getIndex() + 1;
+                totalTenantCount = tenantSearchResult.getTotalTenantCount();
+                tenants = batch.subList(1, batch.size());
+            } else {
+                index = locateCursor(tenantMgtService, listCursor);
+            }
+        }
+        int firstIndex = index;
+
+        List<Tenant> page = new ArrayList<>();
+        int lastIndex = index;
+        int scanned = 0;
+        Tenant lastScannedTenant = null;
+        boolean hasMore = false;
+        boolean scanning = true;
+        while (scanning) {
+            if (tenants == null) {
+                fetchSize = getFetchSize(tenantFilter, pageSize, scanned);
+                TenantSearchResult tenantSearchResult = listTenantsByDomainName(tenantMgtService, fetchSize, index,
+                        ascending);
+                totalTenantCount = tenantSearchResult.getTotalTenantCount();
+                tenants = tenantSearchResult.getTenantList();
+            }
+            if (CollectionUtils.isEmpty(tenants)) {
+                break;
+            }
+            for (Tenant tenant : tenants) {
+                if (tenantFilter == null || tenantFilter.test(tenant)) {
+                    if (toSkip > 0) {
+                        toSkip--;
+                    } else if (page.size() < pageSize) {
+                        if (page.isEmpty()) {
+                            firstIndex = index;
+                        }
+                        page.add(tenant);
+                        lastIndex = index;
+                    } else {
+                        hasMore = true;
+                        scanning = false;
+                        break;
+                    }
+                }
+                lastScannedTenant = tenant;
+                scanned++;
+                index++;
+            }
+            if (tenants.size() < fetchSize || index >= totalTenantCount ||
+                    (tenantFilter != null && scanned >= MAX_FILTER_SCAN_SIZE)) {
+                scanning = false;
+            }
+            tenants = null;
+        }
+        // The scan stopped at its limit before reaching the last tenant, so it is continued from the last scanned one.
+        boolean scanLimitReached = !hasMore && tenantFilter != null && scanned >= MAX_FILTER_SCAN_SIZE &&
+                index < totalTenantCount;
+
+        TenantsListResponse listResponse = new TenantsListResponse();
+        if (page.isEmpty()) {
+            listResponse.setCount(0);
+        } else {
+            List<TenantListItem> tenantListItems = getTenantListItems(page);
+            listResponse.setTenants(tenantListItems);
+            listResponse.setCount(tenantListItems.size());
+        }
+        // The number of tenants matching a filter is not known without evaluating the filter against all tenants.
+        if (tenantFilter == null) {
+            listResponse.setTotalResults(totalTenantCount);
+            listResponse.setStartIndex(firstIndex + 1);
+        } else if (listCursor == null) {
+            listResponse.setStartIndex(requestedOffset + 1);
+        }
+
+        String nextCursor = null;
+        if (hasMore && !page.isEmpty()) {
+            nextCursor = new TenantListCursor(lastIndex, ascending, 0, page.get(page.size() - 1).getDomain()).encode();
+        } else if (scanLimitReached) {
+            nextCursor = new TenantListCursor(index - 1, ascending, toSkip, lastScannedTenant.getDomain()).encode();
+        }
+        listResponse.setLinks(createFilteredListLinks(nextCursor, pageSize, requestedOffset, filter,
+                listCursor != null));
+        return listResponse;
+    }
+
+    /**
+     * List the tenant of the domain name given in a filter, looking up the tenant by the domain instead of scanning
+     * the tenants, as the domain name of a tenant is unique.
+     */
+    private TenantsListResponse lookupTenantByDomainName(TenantMgtService tenantMgtService, String domainName,
+                                                         Predicate<Tenant> tenantFilter, int pageSize,
+                                                         int requestedOffset, String filter, boolean continued)
+            throws TenantMgtException {
+
+        TenantsListResponse listResponse = new TenantsListResponse();
+        Tenant tenant = null;
+        // The only matching tenant is listed in the first page, which is never continued with a cursor.
+        if (!continued && requestedOffset == 0 && pageSize > 0) {
+            try {
+                tenant = tenantMgtService.getTenantByDomain(domainName);
+            } catch (TenantManagementClientException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("No tenant is found for the domain: " + domainName, e);
+                }
+            }
+        }
+        if (tenant != null && tenantFilter.test(tenant)) {
+            List<TenantListItem> tenantListItems = getTenantListItems(Collections.singletonList(tenant));
+            listResponse.setTenants(tenantListItems);
+            listResponse.setCount(tenantListItems.size());
+        } else {
+            listResponse.setCount(0);
+        }
+        if (!continued) {
+            listResponse.setStartIndex(requestedOffset + 1);
+        }
+        listResponse.setLinks(createFilteredListLinks(null, pageSize, requestedOffset, filter, continued));
+        return listResponse;
+    }
+
+    private List<Link> createFilteredListLinks(String nextCursor, int pageSize, int requestedOffset, String filter,
+                                               boolean continued) {
+
+        String url = V1_API_PATH_COMPONENT + TENANT_MANAGEMENT_PATH_COMPONENT;
+        List<Link> links = new ArrayList<>();
+        if (nextCursor != null) {
+            links.add(buildCursorPageLink(new StringBuilder(url), nextCursor, pageSize, filter));
+        }
+        if (!continued && requestedOffset > 0 && pageSize > 0) {
+            links.add(buildPageLink(new StringBuilder(url), TenantManagementConstants.PAGE_LINK_REL_PREVIOUS,
+                    Math.max(requestedOffset - pageSize, 0), Math.min(requestedOffset, pageSize), filter));
+        }
+        return links;
+    }
+
+    /**
+     * Get the number of tenants to retrieve in a batch. Tenants are retrieved in larger batches when filtering, as
+     * only some of them are expected to match, without exceeding the tenants left to scan in the request.
+     */
+    private static int getFetchSize(Predicate<Tenant> tenantFilter, int pageSize, int scanned) {
+
+        if (tenantFilter == null) {
+            return pageSize + 1;
+        }
+        return Math.min(Math.max(pageSize + 1, FILTER_BATCH_SIZE), MAX_FILTER_SCAN_SIZE - scanned);
+    }
+
+    /**
+     * Get the domain name of a filter which is a single domain name equality expression.
+     * E.g. domainName eq abc.com
+     *
+     * @param filter Filter of the listing, which has been validated already.
+     * @return Domain name of the filter or null if the filter is not a single domain name equality expression.
+     */
+    private static String getFilteredDomainName(String filter) {
+
+        if (StringUtils.isBlank(filter)) {
+            return null;
+        }
+        try {
+            Node node = new FilterTreeBuilder(filter).buildTree();
+            if (node instanceof ExpressionNode) {
+                ExpressionNode expressionNode = (ExpressionNode) node;
+                String attribute = expressionNode.getAttributeValue();
+                if ((FilterAttributes.DOMAIN_NAME.equalsIgnoreCase(attribute) ||
+                        FilterAttributes.DOMAIN.equalsIgnoreCase(attribute)) &&
+                        FilterOperations.EQ.equalsIgnoreCase(expressionNode.getOperation())) {
+                    return expressionNode.getValue();
+                }
+            }
+        } catch (IOException | IdentityException e) {
+            // The filter is validated before, so it is served by scanning the tenants if it cannot be parsed here.
+            if (log.isDebugEnabled()) {
+                log.debug("Error while parsing the filter: " + filter, e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Find the index of the listing to continue from after the tenant of the cursor. The tenant is searched around
+     * the index it was listed at. If the tenant has been deleted in the meantime, the listing continues from the first
+     * tenant positioned after it.
+     */
+    private int locateCursor(TenantMgtService tenantMgtService, TenantListCursor cursor) throws TenantMgtException {
+
+        int windowStart = Math.max(cursor.getIndex() - CURSOR_SEARCH_WINDOW_SIZE / 2, 0);
+        boolean movedBackward = false;
+        boolean movedForward = false;
+        while (true) {
+            List<Tenant> tenants = listTenantsByDomainName(tenantMgtService, CURSOR_SEARCH_WINDOW_SIZE, windowStart,
+                    cursor.isAscending()).getTenantList();
+            if (CollectionUtils.isEmpty(tenants)) {
+                if (windowStart == 0 || movedForward) {
+                    return windowStart;
+                }
+                // Tenants have been deleted since the cursor was issued. Search the tenants before the window.
+                windowStart = Math.max(windowStart - CURSOR_SEARCH_WINDOW_SIZE, 0);
+                movedBackward = true;
+                continue;
+            }
+            boolean windowFollowsCursor = false;
+            for (int i = 0; i < tenants.size(); i++) {
+                String tenantDomain = tenants.get(i).getDomain();
+                if (cursor.getDomain().equalsIgnoreCase(tenantDomain)) {
+                    return windowStart + i + 1;
+                }
+                if (cursor.isFollowedBy(tenantDomain)) {
+                    if (i > 0 || windowStart == 0 || movedForward) {
+                        return windowStart + i;
+                    }
+                    windowFollowsCursor = true;
+                    break;
+                }
+            }
+            if (windowFollowsCursor) {
+                // Tenants have been deleted since the cursor was issued. Search the tenants before the window.
+                windowStart = Math.max(windowStart - CURSOR_SEARCH_WINDOW_SIZE, 0);
+                movedBackward = true;
+            } else if (tenants.size() < CURSOR_SEARCH_WINDOW_SIZE || movedBackward) {
+                return windowStart + tenants.size();
+            } else {
+                // Tenants have been created since the cursor was issued. Search the tenants after the window.
+                windowStart += CURSOR_SEARCH_WINDOW_SIZE;
+                movedForward = true;
+            }
+        }
+    }
+
+    private static Boolean parseActivatedFilterValue(String value) {
+
+        if (!"true".equalsIgnoreCase(value) && !"false".equalsIgnoreCase(value)) {
+            throw new IllegalArgumentException("The value of " + FilterAttributes.ACTIVATED +
+                    " needs to be true or false.");
+        }
+        return Boolean.valueOf(value);
+    }
+
+    private static Instant parseCreatedDateFilterValue(String value) {
+
+        try {
+            return OffsetDateTime.parse(value, ISO_OFFSET_DATE_TIME).toInstant();
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw new IllegalArgumentException("The value of " + FilterAttributes.CREATED_DATE +
+                    " needs to be an ISO-8601 date time with offset. Eg: 2020-03-03T17:04:06.570+05:30", e);
+        }
+    }
+
+    private TenantSearchResult listTenantsByDomainName(TenantMgtService tenantMgtService, int limit, int offset,
+                                                       boolean ascending) throws TenantMgtException {
+
+        return tenantMgtService.listTenants(limit, offset, ascending ? SortOrders.ASC :
+                SortOrders.DESC, TenantManagementConstants.DOMAIN_NAME_SORT_ATTRIBUTE, null);
+    }
+
     private List<TenantListItem> getTenantListItems(List<Tenant> tenants) {
 
         List<TenantListItem> tenantListItems = new ArrayList<>();
@@ -347,14 +707,18 @@ public class ServerTenantManagementService {
         return ownerResponseList;
     }
 
-    private List<Link> createLinks(String url, int limit, int offset, int total, String filter) {
+    private List<Link> createLinks(String url, int limit, int offset, int total, String filter, String nextCursor) {
 
         List<Link> links = new ArrayList<>();
 
         // Next Link
         if (limit > 0 && offset >= 0 && (offset + limit) < total) {
-            links.add(buildPageLink(new StringBuilder(url), TenantManagementConstants.PAGE_LINK_REL_NEXT, (offset +
-                    limit), limit, filter));
+            if (nextCursor != null) {
+                links.add(buildCursorPageLink(new StringBuilder(url), nextCursor, limit, filter));
+            } else {
+                links.add(buildPageLink(new StringBuilder(url), TenantManagementConstants.PAGE_LINK_REL_NEXT,
+                        (offset + limit), limit, filter));
+            }
         }
 
         // Previous Link
@@ -372,6 +736,22 @@ public class ServerTenantManagementService {
         return links;
     }
 
+    private Link buildCursorPageLink(StringBuilder url, String cursor, int limit, String filter) {
+
+        url.append(String.format(TenantManagementConstants.PAGINATION_WITH_CURSOR_LINK_FORMAT, limit, cursor));
+        if (StringUtils.isNotBlank(filter)) {
+            try {
+                url.append(String.format(TenantManagementConstants.FILTER_LINK_PARAM_FORMAT,
+                        URLEncoder.encode(filter, StandardCharsets.UTF_8.name())));
+            } catch (UnsupportedEncodingException e) {
+                throw handleException(Response.Status.INTERNAL_SERVER_ERROR, TenantManagementConstants.
+                        ErrorMessage.ERROR_CODE_BUILDING_LINKS, "Unable to url-encode filter: " + filter);
+            }
+        }
+        return new Link().rel(TenantManagementConstants.PAGE_LINK_REL_NEXT)
+                .href(ContextLoader.buildURIForBody((url.toString())).toString());
+    }
+
     private Link buildPageLink(StringBuilder url, String rel, int offset, int limit, String filter) {
 
         if (StringUtils.isNotBlank(filter)) {
@@ -491,26 +871,6 @@ public class ServerTenantManagementService {
         return message;
     }
 
-    /**
-     * Return Not Implemented error response for tenant List filtering which are not yet supported by the server.
-     *
-     * @param filter Filter string.
-     */
-    private void handleNotImplementedCapabilities(String filter) {
-
-        TenantManagementConstants.ErrorMessage errorEnum = null;
-
-        if (filter != null) {
-            errorEnum = TenantManagementConstants.ErrorMessage.ERROR_CODE_FILTER_NOT_IMPLEMENTED;
-        }
-
-        if (errorEnum != null) {
-            ErrorResponse errorResponse = getErrorBuilder(errorEnum, null).build(log, errorEnum.getDescription());
-            Response.Status status = Response.Status.NOT_IMPLEMENTED;
-            throw new APIError(status, errorResponse);
-        }
-    }
-
     public String addTenant(ChannelVerifiedTenantModel channelVerifiedTenantModel) {
         String resourceId;
         TenantMgtService tenantMgtService = TenantManagementServiceHolder.getTenantMgtService();
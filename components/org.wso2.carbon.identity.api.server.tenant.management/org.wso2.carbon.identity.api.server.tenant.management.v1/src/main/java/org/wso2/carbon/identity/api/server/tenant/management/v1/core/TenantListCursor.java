@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.tenant.management.v1.core;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.api.server.common.Constants.SortOrders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of a tenant in the tenant listing, used as the cursor to continue the listing after the tenant.
+ *
+ * Tenants are listed in the order of their domain names, which are unique, so the domain name of the last tenant of
+ * a page, or of the last tenant scanned for a filter, identifies the position to continue from, irrespective of the
+ * tenants created or deleted in the meantime. The cursor also holds the index the tenant was listed at, which is used
+ * as a hint to locate the tenant without listing the tenants before it, the sort order of the listing and the number
+ * of matching tenants still to be skipped for the requested offset. The cursor is the base64 URL encoding of these.
+ */
+final class TenantListCursor {
+
+    private static final String SEPARATOR = ",";
+
+    private final int index;
+    private final boolean ascending;
+    private final int skip;
+    private final String domain;
+
+    TenantListCursor(int index, boolean ascending, int skip, String domain) {
+
+        this.index = index;
+        this.ascending = ascending;
+        this.skip = skip;
+        this.domain = domain;
+    }
+
+    /**
+     * Decode a cursor built by {@link #encode()}.
+     *
+     * @param cursor Encoded cursor.
+     * @return Decoded cursor.
+     * @throws IllegalArgumentException If the cursor is not a valid tenant list cursor.
+     */
+    static TenantListCursor decode(String cursor) {
+
+        String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                .split(SEPARATOR, 4);
+        if (parts.length != 4 || StringUtils.isBlank(parts[3]) ||
+                !(SortOrders.ASC.equals(parts[1]) || SortOrders.DESC.equals(parts[1]))) {
+            throw new IllegalArgumentException("Invalid tenant list cursor: " + cursor);
+        }
+        int index = Integer.parseInt(parts[0]);
+        int skip = Integer.parseInt(parts[2]);
+        if (index < 0 || skip < 0) {
+            throw new IllegalArgumentException("Invalid tenant list cursor: " + cursor);
+        }
+        return new TenantListCursor(index, SortOrders.ASC.equals(parts[1]), skip, parts[3]);
+    }
+
+    /**
+     * Encode the cursor to be sent in the pagination links.
+     *
+     * @return Encoded cursor.
+     */
+    String encode() {
+
+        String cursor = index + SEPARATOR + (ascending ? SortOrders.ASC : SortOrders.DESC) + SEPARATOR + skip +
+                SEPARATOR + domain;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Get the index the tenant of the cursor was listed at.
+     *
+     * @return Index of the tenant.
+     */
+    int getIndex() {
+
+        return index;
+    }
+
+    boolean isAscending() {
+
+        return ascending;
+    }
+
+    /**
+     * Get the number of tenants matching the filter, which are still to be skipped after the tenant of the cursor.
+     *
+     * @return Number of tenants to skip.
+     */
+    int getSkip() {
+
+        return skip;
+    }
+
+    String getDomain() {
+
+        return domain;
+    }
+
+    /**
+     * Check whether a tenant is positioned after the tenant of the cursor in the order of the listing.
+     *
+     * @param tenantDomain Domain name of the tenant.
+     * @return True if the tenant is positioned after the cursor.
+     */
+    boolean isFollowedBy(String tenantDomain) {
+
+        int comparison = String.CASE_INSENSITIVE_ORDER.compare(tenantDomain, domain);
+        return ascending ? comparison > 0 : comparison < 0;
+    }
+}
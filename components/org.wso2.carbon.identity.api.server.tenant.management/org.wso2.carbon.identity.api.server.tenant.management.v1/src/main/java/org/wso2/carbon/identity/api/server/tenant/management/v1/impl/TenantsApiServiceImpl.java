@@ -63,10 +63,11 @@ public class TenantsApiServiceImpl implements TenantsApiService {
     }
 
     @Override
-    public Response retrieveTenants(Integer limit, Integer offset, String sortOrder, String sortBy, String filter) {
+    public Response retrieveTenants(Integer limit, Integer offset, String sortOrder, String sortBy, String filter,
+                                    String cursor) {
 
-        return Response.ok().entity(tenantManagementService.listTenants(limit, offset, sortOrder, sortBy, filter)).
-                build();
+        return Response.ok().entity(tenantManagementService.listTenants(limit, offset, sortOrder, sortBy, filter,
+                cursor)).build();
     }
 
     @Override
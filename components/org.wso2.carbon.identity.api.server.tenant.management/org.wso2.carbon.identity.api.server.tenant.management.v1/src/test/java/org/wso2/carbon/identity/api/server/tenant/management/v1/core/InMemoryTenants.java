@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.tenant.management.v1.core;
+
+import org.wso2.carbon.identity.api.server.common.Constants.SortOrders;
+import org.wso2.carbon.stratos.common.exception.TenantManagementClientException;
+import org.wso2.carbon.stratos.common.exception.TenantMgtException;
+import org.wso2.carbon.tenant.mgt.services.TenantMgtService;
+import org.wso2.carbon.user.core.tenant.Tenant;
+import org.wso2.carbon.user.core.tenant.TenantSearchResult;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tenants held in memory, served through a mock tenant management service which lists them by the domain name with
+ * offset queries, the way the tenant management service does, and counts the tenants it retrieves.
+ */
+final class InMemoryTenants {
+
+    private final List<Tenant> tenants = new ArrayList<>();
+    private int listCalls;
+    private int retrievedTenants;
+
+    /**
+     * Add tenants with the domain names tenant-00000.com, tenant-00001.com, ... up to the given count.
+     */
+    InMemoryTenants addTenants(int count) {
+
+        for (int i = 0; i < count; i++) {
+            addTenant(String.format("tenant-%05d.com", i));
+        }
+        return this;
+    }
+
+    InMemoryTenants addTenant(String domain) {
+
+        Tenant tenant = new Tenant();
+        tenant.setDomain(domain);
+        tenant.setActive(true);
+        tenant.setCreatedDate(new Date(0));
+        tenant.setAdminName("admin");
+        tenants.add(tenant);
+        tenants.sort(Comparator.comparing(Tenant::getDomain));
+        return this;
+    }
+
+    void removeTenant(String domain) {
+
+        tenants.removeIf(tenant -> tenant.getDomain().equals(domain));
+    }
+
+    TenantMgtService mockTenantMgtService() throws TenantMgtException {
+
+        TenantMgtService tenantMgtService = mock(TenantMgtService.class);
+        when(tenantMgtService.listTenants(any(), any(), any(), any(), any())).thenAnswer(invocation ->
+                listTenants(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+        when(tenantMgtService.getTenantByDomain(anyString())).thenAnswer(invocation ->
+                getTenant(invocation.getArgument(0)));
+        return tenantMgtService;
+    }
+
+    int getListCalls() {
+
+        return listCalls;
+    }
+
+    int getRetrievedTenants() {
+
+        return retrievedTenants;
+    }
+
+    void resetCounters() {
+
+        listCalls = 0;
+        retrievedTenants = 0;
+    }
+
+    private TenantSearchResult listTenants(Integer limit, Integer offset, String sortOrder) {
+
+        int fromIndex = Math.min(offset == null ? 0 : offset, tenants.size());
+        int toIndex = (int) Math.min((long) fromIndex + (limit == null ? tenants.size() : limit), tenants.size());
+        List<Tenant> page = new ArrayList<>(toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            page.add(tenants.get(SortOrders.DESC.equals(sortOrder) ? tenants.size() - 1 - i : i));
+        }
+        listCalls++;
+        retrievedTenants += page.size();
+
+        TenantSearchResult tenantSearchResult = new TenantSearchResult();
+        tenantSearchResult.setTenantList(page);
+        tenantSearchResult.setTotalTenantCount(tenants.size());
+        tenantSearchResult.setOffSet(fromIndex);
+        tenantSearchResult.setLimit(limit == null ? 0 : limit);
+        return tenantSearchResult;
+    }
+
+    private Tenant getTenant(String domain) throws TenantManagementClientException {
+
+        for (Tenant tenant : tenants) {
+            if (tenant.getDomain().equalsIgnoreCase(domain)) {
+                return tenant;
+            }
+        }
+        throw new TenantManagementClientException("TM-60003", "A tenant is not found for the domain: " + domain);
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.tenant.management.v1.core;
+
+import org.apache.commons.lang.StringUtils;
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementConstants;
+import org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementServiceHolder;
+import org.wso2.carbon.identity.api.server.tenant.management.v1.model.Link;
+import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantListItem;
+import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantsListResponse;
+import org.wso2.carbon.stratos.common.exception.TenantMgtException;
+import org.wso2.carbon.tenant.mgt.services.TenantMgtService;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the tenant listing against tenants held in memory, to verify that the filtered listings scan a bounded
+ * number of tenants in a request and continue from the cursor of the previous page without listing the tenants
+ * before it.
+ */
+public class ServerTenantManagementServiceTest {
+
+    private static final int TENANT_COUNT = 12000;
+
+    private final ServerTenantManagementService tenantManagementService = new ServerTenantManagementService();
+    private InMemoryTenants tenants;
+    private TenantMgtService tenantMgtService;
+    private MockedStatic<ContextLoader> contextLoader;
+
+    @BeforeMethod
+    public void setUp() throws TenantMgtException {
+
+        tenants = new InMemoryTenants().addTenants(TENANT_COUNT);
+        tenantMgtService = tenants.mockTenantMgtService();
+        TenantManagementServiceHolder.setTenantMgtService(tenantMgtService);
+        contextLoader = mockStatic(ContextLoader.class);
+        contextLoader.when(() -> ContextLoader.buildURIForBody(anyString()))
+                .thenAnswer(invocation -> URI.create("https://localhost:9443" + invocation.getArgument(0)));
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        contextLoader.close();
+        TenantManagementServiceHolder.setTenantMgtService(null);
+    }
+
+    @DataProvider(name = "filters")
+    public Object[][] filters() {
+
+        return new Object[][]{
+                // Matches a tenant in every ten tenants.
+                {"domainName ew 7.com", 25, 0},
+                {"domainName ew 7.com", 25, 30},
+                // Matches two tenants, more than a scan apart, so the pages in between are empty.
+                {"domainName co 0777", 10, 0},
+                {"domainName co 0777", 10, 1},
+                {"domainName co 0777 and lifecycleStatus.activated eq true", 1, 0},
+                {"domainName sw unknown", 10, 0}
+        };
+    }
+
+    @Test(dataProvider = "filters")
+    public void testListTenantsWithFilter(String filter, int limit, int offset) {
+
+        List<String> expectedDomains = IntStream.range(0, TENANT_COUNT)
+                .mapToObj(i -> String.format("tenant-%05d.com", i))
+                .filter(domain -> filter.startsWith("domainName ew") ? domain.endsWith("7.com") :
+                        filter.startsWith("domainName co") && domain.contains("0777"))
+                .skip(offset)
+                .collect(Collectors.toList());
+
+        List<String> listedDomains = new ArrayList<>();
+        int requests = 0;
+        String cursor = null;
+        do {
+            tenants.resetCounters();
+            TenantsListResponse response = cursor == null ?
+                    tenantManagementService.listTenants(limit, offset, null, null, filter, null) :
+                    tenantManagementService.listTenants(limit, null, null, null, filter, cursor);
+            requests++;
+            // The tenant of the cursor is retrieved along with the scanned tenants to confirm its position.
+            assertTrue(tenants.getRetrievedTenants() <= ServerTenantManagementService.MAX_FILTER_SCAN_SIZE + 1,
+                    "Retrieved " + tenants.getRetrievedTenants() + " tenants in a request.");
+            assertNull(response.getTotalResults());
+            listedDomains.addAll(getDomains(response));
+            cursor = getNextCursor(response);
+        } while (cursor != null);
+
+        assertEquals(listedDomains, expectedDomains);
+        assertTrue(requests <= TENANT_COUNT / ServerTenantManagementService.MAX_FILTER_SCAN_SIZE + 1 +
+                expectedDomains.size() / limit, "Listed the tenants in " + requests + " requests.");
+    }
+
+    @Test
+    public void testListTenantsWithDomainNameFilter() throws TenantMgtException {
+
+        TenantsListResponse response = tenantManagementService.listTenants(10, 0, null, null,
+                "domainName eq TENANT-00042.com", null);
+        assertEquals(getDomains(response), Collections.singletonList("tenant-00042.com"));
+        assertNull(getNextCursor(response));
+
+        response = tenantManagementService.listTenants(10, 0, null, null, "domain eq tenant-99999.com", null);
+        assertEquals(response.getCount().intValue(), 0);
+
+        response = tenantManagementService.listTenants(10, 1, null, null, "domainName eq tenant-00042.com", null);
+        assertEquals(response.getCount().intValue(), 0);
+
+        verify(tenantMgtService, times(2)).getTenantByDomain(anyString());
+        verify(tenantMgtService, never()).listTenants(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void testListTenantsWithCursor() {
+
+        TenantsListResponse firstPage = tenantManagementService.listTenants(10, 0, "ASC",
+                TenantManagementConstants.DOMAIN_NAME_SORT_ATTRIBUTE, null, null);
+        assertEquals(getDomains(firstPage), getDomainRange(0, 10));
+
+        tenants.resetCounters();
+        TenantsListResponse secondPage = tenantManagementService.listTenants(10, null, null, null, null,
+                getNextCursor(firstPage));
+        assertEquals(getDomains(secondPage), getDomainRange(10, 20));
+        // The page after the tenant of the cursor is retrieved with the tenant, in a single query.
+        assertEquals(tenants.getListCalls(), 1);
+    }
+
+    @Test
+    public void testListTenantsWithCursorAfterTenantsChanged() {
+
+        TenantsListResponse firstPage = tenantManagementService.listTenants(10, 0, "ASC",
+                TenantManagementConstants.DOMAIN_NAME_SORT_ATTRIBUTE, null, null);
+        String cursor = getNextCursor(firstPage);
+
+        // Tenants created before the tenant of the cursor move it to a later index.
+        tenants.addTenant("a-1.com").addTenant("a-2.com").addTenant("a-3.com");
+        TenantsListResponse secondPage = tenantManagementService.listTenants(10, null, null, null, null, cursor);
+        assertEquals(getDomains(secondPage), getDomainRange(10, 20));
+
+        // The listing continues after the position of the tenant of the cursor, if the tenant is deleted.
+        tenants.removeTenant("tenant-00009.com");
+        secondPage = tenantManagementService.listTenants(10, null, null, null, null, cursor);
+        assertEquals(getDomains(secondPage), getDomainRange(10, 20));
+    }
+
+    private static List<String> getDomainRange(int from, int to) {
+
+        return IntStream.range(from, to).mapToObj(i -> String.format("tenant-%05d.com", i))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> getDomains(TenantsListResponse response) {
+
+        if (response.getTenants() == null) {
+            return Collections.emptyList();
+        }
+        return response.getTenants().stream().map(TenantListItem::getDomain).collect(Collectors.toList());
+    }
+
+    static String getNextCursor(TenantsListResponse response) {
+
+        if (response.getLinks() == null) {
+            return null;
+        }
+        for (Link link : response.getLinks()) {
+            if (TenantManagementConstants.PAGE_LINK_REL_NEXT.equals(link.getRel())) {
+                return StringUtils.substringBefore(StringUtils.substringAfter(link.getHref(), "cursor="), "&");
+            }
+        }
+        return null;
+    }
+}
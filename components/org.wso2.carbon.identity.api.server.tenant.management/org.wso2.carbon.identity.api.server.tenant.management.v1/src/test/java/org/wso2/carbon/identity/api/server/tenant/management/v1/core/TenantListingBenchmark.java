@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.tenant.management.v1.core;
+
+import org.mockito.MockedStatic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementConstants;
+import org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementServiceHolder;
+import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantsListResponse;
+import org.wso2.carbon.stratos.common.exception.TenantMgtException;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mockStatic;
+
+/**
+ * Measures the tenant listing over 100k tenants held in memory: a walk through all the pages of a selective filter,
+ * which scans a bounded number of tenants in each request, a page continued from a cursor in the middle of the
+ * tenants and a filter on a single domain name, which is looked up instead of scanned. The benchmark is not run by
+ * the build. Run it through the main method from the test classpath of this module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TenantListingBenchmark {
+
+    private static final int TENANT_COUNT = 100000;
+    private static final int PAGE_SIZE = 20;
+    private static final String SELECTIVE_FILTER = "domainName co 777";
+
+    private final ServerTenantManagementService tenantManagementService = new ServerTenantManagementService();
+    private MockedStatic<ContextLoader> contextLoader;
+    private String middleCursor;
+
+    @Setup
+    public void setUp() throws TenantMgtException {
+
+        TenantManagementServiceHolder.setTenantMgtService(new InMemoryTenants().addTenants(TENANT_COUNT)
+                .mockTenantMgtService());
+        contextLoader = mockStatic(ContextLoader.class);
+        contextLoader.when(() -> ContextLoader.buildURIForBody(anyString()))
+                .thenAnswer(invocation -> URI.create("https://localhost:9443" + invocation.getArgument(0)));
+        middleCursor = ServerTenantManagementServiceTest.getNextCursor(tenantManagementService.listTenants(PAGE_SIZE,
+                TENANT_COUNT / 2, "ASC", TenantManagementConstants.DOMAIN_NAME_SORT_ATTRIBUTE, null, null));
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        contextLoader.close();
+        TenantManagementServiceHolder.setTenantMgtService(null);
+    }
+
+    @Benchmark
+    public int selectiveFilterWalk() {
+
+        int listedTenants = 0;
+        TenantsListResponse response = tenantManagementService.listTenants(PAGE_SIZE, 0, null, null,
+                SELECTIVE_FILTER, null);
+        while (true) {
+            listedTenants += response.getCount();
+            String cursor = ServerTenantManagementServiceTest.getNextCursor(response);
+            if (cursor == null) {
+                return listedTenants;
+            }
+            response = tenantManagementService.listTenants(PAGE_SIZE, null, null, null, SELECTIVE_FILTER, cursor);
+        }
+    }
+
+    @Benchmark
+    public TenantsListResponse pageFromCursor() {
+
+        return tenantManagementService.listTenants(PAGE_SIZE, null, null, null, null, middleCursor);
+    }
+
+    @Benchmark
+    public TenantsListResponse domainNameFilter() {
+
+        return tenantManagementService.listTenants(PAGE_SIZE, 0, null, null, "domainName eq tenant-54321.com", null);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+
+        new Runner(new OptionsBuilder().include(TenantListingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+}
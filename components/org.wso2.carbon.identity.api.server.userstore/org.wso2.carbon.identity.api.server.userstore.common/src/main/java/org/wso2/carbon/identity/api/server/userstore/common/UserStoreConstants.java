@@ -30,6 +30,18 @@ public class UserStoreConstants {
     public static final String USER_STORE_PROPERTIES = "/properties/";
     public static final String USER_STORE_PROPERTY_MASK = "************";
     public static final String CLAIM_MANAGEMENT_PREFIX = "CMT-";
+    public static final String TOTAL_RESULTS_HEADER = "X-Total-Count";
+
+    /**
+     * Attributes supported in the filter and sort parameters of the user store listing.
+     */
+    public static class UserStoreListAttributes {
+
+        public static final String NAME = "name";
+        public static final String TYPE_NAME = "typeName";
+        public static final String ENABLED = "enabled";
+        public static final String IS_LOCAL = "isLocal";
+    }
 
     /**
      * Enum for user store related errors in the format of
@@ -97,6 +109,14 @@ public class UserStoreConstants {
                 "Unable to import the secondary user store configurations.",
                 "Server Encountered an error while importing the secondary user store configurations.",
                 Response.Status.INTERNAL_SERVER_ERROR),
+        ERROR_CODE_ERROR_TESTING_CONNECTIONS("65016",
+                "Unable to test the user store connections.",
+                "Server Encountered an error while waiting for the user store connection tests to complete.",
+                Response.Status.INTERNAL_SERVER_ERROR),
+        ERROR_CODE_CONNECTION_TESTER_BUSY("65017",
+                "Unable to test the user store connections.",
+                "Server is busy testing other user store connections. Retry the connection tests later.",
+                Response.Status.SERVICE_UNAVAILABLE),
 
         // Client Errors - 600xx
         ERROR_CODE_DOMAIN_ID_NOT_FOUND("60001",
@@ -126,7 +146,17 @@ public class UserStoreConstants {
         ERROR_CODE_EMPTY_ATTRIBUTE_MAPPINGS("60014", "Attribute mapping not specified.",
                 "Attribute mapping cannot be empty."),
         ERROR_CODE_INVALID_USERSTORE_TYPE("60015", "UserStore type is not allowed",
-                "Requested UserStore type is not allowed", Response.Status.BAD_REQUEST);
+                "Requested UserStore type is not allowed", Response.Status.BAD_REQUEST),
+        ERROR_CODE_CONNECTION_TEST_LIMIT_EXCEEDED("60016", "Too many connections to test.",
+                "A maximum of %s connections can be tested in a single request.", Response.Status.BAD_REQUEST),
+        ERROR_CODE_INVALID_CONNECTION_TEST("60017", "Invalid connection test request.",
+                "%s", Response.Status.BAD_REQUEST),
+        ERROR_CODE_INVALID_PAGINATION_PARAMETERS("60018", "Invalid pagination parameters.",
+                "Limit and offset cannot be negative values.", Response.Status.BAD_REQUEST),
+        ERROR_CODE_INVALID_FILTER("60019", "Invalid filter.",
+                "Unable to evaluate the filter %s. %s", Response.Status.BAD_REQUEST),
+        ERROR_CODE_INVALID_SORT("60020", "Invalid sort.",
+                "Unable to sort the user stores by %s. %s", Response.Status.BAD_REQUEST);
 
         private final String code;
         private final String message;
@@ -25,6 +25,8 @@ import java.util.List;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.AvailableUserStoreClassesRes;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.ClaimAttributeMapping;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.ConnectionEstablishedResponse;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.ConnectionTestResult;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.ConnectionTestsReq;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.Error;
 import java.io.File;
 import java.util.List;
@@ -180,12 +182,12 @@ public class UserstoresApi  {
     }, tags={ "User Store", })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "Successful response.", response = UserStoreListResponse.class, responseContainer = "List"),
+        @ApiResponse(code = 400, message = "Invalid input request.", response = Error.class),
         @ApiResponse(code = 401, message = "Unauthorized.", response = Void.class),
         @ApiResponse(code = 404, message = "The specified resource is not found.", response = Error.class),
-        @ApiResponse(code = 500, message = "Internal Server Error.", response = Error.class),
-        @ApiResponse(code = 501, message = "Not Implemented.", response = Error.class)
+        @ApiResponse(code = 500, message = "Internal Server Error.", response = Error.class)
     })
-    public Response getSecondaryUserStores(    @Valid@ApiParam(value = "maximum number of records to return")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "number of records to skip for pagination")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Condition to filter the retrieval of records.")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Define the order of how the retrieved records should be sorted.")  @QueryParam("sort") String sort,     @Valid@ApiParam(value = "Define set of user store attributes (as comma separated) to be returned.")  @QueryParam("requiredAttributes") String requiredAttributes) {
+    public Response getSecondaryUserStores(    @Valid@ApiParam(value = "Maximum number of user stores to return. All the matching user stores are returned if not specified.")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Number of matching user stores to skip for pagination.")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Condition to filter the user stores. Supported attributes are name, typeName, enabled and isLocal. Supported operations are eq, ne, co, sw and ew, which can be combined with and/or. <br> E.g. typeName sw UniqueID and enabled eq true")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Attribute to sort the user stores by, optionally followed by the sort order asc or desc. The filter attributes are supported. <br> E.g. name desc")  @QueryParam("sort") String sort,     @Valid@ApiParam(value = "Define set of user store attributes (as comma separated) to be returned.")  @QueryParam("requiredAttributes") String requiredAttributes) {
 
         return delegate.getSecondaryUserStores(limit,  offset,  filter,  sort,  requiredAttributes );
     }
@@ -330,6 +332,29 @@ public class UserstoresApi  {
         return delegate.testRDBMSConnection(rdBMSConnectionReq );
     }
 
+    @Valid
+    @POST
+    @Path("/test-connections")
+    @Consumes({ "application/json" })
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Test the connections of multiple user stores in parallel.", notes = "This API provides the capability to test the connections of multiple JDBC and LDAP user stores in parallel. Each connection test is bounded by the given timeout and the result of each connection test contains the latency and the reason of the failure, if any. A connection test which could not be started within the timeout, as the server was busy with other connection tests, is reported as not started. <b>Permission required:</b> <br>     * /permission/admin/manage/identity/userstore/config/view <br> <b>Scope required:</b> <br>     * internal_userstore_view ", response = ConnectionTestResult.class, responseContainer = "List", authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "User Store", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Successful response.", response = ConnectionTestResult.class, responseContainer = "List"),
+        @ApiResponse(code = 400, message = "Invalid input request.", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized.", response = Void.class),
+        @ApiResponse(code = 500, message = "Internal Server Error.", response = Error.class),
+        @ApiResponse(code = 503, message = "The server is busy testing other user store connections.", response = Error.class)
+    })
+    public Response testConnections(@ApiParam(value = "Connection properties of the user stores to be tested." ,required=true) @Valid ConnectionTestsReq connectionTestsReq) {
+
+        return delegate.testConnections(connectionTestsReq );
+    }
+
     @Valid
     @PATCH
     @Path("/{userstore-domain-id}/attribute-mappings")
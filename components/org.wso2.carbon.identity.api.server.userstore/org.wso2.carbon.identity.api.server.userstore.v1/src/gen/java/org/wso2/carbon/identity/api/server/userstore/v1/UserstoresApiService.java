@@ -25,6 +25,8 @@ import java.util.List;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.AvailableUserStoreClassesRes;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.ClaimAttributeMapping;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.ConnectionEstablishedResponse;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.ConnectionTestResult;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.ConnectionTestsReq;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.Error;
 import java.io.File;
 import java.util.List;
@@ -65,6 +67,8 @@ public interface UserstoresApiService {
 
       public Response testRDBMSConnection(RDBMSConnectionReq rdBMSConnectionReq);
 
+      public Response testConnections(ConnectionTestsReq connectionTestsReq);
+
       public Response updateAttributeMappings(String userstoreDomainId, List<ClaimAttributeMapping> claimAttributeMapping);
 
       public Response updateUserStore(String userstoreDomainId, UserStoreReq userStoreReq);
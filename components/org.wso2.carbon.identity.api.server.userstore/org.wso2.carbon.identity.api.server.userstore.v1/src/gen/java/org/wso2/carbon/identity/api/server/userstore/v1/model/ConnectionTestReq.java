@@ -0,0 +1,253 @@
+/*
+* Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+*
+* WSO2 LLC. licenses this file to you under the Apache License,
+* Version 2.0 (the "License"); you may not use this file except
+* in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.wso2.carbon.identity.api.server.userstore.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import javax.validation.constraints.*;
+
+/**
+ * Connection properties of a user store to be tested.
+ **/
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+@ApiModel(description = "Connection properties of a user store to be tested.")
+public class ConnectionTestReq  {
+
+
+@XmlType(name="TypeEnum")
+@XmlEnum(String.class)
+public enum TypeEnum {
+
+    @XmlEnumValue("RDBMS") RDBMS(String.valueOf("RDBMS")), @XmlEnumValue("LDAP") LDAP(String.valueOf("LDAP"));
+
+
+    private String value;
+
+    TypeEnum(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    public static TypeEnum fromValue(String value) {
+        for (TypeEnum b : TypeEnum.values()) {
+            if (b.value.equals(value)) {
+                return b;
+            }
+        }
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+}
+
+    private TypeEnum type;
+    private String domain;
+    private String driverName;
+    private String connectionURL;
+    private String username;
+    private String connectionPassword;
+
+    /**
+    * Type of the user store connection.
+    **/
+    public ConnectionTestReq type(TypeEnum type) {
+
+        this.type = type;
+        return this;
+    }
+
+    @ApiModelProperty(example = "RDBMS", required = true, value = "Type of the user store connection.")
+    @JsonProperty("type")
+    @Valid
+    @NotNull(message = "Property type cannot be null.")
+
+    public TypeEnum getType() {
+        return type;
+    }
+    public void setType(TypeEnum type) {
+        this.type = type;
+    }
+
+    /**
+    * User store domain name.
+    **/
+    public ConnectionTestReq domain(String domain) {
+
+        this.domain = domain;
+        return this;
+    }
+
+    @ApiModelProperty(example = "JDBC-SECONDARY", value = "User store domain name.")
+    @JsonProperty("domain")
+    @Valid
+    public String getDomain() {
+        return domain;
+    }
+    public void setDomain(String domain) {
+        this.domain = domain;
+    }
+
+    /**
+    * Driver name. Required for RDBMS connections. It must be the class name of a JDBC driver registered with the server.
+    **/
+    public ConnectionTestReq driverName(String driverName) {
+
+        this.driverName = driverName;
+        return this;
+    }
+
+    @ApiModelProperty(example = "com.mysql.jdbc.Driver", value = "Driver name. Required for RDBMS connections. It must be the class name of a JDBC driver registered with the server.")
+    @JsonProperty("driverName")
+    @Valid
+    public String getDriverName() {
+        return driverName;
+    }
+    public void setDriverName(String driverName) {
+        this.driverName = driverName;
+    }
+
+    /**
+    * The connection URL. A JDBC URL for RDBMS connections and an ldap or ldaps URL for LDAP connections.
+    **/
+    public ConnectionTestReq connectionURL(String connectionURL) {
+
+        this.connectionURL = connectionURL;
+        return this;
+    }
+
+    @ApiModelProperty(example = "jdbc:mysql://192.168.48.154:3306/test", required = true, value = "The connection URL. A JDBC URL for RDBMS connections and an ldap or ldaps URL for LDAP connections.")
+    @JsonProperty("connectionURL")
+    @Valid
+    @NotNull(message = "Property connectionURL cannot be null.")
+
+    public String getConnectionURL() {
+        return connectionURL;
+    }
+    public void setConnectionURL(String connectionURL) {
+        this.connectionURL = connectionURL;
+    }
+
+    /**
+    * The username. The connection name (bind DN) for LDAP connections.
+    **/
+    public ConnectionTestReq username(String username) {
+
+        this.username = username;
+        return this;
+    }
+
+    @ApiModelProperty(example = "root", required = true, value = "The username. The connection name (bind DN) for LDAP connections.")
+    @JsonProperty("username")
+    @Valid
+    @NotNull(message = "Property username cannot be null.")
+
+    public String getUsername() {
+        return username;
+    }
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    /**
+    * The password. It is used as given, so the masked password of an existing user store is not resolved.
+    **/
+    public ConnectionTestReq connectionPassword(String connectionPassword) {
+
+        this.connectionPassword = connectionPassword;
+        return this;
+    }
+
+    @ApiModelProperty(example = "root", required = true, value = "The password. It is used as given, so the masked password of an existing user store is not resolved.")
+    @JsonProperty("connectionPassword")
+    @Valid
+    @NotNull(message = "Property connectionPassword cannot be null.")
+
+    public String getConnectionPassword() {
+        return connectionPassword;
+    }
+    public void setConnectionPassword(String connectionPassword) {
+        this.connectionPassword = connectionPassword;
+    }
+
+
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ConnectionTestReq connectionTestReq = (ConnectionTestReq) o;
+        return Objects.equals(this.type, connectionTestReq.type) &&
+            Objects.equals(this.domain, connectionTestReq.domain) &&
+            Objects.equals(this.driverName, connectionTestReq.driverName) &&
+            Objects.equals(this.connectionURL, connectionTestReq.connectionURL) &&
+            Objects.equals(this.username, connectionTestReq.username) &&
+            Objects.equals(this.connectionPassword, connectionTestReq.connectionPassword);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, domain, driverName, connectionURL, username, connectionPassword);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class ConnectionTestReq {\n");
+
+        sb.append("    type: ").append(toIndentedString(type)).append("\n");
+        sb.append("    domain: ").append(toIndentedString(domain)).append("\n");
+        sb.append("    driverName: ").append(toIndentedString(driverName)).append("\n");
+        sb.append("    connectionURL: ").append(toIndentedString(connectionURL)).append("\n");
+        sb.append("    username: ").append(toIndentedString(username)).append("\n");
+        sb.append("    connectionPassword: ").append(toIndentedString(connectionPassword)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
+
@@ -0,0 +1,245 @@
+/*
+* Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+*
+* WSO2 LLC. licenses this file to you under the Apache License,
+* Version 2.0 (the "License"); you may not use this file except
+* in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.wso2.carbon.identity.api.server.userstore.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import javax.validation.constraints.*;
+
+/**
+ * Result of a user store connection test.
+ **/
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+@ApiModel(description = "Result of a user store connection test.")
+public class ConnectionTestResult  {
+
+    private String domain;
+    private String type;
+    private Boolean connection;
+
+@XmlType(name="StatusEnum")
+@XmlEnum(String.class)
+public enum StatusEnum {
+
+    @XmlEnumValue("SUCCESS") SUCCESS(String.valueOf("SUCCESS")), @XmlEnumValue("FAILED") FAILED(String.valueOf("FAILED")), @XmlEnumValue("TIMED_OUT") TIMED_OUT(String.valueOf("TIMED_OUT")), @XmlEnumValue("NOT_STARTED") NOT_STARTED(String.valueOf("NOT_STARTED"));
+
+
+    private String value;
+
+    StatusEnum(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    public static StatusEnum fromValue(String value) {
+        for (StatusEnum b : StatusEnum.values()) {
+            if (b.value.equals(value)) {
+                return b;
+            }
+        }
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+}
+
+    private StatusEnum status;
+    private Long latency;
+    private String reason;
+
+    /**
+    * User store domain name given in the request.
+    **/
+    public ConnectionTestResult domain(String domain) {
+
+        this.domain = domain;
+        return this;
+    }
+
+    @ApiModelProperty(example = "JDBC-SECONDARY", value = "User store domain name given in the request.")
+    @JsonProperty("domain")
+    @Valid
+    public String getDomain() {
+        return domain;
+    }
+    public void setDomain(String domain) {
+        this.domain = domain;
+    }
+
+    /**
+    * Type of the user store connection.
+    **/
+    public ConnectionTestResult type(String type) {
+
+        this.type = type;
+        return this;
+    }
+
+    @ApiModelProperty(example = "RDBMS", value = "Type of the user store connection.")
+    @JsonProperty("type")
+    @Valid
+    public String getType() {
+        return type;
+    }
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    /**
+    * Whether the connection was established.
+    **/
+    public ConnectionTestResult connection(Boolean connection) {
+
+        this.connection = connection;
+        return this;
+    }
+
+    @ApiModelProperty(example = "true", value = "Whether the connection was established.")
+    @JsonProperty("connection")
+    @Valid
+    public Boolean getConnection() {
+        return connection;
+    }
+    public void setConnection(Boolean connection) {
+        this.connection = connection;
+    }
+
+    /**
+    * Outcome of the connection test.
+    **/
+    public ConnectionTestResult status(StatusEnum status) {
+
+        this.status = status;
+        return this;
+    }
+
+    @ApiModelProperty(example = "SUCCESS", value = "Outcome of the connection test.")
+    @JsonProperty("status")
+    @Valid
+    public StatusEnum getStatus() {
+        return status;
+    }
+    public void setStatus(StatusEnum status) {
+        this.status = status;
+    }
+
+    /**
+    * Time taken by the connection test in milliseconds.
+    **/
+    public ConnectionTestResult latency(Long latency) {
+
+        this.latency = latency;
+        return this;
+    }
+
+    @ApiModelProperty(example = "42", value = "Time taken by the connection test in milliseconds. Not included if the connection test was not started.")
+    @JsonProperty("latency")
+    @Valid
+    public Long getLatency() {
+        return latency;
+    }
+    public void setLatency(Long latency) {
+        this.latency = latency;
+    }
+
+    /**
+    * Reason of the failure, if the connection was not established.
+    **/
+    public ConnectionTestResult reason(String reason) {
+
+        this.reason = reason;
+        return this;
+    }
+
+    @ApiModelProperty(example = "Communications link failure", value = "Reason of the failure, if the connection was not established.")
+    @JsonProperty("reason")
+    @Valid
+    public String getReason() {
+        return reason;
+    }
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ConnectionTestResult connectionTestResult = (ConnectionTestResult) o;
+        return Objects.equals(this.domain, connectionTestResult.domain) &&
+            Objects.equals(this.type, connectionTestResult.type) &&
+            Objects.equals(this.connection, connectionTestResult.connection) &&
+            Objects.equals(this.status, connectionTestResult.status) &&
+            Objects.equals(this.latency, connectionTestResult.latency) &&
+            Objects.equals(this.reason, connectionTestResult.reason);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(domain, type, connection, status, latency, reason);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class ConnectionTestResult {\n");
+
+        sb.append("    domain: ").append(toIndentedString(domain)).append("\n");
+        sb.append("    type: ").append(toIndentedString(type)).append("\n");
+        sb.append("    connection: ").append(toIndentedString(connection)).append("\n");
+        sb.append("    status: ").append(toIndentedString(status)).append("\n");
+        sb.append("    latency: ").append(toIndentedString(latency)).append("\n");
+        sb.append("    reason: ").append(toIndentedString(reason)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
+
@@ -0,0 +1,135 @@
+/*
+* Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+*
+* WSO2 LLC. licenses this file to you under the Apache License,
+* Version 2.0 (the "License"); you may not use this file except
+* in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.wso2.carbon.identity.api.server.userstore.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.ConnectionTestReq;
+import javax.validation.constraints.*;
+
+/**
+ * User store connections to be tested in parallel.
+ **/
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+@ApiModel(description = "User store connections to be tested in parallel.")
+public class ConnectionTestsReq  {
+
+    private Integer timeout;
+    private List<ConnectionTestReq> connections = new ArrayList<>();
+
+
+    /**
+    * Maximum time in milliseconds to wait for each connection test. Defaults to 10000 and cannot exceed 60000.
+    **/
+    public ConnectionTestsReq timeout(Integer timeout) {
+
+        this.timeout = timeout;
+        return this;
+    }
+
+    @ApiModelProperty(example = "5000", value = "Maximum time in milliseconds to wait for each connection test. Defaults to 10000 and cannot exceed 60000.")
+    @JsonProperty("timeout")
+    @Valid
+    public Integer getTimeout() {
+        return timeout;
+    }
+    public void setTimeout(Integer timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+    * Connections to be tested. At most 10 connections can be tested in a single request.
+    **/
+    public ConnectionTestsReq connections(List<ConnectionTestReq> connections) {
+
+        this.connections = connections;
+        return this;
+    }
+
+    @ApiModelProperty(required = true, value = "Connections to be tested. At most 10 connections can be tested in a single request.")
+    @JsonProperty("connections")
+    @Valid
+    @NotNull(message = "Property connections cannot be null.")
+
+    public List<ConnectionTestReq> getConnections() {
+        return connections;
+    }
+    public void setConnections(List<ConnectionTestReq> connections) {
+        this.connections = connections;
+    }
+
+    public ConnectionTestsReq addConnectionsItem(ConnectionTestReq connectionsItem) {
+        this.connections.add(connectionsItem);
+        return this;
+    }
+
+
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ConnectionTestsReq connectionTestsReq = (ConnectionTestsReq) o;
+        return Objects.equals(this.timeout, connectionTestsReq.timeout) &&
+            Objects.equals(this.connections, connectionTestsReq.connections);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(timeout, connections);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class ConnectionTestsReq {\n");
+
+        sb.append("    timeout: ").append(toIndentedString(timeout)).append("\n");
+        sb.append("    connections: ").append(toIndentedString(connections)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
+
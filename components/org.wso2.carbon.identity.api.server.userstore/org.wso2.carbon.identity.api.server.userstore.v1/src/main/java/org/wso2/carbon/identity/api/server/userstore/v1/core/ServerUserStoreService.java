@@ -16,32 +16,39 @@
 
 package org.wso2.carbon.identity.api.server.userstore.v1.core;
 
-import com.fasterxml.jackson.core.JsonFactory;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringUtils;
+import org.apache.commons.lang.exception.ExceptionUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.cxf.jaxrs.ext.multipart.Attachment;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.CodecException;
+import org.wso2.carbon.identity.api.server.common.CodecRegistry;
+import org.wso2.carbon.identity.api.server.common.ContextAwareExecutor;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.FileContent;
+import org.wso2.carbon.identity.api.server.common.ListQuery;
+import org.wso2.carbon.identity.api.server.common.URIPrefixResolver;
 import org.wso2.carbon.identity.api.server.common.Util;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.userstore.common.UserStoreConfigServiceHolder;
 import org.wso2.carbon.identity.api.server.userstore.common.UserStoreConstants;
+import org.wso2.carbon.identity.api.server.userstore.common.UserStoreConstants.UserStoreListAttributes;
 import org.wso2.carbon.identity.api.server.userstore.v1.core.functions.userstore.AttributeMappingsToApiModel;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.AddUserStorePropertiesRes;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.Attribute;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.AvailableUserStoreClassesRes;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.ClaimAttributeMapping;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.ConnectionEstablishedResponse;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.ConnectionTestReq;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.ConnectionTestResult;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.ConnectionTestsReq;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.MetaUserStoreType;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.PatchDocument;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.PropertiesRes;
@@ -49,6 +56,7 @@ import org.wso2.carbon.identity.api.server.userstore.v1.model.RDBMSConnectionReq
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreAttributeMappingResponse;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreConfigurations;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreConfigurationsRes;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreListPage;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreListResponse;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStorePropertiesRes;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreReq;
@@ -83,26 +91,50 @@ import org.yaml.snakeyaml.error.YAMLException;
 import org.yaml.snakeyaml.inspector.TagInspector;
 import org.yaml.snakeyaml.inspector.TrustedPrefixesTagInspector;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.StringReader;
-import java.io.StringWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
+import javax.naming.Context;
+import javax.naming.NamingException;
+import javax.naming.directory.DirContext;
+import javax.naming.directory.InitialDirContext;
 import javax.ws.rs.core.Response;
-import javax.xml.bind.JAXBContext;
-import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.ERROR_CODE_RESOURCE_LIMIT_REACHED;
 import static org.wso2.carbon.identity.api.server.common.Constants.JSON_FILE_EXTENSION;
@@ -113,6 +145,7 @@ import static org.wso2.carbon.identity.api.server.common.Constants.REGEX_COMMA;
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.common.Constants.XML_FILE_EXTENSION;
 import static org.wso2.carbon.identity.api.server.common.Constants.YAML_FILE_EXTENSION;
+import static org.wso2.carbon.identity.api.server.common.ListQuery.singleValue;
 import static org.wso2.carbon.identity.api.server.userstore.common.UserStoreConstants.ErrorMessage.ERROR_CODE_USER_STORE_LIMIT_REACHED;
 import static org.wso2.carbon.identity.core.util.IdentityUtil.isValidFileName;
 
@@ -122,21 +155,55 @@ import static org.wso2.carbon.identity.core.util.IdentityUtil.isValidFileName;
 public class ServerUserStoreService {
 
     private static final Log LOG = LogFactory.getLog(ServerUserStoreService.class);
+    private static final CodecRegistry.Codecs<UserStoreConfigurations> USERSTORE_CODECS = new CodecRegistry.Codecs<>(
+            CodecRegistry.xmlCodec(UserStoreConfigurations.class, null, UserStoreConfigurations.class),
+            CodecRegistry.yamlCodec(ServerUserStoreService::writeUserStoreAsYaml,
+                    ServerUserStoreService::readUserStoreFromYaml),
+            CodecRegistry.jsonCodec(UserStoreConfigurations.class));
 
     private static final String DUMMY_MESSAGE_ID = "DUMMY-MESSAGE-ID";
 
     private static final String EXPRESSION_LANGUAGE_REGEX = "^.*(\\$\\{|#\\{).*}.*$";
 
     private static final String PASSWORD = "password";
+    private static final String REQUIRED_ATTRIBUTES_LINK_PARAM = "&requiredAttributes=";
+
+    private static final int CONNECTION_TEST_POOL_SIZE = 10;
+    private static final int CONNECTION_TEST_QUEUE_CAPACITY = CONNECTION_TEST_POOL_SIZE;
+    private static final int MAX_CONNECTION_TESTS = CONNECTION_TEST_POOL_SIZE;
+    private static final int DEFAULT_CONNECTION_TEST_TIMEOUT_MILLIS = 10000;
+    private static final int MAX_CONNECTION_TEST_TIMEOUT_MILLIS = 60000;
+    private static final String JDBC_USER = "user";
+    private static final String JDBC_PASSWORD = "password";
+    private static final String LDAP_CONTEXT_FACTORY = "com.sun.jndi.ldap.LdapCtxFactory";
+    private static final String LDAP_CONNECT_TIMEOUT = "com.sun.jndi.ldap.connect.timeout";
+    private static final String LDAP_READ_TIMEOUT = "com.sun.jndi.ldap.read.timeout";
+    private static final String LDAP_SIMPLE_AUTHENTICATION = "simple";
+    private static final String[] LDAP_URL_SCHEMES = {"ldap://", "ldaps://"};
+
+    // Connection tests are rejected once the workers are busy and the queue is full, instead of piling up behind
+    // unreachable datasources.
+    private final ContextAwareExecutor connectionTester = new ContextAwareExecutor("UserStoreConnectionTester",
+            CONNECTION_TEST_POOL_SIZE, CONNECTION_TEST_QUEUE_CAPACITY);
 
-    private static boolean isAvailableUserStoreTypes(List<AvailableUserStoreClassesRes> userStoreList, String typeID) {
+    /**
+     * Release the resources held by the user store management when the API is stopped. Invoked as the destroy
+     * method of the bean.
+     */
+    public void shutdown() {
 
-        for (AvailableUserStoreClassesRes userStore : userStoreList) {
-            if (userStore.getTypeId().equals(typeID)) {
-                return true;
-            }
+        connectionTester.shutdown();
+    }
+
+    private static boolean isAvailableUserStoreType(String typeId) throws IdentityUserStoreMgtException {
+
+        String className = UserStoreTypeIndex.getInstance().getClassNameByTypeId(typeId);
+        if (className == null) {
+            return false;
         }
-        return false;
+        Set<String> availableClassNames = UserStoreConfigServiceHolder.getInstance().getUserStoreConfigService()
+                .getAvailableUserStoreClasses();
+        return availableClassNames != null && availableClassNames.contains(className);
     }
 
     /**
@@ -149,7 +216,7 @@ public class ServerUserStoreService {
 
         try {
             validateMandatoryProperties(userStoreReq);
-            if (!isAvailableUserStoreTypes(getAvailableUserStoreTypes(), userStoreReq.getTypeId())) {
+            if (!isAvailableUserStoreType(userStoreReq.getTypeId())) {
                 throw handleException(Response.Status.BAD_REQUEST,
                         UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_USERSTORE_TYPE);
             }
@@ -360,21 +427,20 @@ public class ServerUserStoreService {
         try {
             classNames = userStoreConfigService.getAvailableUserStoreClasses();
             List<AvailableUserStoreClassesRes> propertiesToAdd = new ArrayList<>();
-            Map<String, Boolean> userStoreManagersType = UserStoreManagerRegistry.getUserStoreManagersType();
+            UserStoreTypeIndex userStoreTypeIndex = UserStoreTypeIndex.getInstance();
+            URIPrefixResolver uriPrefixResolver = URIPrefixResolver.forBody();
             for (String className : classNames) {
                 AvailableUserStoreClassesRes availableUserStoreClassesResDTO = new AvailableUserStoreClassesRes();
-                String typeId = base64URLEncodeId(Objects.
-                        requireNonNull(getUserStoreTypeName(className)));
+                String typeId = Objects.requireNonNull(userStoreTypeIndex.getTypeId(className));
                 availableUserStoreClassesResDTO.setClassName(className);
-                availableUserStoreClassesResDTO.setTypeName(getUserStoreTypeName(className));
+                availableUserStoreClassesResDTO.setTypeName(userStoreTypeIndex.getTypeName(className));
                 availableUserStoreClassesResDTO.setTypeId(typeId);
-                availableUserStoreClassesResDTO.setSelf(
-                        ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
-                                UserStoreConstants.USER_STORE_PATH_COMPONENT + "/meta/types/%s", typeId)).toString());
+                availableUserStoreClassesResDTO.setSelf(uriPrefixResolver.resolve(V1_API_PATH_COMPONENT +
+                        UserStoreConstants.USER_STORE_PATH_COMPONENT + "/meta/types/" + typeId));
 
-                if (userStoreManagersType.containsKey(className)) {
-                    availableUserStoreClassesResDTO
-                            .setIsLocal(userStoreManagersType.get(className));
+                Boolean isLocal = userStoreTypeIndex.isLocal(className);
+                if (isLocal != null) {
+                    availableUserStoreClassesResDTO.setIsLocal(isLocal);
                 }
 
                 propertiesToAdd.add(availableUserStoreClassesResDTO);
@@ -394,18 +460,27 @@ public class ServerUserStoreService {
      * @param offset 0 based index to get the results starting from this index + 1.
      * @param filter to specify the filtering capabilities.
      * @param sort   to specify the sorting order.
-     * @return List<UserStoreListResponse>.
+     * @return Requested page of the user stores.
      */
-    public List<UserStoreListResponse> getUserStoreList(Integer limit, Integer offset, String filter, String sort,
-                                                        String requiredAttributes) {
+    public UserStoreListPage getUserStoreList(Integer limit, Integer offset, String filter, String sort,
+                                              String requiredAttributes) {
 
-        handleNotImplementedBehaviour(limit, offset, filter, sort);
+        validatePaginationParameters(limit, offset);
+        UserStoreTypeIndex userStoreTypeIndex = UserStoreTypeIndex.getInstance();
+        ListQuery<UserStoreDTO> userStoreListQuery = buildUserStoreListQuery(userStoreTypeIndex);
+        Predicate<UserStoreDTO> userStoreFilter = buildUserStoreFilter(userStoreListQuery, filter);
+        Comparator<UserStoreDTO> userStoreComparator = buildUserStoreComparator(userStoreListQuery, sort);
 
         UserStoreConfigService userStoreConfigService = UserStoreConfigServiceHolder.getInstance()
                 .getUserStoreConfigService();
         try {
             UserStoreDTO[] userStoreDTOS = userStoreConfigService.getUserStores();
-            return buildUserStoreListResponse(userStoreDTOS, requiredAttributes);
+            List<UserStoreDTO> matchingUserStores = ListQuery.search(ArrayUtils.isEmpty(userStoreDTOS) ?
+                    Collections.emptyList() : Arrays.asList(userStoreDTOS), userStoreFilter, userStoreComparator);
+            List<UserStoreDTO> userStorePage = ListQuery.getPage(matchingUserStores, limit, offset);
+            return new UserStoreListPage(buildUserStoreListResponse(userStorePage, requiredAttributes,
+                    userStoreTypeIndex), matchingUserStores.size(), buildUserStoreListLinks(limit, offset,
+                    matchingUserStores.size(), filter, sort, requiredAttributes));
 
         } catch (IdentityUserStoreMgtException e) {
             UserStoreConstants.ErrorMessage errorEnum =
@@ -442,8 +517,7 @@ public class ServerUserStoreService {
         primaryUserstoreConfigs.setClassName(realmConfiguration.getUserStoreClass());
         primaryUserstoreConfigs.setDescription(realmConfiguration.getDescription());
         primaryUserstoreConfigs.setName(UserCoreConstants.PRIMARY_DEFAULT_DOMAIN_NAME);
-        primaryUserstoreConfigs.setTypeId(base64URLEncodeId(Objects.requireNonNull
-                (getUserStoreTypeName(realmConfiguration.getUserStoreClass()))));
+        primaryUserstoreConfigs.setTypeId(getUserStoreTypeId(realmConfiguration.getUserStoreClass()));
         primaryUserstoreConfigs.setTypeName(getUserStoreTypeName(realmConfiguration.getUserStoreClass()));
         Map<String, String> userstoreProps = realmConfiguration.getUserStoreProperties();
         if (MapUtils.isNotEmpty(userstoreProps)) {
@@ -497,8 +571,7 @@ public class ServerUserStoreService {
             userStoreConfigurations.setClassName(userStoreDTO.getClassName());
             userStoreConfigurations.setDescription(userStoreDTO.getDescription());
             userStoreConfigurations.setName(userStoreDTO.getDomainId());
-            userStoreConfigurations.setTypeId(base64URLEncodeId(Objects.requireNonNull
-                    (getUserStoreTypeName(userStoreDTO.getClassName()))));
+            userStoreConfigurations.setTypeId(getUserStoreTypeId(userStoreDTO.getClassName()));
             userStoreConfigurations.setTypeName(getUserStoreTypeName(userStoreDTO.getClassName()));
             PropertyDTO[] dtoProperties = userStoreDTO.getProperties();
             for (PropertyDTO propertyDTO : dtoProperties) {
@@ -554,7 +627,8 @@ public class ServerUserStoreService {
     }
 
     /**
-     * Check the connection heath for JDBC userstores.
+     * Check the connection heath for JDBC userstores. The connection is tested by the user store configuration
+     * service, which resolves the stored password of an existing user store when the masked password is given.
      *
      * @param rdBMSConnectionReq {@link RDBMSConnectionReq}.
      * @return ConnectionEstablishedResponse.
@@ -579,6 +653,279 @@ public class ServerUserStoreService {
         return connectionEstablishedResponse;
     }
 
+    /**
+     * Test the connections of multiple JDBC and LDAP user stores in parallel. Each connection test is bounded by the
+     * timeout of the request. A connection test which does not complete in time is reported as timed out, and a
+     * connection test which was still waiting for a worker is reported as not started. JDBC connections are made
+     * through the drivers registered with the server, with the given password as is.
+     *
+     * @param connectionTestsReq {@link ConnectionTestsReq}.
+     * @return Results of the connection tests, in the order of the connections of the request.
+     */
+    public List<ConnectionTestResult> testConnections(ConnectionTestsReq connectionTestsReq) {
+
+        List<ConnectionTestReq> connections = connectionTestsReq.getConnections();
+        if (CollectionUtils.isEmpty(connections)) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_CONNECTION_TEST,
+                    "At least one connection is required.");
+        }
+        if (connections.size() > MAX_CONNECTION_TESTS) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_CONNECTION_TEST_LIMIT_EXCEEDED,
+                    String.valueOf(MAX_CONNECTION_TESTS));
+        }
+        Integer timeout = connectionTestsReq.getTimeout();
+        if (timeout != null && (timeout <= 0 || timeout > MAX_CONNECTION_TEST_TIMEOUT_MILLIS)) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_CONNECTION_TEST,
+                    "Timeout must be between 1 and " + MAX_CONNECTION_TEST_TIMEOUT_MILLIS + " milliseconds.");
+        }
+        for (ConnectionTestReq connection : connections) {
+            validateConnectionTest(connection);
+        }
+        return runConnectionTests(connections, timeout == null ? DEFAULT_CONNECTION_TEST_TIMEOUT_MILLIS : timeout);
+    }
+
+    private void validateConnectionTest(ConnectionTestReq connection) {
+
+        if (connection == null || connection.getType() == null || StringUtils.isBlank(connection.getConnectionURL())) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_CONNECTION_TEST,
+                    "Type and connection URL are required for each connection.");
+        }
+        if (connection.getType() == ConnectionTestReq.TypeEnum.RDBMS
+                && StringUtils.isBlank(connection.getDriverName())) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_CONNECTION_TEST,
+                    "Driver name is required for RDBMS connections.");
+        }
+        if (connection.getType() == ConnectionTestReq.TypeEnum.RDBMS
+                && getJDBCDriver(connection.getDriverName()) == null) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_CONNECTION_TEST,
+                    "The JDBC driver: " + connection.getDriverName() + " is not registered with the server.");
+        }
+        if (connection.getType() == ConnectionTestReq.TypeEnum.LDAP && !StringUtils.startsWithAny(
+                connection.getConnectionURL().toLowerCase(Locale.ENGLISH), LDAP_URL_SCHEMES)) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_CONNECTION_TEST,
+                    "Connection URL of LDAP connections must be an ldap or ldaps URL.");
+        }
+        // A simple bind with an empty password is an unauthenticated bind, which succeeds without verifying the
+        // credentials.
+        if (connection.getType() == ConnectionTestReq.TypeEnum.LDAP && (StringUtils.isBlank(connection.getUsername())
+                || StringUtils.isBlank(connection.getConnectionPassword()))) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_CONNECTION_TEST,
+                    "Username and password are required for LDAP connections.");
+        }
+    }
+
+    private List<ConnectionTestResult> runConnectionTests(List<ConnectionTestReq> connections, int timeoutMillis) {
+
+        List<Callable<ConnectionTestResult>> connectionTests = new ArrayList<>(connections.size());
+        List<AtomicBoolean> startedTests = new ArrayList<>(connections.size());
+        for (ConnectionTestReq connection : connections) {
+            AtomicBoolean started = new AtomicBoolean();
+            startedTests.add(started);
+            connectionTests.add(() -> {
+                started.set(true);
+                return testConnection(connection, timeoutMillis);
+            });
+        }
+        List<Future<ConnectionTestResult>> futures;
+        try {
+            futures = connectionTester.invokeAll(connectionTests, timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            throw handleException(Response.Status.SERVICE_UNAVAILABLE,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_CONNECTION_TESTER_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw handleException(Response.Status.INTERNAL_SERVER_ERROR,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_ERROR_TESTING_CONNECTIONS);
+        }
+
+        List<ConnectionTestResult> results = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            ConnectionTestReq connection = connections.get(i);
+            try {
+                results.add(futures.get(i).get());
+            } catch (CancellationException e) {
+                if (startedTests.get(i).get()) {
+                    results.add(buildConnectionTestResult(connection, ConnectionTestResult.StatusEnum.TIMED_OUT,
+                            (long) timeoutMillis,
+                            "The connection test did not complete within " + timeoutMillis + " ms."));
+                } else {
+                    results.add(buildConnectionTestResult(connection, ConnectionTestResult.StatusEnum.NOT_STARTED,
+                            null, "The connection test was not started within " + timeoutMillis +
+                                    " ms as the server was busy testing other connections."));
+                }
+            } catch (ExecutionException e) {
+                results.add(buildConnectionTestResult(connection, ConnectionTestResult.StatusEnum.FAILED, null,
+                        ExceptionUtils.getRootCauseMessage(e)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw handleException(Response.Status.INTERNAL_SERVER_ERROR,
+                        UserStoreConstants.ErrorMessage.ERROR_CODE_ERROR_TESTING_CONNECTIONS);
+            }
+        }
+        return results;
+    }
+
+    private ConnectionTestResult testConnection(ConnectionTestReq connection, int timeoutMillis) {
+
+        long startTime = System.nanoTime();
+        boolean isConnectionEstablished;
+        String failureReason = null;
+        try {
+            if (connection.getType() == ConnectionTestReq.TypeEnum.LDAP) {
+                testLDAPConnection(connection, timeoutMillis);
+                isConnectionEstablished = true;
+            } else {
+                isConnectionEstablished = testJDBCConnection(connection, timeoutMillis);
+                if (!isConnectionEstablished) {
+                    failureReason = "Unable to establish a connection to the datasource.";
+                }
+            }
+        } catch (NamingException | SQLException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Connection test failed for the " + connection.getType() + " user store: "
+                        + connection.getDomain(), e);
+            }
+            isConnectionEstablished = false;
+            failureReason = ExceptionUtils.getRootCauseMessage(e);
+        }
+        long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        return buildConnectionTestResult(connection, isConnectionEstablished ? ConnectionTestResult.StatusEnum.SUCCESS :
+                ConnectionTestResult.StatusEnum.FAILED, latency, failureReason);
+    }
+
+    private void testLDAPConnection(ConnectionTestReq connection, int timeoutMillis) throws NamingException {
+
+        Hashtable<String, String> environment = new Hashtable<>();
+        environment.put(Context.INITIAL_CONTEXT_FACTORY, LDAP_CONTEXT_FACTORY);
+        environment.put(Context.PROVIDER_URL, connection.getConnectionURL());
+        environment.put(Context.SECURITY_AUTHENTICATION, LDAP_SIMPLE_AUTHENTICATION);
+        environment.put(Context.SECURITY_PRINCIPAL, connection.getUsername());
+        environment.put(Context.SECURITY_CREDENTIALS, connection.getConnectionPassword());
+        // Bound the socket of the probe as well, so that the worker is released once the test has timed out.
+        environment.put(LDAP_CONNECT_TIMEOUT, String.valueOf(timeoutMillis));
+        environment.put(LDAP_READ_TIMEOUT, String.valueOf(timeoutMillis));
+        DirContext context = new InitialDirContext(environment);
+        context.close();
+    }
+
+    /**
+     * Test a JDBC connection with the login and socket timeouts bounded by the timeout of the connection test, so
+     * that the worker is released once the test has timed out.
+     */
+    private boolean testJDBCConnection(ConnectionTestReq connection, int timeoutMillis) throws SQLException {
+
+        Driver driver = getJDBCDriver(connection.getDriverName());
+        if (driver == null) {
+            throw new SQLException("The JDBC driver: " + connection.getDriverName() + " is not registered with the " +
+                    "server.");
+        }
+
+        java.util.Properties connectionProperties = getJDBCTimeoutProperties(connection.getConnectionURL(),
+                timeoutMillis);
+        if (connection.getUsername() != null) {
+            connectionProperties.setProperty(JDBC_USER, connection.getUsername());
+        }
+        if (connection.getConnectionPassword() != null) {
+            connectionProperties.setProperty(JDBC_PASSWORD, connection.getConnectionPassword());
+        }
+        try (Connection jdbcConnection = driver.connect(connection.getConnectionURL(), connectionProperties)) {
+            if (jdbcConnection == null) {
+                throw new SQLException("The driver: " + connection.getDriverName() + " does not accept the " +
+                        "connection URL.");
+            }
+            try {
+                jdbcConnection.setNetworkTimeout(Runnable::run, timeoutMillis);
+            } catch (SQLFeatureNotSupportedException e) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("The driver: " + connection.getDriverName() + " does not support network timeouts.");
+                }
+            }
+            return jdbcConnection.isValid((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMillis)));
+        }
+    }
+
+    /**
+     * Get a JDBC driver registered with the driver manager or declared as a service provider, by its class name.
+     * Classes named in the request are never loaded or instantiated, so that only drivers are instantiated.
+     *
+     * @param driverName Class name of the driver.
+     * @return JDBC driver or null if no driver of the given class is registered.
+     */
+    private static Driver getJDBCDriver(String driverName) {
+
+        Enumeration<Driver> registeredDrivers = DriverManager.getDrivers();
+        while (registeredDrivers.hasMoreElements()) {
+            Driver driver = registeredDrivers.nextElement();
+            if (driver.getClass().getName().equals(driverName)) {
+                return driver;
+            }
+        }
+        Iterator<Driver> declaredDrivers = ServiceLoader.load(Driver.class, ServerUserStoreService.class
+                .getClassLoader()).iterator();
+        while (true) {
+            try {
+                if (!declaredDrivers.hasNext()) {
+                    return null;
+                }
+                Driver driver = declaredDrivers.next();
+                if (driver.getClass().getName().equals(driverName)) {
+                    return driver;
+                }
+            } catch (ServiceConfigurationError e) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Unable to load a declared JDBC driver.", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Build the driver specific properties which bound the login and the socket reads of a JDBC connection, as the
+     * JDBC API only offers a login timeout shared by all the drivers of the server.
+     */
+    private java.util.Properties getJDBCTimeoutProperties(String connectionURL, int timeoutMillis) {
+
+        String millis = String.valueOf(timeoutMillis);
+        String seconds = String.valueOf(Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMillis)));
+        java.util.Properties timeoutProperties = new java.util.Properties();
+        String url = connectionURL.toLowerCase(Locale.ENGLISH);
+        if (url.startsWith("jdbc:mysql:") || url.startsWith("jdbc:mariadb:")) {
+            timeoutProperties.setProperty("connectTimeout", millis);
+            timeoutProperties.setProperty("socketTimeout", millis);
+        } else if (url.startsWith("jdbc:postgresql:")) {
+            timeoutProperties.setProperty("loginTimeout", seconds);
+            timeoutProperties.setProperty("connectTimeout", seconds);
+            timeoutProperties.setProperty("socketTimeout", seconds);
+        } else if (url.startsWith("jdbc:sqlserver:")) {
+            timeoutProperties.setProperty("loginTimeout", seconds);
+            timeoutProperties.setProperty("socketTimeout", millis);
+        } else if (url.startsWith("jdbc:oracle:")) {
+            timeoutProperties.setProperty("oracle.net.CONNECT_TIMEOUT", millis);
+            timeoutProperties.setProperty("oracle.jdbc.ReadTimeout", millis);
+        } else if (url.startsWith("jdbc:db2:")) {
+            timeoutProperties.setProperty("loginTimeout", seconds);
+            timeoutProperties.setProperty("blockingReadConnectionTimeout", seconds);
+        }
+        return timeoutProperties;
+    }
+
+    private ConnectionTestResult buildConnectionTestResult(ConnectionTestReq connection,
+                                                           ConnectionTestResult.StatusEnum status, Long latency,
+                                                           String failureReason) {
+
+        return new ConnectionTestResult().domain(connection.getDomain()).type(connection.getType().toString())
+                .connection(status == ConnectionTestResult.StatusEnum.SUCCESS).status(status)
+                .latency(latency).reason(failureReason);
+    }
+
     /**
      * To make a partial update or update the specific property of the user store config.
      *
@@ -764,8 +1111,7 @@ public class ServerUserStoreService {
         UserStoreResponse userStoreResponseDTO = new UserStoreResponse();
         userStoreResponseDTO.setId((base64URLEncodeId(userStoreDTO.getDomainId())));
         userStoreResponseDTO.setName(userStoreDTO.getDomainId());
-        userStoreResponseDTO.setTypeId(base64URLEncodeId(Objects.requireNonNull(getUserStoreTypeName
-                (userStoreDTO.getClassName()))));
+        userStoreResponseDTO.setTypeId(getUserStoreTypeId(userStoreDTO.getClassName()));
         userStoreResponseDTO.setTypeName(getUserStoreTypeName(userStoreDTO.getClassName()));
         userStoreResponseDTO.setDescription(userStoreDTO.getDescription());
         userStoreResponseDTO.setProperties(patchUserStoreProperties(propertyDTOS));
@@ -886,36 +1232,106 @@ public class ServerUserStoreService {
         return localClaimList;
     }
 
+    /**
+     * Build the filter and sort attributes of the user store listing. The type name and the local flag of the user
+     * stores are resolved through the given type index.
+     *
+     * @param userStoreTypeIndex Index of the user store types.
+     * @return User store list query.
+     */
+    private ListQuery<UserStoreDTO> buildUserStoreListQuery(UserStoreTypeIndex userStoreTypeIndex) {
+
+        return new ListQuery<UserStoreDTO>()
+                .withAttribute(UserStoreListAttributes.NAME, userStore -> singleValue(userStore.getDomainId()))
+                .withAttribute(UserStoreListAttributes.TYPE_NAME,
+                        userStore -> singleValue(userStoreTypeIndex.getTypeName(userStore.getClassName())))
+                .withAttribute(UserStoreListAttributes.ENABLED, userStore -> singleValue(
+                        String.valueOf(userStore.getDisabled() != null && !userStore.getDisabled())))
+                .withAttribute(UserStoreListAttributes.IS_LOCAL, userStore -> {
+                    Boolean isLocal = userStoreTypeIndex.isLocal(userStore.getClassName());
+                    return singleValue(isLocal == null ? null : String.valueOf(isLocal));
+                });
+    }
+
+    private void validatePaginationParameters(Integer limit, Integer offset) {
+
+        if ((limit != null && limit < 0) || (offset != null && offset < 0)) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_PARAMETERS);
+        }
+    }
+
+    private Predicate<UserStoreDTO> buildUserStoreFilter(ListQuery<UserStoreDTO> userStoreListQuery,
+                                                         String filter) {
+
+        try {
+            return userStoreListQuery.buildFilter(filter);
+        } catch (IllegalArgumentException e) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_FILTER, filter, e.getMessage());
+        }
+    }
+
+    private Comparator<UserStoreDTO> buildUserStoreComparator(ListQuery<UserStoreDTO> userStoreListQuery,
+                                                              String sort) {
+
+        try {
+            return userStoreListQuery.buildComparator(sort);
+        } catch (IllegalArgumentException e) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_SORT, sort, e.getMessage());
+        }
+    }
+
+    private Map<String, String> buildUserStoreListLinks(Integer limit, Integer offset, int totalResults, String filter,
+                                                        String sort, String requiredAttributes) {
+
+        // Pagination links are relevant only if the user stores are listed page by page.
+        if (limit == null || limit == 0) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> links = Util.buildPaginationLinks(limit, offset == null ? 0 : offset, totalResults,
+                UserStoreConstants.USER_STORE_PATH_COMPONENT, null, filter, sort);
+        if (StringUtils.isNotEmpty(requiredAttributes)) {
+            links.replaceAll((rel, link) -> link + REQUIRED_ATTRIBUTES_LINK_PARAM + requiredAttributes);
+        }
+        return links;
+    }
+
     /**
      * Construct response list with configured user stores details.
      *
-     * @param userStoreDTOS array of UserStoreDTO object.
+     * @param userStoreDTOS      user stores of the requested page.
+     * @param requiredAttributes comma separated user store properties to be included in the response.
+     * @param userStoreTypeIndex index of the user store types.
      * @return List<UserStoreListResponse>.
      */
-    private List<UserStoreListResponse> buildUserStoreListResponse(UserStoreDTO[] userStoreDTOS,
-                                                                   String requiredAttributes) {
+    private List<UserStoreListResponse> buildUserStoreListResponse(List<UserStoreDTO> userStoreDTOS,
+                                                                   String requiredAttributes,
+                                                                   UserStoreTypeIndex userStoreTypeIndex) {
 
         List<UserStoreListResponse> userStoreListResponseToAdd = new ArrayList<>();
-        Map<String, Boolean> userStoreManagersType = UserStoreManagerRegistry.getUserStoreManagersType();
-        if (ArrayUtils.isNotEmpty(userStoreDTOS)) {
+        if (CollectionUtils.isNotEmpty(userStoreDTOS)) {
+            URIPrefixResolver uriPrefixResolver = URIPrefixResolver.forBody();
+            Set<String> requiredAttributeNames = getRequiredAttributeNames(requiredAttributes);
             for (UserStoreDTO jsonObject : userStoreDTOS) {
                 UserStoreListResponse userStoreList = new UserStoreListResponse();
+                String userStoreId = base64URLEncodeId(jsonObject.getDomainId());
                 userStoreList.setDescription(jsonObject.getDescription());
                 userStoreList.setName(jsonObject.getDomainId());
-                userStoreList.setId(base64URLEncodeId(jsonObject.getDomainId()));
-                userStoreList.setSelf(ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
-                                UserStoreConstants.USER_STORE_PATH_COMPONENT + "/%s",
-                        base64URLEncodeId(jsonObject.getDomainId()))).toString());
+                userStoreList.setId(userStoreId);
+                userStoreList.setSelf(uriPrefixResolver.resolve(V1_API_PATH_COMPONENT +
+                        UserStoreConstants.USER_STORE_PATH_COMPONENT + "/" + userStoreId));
                 userStoreList.setEnabled(jsonObject.getDisabled() != null && !jsonObject.getDisabled());
-                userStoreList.setTypeName(getUserStoreTypeName(jsonObject.getClassName()));
+                userStoreList.setTypeName(userStoreTypeIndex.getTypeName(jsonObject.getClassName()));
 
-                if (StringUtils.isNotBlank(requiredAttributes)) {
-                    String[] requiredAttributesArray = requiredAttributes.split(REGEX_COMMA);
-                    addUserstoreProperties(jsonObject, userStoreList, Arrays.asList(requiredAttributesArray));
+                if (!requiredAttributeNames.isEmpty()) {
+                    addUserstoreProperties(jsonObject, userStoreList, requiredAttributeNames);
                 }
 
-                if (userStoreManagersType.containsKey(jsonObject.getClassName())) {
-                    userStoreList.setIsLocal(userStoreManagersType.get(jsonObject.getClassName()));
+                Boolean isLocal = userStoreTypeIndex.isLocal(jsonObject.getClassName());
+                if (isLocal != null) {
+                    userStoreList.setIsLocal(isLocal);
                 }
 
                 userStoreListResponseToAdd.add(userStoreList);
@@ -924,18 +1340,32 @@ public class ServerUserStoreService {
         return userStoreListResponseToAdd;
     }
 
+    /**
+     * Parse the requested user store property names once per list request.
+     *
+     * @param requiredAttributes Comma separated user store property names.
+     * @return Set of the requested property names.
+     */
+    private Set<String> getRequiredAttributeNames(String requiredAttributes) {
+
+        if (StringUtils.isBlank(requiredAttributes)) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(Arrays.asList(requiredAttributes.split(REGEX_COMMA)));
+    }
+
     /**
      * Add requested user store properties to the response.
      *
      * @param userStoreDTO            userStoreDTO object.
      * @param userStoreListResponse   userStoreListResponse object.
-     * @param requestedAttributesList Requested user store properties name list.
+     * @param requestedAttributes     Requested user store property names.
      */
     private void addUserstoreProperties(UserStoreDTO userStoreDTO, UserStoreListResponse userStoreListResponse,
-                                        List<String> requestedAttributesList) {
+                                        Set<String> requestedAttributes) {
 
         for (PropertyDTO propertyDTO : userStoreDTO.getProperties()) {
-            if (requestedAttributesList.contains(propertyDTO.getName()) &&
+            if (requestedAttributes.contains(propertyDTO.getName()) &&
                     StringUtils.isNotBlank(propertyDTO.getValue())) {
                 AddUserStorePropertiesRes addUserStorePropertiesRes = new AddUserStorePropertiesRes();
                 addUserStorePropertiesRes.setName(propertyDTO.getName());
@@ -1028,13 +1458,7 @@ public class ServerUserStoreService {
      */
     private String getUserStoreType(String typeName) {
 
-        HashMap<String, String> userStoreMap = getHashMap();
-        for (Map.Entry<String, String> stringEntry : userStoreMap.entrySet()) {
-            if (typeName.equals(((Map.Entry) stringEntry).getValue())) {
-                return (String) ((Map.Entry) stringEntry).getKey();
-            }
-        }
-        return null;
+        return UserStoreTypeIndex.getInstance().getClassName(typeName);
     }
 
     /**
@@ -1045,29 +1469,18 @@ public class ServerUserStoreService {
      */
     private String getUserStoreTypeName(String className) {
 
-        HashMap<String, String> userStoreMap = getHashMap();
-        for (Map.Entry<String, String> stringEntry : userStoreMap.entrySet()) {
-            if (className.equals(((Map.Entry) stringEntry).getKey())) {
-                return (String) ((Map.Entry) stringEntry).getValue();
-            }
-        }
-        return null;
+        return UserStoreTypeIndex.getInstance().getTypeName(className);
     }
 
     /**
-     * Construct a map with class name and with the corresponding type name.
+     * Retrieve the user store type id for a given class name.
      *
-     * @return HashMap.
+     * @param className user store class name.
+     * @return base 64 url encoded user store type name.
      */
-    private HashMap<String, String> getHashMap() {
-
-        Set<String> classNames = UserStoreManagerRegistry.getUserStoreManagerClasses();
-        HashMap<String, String> userStoreMap = new HashMap<>();
+    private String getUserStoreTypeId(String className) {
 
-        for (String className : classNames) {
-            userStoreMap.put(className, className.substring(className.lastIndexOf('.') + 1));
-        }
-        return userStoreMap;
+        return Objects.requireNonNull(UserStoreTypeIndex.getInstance().getTypeId(className));
     }
 
     /**
@@ -1208,36 +1621,6 @@ public class ServerUserStoreService {
         return errorDescription;
     }
 
-    /**
-     * To return error responses for the input params for the get request which are not yet supported by the server.
-     *
-     * @param limit  items per page.
-     * @param offset to specify the offset param.
-     * @param filter to specify the filtering capabilities.
-     * @param sort   to specify the sorting order.
-     */
-    private void handleNotImplementedBehaviour(Integer limit, Integer offset, String filter, String sort) {
-
-        UserStoreConstants.ErrorMessage errorEnum = null;
-
-        if (limit != null) {
-            errorEnum = UserStoreConstants.ErrorMessage.ERROR_CODE_PAGINATION_NOT_IMPLEMENTED;
-        } else if (offset != null) {
-            errorEnum = UserStoreConstants.ErrorMessage.ERROR_CODE_PAGINATION_NOT_IMPLEMENTED;
-        } else if (filter != null) {
-            errorEnum = UserStoreConstants.ErrorMessage.ERROR_CODE_FILTERING_NOT_IMPLEMENTED;
-        } else if (sort != null) {
-            errorEnum = UserStoreConstants.ErrorMessage.ERROR_CODE_SORTING_NOT_IMPLEMENTED;
-        }
-
-        if (errorEnum != null) {
-            ErrorResponse errorResponse = getErrorBuilder(errorEnum).build(LOG, errorEnum.getDescription());
-            Response.Status status = Response.Status.NOT_IMPLEMENTED;
-
-            throw new APIError(status, errorResponse);
-        }
-    }
-
     /**
      * To check whether API request has all user store mandatory properties or not.
      *
@@ -1543,64 +1926,44 @@ public class ServerUserStoreService {
         if (LOG.isDebugEnabled()) {
             LOG.debug("Parsing userstore object to file content of type: " + fileType);
         }
-        String mediaType = Util.getMediaType(fileType);
-        switch (mediaType) {
-            case MEDIA_TYPE_XML:
-                return parseUserStoreToXml(userStoreConfigs);
-            case MEDIA_TYPE_JSON:
-                return parseUserStoreToJson(userStoreConfigs);
-            case MEDIA_TYPE_YAML:
-                return parseUserStoreToYaml(userStoreConfigs);
-            default:
-                LOG.warn(String.format("Using the default YAML parsing for requested file type: %s for export.",
-                        fileType));
-                return parseUserStoreToYaml(userStoreConfigs);
+        CodecRegistry.Codec<UserStoreConfigurations> codec = USERSTORE_CODECS.getCodec(fileType);
+        if (codec == null) {
+            LOG.warn(String.format("Using the default YAML parsing for requested file type: %s for export.",
+                    fileType));
+            codec = USERSTORE_CODECS.getCodec(MEDIA_TYPE_YAML);
         }
-    }
-
-    private FileContent parseUserStoreToYaml(UserStoreConfigurations userStoreConfigs)
-            throws UserStoreException {
-
-        StringBuilder fileNameSB = new StringBuilder(userStoreConfigs.getName());
-        fileNameSB.append(YAML_FILE_EXTENSION);
-        Yaml yaml = new Yaml();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         try {
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_YAML, yaml.dump(userStoreConfigs));
-        } catch (YAMLException e) {
-            throw new UserStoreException("Error when parsing userstore to YAML file.", e);
+            codec.write(userStoreConfigs, outputStream);
+        } catch (IOException | CodecException e) {
+            throw new UserStoreException("Error when parsing userstore to " + codec.getFormatName() + " file.", e);
         }
+        return new FileContent(userStoreConfigs.getName() + getFileExtension(codec.getMediaType()),
+                codec.getMediaType(), new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
     }
 
-    private FileContent parseUserStoreToXml(UserStoreConfigurations userStoreConfigs)
-            throws UserStoreException {
-
-        StringBuilder fileNameSB = new StringBuilder(userStoreConfigs.getName());
-        fileNameSB.append(XML_FILE_EXTENSION);
+    private String getFileExtension(String mediaType) {
 
-        JAXBContext jaxbContext;
-        try {
-            jaxbContext = JAXBContext.newInstance(UserStoreConfigurations.class);
-            Marshaller marshaller = jaxbContext.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            StringWriter stringWriter = new StringWriter();
-            marshaller.marshal(userStoreConfigs, stringWriter);
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_XML, stringWriter.toString());
-        } catch (JAXBException e) {
-            throw new UserStoreException("Error when parsing userstore to XML file.", e);
+        switch (mediaType) {
+            case MEDIA_TYPE_XML:
+                return XML_FILE_EXTENSION;
+            case MEDIA_TYPE_JSON:
+                return JSON_FILE_EXTENSION;
+            default:
+                return YAML_FILE_EXTENSION;
         }
     }
 
-    private FileContent parseUserStoreToJson(UserStoreConfigurations userStoreConfigs)
-            throws UserStoreException {
+    private static void writeUserStoreAsYaml(UserStoreConfigurations userStoreConfigs, OutputStream outputStream)
+            throws IOException, CodecException {
 
-        StringBuilder fileNameSB = new StringBuilder(userStoreConfigs.getName());
-        fileNameSB.append(JSON_FILE_EXTENSION);
-        ObjectMapper objectMapper = new ObjectMapper(new JsonFactory());
+        // SnakeYAML instances are not thread safe, hence built per call.
         try {
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_JSON,
-                    objectMapper.writeValueAsString(userStoreConfigs));
-        } catch (JsonProcessingException e) {
-            throw new UserStoreException("Error when parsing userstore to JSON file.", e);
+            Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+            new Yaml().dump(userStoreConfigs, writer);
+            writer.flush();
+        } catch (YAMLException e) {
+            throw new CodecException("Error while writing the userstore as YAML.", e);
         }
     }
 
@@ -1647,57 +2010,34 @@ public class ServerUserStoreService {
                     UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_INPUT.getMessage());
         }
 
-        switch (Util.getMediaType(fileContent.getFileType())) {
-            case MEDIA_TYPE_XML:
-                return parseUserStoreFromXml(fileContent);
-            case MEDIA_TYPE_JSON:
-                return parseUserStoreFromJson(fileContent);
-            case MEDIA_TYPE_YAML:
-                return parseUserStoreFromYaml(fileContent);
-            default:
-                LOG.warn(String.format("Unsupported media type %s for file %s. Defaulting to YAML parsing.",
-                        fileContent.getFileType(), fileContent.getFileName()));
-                return parseUserStoreFromYaml(fileContent);
+        CodecRegistry.Codec<UserStoreConfigurations> codec = USERSTORE_CODECS.getCodec(fileContent.getFileType());
+        if (codec == null) {
+            LOG.warn(String.format("Unsupported media type %s for file %s. Defaulting to YAML parsing.",
+                    fileContent.getFileType(), fileContent.getFileName()));
+            codec = USERSTORE_CODECS.getCodec(MEDIA_TYPE_YAML);
         }
-    }
-
-    private UserStoreConfigurations parseUserStoreFromXml(FileContent fileContent) throws UserStoreException {
-
         try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(UserStoreConfigurations.class);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            return (UserStoreConfigurations) unmarshaller.unmarshal(new StringReader(fileContent.getContent()));
-        } catch (JAXBException e) {
-            throw new UserStoreException(String.format("Error in reading " +
-                    "XML file configuration for the userstore: %s.", fileContent.getFileName()), e);
+            return codec.read(fileContent.getContent());
+        } catch (CodecException e) {
+            throw new UserStoreException(String.format("Error in reading %s file configuration for the userstore: " +
+                    "%s.", codec.getFormatName(), fileContent.getFileName()), e);
         }
     }
 
-    private UserStoreConfigurations parseUserStoreFromYaml(FileContent fileContent) throws UserStoreException {
+    private static UserStoreConfigurations readUserStoreFromYaml(String content) throws CodecException {
 
-        try {
-            // Add trusted tags included in the Userstore YAML files.
-            List<String> trustedTagList = new ArrayList<>();
-            trustedTagList.add(UserStoreConfigurations.class.getName());
-
-            LoaderOptions loaderOptions = new LoaderOptions();
-            TagInspector tagInspector = new TrustedPrefixesTagInspector(trustedTagList);
-            loaderOptions.setTagInspector(tagInspector);
-            Yaml yaml = new Yaml(new Constructor(UserStoreConfigurations.class, loaderOptions));
-            return yaml.loadAs(fileContent.getContent(), UserStoreConfigurations.class);
-        } catch (YAMLException e) {
-            throw new UserStoreException(String.format("Error in reading YAML file " +
-                    "configuration for the userstore: %s.", fileContent.getFileName()), e);
-        }
-    }
-
-    private UserStoreConfigurations parseUserStoreFromJson(FileContent fileContent) throws UserStoreException {
+        // Add trusted tags included in the Userstore YAML files.
+        List<String> trustedTagList = new ArrayList<>();
+        trustedTagList.add(UserStoreConfigurations.class.getName());
 
+        LoaderOptions loaderOptions = new LoaderOptions();
+        TagInspector tagInspector = new TrustedPrefixesTagInspector(trustedTagList);
+        loaderOptions.setTagInspector(tagInspector);
         try {
-            return new ObjectMapper().readValue(fileContent.getContent(), UserStoreConfigurations.class);
-        } catch (JsonProcessingException e) {
-            throw new UserStoreException(String.format("Error in reading JSON " +
-                    "file configuration for the userstore: %s.", fileContent.getFileName()), e);
+            return new Yaml(new Constructor(UserStoreConfigurations.class, loaderOptions)).loadAs(content,
+                    UserStoreConfigurations.class);
+        } catch (YAMLException e) {
+            throw new CodecException("Error while reading the userstore from YAML.", e);
         }
     }
 
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.userstore.v1.core;
+
+import org.apache.commons.collections.MapUtils;
+import org.wso2.carbon.user.core.tracker.UserStoreManagerRegistry;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, bidirectional index of the user store manager classes registered in the {@link UserStoreManagerRegistry},
+ * mapping the class names to the user store type names and type ids, and back.
+ *
+ * The type name of a user store manager is the simple name of its class and the type id is the base64 URL encoded
+ * type name. The index is built once and replaced only when the set of registered user store manager classes changes,
+ * i.e. when a user store manager is registered or unregistered in the OSGi framework.
+ */
+final class UserStoreTypeIndex {
+
+    private static volatile UserStoreTypeIndex currentIndex;
+
+    private final Set<String> classNames;
+    private final Map<String, String> typeNamesByClassName;
+    private final Map<String, String> typeIdsByClassName;
+    private final Map<String, String> classNamesByTypeName;
+    private final Map<String, String> classNamesByTypeId;
+    private final Map<String, Boolean> localFlagsByClassName;
+
+    private UserStoreTypeIndex(Set<String> registeredClassNames) {
+
+        Map<String, String> typeNames = new HashMap<>();
+        Map<String, String> typeIds = new HashMap<>();
+        Map<String, String> classNamesOfTypeNames = new HashMap<>();
+        Map<String, String> classNamesOfTypeIds = new HashMap<>();
+        for (String className : registeredClassNames) {
+            String typeName = className.substring(className.lastIndexOf('.') + 1);
+            String typeId = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(typeName.getBytes(StandardCharsets.UTF_8));
+            typeNames.put(className, typeName);
+            typeIds.put(className, typeId);
+            classNamesOfTypeNames.putIfAbsent(typeName, className);
+            classNamesOfTypeIds.putIfAbsent(typeId, className);
+        }
+        Map<String, Boolean> localFlags = UserStoreManagerRegistry.getUserStoreManagersType();
+
+        this.classNames = Collections.unmodifiableSet(new HashSet<>(registeredClassNames));
+        this.typeNamesByClassName = Collections.unmodifiableMap(typeNames);
+        this.typeIdsByClassName = Collections.unmodifiableMap(typeIds);
+        this.classNamesByTypeName = Collections.unmodifiableMap(classNamesOfTypeNames);
+        this.classNamesByTypeId = Collections.unmodifiableMap(classNamesOfTypeIds);
+        this.localFlagsByClassName = MapUtils.isEmpty(localFlags) ? Collections.emptyMap() :
+                Collections.unmodifiableMap(new HashMap<>(localFlags));
+    }
+
+    /**
+     * Get the index of the user store manager classes currently registered. The index is rebuilt if the registered
+     * classes have changed since it was last built.
+     *
+     * @return User store type index.
+     */
+    static UserStoreTypeIndex getInstance() {
+
+        Set<String> registeredClassNames = UserStoreManagerRegistry.getUserStoreManagerClasses();
+        if (registeredClassNames == null) {
+            registeredClassNames = Collections.emptySet();
+        }
+        UserStoreTypeIndex index = currentIndex;
+        if (index == null || !index.classNames.equals(registeredClassNames)) {
+            index = new UserStoreTypeIndex(registeredClassNames);
+            currentIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Get the user store type name of a user store manager class.
+     *
+     * @param className User store manager class name.
+     * @return User store type name or null if the class is not registered.
+     */
+    String getTypeName(String className) {
+
+        return typeNamesByClassName.get(className);
+    }
+
+    /**
+     * Get the user store type id of a user store manager class.
+     *
+     * @param className User store manager class name.
+     * @return User store type id or null if the class is not registered.
+     */
+    String getTypeId(String className) {
+
+        return typeIdsByClassName.get(className);
+    }
+
+    /**
+     * Get the user store manager class of a user store type name.
+     *
+     * @param typeName User store type name.
+     * @return User store manager class name or null if a class is not registered for the type.
+     */
+    String getClassName(String typeName) {
+
+        return classNamesByTypeName.get(typeName);
+    }
+
+    /**
+     * Get the user store manager class of a user store type id.
+     *
+     * @param typeId User store type id.
+     * @return User store manager class name or null if a class is not registered for the type.
+     */
+    String getClassNameByTypeId(String typeId) {
+
+        return classNamesByTypeId.get(typeId);
+    }
+
+    /**
+     * Check whether a user store manager class manages a local user store.
+     *
+     * @param className User store manager class name.
+     * @return Whether the user store is local or null if it is not known.
+     */
+    Boolean isLocal(String className) {
+
+        return localFlagsByClassName.get(className);
+    }
+}
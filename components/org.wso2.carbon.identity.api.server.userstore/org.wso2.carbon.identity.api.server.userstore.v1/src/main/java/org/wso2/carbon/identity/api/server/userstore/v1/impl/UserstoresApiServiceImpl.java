@@ -24,8 +24,10 @@ import org.wso2.carbon.identity.api.server.common.FileContent;
 import org.wso2.carbon.identity.api.server.userstore.v1.UserstoresApiService;
 import org.wso2.carbon.identity.api.server.userstore.v1.core.ServerUserStoreService;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.ClaimAttributeMapping;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.ConnectionTestsReq;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.PatchDocument;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.RDBMSConnectionReq;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreListPage;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreReq;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreResponse;
 
@@ -33,10 +35,12 @@ import java.io.InputStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.common.ContextLoader.buildURIForHeader;
+import static org.wso2.carbon.identity.api.server.userstore.common.UserStoreConstants.TOTAL_RESULTS_HEADER;
 import static org.wso2.carbon.identity.api.server.userstore.common.UserStoreConstants.USER_STORE_PATH_COMPONENT;
 
 /**
@@ -95,9 +99,16 @@ public class UserstoresApiServiceImpl implements UserstoresApiService {
     public Response getSecondaryUserStores(Integer limit, Integer offset, String filter, String sort,
                                            String requiredAttributes) {
 
-        return Response.ok()
-                .entity(serverUserStoreService.getUserStoreList(limit, offset, filter, sort, requiredAttributes))
-                .build();
+        UserStoreListPage userStoreListPage =
+                serverUserStoreService.getUserStoreList(limit, offset, filter, sort, requiredAttributes);
+        // The user stores of the page are sent as the response body, as in the unpaginated listing, while the total
+        // number of matching user stores and the pagination links are sent as headers.
+        Response.ResponseBuilder responseBuilder = Response.ok().entity(userStoreListPage.getUserStores())
+                .header(TOTAL_RESULTS_HEADER, userStoreListPage.getTotalResults());
+        for (Map.Entry<String, String> link : userStoreListPage.getLinks().entrySet()) {
+            responseBuilder.link(link.getValue(), link.getKey());
+        }
+        return responseBuilder.build();
     }
 
     @Override
@@ -153,6 +164,12 @@ public class UserstoresApiServiceImpl implements UserstoresApiService {
         return Response.ok().entity(serverUserStoreService.testRDBMSConnection(rdBMSConnectionReq)).build();
     }
 
+    @Override
+    public Response testConnections(ConnectionTestsReq connectionTestsReq) {
+
+        return Response.ok().entity(serverUserStoreService.testConnections(connectionTestsReq)).build();
+    }
+
     @Override
     public Response updateUserStore(String userstoreDomainId, UserStoreReq userStoreReq) {
 
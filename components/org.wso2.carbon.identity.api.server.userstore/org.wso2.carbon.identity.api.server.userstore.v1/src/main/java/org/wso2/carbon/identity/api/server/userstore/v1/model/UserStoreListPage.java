@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.userstore.v1.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A page of the user store listing, along with the total number of user stores matching the filter and the pagination
+ * links.
+ */
+public class UserStoreListPage {
+
+    private final List<UserStoreListResponse> userStores;
+    private final int totalResults;
+    private final Map<String, String> links;
+
+    public UserStoreListPage(List<UserStoreListResponse> userStores, int totalResults, Map<String, String> links) {
+
+        this.userStores = userStores;
+        this.totalResults = totalResults;
+        this.links = links == null ? Collections.emptyMap() : links;
+    }
+
+    public List<UserStoreListResponse> getUserStores() {
+
+        return userStores;
+    }
+
+    public int getTotalResults() {
+
+        return totalResults;
+    }
+
+    /**
+     * Get the pagination links of the page.
+     *
+     * @return Pagination links keyed by the link relation, i.e. next and previous.
+     */
+    public Map<String, String> getLinks() {
+
+        return links;
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.userstore.v1.core;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.error.APIError;
+import org.wso2.carbon.identity.api.server.userstore.common.UserStoreConfigServiceHolder;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.ConnectionTestReq;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.ConnectionTestResult;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.ConnectionTestsReq;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.RDBMSConnectionReq;
+import org.wso2.carbon.identity.user.store.configuration.UserStoreConfigService;
+import org.wso2.carbon.identity.user.store.configuration.utils.IdentityUserStoreMgtException;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.core.Response;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Tests the user store connection tests against an embedded H2 database, and against an LDAP endpoint which accepts
+ * connections but never responds, to hold the workers of the connection tester.
+ */
+public class ServerUserStoreServiceTest {
+
+    private static final String H2_DRIVER = "org.h2.Driver";
+    private static final String H2_URL = "jdbc:h2:mem:userstore-connection-test;DB_CLOSE_DELAY=-1";
+    private static final String H2_USERNAME = "sa";
+    private static final String H2_PASSWORD = "secret";
+    private static final int CONNECTION_TEST_POOL_SIZE = 10;
+
+    private final ServerUserStoreService userStoreService = new ServerUserStoreService();
+    private Connection databaseConnection;
+
+    @BeforeClass
+    public void setUp() throws SQLException {
+
+        String carbonHome = Paths.get(System.getProperty("user.dir"), "target", "test-classes").toString();
+        System.setProperty(CarbonBaseConstants.CARBON_HOME, carbonHome);
+        System.setProperty(CarbonBaseConstants.CARBON_CONFIG_DIR_PATH, Paths.get(carbonHome,
+                "repository/conf").toString());
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain("carbon.super");
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(-1234);
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setUsername("admin");
+        // The first connection to the in memory database sets its credentials and keeps it open.
+        databaseConnection = DriverManager.getConnection(H2_URL, H2_USERNAME, H2_PASSWORD);
+    }
+
+    @AfterClass
+    public void tearDown() throws SQLException {
+
+        userStoreService.shutdown();
+        UserStoreConfigServiceHolder.getInstance().setUserStoreConfigService(null);
+        databaseConnection.close();
+    }
+
+    @Test
+    public void testJDBCConnection() {
+
+        List<ConnectionTestResult> results = userStoreService.testConnections(new ConnectionTestsReq()
+                .addConnectionsItem(buildJDBCConnection(H2_PASSWORD)));
+
+        assertEquals(results.size(), 1);
+        assertEquals(results.get(0).getStatus(), ConnectionTestResult.StatusEnum.SUCCESS);
+        assertTrue(results.get(0).getConnection());
+        assertNotNull(results.get(0).getLatency());
+        assertNull(results.get(0).getReason());
+    }
+
+    @Test
+    public void testJDBCConnectionWithInvalidCredentials() {
+
+        List<ConnectionTestResult> results = userStoreService.testConnections(new ConnectionTestsReq()
+                .addConnectionsItem(buildJDBCConnection("invalid")));
+
+        assertEquals(results.get(0).getStatus(), ConnectionTestResult.StatusEnum.FAILED);
+        assertFalse(results.get(0).getConnection());
+        assertNotNull(results.get(0).getReason());
+    }
+
+    @Test
+    public void testRDBMSConnection() throws IdentityUserStoreMgtException {
+
+        // The masked password of an existing user store is resolved by the user store configuration service.
+        UserStoreConfigService userStoreConfigService = mock(UserStoreConfigService.class);
+        when(userStoreConfigService.testRDBMSConnection(eq("JDBC-SECONDARY"), eq(H2_DRIVER), eq(H2_URL),
+                eq(H2_USERNAME), eq("******"), anyString())).thenReturn(true);
+        UserStoreConfigServiceHolder.getInstance().setUserStoreConfigService(userStoreConfigService);
+        RDBMSConnectionReq connection = new RDBMSConnectionReq().domain("JDBC-SECONDARY").driverName(H2_DRIVER)
+                .connectionURL(H2_URL).username(H2_USERNAME).connectionPassword("******");
+
+        assertTrue(userStoreService.testRDBMSConnection(connection).getConnection());
+    }
+
+    @Test
+    public void testJDBCConnectionWithUnregisteredDriver() {
+
+        ConnectionTestReq connection = buildJDBCConnection(H2_PASSWORD).driverName("java.lang.Object");
+        try {
+            userStoreService.testConnections(new ConnectionTestsReq().addConnectionsItem(connection));
+            fail("A connection test with a class which is not a registered JDBC driver must be rejected.");
+        } catch (APIError e) {
+            assertEquals(e.getStatus(), Response.Status.BAD_REQUEST);
+        }
+    }
+
+    @Test
+    public void testLDAPConnectionWithoutPassword() {
+
+        ConnectionTestReq connection = new ConnectionTestReq().type(ConnectionTestReq.TypeEnum.LDAP)
+                .domain("LDAP-SECONDARY").connectionURL("ldap://localhost:10389")
+                .username("uid=admin,ou=system").connectionPassword("");
+        try {
+            userStoreService.testConnections(new ConnectionTestsReq().addConnectionsItem(connection));
+            fail("An LDAP connection test without a password must be rejected.");
+        } catch (APIError e) {
+            assertEquals(e.getStatus(), Response.Status.BAD_REQUEST);
+        }
+    }
+
+    @Test
+    public void testConnectionTestsWaitingForBusyWorkers() throws Exception {
+
+        ExecutorService requestThreads = Executors.newSingleThreadExecutor();
+        List<Socket> acceptedSockets = new CopyOnWriteArrayList<>();
+        CountDownLatch busyWorkers = new CountDownLatch(CONNECTION_TEST_POOL_SIZE);
+        try (ServerSocket unresponsiveServer = new ServerSocket(0, CONNECTION_TEST_POOL_SIZE,
+                InetAddress.getLoopbackAddress())) {
+            Thread acceptor = new Thread(() -> acceptConnections(unresponsiveServer, acceptedSockets, busyWorkers));
+            acceptor.setDaemon(true);
+            acceptor.start();
+
+            // Hold all the workers with LDAP binds which are never answered.
+            ConnectionTestsReq blockingTests = new ConnectionTestsReq().timeout(3000);
+            for (int i = 0; i < CONNECTION_TEST_POOL_SIZE; i++) {
+                blockingTests.addConnectionsItem(new ConnectionTestReq().type(ConnectionTestReq.TypeEnum.LDAP)
+                        .domain("LDAP-" + i).connectionURL("ldap://127.0.0.1:" + unresponsiveServer.getLocalPort())
+                        .username("uid=admin,ou=system").connectionPassword("admin"));
+            }
+            Future<List<ConnectionTestResult>> blockingResults =
+                    requestThreads.submit(() -> userStoreService.testConnections(blockingTests));
+            assertTrue(busyWorkers.await(10, TimeUnit.SECONDS), "The LDAP binds did not reach the server.");
+
+            List<ConnectionTestsReq> waitingRequests = new ArrayList<>();
+            waitingRequests.add(buildJDBCConnections(CONNECTION_TEST_POOL_SIZE));
+            // The cancelled tests of the previous request must not hold the queue.
+            waitingRequests.add(buildJDBCConnections(CONNECTION_TEST_POOL_SIZE));
+            for (ConnectionTestsReq waitingRequest : waitingRequests) {
+                List<ConnectionTestResult> results = userStoreService.testConnections(waitingRequest);
+                assertEquals(results.size(), CONNECTION_TEST_POOL_SIZE);
+                for (ConnectionTestResult result : results) {
+                    assertEquals(result.getStatus(), ConnectionTestResult.StatusEnum.NOT_STARTED);
+                    assertNull(result.getLatency());
+                }
+            }
+
+            for (ConnectionTestResult result : blockingResults.get(10, TimeUnit.SECONDS)) {
+                assertNotEquals(result.getStatus(), ConnectionTestResult.StatusEnum.SUCCESS);
+            }
+        } finally {
+            requestThreads.shutdownNow();
+            for (Socket socket : acceptedSockets) {
+                socket.close();
+            }
+        }
+    }
+
+    private static void acceptConnections(ServerSocket serverSocket, List<Socket> acceptedSockets,
+                                          CountDownLatch acceptedConnections) {
+
+        try {
+            while (!serverSocket.isClosed()) {
+                acceptedSockets.add(serverSocket.accept());
+                acceptedConnections.countDown();
+            }
+        } catch (IOException e) {
+            // The server socket is closed at the end of the test.
+        }
+    }
+
+    private static ConnectionTestsReq buildJDBCConnections(int count) {
+
+        ConnectionTestsReq connectionTests = new ConnectionTestsReq().timeout(200);
+        for (int i = 0; i < count; i++) {
+            connectionTests.addConnectionsItem(buildJDBCConnection(H2_PASSWORD));
+        }
+        return connectionTests;
+    }
+
+    private static ConnectionTestReq buildJDBCConnection(String password) {
+
+        return new ConnectionTestReq().type(ConnectionTestReq.TypeEnum.RDBMS).domain("JDBC-SECONDARY")
+                .driverName(H2_DRIVER).connectionURL(H2_URL).username(H2_USERNAME).connectionPassword(password);
+    }
+}